@@ -474,3 +474,23 @@ function testRemoveCookiesByDomain() returns error? {
     test:assertEquals(cookies.length(), 0, msg = "Invalid cookie object");
     return;
 }
+
+// Test to read the persistent cookies from the journal written by another persistent cookie handler
+@test:Config {}
+function testReadPersistentCookiesFromCookieJournal() returns error? {
+    http:Cookie cookie1 = new("SID001", "239d4dmnmsddd34", path = "/sample", domain = "google.com", expires = "2030-07-15 05:46:22");
+    http:Cookie cookie2 = new("SID002", "gha74dmnmsddd34", path = "/sample", domain = "google.com", expires = "2030-07-15 05:46:22");
+    http:CsvPersistentCookieHandler myPersistentStore = new(filePath + "client-6.csv");
+    http:CookieConfig cookieConfig = { enabled: true, persistentCookieHandler: myPersistentStore };
+    http:CookieStore cookieStore = new(myPersistentStore);
+    _ = check cookieStore.addCookie(cookie1, cookieConfig, "http://google.com", "/sample");
+    _ = check cookieStore.addCookie(cookie2, cookieConfig, "http://google.com", "/sample");
+    _ = check cookieStore.removeCookie("SID001", "google.com", "/sample");
+    http:CsvPersistentCookieHandler newPersistentStore = new(filePath + "client-6.csv");
+    http:Cookie[] cookies = check newPersistentStore.getAllCookies();
+    _ = check file:remove(filePath, file:RECURSIVE);
+    test:assertEquals(cookies.length(), 1, msg = "Invalid cookie object");
+    test:assertEquals(cookies[0].name, "SID002", msg = "Invalid cookie name");
+    test:assertEquals(cookies[0].value, "gha74dmnmsddd34", msg = "Invalid cookie value");
+    return;
+}
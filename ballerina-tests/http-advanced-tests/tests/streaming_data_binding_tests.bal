@@ -0,0 +1,84 @@
+// Copyright (c) 2026 WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import ballerina/http;
+import ballerina/http_test_common as common;
+
+type StreamedItem record {|
+    string sku;
+    int quantity;
+|};
+
+type StreamedOrder record {|
+    int id;
+    string customer;
+    StreamedItem[] items;
+|};
+
+listener http:Listener streamingDataBindingEP = new (streamingDataBindingTestPort);
+final http:Client streamingClient = check new ("http://localhost:" + streamingDataBindingTestPort.toString());
+
+@http:ServiceConfig {
+    streamingDataBinding: true
+}
+service /orders on streamingDataBindingEP {
+
+    resource function post echo(StreamedOrder 'order) returns StreamedOrder {
+        return 'order;
+    }
+
+    resource function post count(StreamedOrder 'order) returns int {
+        return 'order.items.length();
+    }
+
+    resource function post readonlyOrder(readonly & StreamedOrder 'order) returns boolean {
+        return 'order is readonly;
+    }
+}
+
+@test:Config
+function testStreamingDataBinding() returns error? {
+    StreamedOrder 'order = {id: 1, customer: "Anne", items: [{sku: "A-1", quantity: 2}, {sku: "B-2", quantity: 1}]};
+    StreamedOrder response = check streamingClient->/orders/echo.post('order);
+    test:assertEquals(response, 'order);
+}
+
+@test:Config
+function testStreamingDataBindingOfLargePayload() returns error? {
+    StreamedItem[] items = from int i in 0 ..< 10000 select {sku: "SKU-" + i.toString(), quantity: i};
+    int response = check streamingClient->/orders/count.post({id: 2, customer: "Bob", items});
+    test:assertEquals(response, 10000);
+}
+
+@test:Config
+function testStreamingDataBindingToReadonlyRecord() returns error? {
+    boolean response = check streamingClient->/orders/readonlyOrder.post({id: 3, customer: "Carl", items: []});
+    test:assertTrue(response);
+}
+
+@test:Config
+function testStreamingDataBindingTypeMismatch() returns error? {
+    http:Response response = check streamingClient->/orders/echo.post({id: "4", customer: "Dan", items: []});
+    test:assertEquals(response.statusCode, 400);
+    check common:assertJsonErrorPayloadPartialMessage(check response.getJsonPayload(), "data binding failed");
+}
+
+@test:Config
+function testStreamingDataBindingUndefinedField() returns error? {
+    http:Response response = check streamingClient->/orders/echo.post({id: 5, customer: "Eve", items: [], note: ""});
+    test:assertEquals(response.statusCode, 400);
+}
@@ -54,3 +54,4 @@ const int serviceContractTestPort = 9096;
 
 const int laxDataBindingTestPort = 9097;
 const int laxDataBindingNegativeTestPort = 9098;
+const int streamingDataBindingTestPort = 9099;
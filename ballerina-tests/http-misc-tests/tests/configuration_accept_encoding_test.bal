@@ -53,7 +53,7 @@ function testAcceptEncodingEnabled() {
     http:Response|error response = acceptEncodingEnableEP->post("/", req);
     if response is http:Response {
         test:assertEquals(response.statusCode, 200, msg = "Found unexpected output");
-        common:assertJsonValue(response.getJsonPayload(), "acceptEncoding", "deflate, gzip");
+        common:assertJsonValue(response.getJsonPayload(), "acceptEncoding", "br, zstd, deflate, gzip");
         common:assertHeaderValue(response.server, "Mysql");
     } else {
         test:assertFail(msg = "Found unexpected output type: " + response.message());
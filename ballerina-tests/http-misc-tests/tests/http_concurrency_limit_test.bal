@@ -0,0 +1,72 @@
+// Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import ballerina/http;
+import ballerina/lang.runtime as runtime;
+
+listener http:Listener concurrencyLimitListener = new (concurrencyLimitTestPort, httpVersion = http:HTTP_1_1,
+    concurrencyLimit = {initialLimit: 1, minLimit: 1, maxLimit: 1, rejectionStatusCode: http:STATUS_TOO_MANY_REQUESTS});
+
+final http:Client concurrencyLimitSlowClient = check new ("http://localhost:" + concurrencyLimitTestPort.toString(),
+    httpVersion = http:HTTP_1_1);
+
+// A single connection, so that a request sent after a rejected one reuses its connection
+final http:Client concurrencyLimitClient = check new ("http://localhost:" + concurrencyLimitTestPort.toString(),
+    httpVersion = http:HTTP_1_1, poolConfig = {maxActiveConnections: 1});
+
+type ConcurrencyLimitGreeting record {|
+    string name;
+|};
+
+service /concurrencyLimit on concurrencyLimitListener {
+
+    resource function post greet(ConcurrencyLimitGreeting greeting) returns string {
+        if greeting.name == "slow" {
+            runtime:sleep(2);
+        }
+        return "Hello, " + greeting.name;
+    }
+}
+
+function postConcurrencyLimitGreeting(string name) returns string|error {
+    return concurrencyLimitSlowClient->post("/concurrencyLimit/greet", {name});
+}
+
+@test:Config {}
+function testRequestOverConcurrencyLimitIsRejected() returns error? {
+    future<string|error> slowResponse = start postConcurrencyLimitGreeting("slow");
+    runtime:sleep(0.5);
+
+    // Binding this payload fails with a 400, so a 429 shows that the request is rejected before data binding
+    string invalidJson = "{";
+    foreach int i in 0 ..< 8192 {
+        invalidJson += "invalid ";
+    }
+    http:Request request = new;
+    request.setTextPayload(invalidJson, "application/json");
+    http:Response response = check concurrencyLimitClient->post("/concurrencyLimit/greet", request);
+    test:assertEquals(response.statusCode, 429, msg = "Found unexpected output");
+    string|http:HeaderNotFoundError connection = response.getHeader("connection");
+    test:assertFalse(connection is string && connection == "close", msg = "Found unexpected connection header");
+
+    string slowPayload = check wait slowResponse;
+    test:assertEquals(slowPayload, "Hello, slow");
+
+    // The payload of the rejected request is drained, so its connection serves the next request
+    string payload = check concurrencyLimitClient->post("/concurrencyLimit/greet", {name: "Ballerina"});
+    test:assertEquals(payload, "Hello, Ballerina");
+}
@@ -84,3 +84,4 @@ const int httpServerFieldTestPort1 = 9513;
 const int httpStatusCodeTestPort = 9520;
 const int readonlyQueryTestPort = 9607;
 const int resourceReturnTestPort = 9554;
+const int concurrencyLimitTestPort = 9712;
@@ -15,11 +15,9 @@
 // under the License.
 
 import ballerina/io;
-import ballerina/lang.regexp;
+import ballerina/jballerina.java;
 import ballerina/log;
-
-const byte LINE_FEED = 10;
-const byte CARRIAGE_RETURN = 13;
+import ballerina/mime;
 
 enum SseFieldName {
     COMMENT = "",
@@ -29,30 +27,39 @@ enum SseFieldName {
     DATA = "data"
 };
 
-# This class is designed to read a stream of data one byte at a time.
-# It specifically handles the scenario where the streaming party sends data 
-# in small increments, potentially one byte at a time. 
-# 
-# The main functionality of this class is to parse the incoming byte stream 
-# and detect consecutive line feed characters. When two consecutive line feeds 
-# ('\n\n' | '\r\r' | '\r\n\r\n') are detected, it signifies the end of an SSE (Server-Sent Event) message, 
-# and a new `SseEvent` record is created to represent this message.
+# This class generates the `SseEvent` records of an event stream response.
+#
+# The events are parsed natively from the content chunks of the response as they are received, hence the streaming
+# party can send the events in increments as small as a single byte. An event ends with a blank line
+# ('\n\n' | '\r\r' | '\r\n\r\n'). If the response body has already been read or was not received over the network,
+# the bytes of the body are read from the byte stream of the response and fed to the native parser.
 class BytesToEventStreamGenerator {
-    private final stream<byte[], io:Error?> byteStream;
+    private final Response response;
+    private final boolean readFromMessage;
+    private stream<byte[], io:Error?>? byteStream = ();
     private boolean isClosed = false;
-    private byte[] lookaheadBuffer = [];
 
-    isolated function init(stream<byte[], io:Error?> byteStream) {
-        self.byteStream = byteStream;
+    isolated function init(Response response) returns ClientError? {
+        self.response = response;
+        self.readFromMessage = externInitSseEventReader(self, check response.getEntityWithBodyAndWithoutHeaders());
     }
 
     public isolated function next() returns record {|SseEvent value;|}|error? {
         do {
-            string? sseEvent = check self.readUntilDoubleLineBreaks();
-            if sseEvent is () {
-                return;
+            while !self.isClosed {
+                SseEvent? sseEvent = check externReadSseEvent(self);
+                if sseEvent is SseEvent {
+                    return {value: sseEvent};
+                }
+                if self.readFromMessage {
+                    return;
+                }
+                boolean isChunkFed = check self.feedNextChunk();
+                if !isChunkFed {
+                    return;
+                }
             }
-            return {value: check parseSseEvent(sseEvent)};
+            return;
         } on fail error e {
             log:printError("failed to construct SseEvent", e);
             return e;
@@ -60,103 +67,47 @@ class BytesToEventStreamGenerator {
     }
 
     public isolated function close() returns error? {
-        check self.byteStream.close();
         self.isClosed = true;
-    }
-
-    private isolated function readUntilDoubleLineBreaks() returns string|error? {
-        byte[] buffer = [];
-        byte prevByte = 0;
-        byte? currentByte = ();
-        boolean foundCariageReturnWithNewLine = false;
-        while !self.isClosed {
-            currentByte = check self.getNextByte();
-            if currentByte is () {
-                return;
-            }
-            if foundCariageReturnWithNewLine && currentByte == CARRIAGE_RETURN {
-                // Lookahead for newline
-                byte? nextByte = check self.getNextByte();
-                if nextByte is () {
-                    return;
-                }
-                if nextByte == LINE_FEED {
-                    buffer.push(currentByte);
-                    buffer.push(nextByte);
-                    return string:fromBytes(buffer);
-                }
-                // Store char in lookahead buffer if not newline
-                self.lookaheadBuffer.push(nextByte);
-            }
-            foundCariageReturnWithNewLine = false;
-            if ((currentByte == LINE_FEED || currentByte == CARRIAGE_RETURN) && prevByte == currentByte) {
-                buffer.push(currentByte);
-                return string:fromBytes(buffer);
-            }
-            if currentByte == LINE_FEED && prevByte == CARRIAGE_RETURN {
-                foundCariageReturnWithNewLine = true;
-            }
-            buffer.push(currentByte);
-            prevByte = currentByte;
+        externCloseSseEventReader(self);
+        stream<byte[], io:Error?>? byteStream = self.byteStream;
+        if byteStream !is () {
+            check byteStream.close();
         }
-        return;
     }
 
-    # Reads next byte from the lookahead buffer if data is available, otherwise read from the byte stream
-    # + return - A `byte?` on success, `error` on failure
-    private isolated function getNextByte() returns byte|error? {
-        if self.lookaheadBuffer.length() > 0 {
-            return self.lookaheadBuffer.shift();
+    # Feeds the next chunk of the response byte stream to the native parser.
+    # + return - `true` if a chunk was fed, `false` at the end of the byte stream or else an `error` on failure
+    private isolated function feedNextChunk() returns boolean|error {
+        stream<byte[], io:Error?>? byteStream = self.byteStream;
+        if byteStream is () {
+            byteStream = check self.response.getByteStream();
+            self.byteStream = byteStream;
+        }
+        record {byte[] value;}? nextValue = check byteStream.next();
+        if nextValue is () {
+            return false;
         }
-        record {byte[] value;}? nextValue = check self.byteStream.next();
-        return nextValue is () ? () : nextValue.value[0];
+        externFeedSseEventReader(self, nextValue.value);
+        return true;
     }
 }
 
-isolated function parseSseEvent(string event) returns SseEvent|error {
-    string[] lines = re `\r\n|\n|\r`.split(event);
-    string? id = ();
-    string? comment = ();
-    string? data = ();
-    int? 'retry = ();
-    string? eventName = ();
+isolated function externInitSseEventReader(BytesToEventStreamGenerator generator, mime:Entity entity) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternSseEventStream",
+    name: "initSseEventReader"
+} external;
 
-    foreach string line in lines {
-        if line == "" {
-            continue;
-        }
-        regexp:Groups? groups = re `(.*?):(.*)`.findGroups(line);
-        string filedName = line;
-        string fieldValue = "";
-        if groups is regexp:Groups && groups.length() == 3 {
-            regexp:Span? filedNameSpan = groups[1];
-            regexp:Span? filedValueSpan = groups[2];
-            if filedNameSpan is () || filedValueSpan is () {
-                continue;
-            }
-            filedName = filedNameSpan.substring().trim();
-            fieldValue = removeLeadingSpace(filedValueSpan.substring());
-        }
-        if filedName == ID {
-            id = fieldValue;
-        } else if filedName == COMMENT {
-            comment = fieldValue;
-        } else if filedName == RETRY {
-            int|error retryValue = int:fromString(fieldValue);
-            'retry = retryValue is error ? () : retryValue;
-        } else if filedName == EVENT {
-            eventName = fieldValue;
-        } else if filedName == DATA {
-            if data is () {
-                data = fieldValue;
-            } else {
-                data += fieldValue;
-            }
-        }
-    }
-    return {data, id, comment, 'retry, event: eventName};
-}
+isolated function externReadSseEvent(BytesToEventStreamGenerator generator) returns SseEvent|ClientError? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternSseEventStream",
+    name: "readSseEvent"
+} external;
 
-isolated function removeLeadingSpace(string line) returns string {
-    return line.startsWith(" ") ? line.substring(1) : line;
-}
+isolated function externFeedSseEventReader(BytesToEventStreamGenerator generator, byte[] bytes) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternSseEventStream",
+    name: "feedSseEventReader"
+} external;
+
+isolated function externCloseSseEventReader(BytesToEventStreamGenerator generator) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternSseEventStream",
+    name: "closeSseEventReader"
+} external;
@@ -14,21 +14,23 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/log;
 import ballerina/time;
 import ballerina/lang.regexp;
 
 # Represents the cookie store.
 #
-# + allSessionCookies - Array to store all the session cookies
 # + persistentCookieHandler - Persistent cookie handler to manage persistent cookies
 public isolated class CookieStore {
 
-    private final Cookie[] allSessionCookies = [];
     private final PersistentCookieHandler? persistentCookieHandler;
+    private boolean persistentCookiesLoaded;
 
     public isolated function init(PersistentCookieHandler? persistentCookieHandler = ()) {
         self.persistentCookieHandler = persistentCookieHandler;
+        self.persistentCookiesLoaded = persistentCookieHandler is ();
+        externInitCookieIndex(self, Cookie);
     }
 
     # Adds a cookie to the cookie store according to the rules in [RFC-6265](https://tools.ietf.org/html/rfc6265#section-5.3).
@@ -39,12 +41,13 @@ public isolated class CookieStore {
     # + requestPath - Resource path
     # + return - An `http:CookieHandlingError` if there is any error occurred when adding a cookie or else `()`
     public isolated function addCookie(Cookie cookie, CookieConfig cookieConfig, string url, string requestPath) returns CookieHandlingError? {
-        if self.getAllCookies().length() == cookieConfig.maxTotalCookieCount {
+        self.loadPersistentCookies();
+        if externGetCookieCount(self) == cookieConfig.maxTotalCookieCount {
             return error CookieHandlingError("Number of total cookies in the cookie store can not exceed the maximum amount");
         }
 
         string domain = getDomain(url);
-        if self.getCookiesByDomain(domain).length() == cookieConfig.maxCookiesPerDomain {
+        if externGetCookieCountByDomain(self, domain) == cookieConfig.maxCookiesPerDomain {
             return error CookieHandlingError("Number of total cookies for the domain: " + domain + " in the cookie store can not exceed the maximum amount per domain");
         }
 
@@ -78,7 +81,7 @@ public isolated class CookieStore {
                     if result is error {
                         return error CookieHandlingError("Error in adding persistent cookies", result);
                     }
-                } else if isFirstRequest(self.allSessionCookies, domain) {
+                } else if !externHasCookiesForRelatedDomain(self, domain) {
                     log:printError("Client is not configured to use persistent cookies. Hence, persistent cookies from "
                                         + domain + " will be discarded.");
                 }
@@ -113,60 +116,26 @@ public isolated class CookieStore {
     # + requestPath - Path of the request URI
     # + return - Array of the matched cookies stored in the cookie store
     public isolated function getCookies(string url, string requestPath) returns Cookie[] {
-        Cookie[] cookiesToReturn = [];
         string domain = getDomain(url);
         string path  = getReqPath(url, requestPath);
         int? index = requestPath.indexOf("?");
         if index is int {
             path = requestPath.substring(0,index);
         }
-        Cookie[] allCookies = self.getAllCookies();
-        lock {
-            foreach var cookie in allCookies {
-                if isExpired(cookie) {
-                    continue;
-                }
-                if !((url.startsWith(HTTPS) && cookie.secure) || cookie.secure == false) {
-                    continue;
-                }
-                if !((url.startsWith(HTTP) && cookie.httpOnly) || cookie.httpOnly == false) {
-                    continue;
-                }
-                if cookie.hostOnly == true {
-                    if cookie.domain == domain && checkPath(path, cookie) {
-                        cookiesToReturn.push(cookie);
-                    }
-                } else {
-                    var cookieDomain = cookie.domain;
-                    if ((cookieDomain is string && domain.endsWith("." + cookieDomain)) || cookie.domain == domain ) && checkPath(path, cookie) {
-                        cookiesToReturn.push(cookie);
-                    }
-                }
-            }
-            return cookiesToReturn;
+        self.loadPersistentCookies();
+        var result = self.evictExpiredCookies();
+        if result is error {
+            log:printError("Error in removing expired cookies: ", 'error = result);
         }
+        return externMatchCookies(self, domain, path, url.startsWith(HTTPS), url.startsWith(HTTP));
     }
 
     # Gets all the cookies in the cookie store.
     #
     # + return - Array of all the cookie objects
     public isolated function getAllCookies() returns Cookie[] {
-        var persistentCookieHandler = self.persistentCookieHandler;
-        Cookie[] allCookies = [];
-        lock {
-            allCookies = self.allSessionCookies.clone();
-        }
-        if persistentCookieHandler is PersistentCookieHandler {
-            var result = persistentCookieHandler.getAllCookies();
-            if result is error {
-                log:printError("Error in getting persistent cookies: ", 'error = result);
-            } else {
-                foreach var cookie in result {
-                    allCookies.push(cookie);
-                }
-            }
-        }
-        return allCookies;
+        self.loadPersistentCookies();
+        return externGetAllCookies(self);
     }
 
     # Gets all the cookies, which have the given name as the name of the cookie.
@@ -189,14 +158,8 @@ public isolated class CookieStore {
     # + domain - Name of the domain
     # + return - Array of all the matched cookie objects
     public isolated function getCookiesByDomain(string domain) returns Cookie[] {
-        Cookie[] cookiesToReturn = [];
-        Cookie[] allCookies = self.getAllCookies();
-        foreach var cookie in allCookies {
-            if cookie.domain == domain {
-                cookiesToReturn.push(cookie);
-            }
-        }
-        return cookiesToReturn;
+        self.loadPersistentCookies();
+        return externGetCookiesByDomain(self, domain);
     }
 
     # Removes a specific cookie.
@@ -206,20 +169,12 @@ public isolated class CookieStore {
     # + path - Path of the cookie to be removed
     # + return - An `http:CookieHandlingError` if there is any error occurred during the removal of the cookie or else `()`
     public isolated function removeCookie(string name, string domain, string path) returns CookieHandlingError? {
+        self.loadPersistentCookies();
         lock {
-            // Removes the session cookie if it is in the session cookies array, which is matched with the given name, domain, and path.
-            int k = 0;
-            while k < self.allSessionCookies.length() {
-                if name == self.allSessionCookies[k].name && domain == self.allSessionCookies[k].domain && path ==  self.allSessionCookies[k].path {
-                    int j = k;
-                    while j < self.allSessionCookies.length() - 1 {
-                        self.allSessionCookies[j] = self.allSessionCookies[j + 1];
-                        j += 1;
-                    }
-                    _ = self.allSessionCookies.pop();
-                    return;
-                }
-                k += 1;
+            // Removes the cookie from the index. A session cookie is only kept there.
+            Cookie? removedCookie = externRemoveCookie(self, name, domain, path);
+            if removedCookie is Cookie && !removedCookie.isPersistent() {
+                return;
             }
             // Removes the persistent cookie if it is in the persistent cookie store, which is matched with the given name, domain, and path.
             var persistentCookieHandler = self.persistentCookieHandler;
@@ -235,16 +190,17 @@ public isolated class CookieStore {
     # + domain - Domain of the cookie to be removed
     # + return - An `http:CookieHandlingError` if there is any error occurred during the removal of cookies by domain or else `()`
     public isolated function removeCookiesByDomain(string domain) returns CookieHandlingError? {
+        self.loadPersistentCookies();
+        var persistentCookieHandler = self.persistentCookieHandler;
         lock {
-            Cookie[] allCookies = self.getAllCookies();
-            foreach var cookie in allCookies {
-                if cookie.domain != domain {
-                    continue;
-                }
-                var cookieName = cookie.name;
+            Cookie[] removedCookies = externRemoveCookiesByDomain(self, domain);
+            if persistentCookieHandler is () {
+                return;
+            }
+            foreach var cookie in removedCookies {
                 var cookiePath = cookie.path;
-                if cookiePath is string {
-                    var result = self.removeCookie(cookieName, domain, cookiePath);
+                if cookie.isPersistent() && cookiePath is string {
+                    var result = persistentCookieHandler.removeCookie(cookie.name, domain, cookiePath);
                     if result is error {
                         return error CookieHandlingError("Error in removing cookies", result);
                     }
@@ -258,33 +214,11 @@ public isolated class CookieStore {
     #
     # + return - An `http:CookieHandlingError` if there is any error occurred during the removal of expired cookies or else `()`
     public isolated function removeExpiredCookies() returns CookieHandlingError? {
-        var persistentCookieHandler = self.persistentCookieHandler;
-        if persistentCookieHandler is PersistentCookieHandler {
-            var result = persistentCookieHandler.getAllCookies();
-            if result is error {
-                return error CookieHandlingError("Error in removing expired cookies", result);
-            } else {
-                lock {
-                    foreach var cookie in result {
-                        if !isExpired(cookie) {
-                            continue;
-                        }
-                        var cookieName = cookie.name;
-                        var cookieDomain = cookie.domain;
-                        var cookiePath = cookie.path;
-                        if cookieDomain is string && cookiePath is string {
-                            var removeResult = persistentCookieHandler.removeCookie(cookieName, cookieDomain, cookiePath);
-                            if removeResult is error {
-                                return error CookieHandlingError("Error in removing expired cookies", removeResult);
-                            }
-                        }
-                    }
-                }
-            }
-        } else {
+        if self.persistentCookieHandler is () {
             return error CookieHandlingError("No persistent cookie store to remove expired cookies");
         }
-        return;
+        self.loadPersistentCookies();
+        return self.evictExpiredCookies();
     }
 
     # Removes all the cookies.
@@ -293,7 +227,7 @@ public isolated class CookieStore {
     public isolated function removeAllCookies() returns CookieHandlingError? {
         var persistentCookieHandler = self.persistentCookieHandler;
         lock {
-            self.allSessionCookies.removeAll();
+            externRemoveAllCookies(self);
             if persistentCookieHandler is PersistentCookieHandler {
                 return persistentCookieHandler.removeAllCookies();
             }
@@ -307,14 +241,10 @@ public isolated class CookieStore {
     # + cookieToCompare - Cookie to be compared
     # + return - Identical cookie if one exists, else `()`
     isolated function getIdenticalCookie(Cookie cookieToCompare) returns Cookie? {
-        Cookie[] allCookies = self.getAllCookies();
-        int k = 0 ;
-        while k < allCookies.length() {
-            if cookieToCompare.name == allCookies[k].name && cookieToCompare.domain == allCookies[k].domain
-                && cookieToCompare.path ==  allCookies[k].path {
-                return allCookies[k];
-            }
-            k += 1;
+        var domain = cookieToCompare.domain;
+        var path = cookieToCompare.path;
+        if domain is string && path is string {
+            return externGetCookie(self, cookieToCompare.name, domain, path);
         }
         return;
     }
@@ -332,15 +262,11 @@ public isolated class CookieStore {
                 if removeResult is error {
                     return removeResult;
                 }
-                lock {
-                    self.allSessionCookies.push(getClone(cookie, identicalCookie.createdTime, time:utcNow()));
-                }
+                _ = externPutCookie(self, getClone(cookie, identicalCookie.createdTime, time:utcNow()), false, NO_EXPIRY);
             }
         } else {
             // Adds the session cookie.
-            lock {
-                self.allSessionCookies.push(getClone(cookie, time:utcNow(), time:utcNow()));
-            }
+            _ = externPutCookie(self, getClone(cookie, time:utcNow(), time:utcNow()), false, NO_EXPIRY);
         }
         return;
     }
@@ -362,14 +288,66 @@ public isolated class CookieStore {
                         return removeResult;
                     }
                     Cookie newCookie = getClone(cookie, identicalCookie.createdTime, time:utcNow());
-                    return persistentCookieHandler.storeCookie(newCookie);
+                    return self.storePersistentCookie(newCookie, persistentCookieHandler);
                 }
             }
         } else {
             // If cookie is not expired, adds that cookie.
             if !isExpired(cookie) {
                 Cookie newCookie = getClone(cookie, time:utcNow(), time:utcNow());
-                return persistentCookieHandler.storeCookie(newCookie);
+                return self.storePersistentCookie(newCookie, persistentCookieHandler);
+            }
+        }
+        return;
+    }
+
+    // Stores a persistent cookie with the persistent cookie handler and adds it to the index.
+    isolated function storePersistentCookie(Cookie cookie, PersistentCookieHandler persistentCookieHandler) returns error? {
+        check persistentCookieHandler.storeCookie(cookie);
+        _ = externPutCookie(self, cookie, true, getExpiryTime(cookie));
+    }
+
+    // Loads the cookies of the persistent cookie handler into the index once. Afterwards, the index is kept in sync
+    // with the handler as cookies are added and removed through the cookie store.
+    isolated function loadPersistentCookies() {
+        var persistentCookieHandler = self.persistentCookieHandler;
+        if persistentCookieHandler is () {
+            return;
+        }
+        lock {
+            if self.persistentCookiesLoaded {
+                return;
+            }
+            var result = persistentCookieHandler.getAllCookies();
+            if result is error {
+                log:printError("Error in getting persistent cookies: ", 'error = result);
+                return;
+            }
+            foreach var cookie in result {
+                _ = externPutCookie(self, cookie, true, getExpiryTime(cookie));
+            }
+            self.persistentCookiesLoaded = true;
+        }
+    }
+
+    // Evicts the expired cookies from the index using its expiry queue and removes the expired persistent cookies
+    // from the persistent cookie handler.
+    isolated function evictExpiredCookies() returns CookieHandlingError? {
+        var persistentCookieHandler = self.persistentCookieHandler;
+        lock {
+            Cookie[] expiredCookies = externRemoveExpiredCookies(self, toEpochMillis(time:utcNow()));
+            if persistentCookieHandler is () {
+                return;
+            }
+            foreach var cookie in expiredCookies {
+                var cookieDomain = cookie.domain;
+                var cookiePath = cookie.path;
+                if cookieDomain is string && cookiePath is string {
+                    var removeResult = persistentCookieHandler.removeCookie(cookie.name, cookieDomain, cookiePath);
+                    if removeResult is error {
+                        return error CookieHandlingError("Error in removing expired cookies", removeResult);
+                    }
+                }
             }
         }
         return;
@@ -382,6 +360,7 @@ const string URL_TYPE_1 = "https://www.";
 const string URL_TYPE_2 = "http://www.";
 const string URL_TYPE_3 = "http://";
 const string URL_TYPE_4 = "https://";
+const int NO_EXPIRY = -1;
 
 final regexp:RegExp SLASH_REGEX = re `/`;
 
@@ -480,17 +459,6 @@ isolated function validateExpiresAttribute(Cookie cookie) returns Cookie? {
     return;
 }
 
-// Checks whether the user has requested a particular domain or a sub-domain of it previously or not.
-isolated function isFirstRequest(Cookie[] allSessionCookies, string domain) returns boolean {
-    foreach var cookie in allSessionCookies {
-       var cookieDomain = cookie.domain;
-       if ((cookieDomain is string && (domain.endsWith("." + cookieDomain) || cookieDomain.endsWith("." + domain))) || cookie.domain == domain ) {
-           return false;
-       }
-    }
-    return true;
-}
-
 // Returns true if the cookie is expired according to the rules in [RFC-6265](https://tools.ietf.org/html/rfc6265#section-4.1.2.2).
 isolated function isExpired(Cookie cookie) returns boolean {
     if cookie.maxAge > 0 {
@@ -508,3 +476,93 @@ isolated function isExpired(Cookie cookie) returns boolean {
     }
     return false;
 }
+
+// Returns the expiry time of the cookie in milliseconds since the epoch or `NO_EXPIRY` if the cookie does not expire.
+isolated function getExpiryTime(Cookie cookie) returns int {
+    if cookie.maxAge > 0 {
+        return toEpochMillis(time:utcAddSeconds(cookie.createdTime, <time:Seconds> cookie.maxAge));
+    }
+    var expiryTime = cookie.expires;
+    if expiryTime is string {
+        time:Utc|error cookieExpires = utcFromString(expiryTime.substring(0, expiryTime.length() - 4), "E, dd MMM yyyy HH:mm:ss");
+        if cookieExpires is time:Utc {
+            return toEpochMillis(cookieExpires);
+        }
+    }
+    return NO_EXPIRY;
+}
+
+isolated function toEpochMillis(time:Utc utc) returns int {
+    return utc[0] * 1000 + <int>(utc[1] * 1000);
+}
+
+isolated function externInitCookieIndex(CookieStore cookieStore, typedesc<Cookie> cookieType) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "initCookieIndex"
+} external;
+
+isolated function externPutCookie(CookieStore cookieStore, Cookie cookie, boolean persistent, int expiryTime)
+returns Cookie? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "putCookie"
+} external;
+
+isolated function externGetCookie(CookieStore cookieStore, string name, string domain, string path) returns Cookie? =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getCookie"
+} external;
+
+isolated function externRemoveCookie(CookieStore cookieStore, string name, string domain, string path)
+returns Cookie? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "removeCookie"
+} external;
+
+isolated function externRemoveCookiesByDomain(CookieStore cookieStore, string domain) returns Cookie[] =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "removeCookiesByDomain"
+} external;
+
+isolated function externRemoveExpiredCookies(CookieStore cookieStore, int now) returns Cookie[] = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "removeExpiredCookies"
+} external;
+
+isolated function externMatchCookies(CookieStore cookieStore, string domain, string path, boolean secureChannel,
+boolean httpScheme) returns Cookie[] = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "matchCookies"
+} external;
+
+isolated function externGetAllCookies(CookieStore cookieStore) returns Cookie[] = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getAllCookies"
+} external;
+
+isolated function externGetCookiesByDomain(CookieStore cookieStore, string domain) returns Cookie[] = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getCookiesByDomain"
+} external;
+
+isolated function externGetCookieCount(CookieStore cookieStore) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getCookieCount"
+} external;
+
+isolated function externGetCookieCountByDomain(CookieStore cookieStore, string domain) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "getCookieCountByDomain"
+} external;
+
+isolated function externHasCookiesForRelatedDomain(CookieStore cookieStore, string domain) returns boolean =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "hasCookiesForRelatedDomain"
+} external;
+
+isolated function externRemoveAllCookies(CookieStore cookieStore) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCookieStore",
+    name: "removeAllCookies"
+} external;
@@ -30,6 +30,9 @@
 # + laxDataBinding - Enables or disables relaxed data binding on the service side. Disabled by default. 
 #                    When enabled, the JSON data will be projected to the Ballerina record type and during the projection,
 #                    nil values will be considered as optional fields and absent fields will be considered for nilable types
+# + streamingDataBinding - Binds JSON payloads to record types while the payload is read, without first building the
+#                          JSON value of the payload. The payload can not be read again from the request once bound.
+#                          Disabled by default
 public type HttpServiceConfig record {|
     string host = "b7a.default";
     CompressionConfig compression = {};
@@ -43,6 +46,7 @@ public type HttpServiceConfig record {|
     typedesc<ServiceContract> serviceType?;
     string basePath?;
     boolean laxDataBinding = false;
+    boolean streamingDataBinding = false;
 |};
 
 # Configurations for CORS support.
@@ -74,6 +78,8 @@ public annotation HttpServiceConfig ServiceConfig on service, type;
 # + transactionInfectable - Allow to participate in the distributed transactions if value is true
 # + auth - Resource auth configurations
 # + linkedTo - The array of linked resources
+# + concurrencyLimit - Configurations of the adaptive limit of the requests dispatched concurrently to the resource.
+#                      This applies in addition to the concurrency limit of the listener
 public type HttpResourceConfig record {|
     string name?;
     string[] consumes = [];
@@ -82,6 +88,7 @@ public type HttpResourceConfig record {|
     boolean transactionInfectable = true;
     ListenerAuthConfig[]|Scopes auth?;
     LinkedTo[] linkedTo?;
+    ConcurrencyLimitConfig concurrencyLimit?;
 |};
 
 # The annotation which is used to configure an HTTP resource.
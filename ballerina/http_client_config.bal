@@ -170,6 +170,8 @@ public type CookieConfig record {|
 # + tcpNoDelay - Enable/disable TCP_NODELAY (disable/enable Nagle's algorithm).
 # + socketReuse - Enable/disable the SO_REUSEADDR socket option.
 # + keepAlive - Enable/disable SO_KEEPALIVE.
+# + transport - The socket transport used by the event loops. The native transports (`EPOLL`, `IO_URING`) are only
+# available on Linux and fall back to `NIO` when the native library cannot be loaded
 public type ClientSocketConfig record {|
     decimal connectTimeOut = 15;
     int receiveBufferSize = 1048576;
@@ -177,8 +179,16 @@ public type ClientSocketConfig record {|
     boolean tcpNoDelay = true;
     boolean socketReuse = true;
     boolean keepAlive = false;
+    SocketTransport transport = NIO;
 |};
 
+# Represents the socket transport implementations.
+public enum SocketTransport {
+    NIO,
+    EPOLL,
+    IO_URING
+}
+
 # Represents HTTP methods.
 public enum Method {
     GET,
@@ -18,19 +18,38 @@ import ballerina/jballerina.java;
 
 configurable int maxActiveConnections = -1;
 configurable int maxIdleConnections = 100;
+configurable int minIdleConnections = 0;
+configurable int warmUpConnections = 0;
 configurable decimal waitTime = 30;
 configurable int maxActiveStreamsPerConnection = 100;
+configurable int minHttp2Connections = 1;
+configurable int maxHttp2Connections = -1;
+configurable decimal http2ConnectionOpenThreshold = 0.8;
 configurable decimal minEvictableIdleTime = 300;
 configurable decimal timeBetweenEvictionRuns = 30;
 configurable decimal minIdleTimeInStaleState = 300;
 configurable decimal timeBetweenStaleEviction = 30;
+configurable boolean eventLoopAffinity = false;
 
 # Configurations for managing HTTP client connection pool.
 #
 # + maxActiveConnections - Max active connections per route(host:port). Default value is -1 which indicates unlimited.
 # + maxIdleConnections - Maximum number of idle connections allowed per pool.
+# + minIdleConnections - Minimum number of idle connections kept open per route. Connections are opened in the
+#                        background, every `timeBetweenEvictionRuns`, when a route has fewer idle connections.
+#                        Default value is 0
+# + warmUpConnections - Number of connections opened to the host of the client URL when the client is initialized, so
+#                       that the first requests do not wait for a connection to be established. Default value is 0
 # + waitTime - Maximum amount of time (in seconds), the client should wait for an idle connection before it sends an error when the pool is exhausted
 # + maxActiveStreamsPerConnection - Maximum active streams per connection. This only applies to HTTP/2. Default value is 100
+# + minHttp2Connections - Minimum number of HTTP/2 connections opened per route before requests are multiplexed over
+#                         them. This only applies to HTTP/2. Default value is 1
+# + maxHttp2Connections - Maximum number of HTTP/2 connections per route. Requests wait for a free stream once all the
+#                         connections are at `maxActiveStreamsPerConnection`. This only applies to HTTP/2. Default value
+#                         is -1 which indicates unlimited
+# + http2ConnectionOpenThreshold - Fraction of the streams of a route, in the range (0, 1], that can be active before an
+#                                  additional HTTP/2 connection is opened ahead of time. This only applies to HTTP/2.
+#                                  Default value is 0.8
 # + minEvictableIdleTime - Minimum evictable time for an idle connection in seconds. Default value is 5 minutes
 # + timeBetweenEvictionRuns - Time between eviction runs in seconds. Default value is 30 seconds
 # + minIdleTimeInStaleState - Minimum time in seconds for a connection to be kept open which has received a GOAWAY.
@@ -38,15 +57,24 @@ configurable decimal timeBetweenStaleEviction = 30;
 #                             the connection will be closed after all in-flight streams are completed
 # + timeBetweenStaleEviction - Time between the connection stale eviction runs in seconds. This only applies for HTTP/2.
 #                           Default value is 30 seconds
+# + eventLoopAffinity - Keeps a separate slice of the pool for each listener event loop, so that requests proxied from a
+#                       service use upstream connections bound to the same event loop. The connection limits apply per
+#                       event loop in this mode. Default value is false
 public type PoolConfiguration record {|
     int maxActiveConnections = maxActiveConnections;
     int maxIdleConnections = maxIdleConnections;
+    int minIdleConnections = minIdleConnections;
+    int warmUpConnections = warmUpConnections;
     decimal waitTime = waitTime;
     int maxActiveStreamsPerConnection = maxActiveStreamsPerConnection;
+    int minHttp2Connections = minHttp2Connections;
+    int maxHttp2Connections = maxHttp2Connections;
+    decimal http2ConnectionOpenThreshold = http2ConnectionOpenThreshold;
     decimal minEvictableIdleTime = minEvictableIdleTime;
     decimal timeBetweenEvictionRuns = timeBetweenEvictionRuns;
     decimal minIdleTimeInStaleState = minIdleTimeInStaleState;
     decimal timeBetweenStaleEviction = timeBetweenStaleEviction;
+    boolean eventLoopAffinity = eventLoopAffinity;
 |};
 
 //This is a hack to get the global map initialized, without involving locking.
@@ -38,11 +38,17 @@ public type TraceLogAdvancedConfiguration record {|
 # + format - The format of access logs to be printed (either `flat` or `json`)
 # + attributes - The list of attributes of access logs to be printed
 # + path - Optional file path to store access logs
+# + async - Boolean value to enable or disable writing access logs from a background thread
+# + bufferSize - The maximum number of access log lines buffered for the background writer
+# + dropWhenFull - Drops access log lines instead of waiting when the buffer of the background writer is full
 public type AccessLogConfiguration record {|
     boolean console = false;
     string format = "flat";
     string[] attributes?;
     string path?;
+    boolean async = false;
+    int bufferSize = 8192;
+    boolean dropWhenFull = false;
 |};
 
 configurable TraceLogAdvancedConfiguration traceLogAdvancedConfig = {};
@@ -153,6 +153,8 @@ public type Local record {|
 #                             the connection will be closed after all in-flight streams are completed
 # + timeBetweenStaleEviction - Time between the connection stale eviction runs in seconds. This only applies for HTTP/2.
 #                              Default value is 30 seconds
+# + concurrencyLimit - Configurations of the adaptive limit of the requests dispatched concurrently to the services
+#                      of the listener. By default, the number of concurrent requests is not limited
 public type ListenerConfiguration record {|
     string host = "0.0.0.0";
     ListenerHttp1Settings http1Settings = {};
@@ -166,6 +168,7 @@ public type ListenerConfiguration record {|
     int http2InitialWindowSize = 65535;
     decimal minIdleTimeInStaleState = 300;
     decimal timeBetweenStaleEviction = 30;
+    ConcurrencyLimitConfig? concurrencyLimit = ();
 |};
 
 # Provides a set of cloneable configurations for HTTP listener.
@@ -217,6 +220,21 @@ public type RequestLimitConfigs record {|
     int maxEntityBodySize = -1;
 |};
 
+# Provides the configurations of an adaptive concurrency limit. The limit is raised while the latency of the
+# dispatched requests stays close to the lowest observed latency and lowered when the latency grows. Requests which
+# arrive while the limit is reached are rejected before their payload is read.
+#
+# + initialLimit - The number of concurrent requests allowed before any latency is observed
+# + minLimit - The lowest value the limit can be lowered to
+# + maxLimit - The highest value the limit can be raised to
+# + rejectionStatusCode - The status code of the response sent for a rejected request
+public type ConcurrencyLimitConfig record {|
+    int initialLimit = 20;
+    int minLimit = 1;
+    int maxLimit = 1000;
+    STATUS_SERVICE_UNAVAILABLE|STATUS_TOO_MANY_REQUESTS rejectionStatusCode = STATUS_SERVICE_UNAVAILABLE;
+|};
+
 # Configures the SSL/TLS options to be used for HTTP service.
 #
 # + key - Configurations associated with `crypto:KeyStore` or combination of certificate and (PKCS8) private key of the server
@@ -256,9 +274,12 @@ public type ListenerSecureSocket record {|
 # Provides settings related to server socket configuration.
 #
 # + soBackLog - Requested maximum length of the queue of incoming connections.
+# + acceptorCount - Number of server sockets bound to the listener port using `SO_REUSEPORT`. Only applicable to the
+#                   `EPOLL` and `IO_URING` transports
 public type ServerSocketConfig record {|
     *ClientSocketConfig;
     int soBackLog = 100;
+    int acceptorCount = 1;
 |};
 
 # Represents combination of certificate, private key and private key password if encrypted.
@@ -63,6 +63,15 @@ public type CompressionConfig record {|
     Compression enable = COMPRESSION_AUTO;
     # Content types which are allowed for compression
     string[] contentTypes = [];
+    # Compression level from 1 (fastest) to 9 (smallest output). It is used as the gzip and deflate level, the brotli
+    # quality and the zstd level. Any other value uses the default level of each content coding
+    int level = -1;
+    # Responses with a known length below this number of bytes are not compressed when the content coding is
+    # negotiated with the `accept-encoding` header
+    int minResponseSize = 0;
+    # Caches the compressed form of full responses by their content, so that responses with the same payload are
+    # compressed only once per content coding. Enable this for services which send the same payloads repeatedly
+    boolean cacheCompressedContent = false;
 |};
 
 type HTTPError record {
@@ -20,17 +20,16 @@ package io.ballerina.stdlib.http.api;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.constants.RuntimeConstants;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
-import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipeliningHandler;
 import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.handler.codec.http.HttpContent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,12 +53,14 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     private static final Logger log = LoggerFactory.getLogger(BallerinaHTTPConnectorListener.class);
     protected static final String HTTP_RESOURCE = "httpResource";
+    private static final String CONCURRENCY_LIMIT_REACHED = "concurrency limit reached";
 
     protected final HTTPServicesRegistry httpServicesRegistry;
     protected final List<HTTPInterceptorServicesRegistry> httpInterceptorServicesRegistries;
 
     protected final BMap endpointConfig;
     protected final Object listenerLevelInterceptors;
+    protected final ConcurrencyLimiter concurrencyLimiter;
 
     public BallerinaHTTPConnectorListener(HTTPServicesRegistry httpServicesRegistry,
                                           List<HTTPInterceptorServicesRegistry> httpInterceptorServicesRegistries,
@@ -68,11 +69,27 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         this.httpServicesRegistry = httpServicesRegistry;
         this.endpointConfig = endpointConfig;
         this.listenerLevelInterceptors = interceptors;
+        this.concurrencyLimiter = endpointConfig == null ? null : ConcurrencyLimiter.fromConfig(
+                endpointConfig.getMapValue(HttpConstants.ENDPOINT_CONFIG_CONCURRENCY_LIMIT));
+    }
+
+    /**
+     * Returns the limiter of the requests dispatched concurrently to the resources of the listener.
+     *
+     * @return the concurrency limiter, or null if the listener has no concurrency limit
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
     }
 
     @Override
     public void onMessage(HttpCarbonMessage inboundMessage) {
         if (Objects.isNull(inboundMessage.getProperty(INTERCEPTOR_SERVICES_REGISTRIES))) {
+            // Sheds the request before any interceptor or data binding runs for it
+            if (concurrencyLimiter != null && concurrencyLimiter.rejectIfLimitReached()) {
+                rejectRequest(inboundMessage, concurrencyLimiter);
+                return;
+            }
             setTargetServiceToInboundMsg(inboundMessage);
         }
 
@@ -159,9 +176,24 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         log.warn("Error in HTTP server connector: {}", throwable.getMessage());
     }
 
-    @SuppressWarnings("unchecked")
     protected void extractPropertiesAndStartResourceExecution(HttpCarbonMessage inboundMessage,
                                                               HttpResource httpResource) {
+        ConcurrencyLimiter resourceLimiter = httpResource.getConcurrencyLimiter();
+        if (!acquirePermits(inboundMessage, resourceLimiter)) {
+            return;
+        }
+        long admittedAt = System.nanoTime();
+        try {
+            startResourceExecution(inboundMessage, httpResource, resourceLimiter, admittedAt);
+        } catch (RuntimeException e) {
+            cancelPermits(resourceLimiter);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void startResourceExecution(HttpCarbonMessage inboundMessage, HttpResource httpResource,
+                                        ConcurrencyLimiter resourceLimiter, long admittedAt) {
         boolean isTransactionInfectable = httpResource.isTransactionInfectable();
         Map<String, Object> properties = collectRequestProperties(inboundMessage, isTransactionInfectable);
 
@@ -182,24 +214,85 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
             inboundMessage.setProperty(HttpConstants.OBSERVABILITY_CONTEXT_PROPERTY, observerContext);
         }
         Runtime runtime = httpServicesRegistry.getRuntime();
-        HttpCallableUnitCallback callback = new HttpCallableUnitCallback(inboundMessage, runtime, httpResource,
+        ResourceInvocationDescriptor descriptor = httpResource.getInvocationDescriptor();
+        HttpCallableUnitCallback callback = new HttpCallableUnitCallback(inboundMessage, runtime, descriptor,
                 httpServicesRegistry.isPossibleLastService());
-        BObject service = httpResource.getParentService().getBalService();
-        String resourceName = httpResource.getName();
-        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
         Thread.startVirtualThread(() -> {
             Object result;
-            boolean isIsolated = serviceType.isIsolated() && serviceType.isIsolated(resourceName);
-            StrandMetadata metaData = new StrandMetadata(isIsolated, properties);
+            StrandMetadata metaData = descriptor.createStrandMetadata(properties);
             try {
-                result = runtime.callMethod(service, resourceName, metaData, signatureParams);
+                result = runtime.callMethod(descriptor.getService(), descriptor.getResourceName(), metaData,
+                                            signatureParams);
                 callback.handleResult(result);
             } catch (BError error) {
                 callback.handlePanic(error);
+            } finally {
+                releasePermits(resourceLimiter, System.nanoTime() - admittedAt);
             }
         });
     }
 
+    /**
+     * Admits the request to the listener and to the resource, if they have concurrency limits. A request which is
+     * not admitted is rejected.
+     *
+     * @param inboundMessage  the inbound request
+     * @param resourceLimiter the concurrency limiter of the resource, or null
+     * @return true if the request is admitted
+     */
+    private boolean acquirePermits(HttpCarbonMessage inboundMessage, ConcurrencyLimiter resourceLimiter) {
+        if (concurrencyLimiter != null && !concurrencyLimiter.tryAcquire()) {
+            rejectRequest(inboundMessage, concurrencyLimiter);
+            return false;
+        }
+        if (resourceLimiter != null && !resourceLimiter.tryAcquire()) {
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.cancel();
+            }
+            rejectRequest(inboundMessage, resourceLimiter);
+            return false;
+        }
+        return true;
+    }
+
+    private ConcurrencyLimiter limitReached(HttpResource httpResource) {
+        if (concurrencyLimiter != null && concurrencyLimiter.rejectIfLimitReached()) {
+            return concurrencyLimiter;
+        }
+        ConcurrencyLimiter resourceLimiter = httpResource.getConcurrencyLimiter();
+        if (resourceLimiter != null && resourceLimiter.rejectIfLimitReached()) {
+            return resourceLimiter;
+        }
+        return null;
+    }
+
+    private void releasePermits(ConcurrencyLimiter resourceLimiter, long latencyNanos) {
+        if (resourceLimiter != null) {
+            resourceLimiter.release(latencyNanos);
+        }
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.release(latencyNanos);
+        }
+    }
+
+    private void cancelPermits(ConcurrencyLimiter resourceLimiter) {
+        if (resourceLimiter != null) {
+            resourceLimiter.cancel();
+        }
+        if (concurrencyLimiter != null) {
+            concurrencyLimiter.cancel();
+        }
+    }
+
+    private static void rejectRequest(HttpCarbonMessage inboundMessage, ConcurrencyLimiter limiter) {
+        // The request is not dispatched, so its payload is released as it arrives instead of being read
+        inboundMessage.getHttpContentAsync().setMessageListener(HttpContent::release);
+        inboundMessage.removeInboundContentListener();
+        HttpCarbonMessage response = HttpUtil.createErrorMessage(CONCURRENCY_LIMIT_REACHED,
+                                                                 limiter.getRejectionStatusCode());
+        PipeliningHandler.sendPipelinedResponse(inboundMessage, response);
+    }
+
     protected boolean accessed(HttpCarbonMessage inboundMessage) {
         return inboundMessage.getProperty(HTTP_RESOURCE) != null;
     }
@@ -242,17 +335,15 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
                 registry.getRuntime());
         HttpRequestInterceptorUnitCallback callback = new HttpRequestInterceptorUnitCallback(inboundMessage, runtime,
                 this);
-        BObject service = resource.getParentService().getBalService();
-        String resourceName = resource.getName();
+        ResourceInvocationDescriptor descriptor = resource.getInvocationDescriptor();
 
         inboundMessage.removeProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR);
 
-        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
         Thread.startVirtualThread(() -> {
-            boolean isIsolated = serviceType.isIsolated() && serviceType.isIsolated(resourceName);
-            StrandMetadata metaData = new StrandMetadata(isIsolated, properties);
+            StrandMetadata metaData = descriptor.createStrandMetadata(properties);
             try {
-                Object result = runtime.callMethod(service, resourceName, metaData, signatureParams);
+                Object result = runtime.callMethod(descriptor.getService(), descriptor.getResourceName(), metaData,
+                                                   signatureParams);
                 callback.handleResult(result);
             } catch (BError error) {
                 callback.handlePanic(error);
@@ -273,6 +364,12 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         // we skip getting the full request
         if (!inboundMessage.isLastHttpContentArrived() && HttpDispatcher.shouldDiffer(httpResource) &&
                 inboundMessage.isAccessedInNonInterceptorService()) {
+            // Sheds the request before waiting for the full payload which is needed for the data binding
+            ConcurrencyLimiter limiter = limitReached(httpResource);
+            if (limiter != null) {
+                rejectRequest(inboundMessage, limiter);
+                return;
+            }
             inboundMessage.setProperty(HTTP_RESOURCE, httpResource);
             inboundMessage.setProperty(HttpConstants.WAIT_FOR_FULL_REQUEST, true);
             //Removes inbound content listener since data binding waits for all contents to be received
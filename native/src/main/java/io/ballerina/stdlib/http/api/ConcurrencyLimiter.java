@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the number of requests dispatched concurrently to the resources of a listener or to a single resource.
+ * <p>
+ * The limit adapts to the latency of the requests, following the gradient approach. Latency samples are collected
+ * over short windows. At the end of each window, the average latency of the window is compared with a long term
+ * average of the latency. While they are close, the limit grows by about the square root of the limit, and as the
+ * window latency rises above the long term latency, the limit shrinks in proportion. The limit is only changed in
+ * windows in which at least half of it was in use, so an idle listener does not grow its limit without bound.
+ * <p>
+ * Requests are admitted with {@link #tryAcquire()} and each admitted request should be released with
+ * {@link #release(long)} once it completes, or with {@link #cancel()} if it is not dispatched.
+ *
+ * @since 2.13.3
+ */
+public class ConcurrencyLimiter {
+
+    private static final BString INITIAL_LIMIT = StringUtils.fromString("initialLimit");
+    private static final BString MIN_LIMIT = StringUtils.fromString("minLimit");
+    private static final BString MAX_LIMIT = StringUtils.fromString("maxLimit");
+    private static final BString REJECTION_STATUS_CODE = StringUtils.fromString("rejectionStatusCode");
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_TERM_SMOOTHING = 2.0 / (600 + 1);
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int rejectionStatusCode;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private final LongAdder admittedCount = new LongAdder();
+    private final LongAdder shedCount = new LongAdder();
+
+    // Samples of the current window
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAccumulator windowMaxInFlight = new LongAccumulator(Math::max, 0);
+    private volatile long windowStartNanos;
+
+    // Only accessed while holding the updateLock
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private double estimatedLimit;
+    private double longTermLatencyNanos;
+
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int rejectionStatusCode) {
+        this(initialLimit, minLimit, maxLimit, rejectionStatusCode, System::nanoTime);
+    }
+
+    ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int rejectionStatusCode,
+                       LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("invalid concurrency limit range: [" + minLimit + ", " + maxLimit + "]");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rejectionStatusCode = rejectionStatusCode;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.estimatedLimit = this.limit;
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Creates a limiter from the given concurrency limit configuration.
+     *
+     * @param config the concurrency limit configuration, or null
+     * @return the limiter, or null if the configuration is null
+     */
+    public static ConcurrencyLimiter fromConfig(BMap config) {
+        if (config == null) {
+            return null;
+        }
+        long minLimit = config.getIntValue(MIN_LIMIT);
+        long maxLimit = config.getIntValue(MAX_LIMIT);
+        if (minLimit < 1 || maxLimit < minLimit || maxLimit > Integer.MAX_VALUE) {
+            throw HttpUtil.createHttpError("invalid concurrency limit range: [" + minLimit + ", " + maxLimit + "]",
+                                           HttpErrorType.GENERIC_LISTENER_ERROR);
+        }
+        long initialLimit = Math.max(minLimit, Math.min(maxLimit, config.getIntValue(INITIAL_LIMIT)));
+        return new ConcurrencyLimiter((int) initialLimit, (int) minLimit, (int) maxLimit,
+                                      Math.toIntExact(config.getIntValue(REJECTION_STATUS_CODE)));
+    }
+
+    /**
+     * Admits a request if the number of requests in flight is below the limit.
+     *
+     * @return true if the request is admitted, false if it should be rejected
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                shedCount.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        admittedCount.increment();
+        windowMaxInFlight.accumulate(current + 1);
+        return true;
+    }
+
+    /**
+     * Releases an admitted request and records its latency.
+     *
+     * @param latencyNanos the time the request took since it was admitted, in nanoseconds
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        windowLatencyNanos.add(latencyNanos);
+        windowSamples.increment();
+        long now = nanoClock.getAsLong();
+        if (now - windowStartNanos >= WINDOW_NANOS && windowSamples.sum() >= MIN_WINDOW_SAMPLES
+                && updateLock.tryLock()) {
+            try {
+                updateLimit(now);
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request which was not dispatched. No latency is recorded for the request.
+     */
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Checks whether the limit is reached, without admitting a request. A request found over the limit is counted as
+     * shed.
+     *
+     * @return true if the request should be rejected
+     */
+    public boolean rejectIfLimitReached() {
+        if (inFlight.get() >= limit) {
+            shedCount.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private void updateLimit(long now) {
+        if (now - windowStartNanos < WINDOW_NANOS) {
+            // Another thread has just closed the window
+            return;
+        }
+        long samples = windowSamples.sumThenReset();
+        long latencyNanos = windowLatencyNanos.sumThenReset();
+        long maxInFlight = windowMaxInFlight.getThenReset();
+        windowMaxInFlight.accumulate(inFlight.get());
+        windowStartNanos = now;
+        if (samples == 0) {
+            return;
+        }
+        double shortTermLatencyNanos = Math.max(1, (double) latencyNanos / samples);
+        if (longTermLatencyNanos == 0) {
+            longTermLatencyNanos = shortTermLatencyNanos;
+        } else {
+            longTermLatencyNanos = longTermLatencyNanos * (1 - LONG_TERM_SMOOTHING)
+                    + shortTermLatencyNanos * LONG_TERM_SMOOTHING;
+            if (longTermLatencyNanos / shortTermLatencyNanos > 2) {
+                // Latency has recovered, so let the long term average catch up faster
+                longTermLatencyNanos *= 0.95;
+            }
+        }
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT,
+                                   Math.min(1.0, TOLERANCE * longTermLatencyNanos / shortTermLatencyNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    public long getAdmittedCount() {
+        return admittedCount.sum();
+    }
+
+    public long getShedCount() {
+        return shedCount.sum();
+    }
+
+    public int getRejectionStatusCode() {
+        return rejectionStatusCode;
+    }
+}
@@ -18,17 +18,14 @@ package io.ballerina.stdlib.http.api;
 
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
-import java.util.Locale;
-import java.util.Objects;
-
 import static io.ballerina.stdlib.http.api.HttpConstants.OBSERVABILITY_CONTEXT_PROPERTY;
 import static java.lang.System.err;
 
@@ -42,21 +39,20 @@ public class HttpCallableUnitCallback {
 
     private final BObject caller;
     private final Runtime runtime;
-    private final String returnMediaType;
+    private final BString returnMediaType;
     private final BMap cacheConfig;
     private final HttpCarbonMessage requestMessage;
     private final BMap links;
     private final boolean isLastService;
 
-    HttpCallableUnitCallback(HttpCarbonMessage requestMessage, Runtime runtime, HttpResource resource,
-                             boolean isLastService) {
+    HttpCallableUnitCallback(HttpCarbonMessage requestMessage, Runtime runtime,
+                             ResourceInvocationDescriptor descriptor, boolean isLastService) {
         this.requestMessage = requestMessage;
         this.runtime = runtime;
-        this.returnMediaType = resource.getReturnMediaType();
-        this.cacheConfig = resource.getResponseCacheConfig();
-        this.links = resource.getLinks();
-        String resourceAccessor = resource.getBalResource().getAccessor().toUpperCase(Locale.getDefault());
-        this.caller = getCaller(requestMessage, resourceAccessor);
+        this.returnMediaType = descriptor.getReturnMediaType();
+        this.cacheConfig = descriptor.getCacheConfig();
+        this.links = descriptor.getLinks();
+        this.caller = getCaller(requestMessage, descriptor.getResourceAccessor());
         this.isLastService = isLastService;
     }
 
@@ -101,9 +97,9 @@ public class HttpCallableUnitCallback {
     private void returnResponse(Object result) {
         Object[] paramFeed = new Object[4];
         paramFeed[0] = result;
-        paramFeed[1] = Objects.nonNull(returnMediaType) ? StringUtils.fromString(returnMediaType) : null;
+        paramFeed[1] = returnMediaType;
         paramFeed[2] = cacheConfig;
-        paramFeed[3] = Objects.nonNull(links) && !links.isEmpty() ? links : null;
+        paramFeed[3] = links;
         invokeBalMethod(paramFeed, "returnResponse");
     }
 
@@ -111,7 +107,7 @@ public class HttpCallableUnitCallback {
         Thread.startVirtualThread(() -> {
             Object[] paramFeed = new Object[2];
             paramFeed[0] = error;
-            paramFeed[1] = returnMediaType != null ? StringUtils.fromString(returnMediaType) : null;
+            paramFeed[1] = returnMediaType;
             invokeBalMethod(paramFeed, "returnErrorResponse");
         });
     }
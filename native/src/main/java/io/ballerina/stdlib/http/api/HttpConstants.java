@@ -125,6 +125,11 @@ public final class HttpConstants {
     public static final BString ANN_CONFIG_ATTR_COMPRESSION = StringUtils.fromString("compression");
     public static final BString ANN_CONFIG_ATTR_COMPRESSION_ENABLE = StringUtils.fromString("enable");
     public static final BString ANN_CONFIG_ATTR_COMPRESSION_CONTENT_TYPES = StringUtils.fromString("contentTypes");
+    public static final BString ANN_CONFIG_ATTR_COMPRESSION_LEVEL = StringUtils.fromString("level");
+    public static final BString ANN_CONFIG_ATTR_COMPRESSION_MIN_RESPONSE_SIZE =
+            StringUtils.fromString("minResponseSize");
+    public static final BString ANN_CONFIG_ATTR_COMPRESSION_CACHE_COMPRESSED_CONTENT =
+            StringUtils.fromString("cacheCompressedContent");
     public static final BString ANN_CONFIG_BASE_PATH = StringUtils.fromString("basePath");
     public static final String ANN_CONFIG_ATTR_CACHE_SIZE = "cacheSize";
     public static final String ANN_CONFIG_ATTR_CACHE_VALIDITY_PERIOD = "cacheValidityPeriod";
@@ -170,6 +175,9 @@ public final class HttpConstants {
     public static final String SESSION = "Session";
     public static final String HTTP_ONLY = "HttpOnly";
     public static final String SECURE = "Secure";
+    public static final String COOKIE_INDEX = "COOKIE_INDEX";
+    public static final String COOKIE_JOURNAL = "COOKIE_JOURNAL";
+    public static final String SSE_EVENT_READER = "SSE_EVENT_READER";
 
     public static final String ALLOW_ORIGIN = "allowOrigins";
     public static final String ALLOW_CREDENTIALS = "allowCredentials";
@@ -335,6 +343,9 @@ public final class HttpConstants {
     public static final BString HTTP_LOG_FORMAT = StringUtils.fromString("format");
     public static final BString HTTP_LOG_ATTRIBUTES = StringUtils.fromString("attributes");
     public static final BString HTTP_LOG_FILE_PATH = StringUtils.fromString("path");
+    public static final BString HTTP_LOG_ASYNC = StringUtils.fromString("async");
+    public static final BString HTTP_LOG_BUFFER_SIZE = StringUtils.fromString("bufferSize");
+    public static final BString HTTP_LOG_DROP_WHEN_FULL = StringUtils.fromString("dropWhenFull");
     public static final BString HTTP_TRACE_LOG_HOST = StringUtils.fromString("host");
     public static final BString HTTP_TRACE_LOG_PORT = StringUtils.fromString("port");
     public static final BString HTTP_LOGGING_PROTOCOL = StringUtils.fromString("HTTP");
@@ -440,6 +451,7 @@ public final class HttpConstants {
     public static final String ENDPOINT_CONFIG_CHUNKING = "chunking";
     public static final BString ENDPOINT_CONFIG_VERSION = StringUtils.fromString("httpVersion");
     public static final String ENDPOINT_REQUEST_LIMITS = "requestLimits";
+    public static final BString ENDPOINT_CONFIG_CONCURRENCY_LIMIT = StringUtils.fromString("concurrencyLimit");
     public static final BString ENDPOINT_CONFIG_GRACEFUL_STOP_TIMEOUT = StringUtils.fromString("gracefulStopTimeout");
     public static final BString ENDPOINT_CONFIG_HTTP2_INITIAL_WINDOW_SIZE = StringUtils
             .fromString("http2InitialWindowSize");
@@ -497,6 +509,8 @@ public final class HttpConstants {
     public static final BString SOCKET_CONFIG_TCP_NO_DELAY = StringUtils.fromString("tcpNoDelay");
     public static final BString SOCKET_CONFIG_SOCKET_REUSE = StringUtils.fromString("socketReuse");
     public static final BString SOCKET_CONFIG_KEEP_ALIVE = StringUtils.fromString("keepAlive");
+    public static final BString SOCKET_CONFIG_TRANSPORT = StringUtils.fromString("transport");
+    public static final BString SOCKET_CONFIG_ACCEPTOR_COUNT = StringUtils.fromString("acceptorCount");
 
     //Service parseAsType constants
     public static final String ENABLE_CONSTRAINT_VALIDATION = "enableConstraintValidation";
@@ -541,9 +555,17 @@ public final class HttpConstants {
     public static final BString CONNECTION_POOLING_MAX_ACTIVE_CONNECTIONS = StringUtils.fromString(
             "maxActiveConnections");
     public static final BString CONNECTION_POOLING_MAX_IDLE_CONNECTIONS = StringUtils.fromString("maxIdleConnections");
+    public static final BString CONNECTION_POOLING_MIN_IDLE_CONNECTIONS = StringUtils.fromString("minIdleConnections");
+    public static final BString CONNECTION_POOLING_WARM_UP_CONNECTIONS = StringUtils.fromString("warmUpConnections");
     public static final BString CONNECTION_POOLING_WAIT_TIME = StringUtils.fromString("waitTime");
     public static final BString CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION = StringUtils.fromString(
             "maxActiveStreamsPerConnection");
+    public static final BString CONNECTION_POOLING_MIN_HTTP2_CONNECTIONS = StringUtils.fromString(
+            "minHttp2Connections");
+    public static final BString CONNECTION_POOLING_MAX_HTTP2_CONNECTIONS = StringUtils.fromString(
+            "maxHttp2Connections");
+    public static final BString CONNECTION_POOLING_HTTP2_CONNECTION_OPEN_THRESHOLD = StringUtils.fromString(
+            "http2ConnectionOpenThreshold");
     public static final BString CONNECTION_POOLING_EVICTABLE_IDLE_TIME = StringUtils.fromString(
             "minEvictableIdleTime");
     public static final BString CONNECTION_POOLING_TIME_BETWEEN_EVICTION_RUNS = StringUtils.fromString(
@@ -552,6 +574,7 @@ public final class HttpConstants {
             "minIdleTimeInStaleState");
     public static final BString CONNECTION_POOLING_TIME_BETWEEN_STALE_CHECK_RUNS = StringUtils.fromString(
             "timeBetweenStaleEviction");
+    public static final BString CONNECTION_POOLING_EVENT_LOOP_AFFINITY = StringUtils.fromString("eventLoopAffinity");
     public static final String HTTP_CLIENT_CONNECTION_POOL = "PoolConfiguration";
     public static final String CONNECTION_MANAGER = "ConnectionManager";
     public static final int POOL_CONFIG_INDEX = 1;
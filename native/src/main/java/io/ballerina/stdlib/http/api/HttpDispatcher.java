@@ -21,7 +21,6 @@ package io.ballerina.stdlib.http.api;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -38,6 +37,7 @@ import io.ballerina.stdlib.http.api.service.signature.Parameter;
 import io.ballerina.stdlib.http.api.service.signature.PayloadParam;
 import io.ballerina.stdlib.http.api.service.signature.RemoteMethodParamHandler;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.uri.BasePathTrie;
 import io.ballerina.stdlib.http.uri.URIUtil;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import org.slf4j.Logger;
@@ -45,8 +45,6 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.HashMap;
-import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
@@ -60,7 +58,6 @@ import static io.ballerina.stdlib.http.api.HttpConstants.QUERY_STRING_SEPARATOR;
 import static io.ballerina.stdlib.http.api.HttpConstants.REQUEST_CTX_MEMBERS;
 import static io.ballerina.stdlib.http.api.HttpConstants.WHITESPACE;
 import static io.ballerina.stdlib.http.api.HttpErrorType.INTERNAL_SERVICE_NOT_FOUND_ERROR;
-import static io.ballerina.stdlib.http.api.HttpUtil.getParameterTypes;
 
 /**
  * {@code HttpDispatcher} is responsible for dispatching incoming http requests to the correct resource.
@@ -75,15 +72,15 @@ public class HttpDispatcher {
                                           boolean forInterceptors) {
         try {
             Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
                 String message = "no service has registered for listener : " + localAddress;
@@ -97,7 +94,7 @@ public class HttpDispatcher {
             String[] rawPathAndQuery = extractRawPathAndQuery(uriWithoutMatrixParams);
 
             String basePath = servicesRegistry.findTheMostSpecificBasePath(rawPathAndQuery[0],
-                                                                           servicesOnInterface, sortedServiceURIs);
+                                                                           servicesOnInterface, basePathTrie);
 
             if (basePath == null) {
                 String message = "no matching service found for path: " + rawPathAndQuery[0];
@@ -139,15 +136,15 @@ public class HttpDispatcher {
                                                             boolean isResponsePath) {
         try {
             Map<String, InterceptorService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
                 String message = "no service has registered for listener : " + localAddress;
@@ -171,7 +168,7 @@ public class HttpDispatcher {
             String[] rawPathAndQuery = extractRawPathAndQuery(uriWithoutMatrixParams);
 
             String basePath = servicesRegistry.findTheMostSpecificBasePath(rawPathAndQuery[0],
-                                                                           servicesOnInterface, sortedServiceURIs);
+                                                                           servicesOnInterface, basePathTrie);
 
             if (basePath == null) {
                 String message = "no matching service found for path: " + rawPathAndQuery[0];
@@ -329,9 +326,7 @@ public class HttpDispatcher {
         BError error = (BError) httpCarbonMessage.getProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR);
         BObject httpCaller = getCaller(resource, httpCarbonMessage, endpointConfig);
         ParamHandler paramHandler = resource.getParamHandler();
-        Type[] parameterTypes = getParameterTypes(resource.getBalResource());
-        int sigParamCount = parameterTypes.length;
-        Object[] paramFeed = new Object[sigParamCount];
+        Object[] paramFeed = new Object[resource.getInvocationDescriptor().getParamCount()];
         boolean treatNilableAsOptional = resource.isTreatNilableAsOptional();
         // Following was written assuming that they are validated
         for (Parameter param : paramHandler.getParamList()) {
@@ -371,8 +366,7 @@ public class HttpDispatcher {
                     paramFeed[index] = createHeadersObject(inRequest);
                     break;
                 case HttpConstants.QUERY_PARAM:
-                    ((AllQueryParams) param).populateFeed(httpCarbonMessage, paramHandler, paramFeed,
-                                                          treatNilableAsOptional);
+                    ((AllQueryParams) param).populateFeed(httpCarbonMessage, paramFeed, treatNilableAsOptional);
                     break;
                 case HttpConstants.HEADER_PARAM:
                     ((AllHeaderParams) param).populateFeed(httpCarbonMessage, paramFeed, treatNilableAsOptional);
@@ -420,14 +414,14 @@ public class HttpDispatcher {
 
     static BObject getCaller(Resource resource, HttpCarbonMessage httpCarbonMessage,
                              BMap<BString, Object> endpointConfig) {
-        String resourceAccessor = resource.getBalResource().getAccessor().toUpperCase(Locale.getDefault());
+        ResourceInvocationDescriptor descriptor = resource.getInvocationDescriptor();
         final BObject httpCaller = Objects.isNull(httpCarbonMessage.getProperty(HttpConstants.CALLER)) ?
-                ValueCreatorUtils.createCallerObject(httpCarbonMessage, resourceAccessor) :
+                ValueCreatorUtils.createCallerObject(httpCarbonMessage, descriptor.getResourceAccessor()) :
                 (BObject) httpCarbonMessage.getProperty(HttpConstants.CALLER);
         Object currentResourceAccessor = httpCaller.get(HttpConstants.RESOURCE_ACCESSOR);
         if (Objects.isNull(currentResourceAccessor) ||
                 HttpUtil.isDefaultResource(((BString) currentResourceAccessor).getValue())) {
-            httpCaller.set(HttpConstants.RESOURCE_ACCESSOR, StringUtils.fromString(resourceAccessor));
+            httpCaller.set(HttpConstants.RESOURCE_ACCESSOR, descriptor.getResourceAccessorValue());
         }
         HttpUtil.enrichHttpCallerWithConnectionInfo(httpCaller, httpCarbonMessage, resource, endpointConfig);
         HttpUtil.enrichHttpCallerWithNativeData(httpCaller, httpCarbonMessage, endpointConfig);
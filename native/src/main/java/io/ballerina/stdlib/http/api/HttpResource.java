@@ -83,6 +83,7 @@ public class HttpResource implements Resource {
     private static final BString PRODUCES_FIELD = StringUtils.fromString("produces");
     private static final BString CORS_FIELD = StringUtils.fromString("cors");
     private static final BString TRANSACTION_INFECTABLE_FIELD = StringUtils.fromString("transactionInfectable");
+    private static final BString CONCURRENCY_LIMIT_FIELD = StringUtils.fromString("concurrencyLimit");
     private static final BString HTTP_RESOURCE_CONFIG =
             StringUtils.fromString(ModuleUtils.getHttpPackageIdentifier() + ":" + ANN_NAME_RESOURCE_CONFIG);
     private static final String RETURN_ANNOT_PREFIX = "$returns$";
@@ -104,6 +105,8 @@ public class HttpResource implements Resource {
     private ParamHandler paramHandler;
     private HttpService parentService;
     private boolean transactionInfectable = true; //default behavior
+    private ConcurrencyLimiter concurrencyLimiter;
+    private ResourceInvocationDescriptor invocationDescriptor;
     private String wildcardToken;
     private int pathParamCount;
     private String returnMediaType;
@@ -111,6 +114,7 @@ public class HttpResource implements Resource {
     private boolean treatNilableAsOptional;
     private boolean constraintValidation;
     private boolean laxDataBinding;
+    private boolean streamingDataBinding;
 
     protected HttpResource(MethodType resource, HttpService parentService) {
         this.balResource = resource;
@@ -280,6 +284,19 @@ public class HttpResource implements Resource {
         this.transactionInfectable = transactionInfectable;
     }
 
+    /**
+     * Returns the limiter of the requests dispatched concurrently to the resource.
+     *
+     * @return the concurrency limiter, or null if the resource has no concurrency limit
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
     public void setTreatNilableAsOptional(boolean treatNilableAsOptional) {
         this.treatNilableAsOptional = treatNilableAsOptional;
     }
@@ -307,10 +324,13 @@ public class HttpResource implements Resource {
             httpResource.setCorsHeaders(CorsHeaders.buildCorsHeaders(resourceConfigAnnotation.getMapValue(CORS_FIELD)));
             httpResource
                     .setTransactionInfectable(resourceConfigAnnotation.getBooleanValue(TRANSACTION_INFECTABLE_FIELD));
+            httpResource.setConcurrencyLimiter(
+                    ConcurrencyLimiter.fromConfig(resourceConfigAnnotation.getMapValue(CONCURRENCY_LIMIT_FIELD)));
         }
         processResourceCors(httpResource, httpService);
         httpResource.setConstraintValidation(httpService.getConstraintValidation());
         httpResource.setLaxDataBinding(httpService.getLaxDataBinding());
+        httpResource.setStreamingDataBinding(httpService.getStreamingDataBinding());
         httpResource.prepareAndValidateSignatureParams();
         if (Objects.nonNull(httpResource.getResourceLinkName()) && httpResource.linkReturnMediaTypes.isEmpty()) {
             Type resourceReturnType = httpResource.getBalResource().getType().getReturnType();
@@ -321,6 +341,7 @@ public class HttpResource implements Resource {
             }
             httpResource.updateLinkReturnMediaTypesFromReturnType(resourceReturnType);
         }
+        httpResource.invocationDescriptor = ResourceInvocationDescriptor.forResource(httpResource);
         return httpResource;
     }
 
@@ -340,6 +361,14 @@ public class HttpResource implements Resource {
         return this.laxDataBinding;
     }
 
+    private void setStreamingDataBinding(boolean streamingDataBinding) {
+        this.streamingDataBinding = streamingDataBinding;
+    }
+
+    private boolean getStreamingDataBinding() {
+        return this.streamingDataBinding;
+    }
+
     private void updateLinkedResources(Object[] links) {
         for (Object link : links) {
             BMap linkMap = (BMap) link;
@@ -397,7 +426,7 @@ public class HttpResource implements Resource {
 
     private void prepareAndValidateSignatureParams() {
         paramHandler = new ParamHandler(getBalResource(), this.pathParamCount, this.getConstraintValidation(),
-                this.getLaxDataBinding());
+                this.getLaxDataBinding(), this.getStreamingDataBinding());
     }
 
     @Override
@@ -490,6 +519,11 @@ public class HttpResource implements Resource {
         return cacheConfig;
     }
 
+    @Override
+    public ResourceInvocationDescriptor getInvocationDescriptor() {
+        return invocationDescriptor;
+    }
+
     protected String getAbsoluteResourcePath() {
         return (parentService.getBasePath() + getPath()).replaceAll("/+", SINGLE_SLASH);
     }
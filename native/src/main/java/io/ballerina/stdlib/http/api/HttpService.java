@@ -79,6 +79,7 @@ public class HttpService implements Service {
     private static final BString TREAT_NILABLE_AS_OPTIONAL = fromString("treatNilableAsOptional");
     private static final BString DATA_VALIDATION = fromString("validation");
     private static final BString LAX_DATA_BINDING = fromString("laxDataBinding");
+    private static final BString STREAMING_DATA_BINDING = fromString("streamingDataBinding");
 
     private BObject balService;
     private List<HttpResource> resources;
@@ -98,6 +99,7 @@ public class HttpService implements Service {
     private byte[] introspectionPayload = new byte[0];
     private Boolean constraintValidation = true;
     private Boolean laxDataBinding = false;
+    private boolean streamingDataBinding = false;
 
     protected HttpService(BObject service, String basePath) {
         this.balService = service;
@@ -263,6 +265,7 @@ public class HttpService implements Service {
             this.setTreatNilableAsOptional(serviceConfig.getBooleanValue(TREAT_NILABLE_AS_OPTIONAL));
             this.setConstraintValidation(serviceConfig.getBooleanValue(DATA_VALIDATION));
             this.setLaxDataBinding(serviceConfig.getBooleanValue(LAX_DATA_BINDING));
+            this.setStreamingDataBinding(serviceConfig.getBooleanValue(STREAMING_DATA_BINDING));
         } else {
             this.setHostName(HttpConstants.DEFAULT_HOST);
         }
@@ -585,4 +588,12 @@ public class HttpService implements Service {
     protected void setLaxDataBinding(boolean laxDataBinding) {
         this.laxDataBinding = laxDataBinding;
     }
+
+    public boolean getStreamingDataBinding() {
+        return streamingDataBinding;
+    }
+
+    protected void setStreamingDataBinding(boolean streamingDataBinding) {
+        this.streamingDataBinding = streamingDataBinding;
+    }
 }
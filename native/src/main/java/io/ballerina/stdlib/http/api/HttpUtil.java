@@ -57,6 +57,7 @@ import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ContentCompressionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ForwardedExtensionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
@@ -64,6 +65,7 @@ import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.Parameter;
 import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contract.config.SslConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ConnectionTimedOutException;
@@ -129,7 +131,10 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_METHOD;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_URL;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_PEER_ADDRESS;
+import static io.ballerina.stdlib.http.api.HttpConstants.ANN_CONFIG_ATTR_COMPRESSION_CACHE_COMPRESSED_CONTENT;
 import static io.ballerina.stdlib.http.api.HttpConstants.ANN_CONFIG_ATTR_COMPRESSION_CONTENT_TYPES;
+import static io.ballerina.stdlib.http.api.HttpConstants.ANN_CONFIG_ATTR_COMPRESSION_LEVEL;
+import static io.ballerina.stdlib.http.api.HttpConstants.ANN_CONFIG_ATTR_COMPRESSION_MIN_RESPONSE_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.ANN_CONFIG_ATTR_SSL_ENABLED_PROTOCOLS;
 import static io.ballerina.stdlib.http.api.HttpConstants.CREATE_INTERCEPTORS_FUNCTION_NAME;
 import static io.ballerina.stdlib.http.api.HttpConstants.ENDPOINT_CONFIG_HTTP2_INITIAL_WINDOW_SIZE;
@@ -146,6 +151,7 @@ import static io.ballerina.stdlib.http.api.HttpConstants.SECURESOCKET_CONFIG_SES
 import static io.ballerina.stdlib.http.api.HttpConstants.SECURESOCKET_CONFIG_TRUSTSTORE_FILE_PATH;
 import static io.ballerina.stdlib.http.api.HttpConstants.SECURESOCKET_CONFIG_TRUSTSTORE_PASSWORD;
 import static io.ballerina.stdlib.http.api.HttpConstants.SINGLE_SLASH;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_ACCEPTOR_COUNT;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_CONNECT_TIMEOUT;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_KEEP_ALIVE;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_RECEIVE_BUFFER_SIZE;
@@ -153,9 +159,11 @@ import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SEND_BUFF
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SOCKET_REUSE;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SO_BACKLOG;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TCP_NO_DELAY;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TRANSPORT;
 import static io.ballerina.stdlib.http.api.HttpConstants.STATUS_CODE_RESPONSE_BODY_FIELD;
 import static io.ballerina.stdlib.http.api.HttpConstants.STATUS_CODE_RESPONSE_STATUS_FIELD;
 import static io.ballerina.stdlib.http.api.HttpErrorType.CLIENT_CONNECTOR_ERROR;
+import static io.ballerina.stdlib.http.transport.contract.Constants.CONTENT_COMPRESSION_CONFIG;
 import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_GZIP;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_1_1_VERSION;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_TRANSFER_ENCODING_IDENTITY;
@@ -1011,6 +1019,10 @@ public class HttpUtil {
         if (!checkConfigAnnotationAvailability(compressionConfig)) {
             return;
         }
+        ContentCompressionConfig contentCompressionConfig = getContentCompressionConfig(compressionConfig);
+        if (!contentCompressionConfig.isDefault()) {
+            outboundResponseMsg.setProperty(CONTENT_COMPRESSION_CONFIG, contentCompressionConfig);
+        }
         String contentEncoding = outboundResponseMsg.getHeaders().get(HttpHeaderNames.CONTENT_ENCODING);
         if (contentEncoding != null) {
             return;
@@ -1037,6 +1049,18 @@ public class HttpUtil {
         }
     }
 
+    private static ContentCompressionConfig getContentCompressionConfig(BMap<BString, Object> compressionConfig) {
+        Long level = compressionConfig.getIntValue(ANN_CONFIG_ATTR_COMPRESSION_LEVEL);
+        Long minResponseSize = compressionConfig.getIntValue(ANN_CONFIG_ATTR_COMPRESSION_MIN_RESPONSE_SIZE);
+        Boolean cacheCompressedContent =
+                compressionConfig.getBooleanValue(ANN_CONFIG_ATTR_COMPRESSION_CACHE_COMPRESSED_CONTENT);
+        if (level == null || minResponseSize == null || cacheCompressedContent == null) {
+            return ContentCompressionConfig.DEFAULT;
+        }
+        return new ContentCompressionConfig(level.intValue(), (int) Math.min(minResponseSize, Integer.MAX_VALUE),
+                                            cacheCompressedContent);
+    }
+
     public static CompressionConfigState getCompressionState(String compressionState) {
         switch (compressionState) {
             case HttpConstants.AUTO:
@@ -1346,6 +1370,14 @@ public class HttpUtil {
         poolConfiguration.setMaxIdlePerPool(
                 validateConfig(maxIdleConnections, HttpConstants.CONNECTION_POOLING_MAX_IDLE_CONNECTIONS.getValue()));
 
+        long minIdleConnections = poolRecord.getIntValue(HttpConstants.CONNECTION_POOLING_MIN_IDLE_CONNECTIONS);
+        poolConfiguration.setMinIdlePerPool(minIdleConnections < 0 ? 0 : validateConfig(
+                minIdleConnections, HttpConstants.CONNECTION_POOLING_MIN_IDLE_CONNECTIONS.getValue()));
+
+        long warmUpConnections = poolRecord.getIntValue(HttpConstants.CONNECTION_POOLING_WARM_UP_CONNECTIONS);
+        poolConfiguration.setWarmUpConnectionsPerRoute(warmUpConnections < 0 ? 0 : validateConfig(
+                warmUpConnections, HttpConstants.CONNECTION_POOLING_WARM_UP_CONNECTIONS.getValue()));
+
         double waitTime = ((BDecimal) poolRecord.get(HttpConstants.CONNECTION_POOLING_WAIT_TIME)).floatValue();
         poolConfiguration.setMaxWaitTime((long) (waitTime * 1000));
 
@@ -1356,6 +1388,21 @@ public class HttpUtil {
                         maxActiveStreamsPerConnection,
                         HttpConstants.CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION.getValue()));
 
+        long minHttp2Connections = poolRecord.getIntValue(HttpConstants.CONNECTION_POOLING_MIN_HTTP2_CONNECTIONS);
+        poolConfiguration.setHttp2MinConnectionsPerRoute(minHttp2Connections < 0 ? 0 : validateConfig(
+                minHttp2Connections, HttpConstants.CONNECTION_POOLING_MIN_HTTP2_CONNECTIONS.getValue()));
+
+        long maxHttp2Connections = poolRecord.getIntValue(HttpConstants.CONNECTION_POOLING_MAX_HTTP2_CONNECTIONS);
+        poolConfiguration.setHttp2MaxConnectionsPerRoute(
+                maxHttp2Connections < 1 ? Integer.MAX_VALUE : validateConfig(
+                        maxHttp2Connections, HttpConstants.CONNECTION_POOLING_MAX_HTTP2_CONNECTIONS.getValue()));
+
+        double http2ConnectionOpenThreshold = ((BDecimal) poolRecord.get(
+                HttpConstants.CONNECTION_POOLING_HTTP2_CONNECTION_OPEN_THRESHOLD)).floatValue();
+        poolConfiguration.setHttp2ConnectionOpenThreshold(
+                http2ConnectionOpenThreshold <= 0 || http2ConnectionOpenThreshold > 1 ? 1 :
+                        http2ConnectionOpenThreshold);
+
         double minEvictableIdleTime =
                 ((BDecimal) poolRecord.get(HttpConstants.CONNECTION_POOLING_EVICTABLE_IDLE_TIME)).floatValue();
         poolConfiguration.setMinEvictableIdleTime(minEvictableIdleTime < 0 ? 0 : (long) minEvictableIdleTime * 1000);
@@ -1377,6 +1424,9 @@ public class HttpUtil {
         if (timeBetweenStaleEviction > 0) {
             poolConfiguration.setTimeBetweenStaleEviction((long) timeBetweenStaleEviction * 1000);
         }
+
+        poolConfiguration.setEventLoopAffinity(
+                poolRecord.getBooleanValue(HttpConstants.CONNECTION_POOLING_EVENT_LOOP_AFFINITY));
     }
 
     private static int validateConfig(long value, String configName) {
@@ -1614,6 +1664,10 @@ public class HttpUtil {
         listenerConfig.setSocketKeepAlive(keepAlive);
         int soBackLog = serverSocketConfig.getIntValue(SOCKET_CONFIG_SO_BACKLOG).intValue();
         listenerConfig.setSoBackLog(soBackLog);
+        String transport = serverSocketConfig.getStringValue(SOCKET_CONFIG_TRANSPORT).getValue();
+        listenerConfig.setSocketTransport(SocketTransport.valueOf(transport));
+        int acceptorCount = serverSocketConfig.getIntValue(SOCKET_CONFIG_ACCEPTOR_COUNT).intValue();
+        listenerConfig.setAcceptorCount(acceptorCount);
     }
 
     // TODO : Move this to `register` after this issue is fixed
@@ -38,6 +38,7 @@ public class InterceptorResource implements Resource {
     private List<String> methods;
     private String path;
     private ParamHandler paramHandler;
+    private ResourceInvocationDescriptor invocationDescriptor;
     private InterceptorService parentService;
     private String wildcardToken;
     private int pathParamCount;
@@ -149,6 +150,8 @@ public class InterceptorResource implements Resource {
             interceptorService, boolean fromListener) {
         InterceptorResource interceptorResource = new InterceptorResource(resource, interceptorService, fromListener);
         interceptorResource.prepareAndValidateSignatureParams();
+        interceptorResource.invocationDescriptor =
+                ResourceInvocationDescriptor.forInterceptorResource(interceptorResource);
         return interceptorResource;
     }
 
@@ -161,4 +164,9 @@ public class InterceptorResource implements Resource {
         return wildcardToken;
     }
 
+    @Override
+    public ResourceInvocationDescriptor getInvocationDescriptor() {
+        return invocationDescriptor;
+    }
+
 }
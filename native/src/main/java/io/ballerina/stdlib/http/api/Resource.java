@@ -100,4 +100,11 @@ public interface Resource {
      * @return the CORS header object
      */
     Object getCorsHeaders();
+
+    /**
+     * Returns the invocation descriptor of the resource.
+     *
+     * @return the invocation descriptor
+     */
+    ResourceInvocationDescriptor getInvocationDescriptor();
 }
@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.http.api;
 
 import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipeliningHandler;
+import io.ballerina.stdlib.http.transport.contract.config.ContentCompressionConfig;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.uri.DispatcherUtil;
 import io.ballerina.stdlib.http.uri.URITemplateException;
@@ -28,6 +29,7 @@ import io.netty.handler.codec.http.HttpHeaderNames;
 
 import static io.ballerina.stdlib.http.api.HttpErrorType.INTERNAL_RESOURCE_DISPATCHING_SERVER_ERROR;
 import static io.ballerina.stdlib.http.api.HttpErrorType.INTERNAL_RESOURCE_NOT_FOUND_ERROR;
+import static io.ballerina.stdlib.http.transport.contract.Constants.CONTENT_COMPRESSION_CONFIG;
 
 /**
  * Resource level dispatchers handler for HTTP protocol.
@@ -110,6 +112,8 @@ public class ResourceDispatcher {
         response.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(resource.getPayload())));
         response.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), resource.getContentType());
         response.setHttpStatusCode(200);
+        // The payload of a resource does not change, so it is only compressed once per content coding
+        response.setProperty(CONTENT_COMPRESSION_CONFIG, ContentCompressionConfig.CACHE_ENCODED_CONTENT);
         PipeliningHandler.sendPipelinedResponse(cMsg, response);
         cMsg.waitAndReleaseAllEntities();
     }
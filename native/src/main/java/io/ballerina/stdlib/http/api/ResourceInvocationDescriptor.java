@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Holds the parts of a resource invocation which do not change between requests, so that the dispatcher does not
+ * resolve them for every request. A descriptor is created once the resource is built and is not modified afterwards.
+ *
+ * @since 2.13.3
+ */
+public class ResourceInvocationDescriptor {
+
+    private final BObject service;
+    private final String resourceName;
+    private final boolean isolated;
+    private final String resourceAccessor;
+    private final BString resourceAccessorValue;
+    private final int paramCount;
+    private final BString returnMediaType;
+    private final BMap cacheConfig;
+    private final BMap<BString, Object> links;
+
+    private ResourceInvocationDescriptor(Resource resource, BObject service, String returnMediaType,
+                                         BMap cacheConfig, BMap<BString, Object> links) {
+        this.service = service;
+        this.resourceName = resource.getName();
+        ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        this.isolated = serviceType.isIsolated() && serviceType.isIsolated(resourceName);
+        this.resourceAccessor = resource.getBalResource().getAccessor().toUpperCase(Locale.getDefault());
+        this.resourceAccessorValue = StringUtils.fromString(resourceAccessor);
+        this.paramCount = resource.getParamHandler().getParamCount();
+        this.returnMediaType = returnMediaType == null ? null : StringUtils.fromString(returnMediaType);
+        this.cacheConfig = cacheConfig;
+        this.links = links;
+    }
+
+    static ResourceInvocationDescriptor forResource(HttpResource resource) {
+        return new ResourceInvocationDescriptor(resource, resource.getParentService().getBalService(),
+                                                resource.getReturnMediaType(), resource.getResponseCacheConfig(),
+                                                resource.getLinks());
+    }
+
+    static ResourceInvocationDescriptor forInterceptorResource(InterceptorResource resource) {
+        return new ResourceInvocationDescriptor(resource, resource.getParentService().getBalService(), null, null,
+                                                null);
+    }
+
+    /**
+     * Creates the strand metadata of an invocation of the resource.
+     *
+     * @param properties the properties of the request
+     * @return the strand metadata
+     */
+    public StrandMetadata createStrandMetadata(Map<String, Object> properties) {
+        return new StrandMetadata(isolated, properties);
+    }
+
+    public BObject getService() {
+        return service;
+    }
+
+    public String getResourceName() {
+        return resourceName;
+    }
+
+    public boolean isIsolated() {
+        return isolated;
+    }
+
+    /**
+     * Returns the resource accessor in upper case, as used for the resource accessor of the caller.
+     *
+     * @return the resource accessor
+     */
+    public String getResourceAccessor() {
+        return resourceAccessor;
+    }
+
+    public BString getResourceAccessorValue() {
+        return resourceAccessorValue;
+    }
+
+    /**
+     * Returns the number of arguments the resource function takes, which is the size of the parameter feed.
+     *
+     * @return the number of arguments
+     */
+    public int getParamCount() {
+        return paramCount;
+    }
+
+    public BString getReturnMediaType() {
+        return returnMediaType;
+    }
+
+    public BMap getCacheConfig() {
+        return cacheConfig;
+    }
+
+    /**
+     * Returns the links of the resource, or null if the resource has none. Links are added to the resource after
+     * the descriptor is created, so this is checked for each response.
+     *
+     * @return the links of the resource or null
+     */
+    public BMap<BString, Object> getLinks() {
+        return links != null && !links.isEmpty() ? links : null;
+    }
+}
@@ -47,6 +47,7 @@ import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.ballerina.stdlib.http.transport.contract.HttpClientConnectorListener;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ContentCoding;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpMessageDataStreamer;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
@@ -73,8 +74,6 @@ import static io.ballerina.stdlib.http.api.HttpConstants.ANN_CONFIG_ATTR_COMPRES
 import static io.ballerina.stdlib.http.api.HttpConstants.SET_HOST_HEADER;
 import static io.ballerina.stdlib.http.api.HttpUtil.extractEntity;
 import static io.ballerina.stdlib.http.api.HttpUtil.getCompressionState;
-import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_DEFLATE;
-import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_GZIP;
 import static io.netty.handler.codec.http.HttpHeaderNames.ACCEPT_ENCODING;
 
 /**
@@ -109,7 +108,7 @@ public abstract class AbstractHTTPAction {
 
         if (compressionState == CompressionConfigState.ALWAYS && (outboundRequest.getHeader(
                 ACCEPT_ENCODING.toString()) == null)) {
-            outboundRequest.setHeader(ACCEPT_ENCODING.toString(), ENCODING_DEFLATE + ", " + ENCODING_GZIP);
+            outboundRequest.setHeader(ACCEPT_ENCODING.toString(), ContentCoding.getAcceptEncoding());
         } else if (compressionState == CompressionConfigState.NEVER && (outboundRequest.getHeader(
                 ACCEPT_ENCODING.toString()) != null)) {
             outboundRequest.removeHeader(ACCEPT_ENCODING.toString());
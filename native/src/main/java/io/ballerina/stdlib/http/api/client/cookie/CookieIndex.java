@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.cookie;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * An in-memory cookie index keyed by domain, path and name.
+ * <p>
+ * Lookups for a request only visit the buckets of the request domain and its parent domains instead of every stored
+ * cookie. Cookies with an expiry time are also kept in a min-heap ordered by that time so that expired cookies can be
+ * evicted without scanning the index. Entries replaced or removed before they expire are dropped from the heap lazily.
+ * <p>
+ * Results are returned in the order the cookies were added, with session cookies ahead of persistent cookies, which
+ * is the order the cookie store has always used when sending cookies. All operations are synchronized on the index.
+ *
+ * @param <V> type of the stored cookie
+ * @since 2.13.3
+ */
+public class CookieIndex<V> {
+
+    public static final long NO_EXPIRY = -1;
+
+    private static final int MIN_EXPIRY_QUEUE_PURGE_SIZE = 64;
+    private static final Comparator<Entry<?>> INSERTION_ORDER =
+            Comparator.<Entry<?>>comparingInt(entry -> entry.persistent ? 1 : 0)
+                    .thenComparingLong(entry -> entry.sequence);
+
+    // domain -> path -> name -> entry
+    private final Map<String, Map<String, Map<String, Entry<V>>>> domains = new HashMap<>();
+    private final PriorityQueue<Entry<V>> expiryQueue =
+            new PriorityQueue<>(Comparator.comparingLong(entry -> entry.expiryTime));
+    private long sequence;
+    private int size;
+
+    /**
+     * Adds a cookie to the index, replacing the cookie with the same name, domain and path if there is one.
+     *
+     * @param name       cookie name
+     * @param domain     cookie domain
+     * @param path       cookie path
+     * @param cookie     cookie to be stored
+     * @param attributes matching attributes of the cookie
+     * @return the replaced cookie or null if there was none
+     */
+    public synchronized V put(String name, String domain, String path, V cookie, Attributes attributes) {
+        V replaced = remove(name, domain, path);
+        Entry<V> entry = new Entry<>(name, domain, path, cookie, attributes, sequence++);
+        domains.computeIfAbsent(domain, key -> new HashMap<>())
+                .computeIfAbsent(path, key -> new HashMap<>())
+                .put(name, entry);
+        size++;
+        if (entry.expiryTime != NO_EXPIRY) {
+            expiryQueue.add(entry);
+        }
+        return replaced;
+    }
+
+    /**
+     * Gets the cookie with the given name, domain and path. Expired cookies that are not evicted yet are returned.
+     *
+     * @param name   cookie name
+     * @param domain cookie domain
+     * @param path   cookie path
+     * @return the cookie or null if there is no such cookie
+     */
+    public synchronized V get(String name, String domain, String path) {
+        Entry<V> entry = getEntry(name, domain, path);
+        return entry != null ? entry.cookie : null;
+    }
+
+    public synchronized V remove(String name, String domain, String path) {
+        Entry<V> entry = getEntry(name, domain, path);
+        if (entry == null) {
+            return null;
+        }
+        unlink(entry);
+        return entry.cookie;
+    }
+
+    public synchronized List<V> removeByDomain(String domain) {
+        Map<String, Map<String, Entry<V>>> paths = domains.remove(domain);
+        if (paths == null) {
+            return new ArrayList<>();
+        }
+        List<Entry<V>> removed = new ArrayList<>();
+        for (Map<String, Entry<V>> names : paths.values()) {
+            for (Entry<V> entry : names.values()) {
+                entry.removed = true;
+                removed.add(entry);
+            }
+        }
+        size -= removed.size();
+        return toCookies(removed);
+    }
+
+    /**
+     * Gets the cookies to be sent with a request according to the rules in RFC 6265, section 5.4. Host-only cookies
+     * match only the request domain while the others also match the sub domains of their domain.
+     *
+     * @param domain        request domain
+     * @param path          request path
+     * @param secureChannel whether the request is sent over a secure channel
+     * @param httpScheme    whether the request uses an HTTP scheme
+     * @return matching cookies
+     */
+    public synchronized List<V> match(String domain, String path, boolean secureChannel, boolean httpScheme) {
+        List<Entry<V>> matched = new ArrayList<>();
+        collect(domains.get(domain), path, secureChannel, httpScheme, false, matched);
+        for (int dot = domain.indexOf('.'); dot >= 0 && dot < domain.length() - 1;
+             dot = domain.indexOf('.', dot + 1)) {
+            collect(domains.get(domain.substring(dot + 1)), path, secureChannel, httpScheme, true, matched);
+        }
+        return toCookies(matched);
+    }
+
+    /**
+     * Removes the cookies which expired before the given time.
+     *
+     * @param now current time in milliseconds since the epoch
+     * @return the removed cookies
+     */
+    public synchronized List<V> removeExpired(long now) {
+        List<V> expired = new ArrayList<>();
+        Entry<V> entry;
+        while ((entry = expiryQueue.peek()) != null && entry.expiryTime < now) {
+            expiryQueue.poll();
+            if (!entry.removed) {
+                unlink(entry);
+                expired.add(entry.cookie);
+            }
+        }
+        if (expiryQueue.size() > MIN_EXPIRY_QUEUE_PURGE_SIZE && expiryQueue.size() > 2 * size) {
+            expiryQueue.removeIf(queued -> queued.removed);
+        }
+        return expired;
+    }
+
+    public synchronized List<V> getAll() {
+        List<Entry<V>> all = new ArrayList<>(size);
+        for (Map<String, Map<String, Entry<V>>> paths : domains.values()) {
+            for (Map<String, Entry<V>> names : paths.values()) {
+                all.addAll(names.values());
+            }
+        }
+        return toCookies(all);
+    }
+
+    public synchronized List<V> getByDomain(String domain) {
+        List<Entry<V>> entries = new ArrayList<>();
+        Map<String, Map<String, Entry<V>>> paths = domains.get(domain);
+        if (paths != null) {
+            for (Map<String, Entry<V>> names : paths.values()) {
+                entries.addAll(names.values());
+            }
+        }
+        return toCookies(entries);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int size(String domain) {
+        int count = 0;
+        Map<String, Map<String, Entry<V>>> paths = domains.get(domain);
+        if (paths != null) {
+            for (Map<String, Entry<V>> names : paths.values()) {
+                count += names.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether there is a cookie for the given domain, one of its parent domains or one of its sub domains.
+     *
+     * @param domain request domain
+     * @return true if such a cookie exists
+     */
+    public synchronized boolean hasRelatedDomain(String domain) {
+        String suffix = "." + domain;
+        for (String cookieDomain : domains.keySet()) {
+            if (cookieDomain != null && (cookieDomain.equals(domain) || domain.endsWith("." + cookieDomain)
+                    || cookieDomain.endsWith(suffix))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized void clear() {
+        domains.clear();
+        expiryQueue.clear();
+        size = 0;
+    }
+
+    private Entry<V> getEntry(String name, String domain, String path) {
+        Map<String, Map<String, Entry<V>>> paths = domains.get(domain);
+        if (paths == null) {
+            return null;
+        }
+        Map<String, Entry<V>> names = paths.get(path);
+        return names != null ? names.get(name) : null;
+    }
+
+    private void unlink(Entry<V> entry) {
+        Map<String, Map<String, Entry<V>>> paths = domains.get(entry.domain);
+        Map<String, Entry<V>> names = paths.get(entry.path);
+        names.remove(entry.name);
+        if (names.isEmpty()) {
+            paths.remove(entry.path);
+            if (paths.isEmpty()) {
+                domains.remove(entry.domain);
+            }
+        }
+        entry.removed = true;
+        size--;
+    }
+
+    private static <V> void collect(Map<String, Map<String, Entry<V>>> paths, String requestPath,
+                                    boolean secureChannel, boolean httpScheme, boolean parentDomain,
+                                    List<Entry<V>> matched) {
+        if (paths == null) {
+            return;
+        }
+        for (Map.Entry<String, Map<String, Entry<V>>> pathEntry : paths.entrySet()) {
+            if (!pathMatches(requestPath, pathEntry.getKey())) {
+                continue;
+            }
+            for (Entry<V> entry : pathEntry.getValue().values()) {
+                if ((parentDomain && entry.hostOnly) || (entry.secure && !secureChannel)
+                        || (entry.httpOnly && !httpScheme)) {
+                    continue;
+                }
+                matched.add(entry);
+            }
+        }
+    }
+
+    // Path matching according to RFC 6265, section 5.1.4.
+    static boolean pathMatches(String requestPath, String cookiePath) {
+        if (Objects.equals(requestPath, cookiePath)) {
+            return true;
+        }
+        if (cookiePath == null || requestPath == null || !requestPath.startsWith(cookiePath)) {
+            return false;
+        }
+        return cookiePath.endsWith("/") || requestPath.charAt(cookiePath.length()) == '/';
+    }
+
+    private static <V> List<V> toCookies(List<Entry<V>> entries) {
+        entries.sort(INSERTION_ORDER);
+        List<V> cookies = new ArrayList<>(entries.size());
+        for (Entry<V> entry : entries) {
+            cookies.add(entry.cookie);
+        }
+        return cookies;
+    }
+
+    /**
+     * The attributes of a cookie, which are used when matching it against a request.
+     */
+    public static final class Attributes {
+        private final boolean hostOnly;
+        private final boolean secure;
+        private final boolean httpOnly;
+        private final boolean persistent;
+        private final long expiryTime;
+
+        /**
+         * Creates the attributes of a cookie.
+         *
+         * @param hostOnly   whether the cookie is a host-only cookie
+         * @param secure     whether the cookie is only sent over secure channels
+         * @param httpOnly   whether the cookie is only sent with HTTP requests
+         * @param persistent whether the cookie is a persistent cookie
+         * @param expiryTime expiry time in milliseconds since the epoch or {@link CookieIndex#NO_EXPIRY}
+         */
+        public Attributes(boolean hostOnly, boolean secure, boolean httpOnly, boolean persistent, long expiryTime) {
+            this.hostOnly = hostOnly;
+            this.secure = secure;
+            this.httpOnly = httpOnly;
+            this.persistent = persistent;
+            this.expiryTime = expiryTime;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final String name;
+        private final String domain;
+        private final String path;
+        private final V cookie;
+        private final boolean hostOnly;
+        private final boolean secure;
+        private final boolean httpOnly;
+        private final boolean persistent;
+        private final long expiryTime;
+        private final long sequence;
+        private boolean removed;
+
+        private Entry(String name, String domain, String path, V cookie, Attributes attributes, long sequence) {
+            this.name = name;
+            this.domain = domain;
+            this.path = path;
+            this.cookie = cookie;
+            this.hostOnly = attributes.hostOnly;
+            this.secure = attributes.secure;
+            this.httpOnly = attributes.httpOnly;
+            this.persistent = attributes.persistent;
+            this.expiryTime = attributes.expiryTime;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.cookie;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An append-only journal of persistent cookies kept in a CSV file.
+ * <p>
+ * Each stored cookie is appended to the file as a row of {@link #COOKIE_FIELD_COUNT} fields and each removal as a
+ * row holding only the name, domain and path of the removed cookie. Replaying the rows in order gives the current
+ * cookies, which are read once and then kept in memory. When the journal grows beyond twice the number of live
+ * cookies, it is compacted by writing the live cookies to a temporary file and moving it over the journal. A file
+ * written by the earlier CSV cookie handler has only cookie rows and is read as a journal as is.
+ *
+ * @since 2.13.3
+ */
+public class CookieJournal {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CookieJournal.class);
+
+    public static final int COOKIE_FIELD_COUNT = 11;
+    private static final int REMOVAL_FIELD_COUNT = 3;
+    private static final int NAME = 0;
+    private static final int DOMAIN = 2;
+    private static final int PATH = 3;
+    private static final int MIN_COMPACTION_SIZE = 32;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path file;
+    private final Map<List<String>, String[]> cookies = new LinkedHashMap<>();
+    private boolean loaded;
+    private int journalSize;
+
+    public CookieJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Gets the fields of all the cookies in the journal in the order they were stored.
+     *
+     * @return cookie fields
+     * @throws IOException if the journal cannot be read
+     */
+    public synchronized List<String[]> getAll() throws IOException {
+        load();
+        return new ArrayList<>(cookies.values());
+    }
+
+    /**
+     * Stores a cookie, replacing the cookie with the same name, domain and path if there is one.
+     *
+     * @param fields cookie fields
+     * @throws IOException if the journal cannot be read or written
+     */
+    public synchronized void store(String[] fields) throws IOException {
+        if (fields.length != COOKIE_FIELD_COUNT) {
+            throw new IllegalArgumentException("A cookie must have " + COOKIE_FIELD_COUNT + " fields");
+        }
+        load();
+        append(fields);
+        List<String> key = List.of(fields[NAME], fields[DOMAIN], fields[PATH]);
+        cookies.remove(key);
+        cookies.put(key, fields.clone());
+        compactIfNeeded();
+    }
+
+    /**
+     * Removes the cookie with the given name, domain and path.
+     *
+     * @param name   cookie name
+     * @param domain cookie domain
+     * @param path   cookie path
+     * @return true if the cookie was removed, false if there is no such cookie
+     * @throws IOException if the journal cannot be read or written
+     */
+    public synchronized boolean remove(String name, String domain, String path) throws IOException {
+        load();
+        if (cookies.remove(List.of(name, domain, path)) == null) {
+            return false;
+        }
+        append(new String[]{name, domain, path});
+        compactIfNeeded();
+        return true;
+    }
+
+    /**
+     * Removes all the cookies by deleting the journal file.
+     *
+     * @throws IOException if the journal file does not exist or cannot be deleted
+     */
+    public synchronized void removeAll() throws IOException {
+        cookies.clear();
+        journalSize = 0;
+        loaded = true;
+        Files.delete(file);
+    }
+
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    private void load() throws IOException {
+        if (loaded) {
+            return;
+        }
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    String[] fields = parseRow(line);
+                    if (fields.length == COOKIE_FIELD_COUNT) {
+                        List<String> key = List.of(fields[NAME], fields[DOMAIN], fields[PATH]);
+                        cookies.remove(key);
+                        cookies.put(key, fields);
+                    } else if (fields.length == REMOVAL_FIELD_COUNT) {
+                        cookies.remove(List.of(fields[0], fields[1], fields[2]));
+                    } else {
+                        LOG.warn("Skipping an invalid row in the cookie journal {}", file);
+                        continue;
+                    }
+                    journalSize++;
+                }
+            }
+        }
+        loaded = true;
+    }
+
+    private void append(String[] fields) throws IOException {
+        createParentDirectories();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8, StandardOpenOption.CREATE,
+                                                             StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            writeRow(writer, fields);
+        }
+        journalSize++;
+    }
+
+    private void compactIfNeeded() throws IOException {
+        if (journalSize <= MIN_COMPACTION_SIZE || journalSize <= 2 * cookies.size()) {
+            return;
+        }
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+            for (String[] fields : cookies.values()) {
+                writeRow(writer, fields);
+            }
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        journalSize = cookies.size();
+    }
+
+    private void createParentDirectories() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+    }
+
+    private static void writeRow(BufferedWriter writer, String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String field = fields[i];
+            if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0) {
+                writer.write('"');
+                writer.write(field.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(field);
+            }
+        }
+        writer.newLine();
+    }
+
+    static String[] parseRow(String line) {
+        List<String> fields = new ArrayList<>(COOKIE_FIELD_COUNT);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+}
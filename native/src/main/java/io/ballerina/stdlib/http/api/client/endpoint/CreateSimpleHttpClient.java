@@ -29,6 +29,7 @@ import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
 import io.ballerina.stdlib.http.transport.message.HttpConnectorUtil;
 
@@ -44,6 +45,7 @@ import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_RECEIVE_B
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SEND_BUFFER_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_SOCKET_REUSE;
 import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TCP_NO_DELAY;
+import static io.ballerina.stdlib.http.api.HttpConstants.SOCKET_CONFIG_TRANSPORT;
 import static io.ballerina.stdlib.http.api.HttpUtil.getConnectionManager;
 import static io.ballerina.stdlib.http.api.HttpUtil.populateSenderConfigurations;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_2_0_VERSION;
@@ -152,6 +154,7 @@ public class CreateSimpleHttpClient {
 
             HttpClientConnector httpClientConnector = HttpUtil.createHttpWsConnectionFactory()
                     .createHttpClientConnector(properties, senderConfiguration, poolManager);
+            httpClientConnector.warmUp(url.getHost(), url.getPort() != -1 ? url.getPort() : url.getDefaultPort());
             httpClient.addNativeData(HttpConstants.CLIENT, httpClientConnector);
             httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_SERVICE_URI, urlString);
             httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_CONFIG, clientEndpointConfig);
@@ -181,6 +184,8 @@ public class CreateSimpleHttpClient {
         senderConfig.setSocketReuse(socketReuse);
         boolean keepAlive = clientSocketConfig.getBooleanValue(SOCKET_CONFIG_KEEP_ALIVE);
         senderConfig.setSocketKeepAlive(keepAlive);
+        String transport = clientSocketConfig.getStringValue(SOCKET_CONFIG_TRANSPORT).getValue();
+        senderConfig.setSocketTransport(SocketTransport.valueOf(transport));
     }
 
     private CreateSimpleHttpClient() {
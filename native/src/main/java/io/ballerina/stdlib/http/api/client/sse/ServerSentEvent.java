@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.sse;
+
+/**
+ * A server-sent event decoded from an event stream. Fields which were not present in the event are null.
+ *
+ * @since 2.13.3
+ */
+public class ServerSentEvent {
+
+    private final String event;
+    private final String id;
+    private final String data;
+    private final String comment;
+    private final Long retry;
+
+    public ServerSentEvent(String event, String id, String data, String comment, Long retry) {
+        this.event = event;
+        this.id = id;
+        this.data = data;
+        this.comment = comment;
+        this.retry = retry;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public Long getRetry() {
+        return retry;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.sse;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+
+/**
+ * Decodes a text/event-stream body into {@link ServerSentEvent}s.
+ * <p>
+ * Line breaks (CRLF, LF or CR) are located with {@link ByteBuf#indexOf(int, int, byte)}, which scans the content
+ * several bytes at a time, and field values are decoded straight from the content buffers. Only a line which spans
+ * more than one buffer is copied, into a pending line buffer. An event is dispatched on a blank line if at least one
+ * field has been seen since the previous event. Data lines of an event are concatenated. An incomplete event at the
+ * end of the stream is discarded.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @since 2.13.3
+ */
+public class SseEventDecoder {
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte COLON = ':';
+    private static final byte SPACE = ' ';
+
+    private static final String COMMENT = "";
+    private static final String ID = "id";
+    private static final String RETRY = "retry";
+    private static final String EVENT = "event";
+    private static final String DATA = "data";
+
+    private ByteBuf pendingLine;
+    private boolean skipLineFeed;
+
+    private boolean hasFields;
+    private String event;
+    private String id;
+    private StringBuilder data;
+    private String comment;
+    private Long retry;
+
+    /**
+     * Decodes the readable bytes of the given buffer and adds the completed events to the given queue. All the
+     * readable bytes are consumed, bytes of an incomplete line are kept until the next call.
+     *
+     * @param in  the content to decode
+     * @param out the queue to add the decoded events to
+     */
+    public void decode(ByteBuf in, Queue<ServerSentEvent> out) {
+        int index = in.readerIndex();
+        int end = in.writerIndex();
+        if (skipLineFeed && index < end) {
+            // The previous content ended with a CR, so a leading LF completes the same line break
+            if (in.getByte(index) == LINE_FEED) {
+                index++;
+            }
+            skipLineFeed = false;
+        }
+        int lineFeed = -1;
+        while (index < end) {
+            if (lineFeed < index) {
+                lineFeed = in.indexOf(index, end, LINE_FEED);
+                if (lineFeed < 0) {
+                    lineFeed = end;
+                }
+            }
+            int carriageReturn = lineFeed > index ? in.indexOf(index, lineFeed, CARRIAGE_RETURN) : -1;
+            int lineEnd = carriageReturn < 0 ? lineFeed : carriageReturn;
+            if (lineEnd == end) {
+                if (pendingLine == null) {
+                    pendingLine = Unpooled.buffer(end - index);
+                }
+                pendingLine.writeBytes(in, index, end - index);
+                break;
+            }
+            processLine(in, index, lineEnd, out);
+            index = lineEnd + 1;
+            if (lineEnd == carriageReturn) {
+                if (index == end) {
+                    skipLineFeed = true;
+                } else if (in.getByte(index) == LINE_FEED) {
+                    index++;
+                }
+            }
+        }
+        in.readerIndex(end);
+    }
+
+    /**
+     * Releases the pending line buffer. Any incomplete event is discarded.
+     */
+    public void close() {
+        if (pendingLine != null) {
+            pendingLine.release();
+            pendingLine = null;
+        }
+        resetEvent();
+    }
+
+    private void processLine(ByteBuf in, int start, int end, Queue<ServerSentEvent> out) {
+        if (pendingLine != null && pendingLine.isReadable()) {
+            pendingLine.writeBytes(in, start, end - start);
+            processField(pendingLine, pendingLine.readerIndex(), pendingLine.writerIndex(), out);
+            pendingLine.clear();
+        } else {
+            processField(in, start, end, out);
+        }
+    }
+
+    private void processField(ByteBuf line, int start, int end, Queue<ServerSentEvent> out) {
+        if (start == end) {
+            dispatchEvent(out);
+            return;
+        }
+        int colon = line.indexOf(start, end, COLON);
+        String name;
+        String value;
+        if (colon < 0) {
+            name = line.toString(start, end - start, StandardCharsets.UTF_8).trim();
+            value = "";
+        } else {
+            name = line.toString(start, colon - start, StandardCharsets.UTF_8).trim();
+            int valueStart = colon + 1;
+            if (valueStart < end && line.getByte(valueStart) == SPACE) {
+                valueStart++;
+            }
+            value = line.toString(valueStart, end - valueStart, StandardCharsets.UTF_8);
+        }
+        switch (name) {
+            case COMMENT:
+                comment = value;
+                break;
+            case ID:
+                id = value;
+                break;
+            case EVENT:
+                event = value;
+                break;
+            case RETRY:
+                retry = parseRetry(value);
+                break;
+            case DATA:
+                if (data == null) {
+                    data = new StringBuilder(value);
+                } else {
+                    data.append(value);
+                }
+                break;
+            default:
+                // Unknown fields are ignored, but an event made up of them is still dispatched without any field
+                break;
+        }
+        hasFields = true;
+    }
+
+    private void dispatchEvent(Queue<ServerSentEvent> out) {
+        if (hasFields) {
+            out.add(new ServerSentEvent(event, id, data == null ? null : data.toString(), comment, retry));
+        }
+        resetEvent();
+    }
+
+    private void resetEvent() {
+        hasFields = false;
+        event = null;
+        id = null;
+        data = null;
+        comment = null;
+        retry = null;
+    }
+
+    private static Long parseRetry(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
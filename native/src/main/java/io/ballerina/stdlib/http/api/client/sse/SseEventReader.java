@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.sse;
+
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.HttpMessageDataStreamer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Reads the {@link ServerSentEvent}s of an event stream.
+ * <p>
+ * A reader created for an inbound message decodes the content chunks of the message as they are received. When the
+ * message has a Content-Encoding, the decoded input stream of the message is read instead. A reader created without
+ * a message decodes the bytes fed to it with {@link #feed(byte[])}.
+ *
+ * @since 2.13.3
+ */
+public class SseEventReader {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final SseEventDecoder decoder = new SseEventDecoder();
+    private final Queue<ServerSentEvent> events = new ArrayDeque<>();
+    private final HttpMessageDataStreamer dataStreamer;
+    private final InputStream bodyStream;
+    private byte[] readBuffer;
+    private boolean endOfStream;
+
+    private SseEventReader(HttpMessageDataStreamer dataStreamer, InputStream bodyStream) {
+        this.dataStreamer = dataStreamer;
+        this.bodyStream = bodyStream;
+    }
+
+    /**
+     * Creates a reader which reads the events from the body of the given inbound message.
+     *
+     * @param inboundMessage the inbound message
+     * @return the event reader
+     */
+    public static SseEventReader forMessage(HttpCarbonMessage inboundMessage) {
+        HttpMessageDataStreamer dataStreamer = new HttpMessageDataStreamer(inboundMessage);
+        boolean encoded = inboundMessage.getHeader(HttpHeaderNames.CONTENT_ENCODING.toString()) != null;
+        return new SseEventReader(encoded ? null : dataStreamer, dataStreamer.getInputStream());
+    }
+
+    /**
+     * Creates a reader which decodes the bytes fed to it.
+     *
+     * @return the event reader
+     */
+    public static SseEventReader create() {
+        return new SseEventReader(null, null);
+    }
+
+    /**
+     * Returns the next event. A reader created for a message blocks until an event is decoded or the body ends, while
+     * a reader created without a message only returns the events decoded from the bytes fed so far.
+     *
+     * @return the next event, or null if there are no more events
+     * @throws IOException if the body cannot be read
+     */
+    public ServerSentEvent read() throws IOException {
+        while (events.isEmpty() && !endOfStream && bodyStream != null) {
+            if (dataStreamer != null) {
+                readContent();
+            } else {
+                readDecodedStream();
+            }
+        }
+        return events.poll();
+    }
+
+    /**
+     * Decodes the given bytes of the event stream.
+     *
+     * @param bytes the bytes to decode
+     */
+    public void feed(byte[] bytes) {
+        decoder.decode(Unpooled.wrappedBuffer(bytes), events);
+    }
+
+    /**
+     * Discards the remaining events and releases the resources held by the reader.
+     */
+    public void close() {
+        endOfStream = true;
+        events.clear();
+        decoder.close();
+        if (bodyStream != null) {
+            try {
+                bodyStream.close();
+            } catch (IOException e) {
+                // The body is no longer read, hence the error is ignored
+            }
+        }
+    }
+
+    private void readContent() {
+        ByteBuf content = dataStreamer.readContent();
+        if (content == null) {
+            endOfStream = true;
+            return;
+        }
+        try {
+            decoder.decode(content, events);
+        } finally {
+            content.release();
+        }
+    }
+
+    private void readDecodedStream() throws IOException {
+        if (readBuffer == null) {
+            readBuffer = new byte[READ_BUFFER_SIZE];
+        }
+        int length = bodyStream.read(readBuffer);
+        if (length < 0) {
+            endOfStream = true;
+            return;
+        }
+        decoder.decode(Unpooled.wrappedBuffer(readBuffer, 0, length), events);
+    }
+}
@@ -21,16 +21,20 @@ package io.ballerina.stdlib.http.api.logging;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.logging.accesslog.AsyncAccessLogHandler;
 import io.ballerina.stdlib.http.api.logging.accesslog.HttpAccessLogConfig;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpAccessLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpTraceLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.JsonLogFormatter;
 
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -38,8 +42,11 @@ import java.util.logging.SocketHandler;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG_ENABLED;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_ASYNC;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_ATTRIBUTES;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_BUFFER_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_CONSOLE;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_DROP_WHEN_FULL;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_FILE_PATH;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_FORMAT;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_FORMAT_FLAT;
@@ -57,6 +64,8 @@ import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_PORT;
  */
 public class HttpLogManager extends LogManager {
 
+    private static final int DEFAULT_ACCESS_LOG_BUFFER_SIZE = 8192;
+
     static {
         // loads logging.properties from the classpath
         try (InputStream is = HttpLogManager.class.getClassLoader().
@@ -144,9 +153,12 @@ public class HttpLogManager extends LogManager {
         PrintStream stdErr = System.err;
         boolean accessLogsEnabled = false;
 
+        boolean asyncLogEnabled = Boolean.TRUE.equals(accessLogConfig.getBooleanValue(HTTP_LOG_ASYNC));
+        int bufferSize = asyncLogEnabled ? getAccessLogBufferSize(accessLogConfig) : DEFAULT_ACCESS_LOG_BUFFER_SIZE;
         Boolean consoleLogEnabled = accessLogConfig.getBooleanValue(HTTP_LOG_CONSOLE);
         if (consoleLogEnabled) {
-            ConsoleHandler consoleHandler = new ConsoleHandler();
+            Handler consoleHandler = asyncLogEnabled ?
+                    createAsyncAccessLogHandler(accessLogConfig, bufferSize, stdErr, false) : new ConsoleHandler();
             consoleHandler.setFormatter(new HttpAccessLogFormatter());
             consoleHandler.setLevel(Level.INFO);
             httpAccessLogger.addHandler(consoleHandler);
@@ -157,7 +169,9 @@ public class HttpLogManager extends LogManager {
         BString filePath = accessLogConfig.getStringValue(HTTP_LOG_FILE_PATH);
         if (filePath != null && !filePath.getValue().trim().isEmpty()) {
             try {
-                FileHandler fileHandler = new FileHandler(filePath.getValue(), true);
+                Handler fileHandler = asyncLogEnabled ? createAsyncAccessLogHandler(accessLogConfig, bufferSize,
+                        new FileOutputStream(filePath.getValue(), true), true) :
+                        new FileHandler(filePath.getValue(), true);
                 fileHandler.setFormatter(new HttpAccessLogFormatter());
                 fileHandler.setLevel(Level.INFO);
                 httpAccessLogger.addHandler(fileHandler);
@@ -186,4 +200,23 @@ public class HttpLogManager extends LogManager {
             stdErr.println("ballerina: " + protocol + " access log enabled");
         }
     }
+
+    private static int getAccessLogBufferSize(BMap accessLogConfig) {
+        Long bufferSize = accessLogConfig.getIntValue(HTTP_LOG_BUFFER_SIZE);
+        if (bufferSize == null) {
+            return DEFAULT_ACCESS_LOG_BUFFER_SIZE;
+        }
+        if (bufferSize <= 0 || bufferSize > AsyncAccessLogHandler.MAX_BUFFER_SIZE) {
+            throw new RuntimeException("invalid HTTP access log buffer size: " + bufferSize +
+                    ", the bufferSize should be between 1 and " + AsyncAccessLogHandler.MAX_BUFFER_SIZE);
+        }
+        return bufferSize.intValue();
+    }
+
+    private static AsyncAccessLogHandler createAsyncAccessLogHandler(BMap accessLogConfig, int bufferSize,
+                                                                     OutputStream outputStream, boolean closeStream) {
+        boolean dropWhenFull = Boolean.TRUE.equals(accessLogConfig.getBooleanValue(HTTP_LOG_DROP_WHEN_FULL));
+        return new AsyncAccessLogHandler(outputStream, closeStream, new HttpAccessLogFormatter(), bufferSize,
+                dropWhenFull);
+    }
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.logging.accesslog;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler which takes the writing of access log lines off the request completion path. Records are put into a
+ * bounded multi producer, single consumer ring buffer and a dedicated writer thread formats and writes them in
+ * batches with a single flush per batch. When the buffer is full, the record is either dropped or the logging
+ * thread waits for space, based on the configured policy.
+ *
+ * @since 2.13.3
+ */
+public class AsyncAccessLogHandler extends Handler {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    public static final int MAX_BUFFER_SIZE = 1 << 30;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final AtomicReferenceArray<LogRecord> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private volatile long consumerIndex;
+    private final boolean dropWhenFull;
+    private final boolean closeStream;
+    private final Writer writer;
+    private final Thread writerThread;
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private volatile boolean writerIdle;
+    private volatile boolean closed;
+
+    /**
+     * Creates a handler which writes to the given stream.
+     *
+     * @param outputStream stream to write the log lines to
+     * @param closeStream  whether the stream should be closed when the handler is closed
+     * @param formatter    formatter of the log records
+     * @param bufferSize   maximum number of buffered records, rounded up to a power of two
+     * @param dropWhenFull drop records instead of waiting when the buffer is full
+     */
+    public AsyncAccessLogHandler(OutputStream outputStream, boolean closeStream, Formatter formatter, int bufferSize,
+                                 boolean dropWhenFull) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Access log buffer size should be greater than zero");
+        }
+        int capacity = 1;
+        while (capacity < bufferSize && capacity < MAX_BUFFER_SIZE) {
+            capacity <<= 1;
+        }
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.dropWhenFull = dropWhenFull;
+        this.closeStream = closeStream;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                WRITE_BUFFER_SIZE);
+        setFormatter(formatter);
+        this.writerThread = new Thread(this::drain, "http-access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        while (!offer(record)) {
+            if (dropWhenFull || closed) {
+                droppedCount.increment();
+                return;
+            }
+            wakeUpWriter();
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        if (writerIdle) {
+            wakeUpWriter();
+        }
+    }
+
+    /**
+     * Buffered records are written by the writer thread in batches, so there is nothing to flush here.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Stops accepting records and waits for the writer thread to write the buffered records.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the number of log records dropped since the buffer was full or the handler was closed
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * @return the number of log records written
+     */
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    private boolean offer(LogRecord record) {
+        while (true) {
+            long index = producerIndex.get();
+            if (index - consumerIndex > mask) {
+                return false;
+            }
+            if (producerIndex.compareAndSet(index, index + 1)) {
+                buffer.lazySet((int) index & mask, record);
+                return true;
+            }
+        }
+    }
+
+    private void wakeUpWriter() {
+        writerIdle = false;
+        LockSupport.unpark(writerThread);
+    }
+
+    private void drain() {
+        StringBuilder batch = new StringBuilder(WRITE_BUFFER_SIZE);
+        while (true) {
+            boolean stopping = closed;
+            int count = drainBatch(batch);
+            if (count == 0) {
+                if (stopping && consumerIndex == producerIndex.get()) {
+                    break;
+                }
+                writerIdle = true;
+                if (consumerIndex == producerIndex.get() && !closed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerIdle = false;
+            }
+        }
+        try {
+            writer.flush();
+            if (closeStream) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            reportError(null, e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    /**
+     * Formats the available records into the batch and writes the batch with a single flush.
+     *
+     * @return the number of records written
+     */
+    private int drainBatch(StringBuilder batch) {
+        int count = 0;
+        long index = consumerIndex;
+        batch.setLength(0);
+        while (count <= mask) {
+            int offset = (int) index & mask;
+            LogRecord record = buffer.get(offset);
+            if (record == null) {
+                // Either empty, or a producer has claimed the slot and not yet published the record
+                break;
+            }
+            buffer.lazySet(offset, null);
+            index++;
+            consumerIndex = index;
+            count++;
+            try {
+                batch.append(getFormatter().format(record));
+            } catch (Exception e) {
+                reportError(null, e, ErrorManager.FORMAT_FAILURE);
+            }
+            if (batch.length() >= WRITE_BUFFER_SIZE) {
+                write(batch);
+            }
+        }
+        if (count > 0) {
+            write(batch);
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                reportError(null, e, ErrorManager.FLUSH_FAILURE);
+            }
+            writtenCount.add(count);
+        }
+        return count;
+    }
+
+    private void write(StringBuilder batch) {
+        try {
+            writer.append(batch);
+        } catch (IOException e) {
+            reportError(null, e, ErrorManager.WRITE_FAILURE);
+        }
+        batch.setLength(0);
+    }
+}
@@ -50,6 +50,8 @@ public class HttpAccessLogConfig {
             ATTRIBUTE_HTTP_REFERRER, ATTRIBUTE_HTTP_USER_AGENT, ATTRIBUTE_HTTP_X_FORWARDED_FOR
     ));
     private BMap accessLogConfig;
+    private volatile HttpAccessLogFormatter accessLogFormatter;
+    private volatile List<String> customHeaders;
 
     private HttpAccessLogConfig() {}
 
@@ -59,15 +61,35 @@ public class HttpAccessLogConfig {
 
     public void initializeHttpAccessLogConfig(BMap accessLogConfig) {
         this.accessLogConfig = accessLogConfig;
+        this.accessLogFormatter = null;
+        this.customHeaders = null;
     }
 
     public List<String> getCustomHeaders() {
-        List<String> attributes = getAccessLogAttributes();
+        List<String> headers = customHeaders;
+        if (headers == null) {
+            headers = getAccessLogAttributes().stream()
+                    .filter(attr -> attr.startsWith("http_") && !excludedAttributes.contains(attr))
+                    .map(attr -> attr.substring(5))
+                    .collect(Collectors.toUnmodifiableList());
+            customHeaders = headers;
+        }
+        return headers;
+    }
 
-        return attributes.stream()
-                .filter(attr -> attr.startsWith("http_") && !excludedAttributes.contains(attr))
-                .map(attr -> attr.substring(5))
-                .collect(Collectors.toList());
+    /**
+     * Returns the access log formatter compiled for the configured format and attributes. The formatter is compiled
+     * once per configuration.
+     *
+     * @return access log formatter
+     */
+    public HttpAccessLogFormatter getAccessLogFormatter() {
+        HttpAccessLogFormatter formatter = accessLogFormatter;
+        if (formatter == null) {
+            formatter = new HttpAccessLogFormatter(getAccessLogFormat(), getAccessLogAttributes());
+            accessLogFormatter = formatter;
+        }
+        return formatter;
     }
 
     public HttpAccessLogFormat getAccessLogFormat() {
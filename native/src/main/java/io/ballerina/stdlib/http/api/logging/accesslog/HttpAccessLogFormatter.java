@@ -18,15 +18,16 @@
 
 package io.ballerina.stdlib.http.api.logging.accesslog;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-
-import java.util.LinkedHashMap;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.ATTRIBUTE_DATE_TIME;
 import static io.ballerina.stdlib.http.api.HttpConstants.ATTRIBUTE_HTTP_REFERRER;
@@ -46,116 +47,320 @@ import static io.ballerina.stdlib.http.api.HttpConstants.ATTRIBUTE_STATUS;
  * Handles the formatting of HTTP access log messages based on the specified log format and attributes.
  * This utility class supports both FLAT and JSON formats for the rendering of access log entries,
  * accommodating custom attributes and handling multiple messages for detailed logging.
+ * <p>
+ * The attribute list is compiled once into an ordered set of attribute writers, which append the values of each
+ * message to a reusable per-thread buffer. JSON messages are written directly with the same escaping as Gson.
  *
  * @since 2.12.0
  */
 public class HttpAccessLogFormatter {
 
-    private HttpAccessLogFormatter() {}
+    private static final List<String> ALL_ATTRIBUTES = List.of(ATTRIBUTE_IP, ATTRIBUTE_DATE_TIME, ATTRIBUTE_REQUEST,
+            ATTRIBUTE_REQUEST_METHOD, ATTRIBUTE_REQUEST_URI, ATTRIBUTE_SCHEME, ATTRIBUTE_STATUS,
+            ATTRIBUTE_REQUEST_BODY_SIZE, ATTRIBUTE_RESPONSE_BODY_SIZE, ATTRIBUTE_REQUEST_TIME,
+            ATTRIBUTE_HTTP_REFERRER, ATTRIBUTE_HTTP_USER_AGENT, ATTRIBUTE_HTTP_X_FORWARDED_FOR);
+    private static final List<String> DEFAULT_ATTRIBUTES = List.of(ATTRIBUTE_IP, ATTRIBUTE_DATE_TIME,
+            ATTRIBUTE_REQUEST, ATTRIBUTE_STATUS, ATTRIBUTE_RESPONSE_BODY_SIZE, ATTRIBUTE_HTTP_REFERRER,
+            ATTRIBUTE_HTTP_USER_AGENT);
+    private static final String UPSTREAM = "upstream";
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_SIZE));
+    private static final String[] JSON_REPLACEMENT_CHARS = new String[128];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            JSON_REPLACEMENT_CHARS[i] = String.format("\\u%04x", i);
+        }
+        JSON_REPLACEMENT_CHARS['"'] = "\\\"";
+        JSON_REPLACEMENT_CHARS['\\'] = "\\\\";
+        JSON_REPLACEMENT_CHARS['\t'] = "\\t";
+        JSON_REPLACEMENT_CHARS['\b'] = "\\b";
+        JSON_REPLACEMENT_CHARS['\n'] = "\\n";
+        JSON_REPLACEMENT_CHARS['\r'] = "\\r";
+        JSON_REPLACEMENT_CHARS['\f'] = "\\f";
+        JSON_REPLACEMENT_CHARS['<'] = "\\u003c";
+        JSON_REPLACEMENT_CHARS['>'] = "\\u003e";
+        JSON_REPLACEMENT_CHARS['&'] = "\\u0026";
+        JSON_REPLACEMENT_CHARS['='] = "\\u003d";
+        JSON_REPLACEMENT_CHARS['\''] = "\\u0027";
+    }
+
+    private static volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(0, 0);
+
+    private final HttpAccessLogFormat format;
+    private final String[] jsonKeys;
+    private final AttributeWriter[] writers;
+
+    /**
+     * Compiles the given attributes into a formatter. Known attributes are written in their standard order followed
+     * by the custom header attributes in the configured order. The default attributes are used when the list is
+     * empty.
+     *
+     * @param format     log format
+     * @param attributes configured access log attributes
+     */
+    public HttpAccessLogFormatter(HttpAccessLogFormat format, List<String> attributes) {
+        this.format = format;
+        Set<String> selected = new LinkedHashSet<>(attributes.isEmpty() ? DEFAULT_ATTRIBUTES : attributes);
+        List<String> ordered = new ArrayList<>();
+        for (String attribute : ALL_ATTRIBUTES) {
+            if (selected.remove(attribute)) {
+                ordered.add(attribute);
+            }
+        }
+        for (String attribute : selected) {
+            // Attributes other than the known ones and custom headers do not produce a value
+            if (attribute.startsWith("http_")) {
+                ordered.add(attribute);
+            }
+        }
+        boolean flat = format == HttpAccessLogFormat.FLAT;
+        this.jsonKeys = new String[ordered.size()];
+        this.writers = new AttributeWriter[ordered.size()];
+        for (int i = 0; i < ordered.size(); i++) {
+            String attribute = ordered.get(i);
+            StringBuilder key = new StringBuilder().append('"');
+            appendJsonEscaped(key, attribute);
+            jsonKeys[i] = key.append("\":").toString();
+            writers[i] = createAttributeWriter(attribute, flat);
+        }
+    }
 
     public static String formatAccessLogMessage(HttpAccessLogMessage inboundMessage,
                                                 List<HttpAccessLogMessage> outboundMessages, HttpAccessLogFormat format,
                                                 List<String> attributes) {
+        return new HttpAccessLogFormatter(format, attributes).format(inboundMessage, outboundMessages);
+    }
 
-        Map<String, String> inboundMap = mapAccessLogMessage(inboundMessage, format, attributes);
+    public String format(HttpAccessLogMessage inboundMessage, List<HttpAccessLogMessage> outboundMessages) {
+        StringBuilder buffer = BUFFER.get();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffer = new StringBuilder(INITIAL_BUFFER_SIZE);
+            BUFFER.set(buffer);
+        }
+        buffer.setLength(0);
         if (format == HttpAccessLogFormat.FLAT) {
-            String inboundFormatted = inboundMap.values().stream()
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.joining(" "));
-
+            appendFlat(buffer, inboundMessage);
             if (!outboundMessages.isEmpty()) {
-                String outboundFormatted = outboundMessages.stream()
-                        .map(outboundMsg -> mapAccessLogMessage(outboundMsg, format, attributes))
-                        .map(outboundMap -> outboundMap.values().stream()
-                                .filter(Objects::nonNull)
-                                .collect(Collectors.joining(" ")))
-                        .collect(Collectors.joining(" "));
-
-                return inboundFormatted + " \"~\" " + outboundFormatted;
-            } else {
-                return inboundFormatted;
+                buffer.append(" \"~\" ");
+                for (int i = 0; i < outboundMessages.size(); i++) {
+                    if (i > 0) {
+                        buffer.append(' ');
+                    }
+                    appendFlat(buffer, outboundMessages.get(i));
+                }
             }
         } else {
-            Gson gson = new Gson();
-            JsonObject jsonObject = new JsonObject();
+            appendJson(buffer, inboundMessage, outboundMessages);
+        }
+        return buffer.toString();
+    }
 
-            inboundMap.forEach(jsonObject::addProperty);
+    private void appendFlat(StringBuilder buffer, HttpAccessLogMessage message) {
+        boolean first = true;
+        for (AttributeWriter writer : writers) {
+            int mark = buffer.length();
+            if (!first) {
+                buffer.append(' ');
+            }
+            if (writer.append(buffer, message)) {
+                first = false;
+            } else {
+                buffer.setLength(mark);
+            }
+        }
+    }
 
-            if (!outboundMessages.isEmpty()) {
-                JsonArray upstreamArray = new JsonArray();
-                for (HttpAccessLogMessage outboundMessage : outboundMessages) {
-                    Map<String, String> outboundMap = mapAccessLogMessage(outboundMessage, format, attributes);
-                    JsonObject outboundJson = gson.toJsonTree(outboundMap).getAsJsonObject();
-                    upstreamArray.add(outboundJson);
+    private void appendJson(StringBuilder buffer, HttpAccessLogMessage message,
+                            List<HttpAccessLogMessage> outboundMessages) {
+        buffer.append('{');
+        boolean first = appendJsonProperties(buffer, message);
+        if (!outboundMessages.isEmpty()) {
+            if (!first) {
+                buffer.append(',');
+            }
+            buffer.append('"').append(UPSTREAM).append("\":[");
+            for (int i = 0; i < outboundMessages.size(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
                 }
-                jsonObject.add("upstream", upstreamArray);
+                buffer.append('{');
+                appendJsonProperties(buffer, outboundMessages.get(i));
+                buffer.append('}');
             }
-            return gson.toJson(jsonObject);
+            buffer.append(']');
         }
+        buffer.append('}');
     }
 
-    private static Map<String, String> mapAccessLogMessage(HttpAccessLogMessage httpAccessLogMessage,
-                                                           HttpAccessLogFormat format, List<String> attributes) {
-        List<String> allAttributes = List.of(ATTRIBUTE_IP, ATTRIBUTE_DATE_TIME, ATTRIBUTE_REQUEST,
-                ATTRIBUTE_REQUEST_METHOD, ATTRIBUTE_REQUEST_URI, ATTRIBUTE_SCHEME, ATTRIBUTE_STATUS,
-                ATTRIBUTE_REQUEST_BODY_SIZE, ATTRIBUTE_RESPONSE_BODY_SIZE, ATTRIBUTE_REQUEST_TIME,
-                ATTRIBUTE_HTTP_REFERRER, ATTRIBUTE_HTTP_USER_AGENT, ATTRIBUTE_HTTP_X_FORWARDED_FOR);
-        List<String> defaultAttributes = List.of(ATTRIBUTE_IP, ATTRIBUTE_DATE_TIME, ATTRIBUTE_REQUEST, ATTRIBUTE_STATUS,
-                ATTRIBUTE_RESPONSE_BODY_SIZE, ATTRIBUTE_HTTP_REFERRER, ATTRIBUTE_HTTP_USER_AGENT);
-
-        Map<String, String> attributeValues = new LinkedHashMap<>();
-        allAttributes.forEach(attr -> attributeValues.put(attr, null));
-
-        if (!attributes.isEmpty()) {
-            attributes.forEach(attr -> {
-                attributeValues.put(attr, formatAccessLogAttribute(httpAccessLogMessage, format, attr));
-            });
-        } else {
-            defaultAttributes.forEach(attr ->
-                    attributeValues.put(attr, formatAccessLogAttribute(httpAccessLogMessage, format, attr)));
+    /**
+     * @return true if no property was written
+     */
+    private boolean appendJsonProperties(StringBuilder buffer, HttpAccessLogMessage message) {
+        boolean first = true;
+        for (int i = 0; i < writers.length; i++) {
+            int mark = buffer.length();
+            if (!first) {
+                buffer.append(',');
+            }
+            buffer.append(jsonKeys[i]).append('"');
+            int valueStart = buffer.length();
+            if (writers[i].append(buffer, message)) {
+                escapeJson(buffer, valueStart);
+                buffer.append('"');
+                first = false;
+            } else {
+                buffer.setLength(mark);
+            }
         }
-        return attributeValues;
+        return first;
     }
 
-    private static String formatAccessLogAttribute(HttpAccessLogMessage httpAccessLogMessage,
-                                                   HttpAccessLogFormat format, String attribute) {
+    private static AttributeWriter createAttributeWriter(String attribute, boolean flat) {
         return switch (attribute) {
-            case ATTRIBUTE_IP -> httpAccessLogMessage.getIp();
-            case ATTRIBUTE_DATE_TIME -> String.format(format == HttpAccessLogFormat.FLAT ?
-                    "[%1$td/%1$tb/%1$tY:%1$tT.%1$tL %1$tz]" : "%1$td/%1$tb/%1$tY:%1$tT.%1$tL %1$tz",
-                    httpAccessLogMessage.getDateTime());
-            case ATTRIBUTE_REQUEST_METHOD -> httpAccessLogMessage.getRequestMethod();
-            case ATTRIBUTE_REQUEST_URI -> httpAccessLogMessage.getRequestUri();
-            case ATTRIBUTE_SCHEME -> httpAccessLogMessage.getScheme();
-            case ATTRIBUTE_REQUEST -> String.format(format == HttpAccessLogFormat.FLAT ?
-                    "\"%1$s %2$s %3$s\"" : "%1$s %2$s %3$s", httpAccessLogMessage.getRequestMethod(),
-                    httpAccessLogMessage.getRequestUri(), httpAccessLogMessage.getScheme());
-            case ATTRIBUTE_STATUS -> String.valueOf(httpAccessLogMessage.getStatus());
-            case ATTRIBUTE_REQUEST_BODY_SIZE -> String.valueOf(httpAccessLogMessage.getRequestBodySize());
-            case ATTRIBUTE_RESPONSE_BODY_SIZE -> String.valueOf(httpAccessLogMessage.getResponseBodySize());
-            case ATTRIBUTE_REQUEST_TIME -> String.valueOf(httpAccessLogMessage.getRequestTime());
-            case ATTRIBUTE_HTTP_REFERRER -> String.format(format == HttpAccessLogFormat.FLAT ?
-                    "\"%1$s\"" : "%1$s", getHyphenForNull(httpAccessLogMessage.getHttpReferrer()));
-            case ATTRIBUTE_HTTP_USER_AGENT -> String.format(format == HttpAccessLogFormat.FLAT ?
-                    "\"%1$s\"" : "%1$s", getHyphenForNull(httpAccessLogMessage.getHttpUserAgent()));
-            case ATTRIBUTE_HTTP_X_FORWARDED_FOR -> String.format(format == HttpAccessLogFormat.FLAT ?
-                    "\"%1$s\"" : "%1$s", getHyphenForNull(httpAccessLogMessage.getHttpXForwardedFor()));
-            default -> getCustomHeaderValueForAttribute(httpAccessLogMessage, format, attribute);
+            case ATTRIBUTE_IP -> (buffer, message) -> appendNonNull(buffer, message.getIp());
+            case ATTRIBUTE_DATE_TIME -> (buffer, message) -> {
+                Calendar dateTime = message.getDateTime();
+                if (dateTime == null) {
+                    return false;
+                }
+                if (flat) {
+                    appendTimestamp(buffer.append('['), dateTime).append(']');
+                } else {
+                    appendTimestamp(buffer, dateTime);
+                }
+                return true;
+            };
+            case ATTRIBUTE_REQUEST_METHOD -> (buffer, message) -> appendNonNull(buffer, message.getRequestMethod());
+            case ATTRIBUTE_REQUEST_URI -> (buffer, message) -> appendNonNull(buffer, message.getRequestUri());
+            case ATTRIBUTE_SCHEME -> (buffer, message) -> appendNonNull(buffer, message.getScheme());
+            case ATTRIBUTE_REQUEST -> (buffer, message) -> {
+                if (flat) {
+                    buffer.append('"');
+                }
+                buffer.append(message.getRequestMethod()).append(' ').append(message.getRequestUri()).append(' ')
+                        .append(message.getScheme());
+                if (flat) {
+                    buffer.append('"');
+                }
+                return true;
+            };
+            case ATTRIBUTE_STATUS -> (buffer, message) -> {
+                buffer.append(message.getStatus());
+                return true;
+            };
+            case ATTRIBUTE_REQUEST_BODY_SIZE -> (buffer, message) -> {
+                buffer.append(message.getRequestBodySize());
+                return true;
+            };
+            case ATTRIBUTE_RESPONSE_BODY_SIZE -> (buffer, message) -> {
+                buffer.append(message.getResponseBodySize());
+                return true;
+            };
+            case ATTRIBUTE_REQUEST_TIME -> (buffer, message) -> {
+                buffer.append(message.getRequestTime());
+                return true;
+            };
+            case ATTRIBUTE_HTTP_REFERRER -> (buffer, message) ->
+                    appendQuoted(buffer, getHyphenForNull(message.getHttpReferrer()), flat);
+            case ATTRIBUTE_HTTP_USER_AGENT -> (buffer, message) ->
+                    appendQuoted(buffer, getHyphenForNull(message.getHttpUserAgent()), flat);
+            case ATTRIBUTE_HTTP_X_FORWARDED_FOR -> (buffer, message) ->
+                    appendQuoted(buffer, getHyphenForNull(message.getHttpXForwardedFor()), flat);
+            default -> createCustomHeaderWriter(attribute.substring(5), flat);
         };
     }
 
-    private static String getCustomHeaderValueForAttribute(HttpAccessLogMessage httpAccessLogMessage,
-                                                           HttpAccessLogFormat format, String attribute) {
-        Map<String, String> customHeaders = httpAccessLogMessage.getCustomHeaders();
-        if (attribute.startsWith("http_")) {
-            String customHeaderKey = attribute.substring(5);
-            for (Map.Entry<String, String> entry : customHeaders.entrySet()) {
-                if (entry.getKey().equalsIgnoreCase(customHeaderKey)) {
-                    String value = entry.getValue();
-                    return format == HttpAccessLogFormat.FLAT ? String.format("\"%s\"", value) : value;
+    private static AttributeWriter createCustomHeaderWriter(String customHeaderKey, boolean flat) {
+        return (buffer, message) -> {
+            Map<String, String> customHeaders = message.getCustomHeaders();
+            String value = customHeaders.get(customHeaderKey);
+            if (value == null && !customHeaders.containsKey(customHeaderKey)) {
+                for (Map.Entry<String, String> entry : customHeaders.entrySet()) {
+                    if (entry.getKey().equalsIgnoreCase(customHeaderKey)) {
+                        return flat ? appendQuoted(buffer, entry.getValue(), true) :
+                                appendNonNull(buffer, entry.getValue());
+                    }
                 }
+                return appendQuoted(buffer, "-", flat);
+            }
+            return flat ? appendQuoted(buffer, value, true) : appendNonNull(buffer, value);
+        };
+    }
+
+    private static boolean appendNonNull(StringBuilder buffer, String value) {
+        if (value == null) {
+            return false;
+        }
+        buffer.append(value);
+        return true;
+    }
+
+    private static boolean appendQuoted(StringBuilder buffer, String value, boolean flat) {
+        if (flat) {
+            buffer.append('"').append(value).append('"');
+        } else {
+            buffer.append(value);
+        }
+        return true;
+    }
+
+    /**
+     * Appends the date time in the {@code dd/MMM/yyyy:HH:mm:ss.SSS Z} form. The text up to the seconds and the zone
+     * offset are cached, so log messages within the same second only append the milliseconds.
+     */
+    private static StringBuilder appendTimestamp(StringBuilder buffer, Calendar dateTime) {
+        long millis = dateTime.getTimeInMillis();
+        int offsetMillis = dateTime.get(Calendar.ZONE_OFFSET) + dateTime.get(Calendar.DST_OFFSET);
+        long second = Math.floorDiv(millis, 1000);
+        CachedTimestamp timestamp = cachedTimestamp;
+        if (timestamp.second != second || timestamp.offsetMillis != offsetMillis) {
+            timestamp = new CachedTimestamp(second, offsetMillis);
+            cachedTimestamp = timestamp;
+        }
+        int millisOfSecond = (int) Math.floorMod(millis, 1000);
+        buffer.append(timestamp.dateTime).append('.');
+        if (millisOfSecond < 100) {
+            buffer.append(millisOfSecond < 10 ? "00" : "0");
+        }
+        return buffer.append(millisOfSecond).append(timestamp.zone);
+    }
+
+    private static void escapeJson(StringBuilder buffer, int start) {
+        int length = buffer.length();
+        for (int i = start; i < length; i++) {
+            if (getJsonReplacement(buffer.charAt(i)) != null) {
+                String value = buffer.substring(start);
+                buffer.setLength(start);
+                appendJsonEscaped(buffer, value);
+                return;
+            }
+        }
+    }
+
+    private static void appendJsonEscaped(StringBuilder buffer, String value) {
+        int last = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            String replacement = getJsonReplacement(value.charAt(i));
+            if (replacement == null) {
+                continue;
             }
-            return format == HttpAccessLogFormat.FLAT ? "\"-\"" : "-";
+            buffer.append(value, last, i).append(replacement);
+            last = i + 1;
+        }
+        buffer.append(value, last, length);
+    }
+
+    private static String getJsonReplacement(char c) {
+        if (c < 128) {
+            return JSON_REPLACEMENT_CHARS[c];
+        } else if (c == '\u2028') {
+            return "\\u2028";
+        } else if (c == '\u2029') {
+            return "\\u2029";
         }
         return null;
     }
@@ -163,4 +368,37 @@ public class HttpAccessLogFormatter {
     private static String getHyphenForNull(String value) {
         return value == null ? "-" : value;
     }
+
+    /**
+     * Appends the value of an attribute of the message.
+     */
+    @FunctionalInterface
+    private interface AttributeWriter {
+
+        /**
+         * @return false if the attribute has no value for the message
+         */
+        boolean append(StringBuilder buffer, HttpAccessLogMessage message);
+    }
+
+    private static final class CachedTimestamp {
+
+        private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(
+                "dd/MMM/yyyy:HH:mm:ss", Locale.getDefault(Locale.Category.FORMAT));
+        private static final DateTimeFormatter ZONE_FORMATTER = DateTimeFormatter.ofPattern(" Z");
+
+        private final long second;
+        private final int offsetMillis;
+        private final String dateTime;
+        private final String zone;
+
+        private CachedTimestamp(long second, int offsetMillis) {
+            this.second = second;
+            this.offsetMillis = offsetMillis;
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetMillis / 1000);
+            Instant instant = Instant.ofEpochSecond(second);
+            this.dateTime = DATE_TIME_FORMATTER.format(instant.atOffset(offset));
+            this.zone = ZONE_FORMATTER.format(instant.atOffset(offset));
+        }
+    }
 }
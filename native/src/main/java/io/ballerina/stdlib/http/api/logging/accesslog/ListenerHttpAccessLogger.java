@@ -33,7 +33,6 @@ import org.slf4j.LoggerFactory;
 import java.util.Calendar;
 import java.util.List;
 
-import static io.ballerina.stdlib.http.api.logging.accesslog.HttpAccessLogFormatter.formatAccessLogMessage;
 import static io.ballerina.stdlib.http.api.logging.accesslog.HttpAccessLogUtil.getHttpAccessLogMessages;
 import static io.ballerina.stdlib.http.transport.contract.Constants.ACCESS_LOG;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_X_FORWARDED_FOR;
@@ -114,9 +113,8 @@ public class ListenerHttpAccessLogger implements HttpAccessLogger {
 
         List<HttpAccessLogMessage> outboundMessages = getHttpAccessLogMessages(inboundRequestMsg);
 
-        String formattedAccessLogMessage = formatAccessLogMessage(inboundMessage, outboundMessages,
-                HttpAccessLogConfig.getInstance().getAccessLogFormat(),
-                HttpAccessLogConfig.getInstance().getAccessLogAttributes());
+        String formattedAccessLogMessage = HttpAccessLogConfig.getInstance().getAccessLogFormatter()
+                .format(inboundMessage, outboundMessages);
         ACCESS_LOGGER.log(InternalLogLevel.INFO, formattedAccessLogMessage);
     }
 
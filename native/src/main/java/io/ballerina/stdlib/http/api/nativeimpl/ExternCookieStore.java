@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.api.client.cookie.CookieIndex;
+import io.ballerina.stdlib.http.api.client.cookie.CookieJournal;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.COOKIE_INDEX;
+import static io.ballerina.stdlib.http.api.HttpConstants.COOKIE_JOURNAL;
+
+/**
+ * Utilities related to the cookie store and the CSV persistent cookie handler.
+ *
+ * @since 2.13.3
+ */
+public class ExternCookieStore {
+
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString DOMAIN = StringUtils.fromString("domain");
+    private static final BString PATH = StringUtils.fromString("path");
+    private static final BString HOST_ONLY = StringUtils.fromString("hostOnly");
+    private static final BString SECURE = StringUtils.fromString("secure");
+    private static final BString HTTP_ONLY = StringUtils.fromString("httpOnly");
+    private static final ArrayType STRING_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING);
+    private static final ArrayType STRING_ARRAY_ARRAY_TYPE = TypeCreator.createArrayType(STRING_ARRAY_TYPE);
+
+    private static volatile ArrayType cookieArrayType;
+
+    public static void initCookieIndex(BObject cookieStore, BTypedesc cookieType) {
+        if (cookieArrayType == null) {
+            cookieArrayType = TypeCreator.createArrayType(cookieType.getDescribingType());
+        }
+        cookieStore.addNativeData(COOKIE_INDEX, new CookieIndex<BObject>());
+    }
+
+    public static Object putCookie(BObject cookieStore, BObject cookie, boolean persistent, long expiryTime) {
+        CookieIndex.Attributes attributes = new CookieIndex.Attributes(cookie.getBooleanValue(HOST_ONLY),
+                cookie.getBooleanValue(SECURE), cookie.getBooleanValue(HTTP_ONLY), persistent, expiryTime);
+        return getCookieIndex(cookieStore).put(cookie.getStringValue(NAME).getValue(), getValue(cookie, DOMAIN),
+                                               getValue(cookie, PATH), cookie, attributes);
+    }
+
+    public static Object getCookie(BObject cookieStore, BString name, BString domain, BString path) {
+        return getCookieIndex(cookieStore).get(name.getValue(), domain.getValue(), path.getValue());
+    }
+
+    public static Object removeCookie(BObject cookieStore, BString name, BString domain, BString path) {
+        return getCookieIndex(cookieStore).remove(name.getValue(), domain.getValue(), path.getValue());
+    }
+
+    public static BArray removeCookiesByDomain(BObject cookieStore, BString domain) {
+        return toCookieArray(getCookieIndex(cookieStore).removeByDomain(domain.getValue()));
+    }
+
+    public static BArray removeExpiredCookies(BObject cookieStore, long now) {
+        return toCookieArray(getCookieIndex(cookieStore).removeExpired(now));
+    }
+
+    public static BArray matchCookies(BObject cookieStore, BString domain, BString path, boolean secureChannel,
+                                      boolean httpScheme) {
+        return toCookieArray(getCookieIndex(cookieStore).match(domain.getValue(), path.getValue(), secureChannel,
+                                                               httpScheme));
+    }
+
+    public static BArray getAllCookies(BObject cookieStore) {
+        return toCookieArray(getCookieIndex(cookieStore).getAll());
+    }
+
+    public static BArray getCookiesByDomain(BObject cookieStore, BString domain) {
+        return toCookieArray(getCookieIndex(cookieStore).getByDomain(domain.getValue()));
+    }
+
+    public static long getCookieCount(BObject cookieStore) {
+        return getCookieIndex(cookieStore).size();
+    }
+
+    public static long getCookieCountByDomain(BObject cookieStore, BString domain) {
+        return getCookieIndex(cookieStore).size(domain.getValue());
+    }
+
+    public static boolean hasCookiesForRelatedDomain(BObject cookieStore, BString domain) {
+        return getCookieIndex(cookieStore).hasRelatedDomain(domain.getValue());
+    }
+
+    public static void removeAllCookies(BObject cookieStore) {
+        getCookieIndex(cookieStore).clear();
+    }
+
+    public static void initCookieJournal(BObject cookieHandler, BString fileName) {
+        cookieHandler.addNativeData(COOKIE_JOURNAL, new CookieJournal(Paths.get(fileName.getValue())));
+    }
+
+    public static Object storeJournalCookie(BObject cookieHandler, BArray fields) {
+        try {
+            getCookieJournal(cookieHandler).store(fields.getStringArray());
+            return null;
+        } catch (IOException e) {
+            return HttpUtil.createHttpError(e.getMessage());
+        }
+    }
+
+    public static Object getJournalCookies(BObject cookieHandler) {
+        try {
+            List<String[]> cookies = getCookieJournal(cookieHandler).getAll();
+            BArray cookieArray = ValueCreator.createArrayValue(STRING_ARRAY_ARRAY_TYPE);
+            for (String[] fields : cookies) {
+                cookieArray.append(StringUtils.fromStringArray(fields));
+            }
+            return cookieArray;
+        } catch (IOException e) {
+            return HttpUtil.createHttpError(e.getMessage());
+        }
+    }
+
+    public static Object removeJournalCookie(BObject cookieHandler, BString name, BString domain, BString path) {
+        try {
+            return getCookieJournal(cookieHandler).remove(name.getValue(), domain.getValue(), path.getValue());
+        } catch (IOException e) {
+            return HttpUtil.createHttpError(e.getMessage());
+        }
+    }
+
+    public static Object removeAllJournalCookies(BObject cookieHandler) {
+        try {
+            getCookieJournal(cookieHandler).removeAll();
+            return null;
+        } catch (IOException e) {
+            return HttpUtil.createHttpError("Error in removing the cookie journal: " + e.getMessage());
+        }
+    }
+
+    public static boolean hasJournalFile(BObject cookieHandler) {
+        return getCookieJournal(cookieHandler).exists();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CookieIndex<BObject> getCookieIndex(BObject cookieStore) {
+        return (CookieIndex<BObject>) cookieStore.getNativeData(COOKIE_INDEX);
+    }
+
+    private static CookieJournal getCookieJournal(BObject cookieHandler) {
+        return (CookieJournal) cookieHandler.getNativeData(COOKIE_JOURNAL);
+    }
+
+    private static String getValue(BObject cookie, BString field) {
+        Object value = cookie.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    private static BArray toCookieArray(List<BObject> cookies) {
+        return ValueCreator.createArrayValue(cookies.toArray(new BObject[0]), cookieArrayType);
+    }
+
+    private ExternCookieStore() {}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.ValueCreatorUtils;
+import io.ballerina.stdlib.http.api.client.sse.ServerSentEvent;
+import io.ballerina.stdlib.http.api.client.sse.SseEventReader;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+
+import java.util.Objects;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.SSE_EVENT_READER;
+import static io.ballerina.stdlib.http.api.HttpErrorType.GENERIC_CLIENT_ERROR;
+import static io.ballerina.stdlib.http.api.HttpUtil.createHttpError;
+import static io.ballerina.stdlib.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
+import static io.ballerina.stdlib.mime.util.MimeConstants.MESSAGE_DATA_SOURCE;
+import static io.ballerina.stdlib.mime.util.MimeConstants.TRANSPORT_MESSAGE;
+
+/**
+ * Utilities related to the server-sent event stream of a client response.
+ *
+ * @since 2.13.3
+ */
+public class ExternSseEventStream {
+
+    private static final String SSE_EVENT = "SseEvent";
+    private static final BString EVENT = StringUtils.fromString("event");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString DATA = StringUtils.fromString("data");
+    private static final BString COMMENT = StringUtils.fromString("comment");
+    private static final BString RETRY = StringUtils.fromString("retry");
+    private static final String READ_ERROR = "failed to construct SseEvent: ";
+
+    /**
+     * Creates the event reader of the given event stream generator. If the body of the entity has not been read yet,
+     * the reader reads the events directly from the inbound message. Otherwise, the bytes of the body should be fed
+     * to the reader.
+     *
+     * @param generator the event stream generator
+     * @param entity    the entity of the response
+     * @return true if the reader reads from the inbound message, false if the bytes should be fed
+     */
+    public static boolean initSseEventReader(BObject generator, BObject entity) {
+        HttpCarbonMessage inboundMessage = (HttpCarbonMessage) entity.getNativeData(TRANSPORT_MESSAGE);
+        if (Objects.isNull(inboundMessage) || Objects.nonNull(entity.getNativeData(MESSAGE_DATA_SOURCE))
+                || Objects.nonNull(entity.getNativeData(ENTITY_BYTE_CHANNEL))) {
+            generator.addNativeData(SSE_EVENT_READER, SseEventReader.create());
+            return false;
+        }
+        generator.addNativeData(SSE_EVENT_READER, SseEventReader.forMessage(inboundMessage));
+        return true;
+    }
+
+    public static Object readSseEvent(BObject generator) {
+        try {
+            ServerSentEvent event = getSseEventReader(generator).read();
+            return event == null ? null : createSseEvent(event);
+        } catch (Exception e) {
+            return createHttpError(READ_ERROR + e.getMessage(), GENERIC_CLIENT_ERROR);
+        }
+    }
+
+    public static void feedSseEventReader(BObject generator, BArray bytes) {
+        getSseEventReader(generator).feed(bytes.getBytes());
+    }
+
+    public static void closeSseEventReader(BObject generator) {
+        getSseEventReader(generator).close();
+    }
+
+    private static BMap<BString, Object> createSseEvent(ServerSentEvent event) {
+        BMap<BString, Object> sseEvent = ValueCreatorUtils.createHTTPRecordValue(SSE_EVENT);
+        putIfPresent(sseEvent, EVENT, event.getEvent());
+        putIfPresent(sseEvent, ID, event.getId());
+        putIfPresent(sseEvent, DATA, event.getData());
+        putIfPresent(sseEvent, COMMENT, event.getComment());
+        if (event.getRetry() != null) {
+            sseEvent.put(RETRY, event.getRetry());
+        }
+        return sseEvent;
+    }
+
+    private static void putIfPresent(BMap<BString, Object> sseEvent, BString field, String value) {
+        if (value != null) {
+            sseEvent.put(field, StringUtils.fromString(value));
+        }
+    }
+
+    private static SseEventReader getSseEventReader(BObject generator) {
+        return (SseEventReader) generator.getNativeData(SSE_EVENT_READER);
+    }
+}
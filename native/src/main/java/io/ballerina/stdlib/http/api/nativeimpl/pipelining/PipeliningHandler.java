@@ -19,18 +19,22 @@
 package io.ballerina.stdlib.http.api.nativeimpl.pipelining;
 
 import io.ballerina.stdlib.http.api.BallerinaConnectorException;
+import io.ballerina.stdlib.http.api.DataContext;
+import io.ballerina.stdlib.http.api.HttpErrorType;
+import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.api.nativeimpl.connection.ResponseWriter;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpPipeliningFuture;
+import io.ballerina.stdlib.http.transport.message.PipelinedResponseQueue;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Queue;
-
 import static io.ballerina.stdlib.http.api.HttpUtil.sendOutboundResponse;
 
 /**
@@ -48,7 +52,7 @@ public class PipeliningHandler {
      *
      * @param requestMsg  Represents the request message
      * @param responseMsg Represents the corresponding response
-     * @return HttpResponseFuture that represent the future results
+     * @return HttpResponseFuture that represent the future results, or null if the response is pipelined
      */
     public static HttpResponseFuture sendPipelinedResponse(HttpCarbonMessage requestMsg,
                                                            HttpCarbonMessage responseMsg) {
@@ -58,7 +62,8 @@ public class PipeliningHandler {
             if (pipeliningRequired(requestMsg)) {
                 PipelinedResponse pipelinedResponse = new PipelinedResponse(requestMsg, responseMsg);
                 setPipeliningListener(responseMsg);
-                responseFuture = executePipeliningLogic(requestMsg.getSourceContext(), pipelinedResponse);
+                executePipeliningLogic(requestMsg.getSourceContext(), pipelinedResponse);
+                responseFuture = null;
             } else {
                 responseFuture = requestMsg.respond(responseMsg);
             }
@@ -69,49 +74,67 @@ public class PipeliningHandler {
     }
 
     /**
-     * Executes pipelining logic.
+     * Executes pipelining logic. The response is handed to the event loop of the connection, which holds it in the
+     * pipelined response queue until the responses of the earlier requests are sent. The response which is next in
+     * order is then sent from a thread of the pipelining thread pool.
      *
      * @param sourceContext     Represents channel handler context
-     * @param pipelinedResponse Represents pipelined response
-     * @return HttpResponseFuture that represent the future results
+     * @param pipelinedResponse Represents pipelined response, or null to only send the next queued response
      */
-    public static HttpResponseFuture executePipeliningLogic(ChannelHandlerContext sourceContext,
-                                                            PipelinedResponse pipelinedResponse) {
-        HttpResponseFuture responseFuture = null;
+    public static void executePipeliningLogic(ChannelHandlerContext sourceContext,
+                                              PipelinedResponse pipelinedResponse) {
+        EventLoop eventLoop = sourceContext.channel().eventLoop();
+        if (eventLoop.inEventLoop()) {
+            processResponseQueue(sourceContext, pipelinedResponse);
+        } else {
+            eventLoop.execute(() -> processResponseQueue(sourceContext, pipelinedResponse));
+        }
+    }
 
-        synchronized (sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get()) {
-            Queue<PipelinedResponse> responseQueue = sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get();
-            if (thresholdReached(sourceContext, responseQueue)) {
-                return null;
-            }
-            if (pipelinedResponse != null) {
-                responseQueue.add(pipelinedResponse);
+    private static void processResponseQueue(ChannelHandlerContext sourceContext,
+                                             PipelinedResponse pipelinedResponse) {
+        Channel channel = sourceContext.channel();
+        PipelinedResponseQueue<PipelinedResponse> responseQueue = channel.attr(Constants.RESPONSE_QUEUE).get();
+        if (thresholdReached(sourceContext, responseQueue)) {
+            return;
+        }
+        if (pipelinedResponse != null) {
+            responseQueue.add(pipelinedResponse.getSequenceId(), pipelinedResponse);
+        }
+        //IMPORTANT: Do not increment the nextSequenceNumber after 'sendOutboundResponseRobust()' or
+        //'sendOutboundResponse()' under any circumstance.  nextSequenceNumber should be updated only
+        //when the last http content of this message has been written to the socket because in case if
+        //one response has delayed http contents, there's a good chance that the contents of another
+        //response will be sent out before its turn.
+        long nextSequenceNumber = channel.attr(Constants.NEXT_SEQUENCE_NUMBER).get();
+        PipelinedResponse nextResponse = responseQueue.poll(nextSequenceNumber);
+        if (nextResponse == null) {
+            return;
+        }
+        //IMPORTANT:Pipelining logic should never serialize a response in an I/O thread as it might lead to I/O
+        //thread blocking scenarios in outbound trottling.
+        channel.attr(Constants.PIPELINING_EXECUTOR).get().execute(() -> sendResponse(nextResponse));
+    }
+
+    private static void sendResponse(PipelinedResponse pipelinedResponse) {
+        DataContext dataContext = pipelinedResponse.getDataContext();
+        try {
+            if (dataContext != null && pipelinedResponse.getOutboundResponseObj() != null) {
+                ResponseWriter.sendResponseRobust(dataContext, pipelinedResponse.getInboundRequestMsg(),
+                                                  pipelinedResponse.getOutboundResponseObj(),
+                                                  pipelinedResponse.getOutboundResponseMsg());
+            } else {
+                sendOutboundResponse(pipelinedResponse.getInboundRequestMsg(),
+                                     pipelinedResponse.getOutboundResponseMsg());
             }
-            while (!responseQueue.isEmpty()) {
-                long nextSequenceNumber = sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get();
-                final PipelinedResponse queuedPipelinedResponse = responseQueue.peek();
-                long currentSequenceNumber = queuedPipelinedResponse.getSequenceId();
-                if (currentSequenceNumber != nextSequenceNumber) {
-                    break;
-                }
-                responseQueue.remove();
-                //IMPORTANT: Do not increment the nextSequenceNumber after 'sendOutboundResponseRobust()' or
-                //'sendOutboundResponse()' under any circumstance.  nextSequenceNumber should be updated only
-                //when the last http content of this message has been written to the socket because in case if
-                //one response has delayed http contents, there's a good chance that the contents of another
-                //response will be sent out before its turn.
-                if (queuedPipelinedResponse.getDataContext() != null &&
-                        queuedPipelinedResponse.getOutboundResponseObj() != null) {
-                    ResponseWriter.sendResponseRobust(queuedPipelinedResponse.getDataContext(),
-                                                      queuedPipelinedResponse.getInboundRequestMsg(),
-                                                      queuedPipelinedResponse.getOutboundResponseObj(),
-                                                      queuedPipelinedResponse.getOutboundResponseMsg());
-                } else {
-                    responseFuture = sendOutboundResponse(queuedPipelinedResponse.getInboundRequestMsg(),
-                            queuedPipelinedResponse.getOutboundResponseMsg());
-                }
+        } catch (Throwable e) {
+            // The response is sent asynchronously, hence the caller is notified through its data context
+            String errorMessage = "Couldn't complete outbound response: " + e.getMessage();
+            log.debug(errorMessage, e);
+            if (dataContext != null) {
+                dataContext.notifyOutboundResponseStatus(
+                        HttpUtil.createHttpError(errorMessage, HttpErrorType.GENERIC_LISTENER_ERROR));
             }
-            return responseFuture;
         }
     }
 
@@ -136,7 +159,7 @@ public class PipeliningHandler {
      * @return a boolean indicating whether the maximum queued response count is reached
      */
     private static boolean thresholdReached(ChannelHandlerContext sourceContext,
-                                            Queue<PipelinedResponse> responseQueue) {
+                                            PipelinedResponseQueue<PipelinedResponse> responseQueue) {
         long maxQueuedResponses = sourceContext.channel()
                 .attr(Constants.MAX_RESPONSES_ALLOWED_TO_BE_QUEUED).get();
         if (Constants.UNBOUNDED_RESPONSE_QUEUE == maxQueuedResponses) {
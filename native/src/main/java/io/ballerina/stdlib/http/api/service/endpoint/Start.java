@@ -66,13 +66,13 @@ public class Start extends AbstractHttpNativeFunction {
                                              HttpErrorType.GENERIC_LISTENER_ERROR);
         }
 
-        ServerConnector serverConnector = getServerConnector(serviceEndpoint);
-        ServerConnectorFuture serverConnectorFuture = serverConnector.start();
         BallerinaHTTPConnectorListener httpListener =
                 new BallerinaHTTPConnectorListener(getHttpServicesRegistry(serviceEndpoint),
                                                    getHttpInterceptorServicesRegistries(serviceEndpoint),
                                                    (BMap) serviceEndpoint.getNativeData(SERVICE_ENDPOINT_CONFIG),
                                                    serviceEndpoint.getNativeData(HttpConstants.INTERCEPTORS));
+        ServerConnector serverConnector = getServerConnector(serviceEndpoint);
+        ServerConnectorFuture serverConnectorFuture = serverConnector.start();
         serviceEndpoint.addNativeData(SERVER_CONNECTOR_FUTURE, serverConnectorFuture);
         HttpConnectorPortBindingListener portBindingListener = new HttpConnectorPortBindingListener();
         serverConnectorFuture.setHttpConnectorListener(httpListener);
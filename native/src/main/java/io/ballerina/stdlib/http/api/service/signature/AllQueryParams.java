@@ -18,15 +18,12 @@
 
 package io.ballerina.stdlib.http.api.service.signature;
 
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.ValueUtils;
-import io.ballerina.runtime.api.values.BArray;
-import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BNever;
-import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.uri.QueryString;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -57,16 +54,15 @@ public class AllQueryParams implements Parameter {
         return !allQueryParams.isEmpty();
     }
 
-    public void populateFeed(HttpCarbonMessage httpCarbonMessage, ParamHandler paramHandler, Object[] paramFeed,
-                             boolean treatNilableAsOptional) {
-        BMap<BString, Object> urlQueryParams = paramHandler
-                .getQueryParams(httpCarbonMessage.getProperty(HttpConstants.RAW_QUERY_STR));
+    public void populateFeed(HttpCarbonMessage httpCarbonMessage, Object[] paramFeed, boolean treatNilableAsOptional) {
+        Object rawQueryString = httpCarbonMessage.getProperty(HttpConstants.RAW_QUERY_STR);
+        QueryString urlQueryParams = rawQueryString != null ? QueryString.parse((String) rawQueryString) : null;
         for (QueryParam queryParam : allQueryParams) {
             String token = queryParam.getToken();
             int index = queryParam.getIndex();
-            boolean queryExist = urlQueryParams.containsKey(StringUtils.fromString(token));
-            Object queryValue = urlQueryParams.get(StringUtils.fromString(token));
+            String[] queryValue = urlQueryParams != null ? urlQueryParams.getValues(token) : null;
             if (queryValue == null) {
+                boolean queryExist = urlQueryParams != null && urlQueryParams.contains(token);
                 if (queryParam.isDefaultable()) {
                     queryParam.validateConstraints(queryParam.getOriginalType().getZeroValue());
                     paramFeed[index] = BNever.getValue();
@@ -81,14 +77,11 @@ public class AllQueryParams implements Parameter {
             }
             Object castedQueryValue;
             try {
-                BArray queryValueArr = (BArray) queryValue;
                 Object parsedQueryValue;
                 if (queryParam.isArray()) {
-                    parsedQueryValue = castParamArray(queryParam.getEffectiveTypeTag(),
-                            queryValueArr.getStringArray());
+                    parsedQueryValue = castParamArray(queryParam.getEffectiveTypeTag(), queryValue);
                 } else {
-                    parsedQueryValue = castParam(queryParam.getEffectiveTypeTag(),
-                            queryValueArr.getBString(0).getValue());
+                    parsedQueryValue = castParam(queryParam.getEffectiveTypeTag(), queryValue[0]);
                 }
                 castedQueryValue = ValueUtils.convert(parsedQueryValue, queryParam.getOriginalType());
             } catch (Exception ex) {
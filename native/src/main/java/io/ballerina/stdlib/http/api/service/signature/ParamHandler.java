@@ -18,10 +18,6 @@
 
 package io.ballerina.stdlib.http.api.service.signature;
 
-import io.ballerina.runtime.api.creators.TypeCreator;
-import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.MapType;
-import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.IdentifierUtils;
@@ -32,12 +28,9 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.stdlib.http.api.HttpConstants;
-import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
-import io.ballerina.stdlib.http.uri.URIUtil;
 
-import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -75,10 +68,9 @@ public class ParamHandler {
     private final AllHeaderParams headerParams = new AllHeaderParams();
     private final boolean constraintValidation;
     private final boolean laxDataBinding;
+    private final boolean streamingDataBinding;
 
     private static final String PARAM_ANNOT_PREFIX = "$param$.";
-    private static final MapType MAP_TYPE = TypeCreator.createMapType(
-            TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING));
     private static final String CALLER_TYPE = PROTOCOL_HTTP + COLON + HttpConstants.CALLER;
     private static final String REQ_TYPE = PROTOCOL_HTTP + COLON + HttpConstants.REQUEST;
     private static final String HEADERS_TYPE = PROTOCOL_HTTP + COLON + HttpConstants.HEADERS;
@@ -95,11 +87,17 @@ public class ParamHandler {
 
     public ParamHandler(ResourceMethodType resource, int pathParamCount, boolean constraintValidation,
                         boolean laxDataBinding) {
+        this(resource, pathParamCount, constraintValidation, laxDataBinding, false);
+    }
+
+    public ParamHandler(ResourceMethodType resource, int pathParamCount, boolean constraintValidation,
+                        boolean laxDataBinding, boolean streamingDataBinding) {
         this.resource = resource;
         this.pathParamCount = pathParamCount;
         this.paramTypes = getParameterTypes(resource);
         this.constraintValidation = constraintValidation;
         this.laxDataBinding = laxDataBinding;
+        this.streamingDataBinding = streamingDataBinding;
         populatePathParamTokens(resource, pathParamCount);
         populatePayloadAndHeaderParamTokens(resource);
         validateSignatureParams();
@@ -242,7 +240,8 @@ public class ParamHandler {
 
     private void createPayloadParam(String paramName, BMap annotations, boolean constraintValidation,
                                     boolean laxDataBinding) {
-        this.payloadParam = new PayloadParam(paramName, constraintValidation, laxDataBinding);
+        this.payloadParam = new PayloadParam(paramName, constraintValidation, laxDataBinding,
+                                             streamingDataBinding);
         BMap mapValue = annotations.getMapValue(StringUtils.fromString(PAYLOAD_ANNOTATION));
         Object mediaType = mapValue.get(HttpConstants.ANN_FIELD_MEDIA_TYPE);
         if (mediaType instanceof BString) {
@@ -308,23 +307,8 @@ public class ParamHandler {
         return this.paramList;
     }
 
-    /**
-     * Gets the map of query params for given raw query string.
-     *
-     * @return a map of query params
-     */
-    public BMap<BString, Object> getQueryParams(Object rawQueryString) {
-        BMap<BString, Object> queryParams = ValueCreator.createMapValue(MAP_TYPE);
-
-        if (rawQueryString != null) {
-            try {
-                URIUtil.populateQueryParamMap((String) rawQueryString, queryParams);
-            } catch (UnsupportedEncodingException e) {
-                throw HttpUtil.createHttpError("error while retrieving query param from message: " + e.getMessage(),
-                        HttpErrorType.GENERIC_LISTENER_ERROR);
-            }
-        }
-        return queryParams;
+    public int getParamCount() {
+        return paramTypes.length;
     }
 
     public Type getCallerInfoType() {
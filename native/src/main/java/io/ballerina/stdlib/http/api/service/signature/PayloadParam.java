@@ -60,11 +60,13 @@ public class PayloadParam implements Parameter {
     private Type customParameterType;
     private final boolean requireConstraintValidation;
     private final boolean laxDataBinding;
+    private final boolean streamingDataBinding;
 
-    PayloadParam(String token, boolean constraintValidation, boolean laxDataBinding) {
+    PayloadParam(String token, boolean constraintValidation, boolean laxDataBinding, boolean streamingDataBinding) {
         this.token = token;
         this.requireConstraintValidation = constraintValidation;
         this.laxDataBinding = laxDataBinding;
+        this.streamingDataBinding = streamingDataBinding;
     }
 
     public void init(Type type, Type customParameterType, int index) {
@@ -177,7 +179,8 @@ public class PayloadParam implements Parameter {
                                              BObject inRequestEntity, int index, Type payloadType) {
         try {
             String contentType = HttpUtil.getContentTypeFromTransportMessage(inboundMessage);
-            AbstractPayloadBuilder payloadBuilder = getBuilder(contentType, payloadType, laxDataBinding);
+            AbstractPayloadBuilder payloadBuilder = getBuilder(contentType, payloadType, laxDataBinding,
+                                                                 streamingDataBinding);
             Object payloadBuilderValue = payloadBuilder.getValue(inRequestEntity, this.readonly);
             paramFeed[index] = validateConstraints(payloadBuilderValue);
             inboundMessage.setProperty(HttpConstants.ENTITY_OBJ, inRequestEntity);
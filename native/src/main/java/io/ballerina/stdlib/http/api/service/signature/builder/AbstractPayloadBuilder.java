@@ -63,9 +63,10 @@ public abstract class AbstractPayloadBuilder {
      */
     public abstract Object getValue(BObject inRequestEntity, boolean readonly);
 
-    public static AbstractPayloadBuilder getBuilder(String contentType, Type payloadType, boolean laxDataBinding) {
+    public static AbstractPayloadBuilder getBuilder(String contentType, Type payloadType, boolean laxDataBinding,
+                                                    boolean streamingDataBinding) {
         if (contentType == null || contentType.isEmpty()) {
-            return getBuilderFromType(payloadType, laxDataBinding);
+            return getBuilderFromType(payloadType, laxDataBinding, streamingDataBinding);
         }
         contentType = contentType.toLowerCase(Locale.getDefault()).trim();
         String baseType = HeaderUtil.getHeaderValue(contentType);
@@ -78,13 +79,14 @@ public abstract class AbstractPayloadBuilder {
         } else if (baseType.matches(OCTET_STREAM_PATTERN)) {
             return new BinaryPayloadBuilder(payloadType);
         } else if (baseType.matches(JSON_PATTERN)) {
-            return new JsonPayloadBuilder(payloadType, laxDataBinding);
+            return new JsonPayloadBuilder(payloadType, laxDataBinding, streamingDataBinding);
         } else {
-            return getBuilderFromType(payloadType, laxDataBinding);
+            return getBuilderFromType(payloadType, laxDataBinding, streamingDataBinding);
         }
     }
 
-    private static AbstractPayloadBuilder getBuilderFromType(Type payloadType, boolean laxDataBinding) {
+    private static AbstractPayloadBuilder getBuilderFromType(Type payloadType, boolean laxDataBinding,
+                                                            boolean streamingDataBinding) {
         switch (payloadType.getTag()) {
             case STRING_TAG:
                 return new StringPayloadBuilder(payloadType);
@@ -93,7 +95,7 @@ public abstract class AbstractPayloadBuilder {
             case ARRAY_TAG:
                 return new ArrayBuilder(payloadType, laxDataBinding);
             default:
-                return new JsonPayloadBuilder(payloadType, laxDataBinding);
+                return new JsonPayloadBuilder(payloadType, laxDataBinding, streamingDataBinding);
         }
     }
 
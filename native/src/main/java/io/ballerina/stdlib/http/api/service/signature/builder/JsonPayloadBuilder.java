@@ -34,10 +34,16 @@ import io.ballerina.stdlib.mime.util.EntityBodyHandler;
 public class JsonPayloadBuilder extends AbstractPayloadBuilder {
     private final Type payloadType;
     private final boolean laxDataBinding;
+    private final boolean streamingDataBinding;
 
     public JsonPayloadBuilder(Type payloadType, boolean laxDataBinding) {
+        this(payloadType, laxDataBinding, false);
+    }
+
+    public JsonPayloadBuilder(Type payloadType, boolean laxDataBinding, boolean streamingDataBinding) {
         this.payloadType = payloadType;
         this.laxDataBinding = laxDataBinding;
+        this.streamingDataBinding = streamingDataBinding;
     }
 
     @Override
@@ -45,6 +51,9 @@ public class JsonPayloadBuilder extends AbstractPayloadBuilder {
         // Following can be removed based on the solution of
         // https://github.com/ballerina-platform/ballerina-lang/issues/35780
         if (isSubtypeOfAllowedType(payloadType, TypeTags.RECORD_TYPE_TAG)) {
+            if (streamingDataBinding) {
+                return JsonToRecordConverter.convertStream(payloadType, entity, readonly, laxDataBinding);
+            }
             return JsonToRecordConverter.convert(payloadType, entity, readonly, laxDataBinding);
         }
         Object bJson = EntityBodyHandler.constructJsonDataSource(entity);
@@ -18,6 +18,7 @@
 
 package io.ballerina.stdlib.http.api.service.signature.converter;
 
+import io.ballerina.lib.data.jsondata.json.JsonParser;
 import io.ballerina.lib.data.jsondata.json.Native;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.Type;
@@ -28,8 +29,16 @@ import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.stdlib.http.api.BallerinaConnectorException;
+import io.ballerina.stdlib.io.channels.base.Channel;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
+import io.ballerina.stdlib.mime.util.MimeUtil;
+import io.netty.handler.codec.http.HttpUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -46,6 +55,8 @@ import static io.ballerina.stdlib.http.api.HttpConstants.ABSENT_AS_NILABLE;
  */
 public class JsonToRecordConverter {
 
+    private static final Logger LOG = LoggerFactory.getLogger(JsonToRecordConverter.class);
+
     public static Object convert(Type type, BObject entity, boolean readonly, boolean laxDataBinding) {
         Object recordEntity = getRecordEntity(entity, type, laxDataBinding);
         if (readonly && recordEntity instanceof BRefValue) {
@@ -54,6 +65,47 @@ public class JsonToRecordConverter {
         return recordEntity;
     }
 
+    /**
+     * Binds the JSON payload to a record while the payload is read from the inbound message, without building the
+     * JSON value of the payload first. Parsing stops at the first value that does not match the record type. Once
+     * bound, the payload can not be read again from the entity. Falls back to {@link #convert} if the payload has
+     * already been read or is not available as a byte channel.
+     *
+     * @param type           Represents the record type
+     * @param entity         Represents the inbound request entity
+     * @param readonly       Represents whether the record should be readonly
+     * @param laxDataBinding Represents whether relaxed data binding is enabled
+     * @return the relevant ballerina record
+     */
+    public static Object convertStream(Type type, BObject entity, boolean readonly, boolean laxDataBinding) {
+        Channel byteChannel = EntityBodyHandler.getByteChannel(entity);
+        if (byteChannel == null || EntityBodyHandler.getMessageDataSource(entity) != null) {
+            return convert(type, entity, readonly, laxDataBinding);
+        }
+        Object recordEntity;
+        try {
+            InputStreamReader reader = new InputStreamReader(byteChannel.getInputStream(), HttpUtil.getCharset(
+                    MimeUtil.getContentTypeWithParameters(entity), StandardCharsets.UTF_8));
+            recordEntity = JsonParser.parse(reader, getParserOptions(laxDataBinding), type);
+        } catch (IOException ex) {
+            throw new BallerinaConnectorException("error occurred while reading the payload: " + ex.getMessage());
+        } finally {
+            closeByteChannel(byteChannel);
+        }
+        if (readonly && recordEntity instanceof BRefValue) {
+            ((BRefValue) recordEntity).freezeDirect();
+        }
+        return recordEntity;
+    }
+
+    private static void closeByteChannel(Channel byteChannel) {
+        try {
+            byteChannel.close();
+        } catch (IOException ex) {
+            LOG.debug("Error occurred while closing the payload channel", ex);
+        }
+    }
+
     private static Object getRecordEntity(BObject entity, Type entityBodyType, boolean laxDataBinding) {
         Object bjson = EntityBodyHandler.getMessageDataSource(entity) == null ? getBJsonValue(entity)
                 : EntityBodyHandler.getMessageDataSource(entity);
@@ -73,26 +125,30 @@ public class JsonToRecordConverter {
      */
     private static Object getRecord(Type entityBodyType, Object bJson, boolean laxDataBinding) {
         try {
-            Map<String, Object> valueMap = new HashMap<>();
-            valueMap.put(ENABLE_CONSTRAINT_VALIDATION, Boolean.FALSE);
-            BMap<BString, Object> mapValue = ValueCreator.createRecordValue(
-                    io.ballerina.lib.data.ModuleUtils.getModule(),
-                    PARSER_AS_TYPE_OPTIONS, valueMap);
-            if (laxDataBinding) {
-                BMap allowDataProjection = mapValue.getMapValue(ALLOW_DATA_PROJECTION);
-                allowDataProjection.put(NIL_AS_OPTIONAL, Boolean.TRUE);
-                allowDataProjection.put(ABSENT_AS_NILABLE, Boolean.TRUE);
-            } else {
-                mapValue.put(ALLOW_DATA_PROJECTION, Boolean.FALSE);
-            }
             BTypedesc typedescValue = ValueCreator.createTypedescValue(entityBodyType);
-            return Native.parseAsType(bJson, mapValue, typedescValue);
+            return Native.parseAsType(bJson, getParserOptions(laxDataBinding), typedescValue);
         } catch (NullPointerException ex) {
             throw new BallerinaConnectorException("cannot convert payload to record type: " +
                                                           entityBodyType.getName());
         }
     }
 
+    private static BMap<BString, Object> getParserOptions(boolean laxDataBinding) {
+        Map<String, Object> valueMap = new HashMap<>();
+        valueMap.put(ENABLE_CONSTRAINT_VALIDATION, Boolean.FALSE);
+        BMap<BString, Object> mapValue = ValueCreator.createRecordValue(
+                io.ballerina.lib.data.ModuleUtils.getModule(),
+                PARSER_AS_TYPE_OPTIONS, valueMap);
+        if (laxDataBinding) {
+            BMap allowDataProjection = mapValue.getMapValue(ALLOW_DATA_PROJECTION);
+            allowDataProjection.put(NIL_AS_OPTIONAL, Boolean.TRUE);
+            allowDataProjection.put(ABSENT_AS_NILABLE, Boolean.TRUE);
+        } else {
+            mapValue.put(ALLOW_DATA_PROJECTION, Boolean.FALSE);
+        }
+        return mapValue;
+    }
+
     /**
      * Given an inbound request entity construct the ballerina json.
      *
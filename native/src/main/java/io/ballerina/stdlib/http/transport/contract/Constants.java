@@ -15,14 +15,14 @@
 
 package io.ballerina.stdlib.http.transport.contract;
 
+import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipelinedResponse;
 import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpClientConnector;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.PipelinedResponseQueue;
 import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.EventExecutorGroup;
 
-import java.util.Queue;
-
 /**
  * Common Constants used by gate way.
  */
@@ -120,6 +120,8 @@ public final class Constants {
 
     public static final String ENCODING_GZIP = "gzip";
     public static final String ENCODING_DEFLATE = "deflate";
+    public static final String ENCODING_BROTLI = "br";
+    public static final String ENCODING_ZSTD = "zstd";
     public static final String HTTP_TRANSFER_ENCODING_IDENTITY = "identity";
 
     // TODO: Move string constants for HTTP headers and header values to their own class
@@ -157,6 +159,7 @@ public final class Constants {
     public static final String RESOLVED_REQUESTED_URI = "RESOLVED_REQUESTED_URI";
 
     public static final String HTTP_REASON_PHRASE = "HTTP_REASON_PHRASE";
+    public static final String CONTENT_COMPRESSION_CONFIG = "CONTENT_COMPRESSION_CONFIG";
 
     public static final String CHNL_HNDLR_CTX = "CHNL_HNDLR_CTX";
     public static final String OUTBOUND_ACCESS_LOG_MESSAGES = "OUTBOUND_ACCESS_LOG_MESSAGES";
@@ -281,7 +284,8 @@ public final class Constants {
     //HTTP 1.1 pipelining related properties
     public static final AttributeKey<Long> MAX_RESPONSES_ALLOWED_TO_BE_QUEUED = AttributeKey
             .valueOf("MAX_RESPONSES_ALLOWED_TO_BE_QUEUED");
-    public static final AttributeKey<Queue> RESPONSE_QUEUE = AttributeKey.valueOf("RESPONSE_QUEUE");
+    public static final AttributeKey<PipelinedResponseQueue<PipelinedResponse>> RESPONSE_QUEUE = AttributeKey
+            .valueOf("RESPONSE_QUEUE");
     public static final AttributeKey<Long> NEXT_SEQUENCE_NUMBER = AttributeKey.valueOf("NEXT_SEQUENCE_NUMBER");
     public static final AttributeKey<EventExecutorGroup> PIPELINING_EXECUTOR = AttributeKey
             .valueOf("PIPELINING_EXECUTOR");
@@ -34,6 +34,15 @@ public interface HttpClientConnector {
      */
     HttpResponseFuture connect();
 
+    /**
+     * Opens the connections configured to be opened ahead of the first request to the given back-end. The
+     * connections are opened asynchronously and are pooled for the requests sent through this connector.
+     *
+     * @param host the host of the back-end
+     * @param port the port of the back-end
+     */
+    void warmUp(String host, int port);
+
     /**
      * Send httpMessages to the back-end in asynchronous manner.
      *
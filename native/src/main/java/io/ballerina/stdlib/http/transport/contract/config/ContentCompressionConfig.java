@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+/**
+ * Holds the response compression settings of a service. The level is applied to every content coding the listener
+ * negotiates and responses smaller than the minimum size are sent without compression. Full responses of a config
+ * which caches encoded content are encoded once per content coding and served from the listener's cache afterwards.
+ *
+ * @since 2.13.3
+ */
+public final class ContentCompressionConfig {
+
+    public static final int DEFAULT_LEVEL = -1;
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 9;
+
+    public static final ContentCompressionConfig DEFAULT = new ContentCompressionConfig(DEFAULT_LEVEL, 0);
+    public static final ContentCompressionConfig CACHE_ENCODED_CONTENT =
+            new ContentCompressionConfig(DEFAULT_LEVEL, 0, true);
+
+    private final int level;
+    private final int minResponseSize;
+    private final boolean cacheEncodedContent;
+
+    /**
+     * Creates a compression config. Levels outside the 1 to 9 range fall back to the default level of each content
+     * coding and a negative minimum size is treated as zero.
+     *
+     * @param level           the compression level
+     * @param minResponseSize the minimum response size in bytes for a response to be compressed
+     */
+    public ContentCompressionConfig(int level, int minResponseSize) {
+        this(level, minResponseSize, false);
+    }
+
+    /**
+     * Creates a compression config. Levels outside the 1 to 9 range fall back to the default level of each content
+     * coding and a negative minimum size is treated as zero.
+     *
+     * @param level               the compression level
+     * @param minResponseSize     the minimum response size in bytes for a response to be compressed
+     * @param cacheEncodedContent whether encoded response bodies are cached for reuse
+     */
+    public ContentCompressionConfig(int level, int minResponseSize, boolean cacheEncodedContent) {
+        this.level = level < MIN_LEVEL || level > MAX_LEVEL ? DEFAULT_LEVEL : level;
+        this.minResponseSize = Math.max(minResponseSize, 0);
+        this.cacheEncodedContent = cacheEncodedContent;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getMinResponseSize() {
+        return minResponseSize;
+    }
+
+    public boolean isCacheEncodedContent() {
+        return cacheEncodedContent;
+    }
+
+    public boolean isDefault() {
+        return level == DEFAULT_LEVEL && minResponseSize == 0 && !cacheEncodedContent;
+    }
+}
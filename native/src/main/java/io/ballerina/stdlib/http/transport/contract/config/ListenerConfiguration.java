@@ -63,6 +63,8 @@ public class ListenerConfiguration extends SslConfiguration {
     private boolean tcpNoDelay;
     private boolean socketReuse;
     private boolean socketKeepAlive;
+    private SocketTransport socketTransport = SocketTransport.NIO;
+    private int acceptorCount = 1;
     private int http2InitialWindowSize = 65535;
     private long minIdleTimeInStaleState = 3000000;
     private long timeBetweenStaleEviction = 30000;
@@ -277,6 +279,22 @@ public class ListenerConfiguration extends SslConfiguration {
         this.socketKeepAlive = keepAlive;
     }
 
+    public SocketTransport getSocketTransport() {
+        return socketTransport;
+    }
+
+    public void setSocketTransport(SocketTransport socketTransport) {
+        this.socketTransport = socketTransport;
+    }
+
+    public int getAcceptorCount() {
+        return acceptorCount;
+    }
+
+    public void setAcceptorCount(int acceptorCount) {
+        this.acceptorCount = acceptorCount;
+    }
+
     public int getHttp2InitialWindowSize() {
         return http2InitialWindowSize;
     }
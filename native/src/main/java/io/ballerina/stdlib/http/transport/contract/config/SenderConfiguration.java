@@ -19,6 +19,9 @@
 package io.ballerina.stdlib.http.transport.contract.config;
 
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
+import io.netty.resolver.AddressResolverGroup;
+
+import java.net.InetSocketAddress;
 
 /**
  * JAXB representation of the Netty transport sender configuration.
@@ -56,7 +59,9 @@ public class SenderConfiguration extends SslConfiguration {
     private boolean tcpNoDelay = true;
     private boolean socketReuse = false;
     private boolean socketKeepAlive = true;
+    private SocketTransport socketTransport = SocketTransport.NIO;
     private int http2InitialWindowSize = 65535;
+    private AddressResolverGroup<InetSocketAddress> addressResolverGroup;
 
     public SenderConfiguration() {
         this.poolConfiguration = new PoolConfiguration();
@@ -216,6 +221,14 @@ public class SenderConfiguration extends SslConfiguration {
         this.socketKeepAlive = socketKeepAlive;
     }
 
+    public SocketTransport getSocketTransport() {
+        return socketTransport;
+    }
+
+    public void setSocketTransport(SocketTransport socketTransport) {
+        this.socketTransport = socketTransport;
+    }
+
     public int getHttp2InitialWindowSize() {
         return http2InitialWindowSize;
     }
@@ -223,4 +236,18 @@ public class SenderConfiguration extends SslConfiguration {
     public void setHttp2InitialWindowSize(int http2InitialWindowSize) {
         this.http2InitialWindowSize = http2InitialWindowSize;
     }
+
+    public AddressResolverGroup<InetSocketAddress> getAddressResolverGroup() {
+        return addressResolverGroup;
+    }
+
+    /**
+     * Sets the resolver used to resolve the remote host of outbound connections. When not set, the shared caching
+     * DNS resolver of the configured socket transport is used.
+     *
+     * @param addressResolverGroup the address resolver group
+     */
+    public void setAddressResolverGroup(AddressResolverGroup<InetSocketAddress> addressResolverGroup) {
+        this.addressResolverGroup = addressResolverGroup;
+    }
 }
@@ -32,6 +32,8 @@ public class ServerBootstrapConfiguration {
     private final int receiveBufferSize;
     private final int sendBufferSize;
     private final int soBackLog;
+    private final SocketTransport socketTransport;
+    private final int acceptorCount;
 
     public ServerBootstrapConfiguration(ListenerConfiguration listenerConfiguration) {
         this.connectTimeOut = listenerConfiguration.getConnectTimeOut();
@@ -41,6 +43,8 @@ public class ServerBootstrapConfiguration {
         this.socketReuse = listenerConfiguration.isSocketReuse();
         this.keepAlive = listenerConfiguration.isSocketKeepAlive();
         this.soBackLog = listenerConfiguration.getSoBackLog();
+        this.socketTransport = listenerConfiguration.getSocketTransport();
+        this.acceptorCount = listenerConfiguration.getAcceptorCount();
     }
 
     public ServerBootstrapConfiguration(Map<String, Object> properties) {
@@ -64,6 +68,9 @@ public class ServerBootstrapConfiguration {
                 properties, Constants.SERVER_BOOTSTRAP_SO_REUSE, true);
 
         soBackLog = Util.getIntProperty(properties, Constants.SERVER_BOOTSTRAP_SO_BACKLOG, 100);
+
+        socketTransport = SocketTransport.NIO;
+        acceptorCount = 1;
     }
 
     public boolean isTcpNoDelay() {
@@ -93,4 +100,12 @@ public class ServerBootstrapConfiguration {
     public int getSoBackLog() {
         return soBackLog;
     }
+
+    public SocketTransport getSocketTransport() {
+        return socketTransport;
+    }
+
+    public int getAcceptorCount() {
+        return acceptorCount;
+    }
 }
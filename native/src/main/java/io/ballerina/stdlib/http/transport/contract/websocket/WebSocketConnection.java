@@ -61,6 +61,26 @@ public interface WebSocketConnection {
      */
     void readNextFrame();
 
+    /**
+     * Read the given number of WebSocket frames from the wire. Frames that are already read ahead are issued right
+     * away.
+     *
+     * <br><b>Note: Like readNextFrame(), this is only effective when frames are not read automatically.</b>
+     *
+     * @param maxFrames the number of frames to read.
+     */
+    void readFrames(int maxFrames);
+
+    /**
+     * Issue the WebSocket frames that are already read ahead from the wire, up to the given number of payload bytes.
+     * At least one frame is issued; if no frame is read ahead, the next frame is issued when it is read.
+     *
+     * <br><b>Note: Like readNextFrame(), this is only effective when frames are not read automatically.</b>
+     *
+     * @param maxBytes the maximum number of payload bytes to issue.
+     */
+    void drainFrames(long maxBytes);
+
     /**
      * Reading WebSocket frames after successful handshake is blocked by default in transport level.
      * In order to start reading WebSocket frames from the wire this method should be called.
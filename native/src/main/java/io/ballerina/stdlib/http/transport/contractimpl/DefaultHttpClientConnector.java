@@ -28,6 +28,7 @@ import io.ballerina.stdlib.http.transport.contract.config.ForwardedExtensionConf
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.SenderReqRespStateManager;
@@ -38,6 +39,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapC
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientChannel;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientChannelListener;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientTimeoutHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ConnectionManager;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.OutboundMsgHolder;
@@ -50,16 +52,21 @@ import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.ResponseHandle;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.util.concurrent.EventExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Calendar;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.OUTBOUND_ACCESS_LOG_MESSAGE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_SERVER_CLOSED_BEFORE_INITIATING_OUTBOUND_REQUEST;
@@ -70,6 +77,7 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_SERVE
 public class DefaultHttpClientConnector implements HttpClientConnector {
 
     private static final Logger LOG = LoggerFactory.getLogger(HttpClientConnector.class);
+    private static final int MAX_CACHED_ROUTES = 128;
 
     private ConnectionManager connectionManager;
     private Http2ConnectionManager http2ConnectionManager;
@@ -83,6 +91,8 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
     private EventLoopGroup clientEventGroup;
     private BootstrapConfiguration bootstrapConfig;
     private int configHashCode;
+    // Routes of this connector by host, so that a request reuses the pool key and its cached hash code
+    private final Map<String, HttpRoute> routes = new ConcurrentHashMap<>();
 
     public DefaultHttpClientConnector(ConnectionManager connectionManager, SenderConfiguration senderConfiguration,
                                       BootstrapConfiguration bootstrapConfig, EventLoopGroup clientEventGroup,
@@ -104,6 +114,12 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
         return null;
     }
 
+    @Override
+    public void warmUp(String host, int port) {
+        HttpRoute route = getRoute(senderConfiguration.getScheme(), host, port);
+        connectionManager.warmUp(route, senderConfiguration, bootstrapConfig, clientEventGroup);
+    }
+
     @Override
     public HttpResponseFuture getResponse(ResponseHandle responseHandle) {
         return responseHandle.getOutboundMsgHolder().getResponseFuture();
@@ -188,157 +204,234 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
              * rather http connection manager create new connections and handover to the http2 connection manager
              * in case of the connection get upgraded to a HTTP/2 connection.
              */
-            final HttpRoute route = getTargetRoute(senderConfiguration.getScheme(), httpOutboundRequest,
-                                                   this.configHashCode);
+            final HttpRoute route = getTargetRoute(senderConfiguration.getScheme(), httpOutboundRequest);
             if (http2) {
-                // See whether an already upgraded HTTP/2 connection is available
-                Http2ClientChannel activeHttp2ClientChannel = http2ConnectionManager.fetchChannel(route);
-
-                if (activeHttp2ClientChannel != null) {
-                    outboundMsgHolder.setHttp2ClientChannel(activeHttp2ClientChannel);
-                    setHttp2ForwardedExtension(outboundMsgHolder);
-                    new RequestWriteStarter(outboundMsgHolder, activeHttp2ClientChannel).startWritingContent();
-                    httpResponseFuture = outboundMsgHolder.getResponseFuture();
-                    httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
-                    return httpResponseFuture;
-                }
+                // Reserve a stream on the least loaded HTTP/2 connection of the route. The listener may get notified
+                // later, once a connection which is being opened for the route becomes available.
+                http2ConnectionManager.fetchChannel(route, getExecutor(http1xSrcHandler, http2SrcHandler),
+                                                    getHttp2WaitTimeout(), new Http2ClientChannelListener() {
+                    @Override
+                    public void onChannelAvailable(Http2ClientChannel activeHttp2ClientChannel) {
+                        HttpResponseFuture responseFuture = outboundMsgHolder.getResponseFuture();
+                        try {
+                            outboundMsgHolder.setHttp2ClientChannel(activeHttp2ClientChannel);
+                            setHttp2ForwardedExtension(outboundMsgHolder);
+                            new RequestWriteStarter(outboundMsgHolder, activeHttp2ClientChannel).startWritingContent();
+                            responseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+                        } catch (Exception failedCause) {
+                            responseFuture.notifyHttpListener(failedCause);
+                        }
+                    }
+
+                    @Override
+                    public void onNewConnectionRequired() {
+                        // Look for the connection from http connection manager without blocking the thread which
+                        // notified the listener
+                        connectionManager.borrowTargetChannelAsync(route, http1xSrcHandler, http2SrcHandler,
+                                                                   senderConfiguration, bootstrapConfig,
+                                                                   clientEventGroup).addListener(future -> {
+                            Throwable failedCause = future.cause();
+                            if (future.isSuccess()) {
+                                try {
+                                    sendThroughNewConnection(route, (TargetChannel) future.getNow(),
+                                                             outboundMsgHolder, httpOutboundRequest,
+                                                             http1xSrcHandler, http2SrcHandler);
+                                    return;
+                                } catch (Exception e) {
+                                    failedCause = e;
+                                }
+                            }
+                            http2ConnectionManager.releasePendingConnection(route);
+                            outboundMsgHolder.getResponseFuture().notifyHttpListener(getBorrowFailure(failedCause));
+                        });
+                    }
+
+                    @Override
+                    public void onWaitTimeout(ClientConnectorException cause) {
+                        outboundMsgHolder.getResponseFuture().notifyHttpListener(cause);
+                    }
+                });
+                return outboundMsgHolder.getResponseFuture();
             }
 
             // Look for the connection from http connection manager
             TargetChannel targetChannel = connectionManager.borrowTargetChannel(route, srcHandler, http2SourceHandler,
                                                                                 senderConfiguration,
                                                                                 bootstrapConfig, clientEventGroup);
-            Http2ClientChannel freshHttp2ClientChannel = targetChannel.getHttp2ClientChannel();
-            outboundMsgHolder.setHttp2ClientChannel(freshHttp2ClientChannel);
-            httpResponseFuture = outboundMsgHolder.getResponseFuture();
-
-            targetChannel.getConnectionReadyFuture().setListener(new ConnectionAvailabilityListener() {
-                @Override
-                public void onSuccess(String protocol, ChannelFuture channelFuture) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Created the connection to address: {}",
-                                  route + " Original Channel ID is : " + channelFuture.channel().id());
-                    }
-
-                    if (isH1c(protocol)) {
-                        switchEventLoopForH1c(channelFuture).addListener(future ->
-                                        startExecutingOutboundRequest(protocol, channelFuture));
+            httpResponseFuture = sendThroughNewConnection(route, targetChannel, outboundMsgHolder, httpOutboundRequest,
+                                                          http1xSrcHandler, http2SrcHandler);
+        } catch (Exception failedCause) {
+            return notifyListenerAndGetErrorResponseFuture(getBorrowFailure(failedCause));
+        }
+        return httpResponseFuture;
+    }
 
-                    } else if (isH2c(protocol)) {
-                        switchEventLoopForH2c(channelFuture).addListener(future ->
-                                        startExecutingOutboundRequest(protocol, channelFuture));
-                    } else {
-                        startExecutingOutboundRequest(protocol, channelFuture);
-                    }
+    private HttpResponseFuture sendThroughNewConnection(HttpRoute route, TargetChannel targetChannel,
+                                                        OutboundMsgHolder outboundMsgHolder,
+                                                        HttpCarbonMessage httpOutboundRequest,
+                                                        SourceHandler http1xSrcHandler,
+                                                        Http2SourceHandler http2SrcHandler) {
+        Http2ClientChannel freshHttp2ClientChannel = targetChannel.getHttp2ClientChannel();
+        outboundMsgHolder.setHttp2ClientChannel(freshHttp2ClientChannel);
+        HttpResponseFuture httpResponseFuture = outboundMsgHolder.getResponseFuture();
+
+        targetChannel.getConnectionReadyFuture().setListener(new ConnectionAvailabilityListener() {
+            @Override
+            public void onSuccess(String protocol, ChannelFuture channelFuture) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Created the connection to address: {}",
+                              route + " Original Channel ID is : " + channelFuture.channel().id());
                 }
 
-                private void startExecutingOutboundRequest(String protocol, ChannelFuture channelFuture) {
-                    if (protocol.equalsIgnoreCase(Constants.HTTP2_CLEARTEXT_PROTOCOL)
-                            || protocol.equalsIgnoreCase(Constants.HTTP2_TLS_PROTOCOL)) {
-                        prepareTargetChannelForHttp2();
-                    } else {
-                        // Response for the upgrade request will arrive in stream 1,
-                        // so use 1 as the stream id.
-                        if (protocol.equalsIgnoreCase(Constants.HTTP1_TLS_PROTOCOL)) {
-                            connectionManager.getHttp2ConnectionManager().releasePerRoutePoolLatch(targetChannel
-                                    .getHttpRoute());
-                            http2 = false;
-                        }
-                        prepareTargetChannelForHttp(channelFuture);
-                        if ((protocol.equalsIgnoreCase(Constants.HTTP1_CLEARTEXT_PROTOCOL) ||
-                                protocol.equalsIgnoreCase(Constants.HTTP1_TLS_PROTOCOL)) &&
-                                senderConfiguration.getProxyServerConfiguration() != null) {
-                            httpOutboundRequest.setProperty(Constants.IS_PROXY_ENABLED, true);
-                        }
-                        targetChannel.writeContent(httpOutboundRequest);
-                    }
-                }
+                if (isH1c(protocol)) {
+                    switchEventLoopForH1c(channelFuture).addListener(future ->
+                                    startExecutingOutboundRequest(protocol, channelFuture));
 
-                private void prepareTargetChannelForHttp2() {
-                    freshHttp2ClientChannel.setSocketIdleTimeout(socketIdleTimeout);
-                    connectionManager.getHttp2ConnectionManager().addHttp2ClientChannel(route, freshHttp2ClientChannel);
-                    freshHttp2ClientChannel.getConnection().remote().flowController().listener(
-                            new ClientRemoteFlowControlListener(freshHttp2ClientChannel));
-                    freshHttp2ClientChannel.addDataEventListener(
-                            Constants.IDLE_STATE_HANDLER,
-                            new Http2ClientTimeoutHandler(socketIdleTimeout, freshHttp2ClientChannel));
-                    setHttp2ForwardedExtension(outboundMsgHolder);
-                    new RequestWriteStarter(outboundMsgHolder, freshHttp2ClientChannel).startWritingContent();
-                    httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+                } else if (isH2c(protocol)) {
+                    switchEventLoopForH2c(channelFuture).addListener(future ->
+                                    startExecutingOutboundRequest(protocol, channelFuture));
+                } else {
+                    startExecutingOutboundRequest(protocol, channelFuture);
                 }
+            }
 
-                private void prepareTargetChannelForHttp(ChannelFuture channelFuture) {
+            private void startExecutingOutboundRequest(String protocol, ChannelFuture channelFuture) {
+                if (protocol.equalsIgnoreCase(Constants.HTTP2_CLEARTEXT_PROTOCOL)
+                        || protocol.equalsIgnoreCase(Constants.HTTP2_TLS_PROTOCOL)) {
+                    prepareTargetChannelForHttp2();
+                } else {
                     // Response for the upgrade request will arrive in stream 1,
                     // so use 1 as the stream id.
-                    freshHttp2ClientChannel.putInFlightMessage(Http2CodecUtil.HTTP_UPGRADE_STREAM_ID,
-                            outboundMsgHolder);
-                    httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
-                    targetChannel.getHttp2ClientChannel().setSocketIdleTimeout(socketIdleTimeout);
+                    if (protocol.equalsIgnoreCase(Constants.HTTP1_TLS_PROTOCOL)) {
+                        connectionManager.getHttp2ConnectionManager().releasePendingConnection(targetChannel
+                                .getHttpRoute());
+                        http2 = false;
+                    }
+                    prepareTargetChannelForHttp(channelFuture);
+                    if ((protocol.equalsIgnoreCase(Constants.HTTP1_CLEARTEXT_PROTOCOL) ||
+                            protocol.equalsIgnoreCase(Constants.HTTP1_TLS_PROTOCOL)) &&
+                            senderConfiguration.getProxyServerConfiguration() != null) {
+                        httpOutboundRequest.setProperty(Constants.IS_PROXY_ENABLED, true);
+                    }
+                    targetChannel.writeContent(httpOutboundRequest);
+                }
+            }
+
+            private void prepareTargetChannelForHttp2() {
+                freshHttp2ClientChannel.setSocketIdleTimeout(socketIdleTimeout);
+                connectionManager.getHttp2ConnectionManager().addHttp2ClientChannel(route, freshHttp2ClientChannel);
+                freshHttp2ClientChannel.getConnection().remote().flowController().listener(
+                        new ClientRemoteFlowControlListener(freshHttp2ClientChannel));
+                freshHttp2ClientChannel.addDataEventListener(
+                        Constants.IDLE_STATE_HANDLER,
+                        new Http2ClientTimeoutHandler(socketIdleTimeout, freshHttp2ClientChannel));
+                setHttp2ForwardedExtension(outboundMsgHolder);
+                new RequestWriteStarter(outboundMsgHolder, freshHttp2ClientChannel).startWritingContent();
+                httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+            }
 
-                    Channel targetNettyChannel = channelFuture.channel();
+            private void prepareTargetChannelForHttp(ChannelFuture channelFuture) {
+                // Response for the upgrade request will arrive in stream 1,
+                // so use 1 as the stream id.
+                freshHttp2ClientChannel.putInFlightMessage(Http2CodecUtil.HTTP_UPGRADE_STREAM_ID,
+                        outboundMsgHolder);
+                httpResponseFuture.notifyResponseHandle(new ResponseHandle(outboundMsgHolder));
+                targetChannel.getHttp2ClientChannel().setSocketIdleTimeout(socketIdleTimeout);
 
-                    initializeSenderReqRespStateMgr(targetNettyChannel);
+                Channel targetNettyChannel = channelFuture.channel();
 
-                    targetChannel.setChannel(targetNettyChannel);
-                    targetChannel.configTargetHandler(httpOutboundRequest, httpResponseFuture);
-                    httpResponseFuture.setBackPressureObservable(targetChannel.getBackPressureObservable());
-                    Util.setCorrelationIdForLogging(targetNettyChannel.pipeline(), targetChannel.getCorrelatedSource());
+                initializeSenderReqRespStateMgr(targetNettyChannel);
 
-                    Util.handleOutboundConnectionHeader(senderConfiguration, httpOutboundRequest);
-                    String localAddress =
-                            ((InetSocketAddress) targetNettyChannel.localAddress()).getAddress().getHostAddress();
-                    Util.setForwardedExtension(forwardedExtensionConfig, localAddress, httpOutboundRequest);
-                }
+                targetChannel.setChannel(targetNettyChannel);
+                targetChannel.configTargetHandler(httpOutboundRequest, httpResponseFuture);
+                httpResponseFuture.setBackPressureObservable(targetChannel.getBackPressureObservable());
+                Util.setCorrelationIdForLogging(targetNettyChannel.pipeline(), targetChannel.getCorrelatedSource());
 
-                private void initializeSenderReqRespStateMgr(Channel targetNettyChannel) {
-                    SenderReqRespStateManager senderReqRespStateManager =
-                            new SenderReqRespStateManager(targetNettyChannel, socketIdleTimeout);
-                    senderReqRespStateManager.state =
-                            new SendingHeaders(senderReqRespStateManager, targetChannel, httpVersion,
-                                               chunkConfig, httpResponseFuture);
-                    targetChannel.senderReqRespStateManager = senderReqRespStateManager;
-                }
+                Util.handleOutboundConnectionHeader(senderConfiguration, httpOutboundRequest);
+                String localAddress =
+                        ((InetSocketAddress) targetNettyChannel.localAddress()).getAddress().getHostAddress();
+                Util.setForwardedExtension(forwardedExtensionConfig, localAddress, httpOutboundRequest);
+            }
 
-                // Switching is done to make sure, inbound request/response and the outbound request/response
-                // are handle on the same thread and thereby avoid the need for locks
-                private ChannelFuture switchEventLoopForH1c(ChannelFuture channelFuture) {
-                    return channelFuture.channel().deregister()
-                            .addListener(future -> http1xSrcHandler.getEventLoop().register(channelFuture.channel()));
-                }
+            private void initializeSenderReqRespStateMgr(Channel targetNettyChannel) {
+                SenderReqRespStateManager senderReqRespStateManager =
+                        new SenderReqRespStateManager(targetNettyChannel, socketIdleTimeout);
+                senderReqRespStateManager.state =
+                        new SendingHeaders(senderReqRespStateManager, targetChannel, httpVersion,
+                                           chunkConfig, httpResponseFuture);
+                targetChannel.senderReqRespStateManager = senderReqRespStateManager;
+            }
 
-                private ChannelFuture switchEventLoopForH2c(ChannelFuture channelFuture) {
-                    return channelFuture.channel().deregister().addListener(future ->
-                            http2SrcHandler.getChannelHandlerContext().channel().eventLoop()
-                                    .register(channelFuture.channel()));
+            // Switching is done to make sure, inbound request/response and the outbound request/response
+            // are handle on the same thread and thereby avoid the need for locks. Channels from an event loop
+            // affine pool are already bound to the inbound event loop. A channel is not switched when the listener
+            // and the client use different socket transports, since it cannot be registered to the event loop of
+            // another transport.
+            private ChannelFuture switchEventLoopForH1c(ChannelFuture channelFuture) {
+                EventLoop sourceEventLoop = http1xSrcHandler.getEventLoop();
+                if (channelFuture.channel().eventLoop() == sourceEventLoop
+                        || !NativeTransport.isCompatible(channelFuture.channel(), sourceEventLoop)) {
+                    return channelFuture;
                 }
+                return channelFuture.channel().deregister()
+                        .addListener(future -> sourceEventLoop.register(channelFuture.channel()));
+            }
 
-                private boolean isH1c(String protocol) {
-                    return Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http1xSrcHandler != null;
+            private ChannelFuture switchEventLoopForH2c(ChannelFuture channelFuture) {
+                EventLoop sourceEventLoop = http2SrcHandler.getChannelHandlerContext().channel().eventLoop();
+                if (channelFuture.channel().eventLoop() == sourceEventLoop
+                        || !NativeTransport.isCompatible(channelFuture.channel(), sourceEventLoop)) {
+                    return channelFuture;
                 }
+                return channelFuture.channel().deregister().addListener(future ->
+                        sourceEventLoop.register(channelFuture.channel()));
+            }
 
-                private boolean isH2c(String protocol) {
-                    return Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http2SrcHandler != null;
-                }
+            private boolean isH1c(String protocol) {
+                return Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http1xSrcHandler != null;
+            }
 
-                @Override
-                public void onFailure(ClientConnectorException cause) {
-                    httpResponseFuture.notifyHttpListener(cause);
-                    httpOutboundRequest
-                            .setIoException(new IOException(REMOTE_SERVER_CLOSED_BEFORE_INITIATING_OUTBOUND_REQUEST));
-                    connectionManager.getHttp2ConnectionManager().releasePerRoutePoolLatch(route);
-                }
-            });
-        } catch (NoSuchElementException failedCause) {
-            if ("Timeout waiting for idle object".equals(failedCause.getMessage())) {
-                failedCause = new NoSuchElementException(Constants.MAXIMUM_WAIT_TIME_EXCEED);
+            private boolean isH2c(String protocol) {
+                return Constants.HTTP_SCHEME.equalsIgnoreCase(protocol) && http2SrcHandler != null;
             }
-            return notifyListenerAndGetErrorResponseFuture(failedCause);
-        } catch (Exception failedCause) {
-            return notifyListenerAndGetErrorResponseFuture(failedCause);
-        }
+
+            @Override
+            public void onFailure(ClientConnectorException cause) {
+                httpResponseFuture.notifyHttpListener(cause);
+                httpOutboundRequest
+                        .setIoException(new IOException(REMOTE_SERVER_CLOSED_BEFORE_INITIATING_OUTBOUND_REQUEST));
+                connectionManager.getHttp2ConnectionManager().releasePendingConnection(route);
+            }
+        });
         return httpResponseFuture;
     }
 
+    private EventExecutor getExecutor(SourceHandler http1xSrcHandler, Http2SourceHandler http2SrcHandler) {
+        if (http1xSrcHandler != null) {
+            return http1xSrcHandler.getInboundChannelContext().channel().eventLoop();
+        } else if (http2SrcHandler != null) {
+            return http2SrcHandler.getInboundChannelContext().channel().eventLoop();
+        }
+        return clientEventGroup.next();
+    }
+
+    /**
+     * Gets the time a request waits for a stream of the HTTP/2 connection pool. The max wait time of the pool is used
+     * when it is set, otherwise the socket idle timeout, since neither a stream nor an idle timer exists yet.
+     */
+    private long getHttp2WaitTimeout() {
+        long maxWaitTime = senderConfiguration.getPoolConfiguration().getMaxWaitTime();
+        return maxWaitTime > 0 ? maxWaitTime : socketIdleTimeout;
+    }
+
+    private Exception getBorrowFailure(Throwable failedCause) {
+        if (failedCause instanceof NoSuchElementException
+                && "Timeout waiting for idle object".equals(failedCause.getMessage())) {
+            return new NoSuchElementException(Constants.MAXIMUM_WAIT_TIME_EXCEED);
+        }
+        return failedCause instanceof Exception ? (Exception) failedCause : new Exception(failedCause);
+    }
+
     private void setHttp2ForwardedExtension(OutboundMsgHolder outboundMsgHolder) {
         String localAddress = ((InetSocketAddress) outboundMsgHolder.getHttp2ClientChannel().getChannel()
                 .localAddress()).getAddress().getHostAddress();
@@ -352,11 +445,27 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
         return errorResponseFuture;
     }
 
-    private HttpRoute getTargetRoute(String scheme, HttpCarbonMessage httpCarbonMessage, int configHashCode) {
+    private HttpRoute getTargetRoute(String scheme, HttpCarbonMessage httpCarbonMessage) {
         String host = fetchHost(httpCarbonMessage);
         int port = fetchPort(httpCarbonMessage);
 
-        return new HttpRoute(scheme, host, port, configHashCode);
+        return getRoute(scheme, host, port);
+    }
+
+    /**
+     * Gets the cached route of the given address. A connector usually sends its requests to a single host, so one
+     * route is kept per host and the number of cached routes is bounded.
+     */
+    private HttpRoute getRoute(String scheme, String host, int port) {
+        HttpRoute route = host != null ? routes.get(host) : null;
+        if (route != null && route.getPort() == port && Objects.equals(route.getScheme(), scheme)) {
+            return route;
+        }
+        route = new HttpRoute(scheme, host, port, configHashCode);
+        if (host != null && routes.size() < MAX_CACHED_ROUTES) {
+            routes.put(host, route);
+        }
+        return route;
     }
 
     private int fetchPort(HttpCarbonMessage httpCarbonMessage) {
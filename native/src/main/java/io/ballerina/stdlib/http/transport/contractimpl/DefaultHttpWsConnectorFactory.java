@@ -27,8 +27,10 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnector;
 import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnector;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnectorConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
@@ -39,12 +41,14 @@ import io.ballerina.stdlib.http.transport.contractimpl.websocket.DefaultWebSocke
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.net.ssl.SSLException;
@@ -57,31 +61,48 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.PIPELINING_T
  */
 public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
 
-    private final EventLoopGroup bossGroup;
-    private final EventLoopGroup workerGroup;
-    private final EventLoopGroup clientGroup;
+    private final int serverSocketThreads;
+    private final int childSocketThreads;
+    private final int clientThreads;
+    private final Map<SocketTransport, TransportEventLoopGroups> transportGroups =
+            new EnumMap<>(SocketTransport.class);
     private EventExecutorGroup pipeliningGroup;
 
     private final ChannelGroup allChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
 
     public DefaultHttpWsConnectorFactory() {
-        int availableProcessors = Runtime.getRuntime().availableProcessors();
-        bossGroup = new NioEventLoopGroup(availableProcessors);
-        workerGroup = new NioEventLoopGroup(availableProcessors * 2);
-        clientGroup = new NioEventLoopGroup(availableProcessors * 2);
+        this(Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors() * 2,
+             Runtime.getRuntime().availableProcessors() * 2);
     }
 
     public DefaultHttpWsConnectorFactory(int serverSocketThreads, int childSocketThreads, int clientThreads) {
-        bossGroup = new NioEventLoopGroup(serverSocketThreads);
-        workerGroup = new NioEventLoopGroup(childSocketThreads);
-        clientGroup = new NioEventLoopGroup(clientThreads);
+        this.serverSocketThreads = serverSocketThreads;
+        this.childSocketThreads = childSocketThreads;
+        this.clientThreads = clientThreads;
+        getTransportGroups(SocketTransport.NIO);
+    }
+
+    /**
+     * Returns the event loop groups of the given transport. The NIO groups are created along with the factory while
+     * the groups of a native transport are only created once a listener or a client asks for that transport.
+     *
+     * @param transport the resolved socket transport
+     * @return the boss, worker and client event loop groups of the transport
+     */
+    private synchronized TransportEventLoopGroups getTransportGroups(SocketTransport transport) {
+        return transportGroups.computeIfAbsent(transport, key -> new TransportEventLoopGroups(
+                NativeTransport.createEventLoopGroup(key, serverSocketThreads),
+                NativeTransport.createEventLoopGroup(key, childSocketThreads),
+                NativeTransport.createEventLoopGroup(key, clientThreads)));
     }
 
     @Override
     public ServerConnector createServerConnector(ServerBootstrapConfiguration serverBootstrapConfiguration,
             ListenerConfiguration listenerConfig) {
+        SocketTransport transport = NativeTransport.resolve(serverBootstrapConfiguration.getSocketTransport());
         ServerConnectorBootstrap serverConnectorBootstrap = new ServerConnectorBootstrap(allChannels);
         serverConnectorBootstrap.addSocketConfiguration(serverBootstrapConfiguration);
+        serverConnectorBootstrap.addAcceptors(transport, serverBootstrapConfiguration.getAcceptorCount());
         SSLConfig sslConfig = listenerConfig.getListenerSSLConfig();
         serverConnectorBootstrap.addSecurity(sslConfig);
         if (sslConfig != null) {
@@ -96,7 +117,8 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         }
         serverConnectorBootstrap.addHttpTraceLogHandler(listenerConfig.isHttpTraceLogEnabled());
         serverConnectorBootstrap.addHttpAccessLogHandler(listenerConfig.isHttpAccessLogEnabled());
-        serverConnectorBootstrap.addThreadPools(bossGroup, workerGroup);
+        TransportEventLoopGroups eventLoopGroups = getTransportGroups(transport);
+        serverConnectorBootstrap.addThreadPools(eventLoopGroups.bossGroup, eventLoopGroups.workerGroup, transport);
         serverConnectorBootstrap.addHeaderAndEntitySizeValidation(listenerConfig.getMsgSizeValidationConfig());
         serverConnectorBootstrap.addChunkingBehaviour(listenerConfig.getChunkConfig());
         serverConnectorBootstrap.addKeepAliveBehaviour(listenerConfig.getKeepAliveConfig());
@@ -152,7 +174,8 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         BootstrapConfiguration bootstrapConfig = new BootstrapConfiguration(senderConfiguration);
         ConnectionManager connectionManager = new ConnectionManager(senderConfiguration.getPoolConfiguration());
         int configHashCode = Util.getIntProperty(transportProperties, HttpConstants.CLIENT_CONFIG_HASH_CODE, 0);
-        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig, clientGroup,
+        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig,
+                                              getTransportGroups(bootstrapConfig.getSocketTransport()).clientGroup,
                                               configHashCode);
     }
 
@@ -162,21 +185,27 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
                                                          ConnectionManager connectionManager) {
         BootstrapConfiguration bootstrapConfig = new BootstrapConfiguration(senderConfiguration);
         int configHashCode = Util.getIntProperty(transportProperties, HttpConstants.CLIENT_CONFIG_HASH_CODE, 0);
-        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig, clientGroup,
+        return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig,
+                                              getTransportGroups(bootstrapConfig.getSocketTransport()).clientGroup,
                                               configHashCode);
     }
 
     @Override
     public WebSocketClientConnector createWsClientConnector(WebSocketClientConnectorConfig clientConnectorConfig) {
-        return new DefaultWebSocketClientConnector(clientConnectorConfig, clientGroup);
+        // The WebSocket client has no socket transport configuration, so it always runs on NIO
+        return new DefaultWebSocketClientConnector(clientConnectorConfig,
+                                                   getTransportGroups(SocketTransport.NIO).clientGroup,
+                                                   SocketTransport.NIO);
     }
 
     @Override
     public void shutdown() throws InterruptedException {
         allChannels.close().sync();
-        workerGroup.shutdownGracefully().sync();
-        bossGroup.shutdownGracefully().sync();
-        clientGroup.shutdownGracefully().sync();
+        for (TransportEventLoopGroups eventLoopGroups : getAllTransportGroups()) {
+            eventLoopGroups.workerGroup.shutdownGracefully().sync();
+            eventLoopGroups.bossGroup.shutdownGracefully().sync();
+            eventLoopGroups.clientGroup.shutdownGracefully().sync();
+        }
         if (pipeliningGroup != null) {
             pipeliningGroup.shutdownGracefully().sync();
         }
@@ -187,11 +216,33 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
      **/
     public void shutdownNow() {
         allChannels.close();
-        workerGroup.shutdownGracefully();
-        bossGroup.shutdownGracefully();
-        clientGroup.shutdownGracefully();
+        for (TransportEventLoopGroups eventLoopGroups : getAllTransportGroups()) {
+            eventLoopGroups.workerGroup.shutdownGracefully();
+            eventLoopGroups.bossGroup.shutdownGracefully();
+            eventLoopGroups.clientGroup.shutdownGracefully();
+        }
         if (pipeliningGroup != null) {
             pipeliningGroup.shutdownGracefully();
         }
     }
+
+    private synchronized List<TransportEventLoopGroups> getAllTransportGroups() {
+        return new ArrayList<>(transportGroups.values());
+    }
+
+    /**
+     * Holds the event loop groups created for a single socket transport.
+     */
+    private static class TransportEventLoopGroups {
+
+        private final EventLoopGroup bossGroup;
+        private final EventLoopGroup workerGroup;
+        private final EventLoopGroup clientGroup;
+
+        TransportEventLoopGroups(EventLoopGroup bossGroup, EventLoopGroup workerGroup, EventLoopGroup clientGroup) {
+            this.bossGroup = bossGroup;
+            this.workerGroup = workerGroup;
+            this.clientGroup = clientGroup;
+        }
+    }
 }
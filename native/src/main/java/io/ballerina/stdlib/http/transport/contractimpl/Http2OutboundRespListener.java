@@ -21,7 +21,9 @@ package io.ballerina.stdlib.http.transport.contractimpl;
 
 import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
+import io.ballerina.stdlib.http.transport.contract.config.ContentCompressionConfig;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ContentCoding;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2StateUtil;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
@@ -52,8 +54,11 @@ import org.slf4j.LoggerFactory;
 import java.util.Calendar;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static io.ballerina.stdlib.http.transport.contract.Constants.CONTENT_COMPRESSION_CONFIG;
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_BROTLI;
 import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_DEFLATE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_GZIP;
+import static io.ballerina.stdlib.http.transport.contract.Constants.ENCODING_ZSTD;
 import static io.ballerina.stdlib.http.transport.contract.Constants.PROMISED_STREAM_REJECTED_ERROR;
 
 /**
@@ -175,7 +180,7 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
     private void setContentEncoding(HttpCarbonMessage outboundResponseMsg) {
         String contentEncoding = outboundResponseMsg.getHeader(HttpHeaderNames.CONTENT_ENCODING.toString());
         //This means compression AUTO case; With NEVER(identity) and ALWAYS, content-encoding will always have a value.
-        if (contentEncoding == null) {
+        if (contentEncoding == null && !isBelowMinCompressionSize(outboundResponseMsg)) {
             String acceptEncoding = inboundRequestMsg.getHeader(HttpHeaderNames.ACCEPT_ENCODING.toString());
             if (acceptEncoding != null) {
                 String targetContentEncoding = determineScheme(acceptEncoding);
@@ -186,16 +191,36 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
         }
     }
 
+    private boolean isBelowMinCompressionSize(HttpCarbonMessage outboundResponseMsg) {
+        ContentCompressionConfig compressionConfig =
+                (ContentCompressionConfig) outboundResponseMsg.getProperty(CONTENT_COMPRESSION_CONFIG);
+        if (compressionConfig == null || compressionConfig.getMinResponseSize() <= 0) {
+            return false;
+        }
+        String contentLength = outboundResponseMsg.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString());
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength.trim()) < compressionConfig.getMinResponseSize();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
     /***
      * This function is to determine one encoding scheme from the request's `accept-encoding` header. The logic to
-     * determine the scheme is similar to the logic used in Netty's `determineWrapper()` function in the
-     * `HttpContentCompressor` class which is used to do the same, when doing the HTTP1.1 compression.
+     * determine the scheme is similar to the logic used in Netty's `determineEncoding()` function in the
+     * `HttpContentCompressor` class which is used to do the same, when doing the HTTP1.1 compression. brotli and zstd
+     * are only chosen when they are available.
      *
      * @param acceptEncoding `accept-encoding` header value
      * @return the chosen encoding scheme
      */
     private String determineScheme(String acceptEncoding) {
         float starQ = -1.0f;
+        float brQ = -1.0f;
+        float zstdQ = -1.0f;
         float gzipQ = -1.0f;
         float deflateQ = -1.0f;
         for (String encoding : acceptEncoding.split(",")) {
@@ -211,6 +236,10 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
             }
             if (encoding.contains("*")) {
                 starQ = qValue;
+            } else if (encoding.contains(ENCODING_BROTLI) && qValue > brQ) {
+                brQ = qValue;
+            } else if (encoding.contains(ENCODING_ZSTD) && qValue > zstdQ) {
+                zstdQ = qValue;
             } else if (encoding.contains(ENCODING_GZIP) && qValue > gzipQ) {
                 gzipQ = qValue;
             } else if (encoding.contains(ENCODING_DEFLATE) && qValue > deflateQ) {
@@ -219,14 +248,30 @@ public class Http2OutboundRespListener implements HttpConnectorListener {
                 LOG.debug("Server does not support the requested encoding scheme: {}", encoding);
             }
         }
-        if (gzipQ > 0.0f || deflateQ > 0.0f) {
-            if (gzipQ >= deflateQ) {
+        if (!ContentCoding.isBrotliAvailable()) {
+            brQ = 0.0f;
+        }
+        if (!ContentCoding.isZstdAvailable()) {
+            zstdQ = 0.0f;
+        }
+        if (brQ > 0.0f || zstdQ > 0.0f || gzipQ > 0.0f || deflateQ > 0.0f) {
+            if (brQ >= zstdQ && brQ >= gzipQ && brQ >= deflateQ) {
+                return ENCODING_BROTLI;
+            } else if (zstdQ >= gzipQ && zstdQ >= deflateQ) {
+                return ENCODING_ZSTD;
+            } else if (gzipQ >= deflateQ) {
                 return ENCODING_GZIP;
             } else {
                 return ENCODING_DEFLATE;
             }
         }
         if (starQ > 0.0f) {
+            if (brQ == -1.0f) {
+                return ENCODING_BROTLI;
+            }
+            if (zstdQ == -1.0f) {
+                return ENCODING_ZSTD;
+            }
             if (gzipQ == -1.0f) {
                 return ENCODING_GZIP;
             }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.config.ContentCompressionConfig;
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.BrotliMode;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Content codings the transport can negotiate through the {@code accept-encoding} header.
+ * <p>
+ * gzip and deflate are always available. brotli and zstd are only offered when their native libraries could be
+ * loaded on the running platform.
+ */
+public final class ContentCoding {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContentCoding.class);
+
+    private static final int ZLIB_DEFAULT_LEVEL = 6;
+    private static final int BROTLI_DEFAULT_QUALITY = 4;
+    private static final int ZSTD_DEFAULT_LEVEL = 3;
+    private static final int BROTLI_WINDOW = 22;
+    private static final int ZLIB_WINDOW_BITS = 15;
+    private static final int ZLIB_MEM_LEVEL = 8;
+
+    private static final boolean BROTLI_AVAILABLE = isAvailable(Constants.ENCODING_BROTLI, Brotli.isAvailable(),
+                                                                Brotli.cause());
+    private static final boolean ZSTD_AVAILABLE = isAvailable(Constants.ENCODING_ZSTD, Zstd.isAvailable(),
+                                                              Zstd.cause());
+    private static final String ACCEPT_ENCODING = buildAcceptEncoding();
+
+    private ContentCoding() {
+    }
+
+    public static boolean isBrotliAvailable() {
+        return BROTLI_AVAILABLE;
+    }
+
+    public static boolean isZstdAvailable() {
+        return ZSTD_AVAILABLE;
+    }
+
+    /**
+     * Returns the {@code accept-encoding} value listing every content coding the client can decode.
+     *
+     * @return the accept-encoding header value
+     */
+    public static String getAcceptEncoding() {
+        return ACCEPT_ENCODING;
+    }
+
+    /**
+     * Returns the compression options of the available content codings with their default levels.
+     *
+     * @return the compression options
+     */
+    public static CompressionOptions[] getCompressionOptions() {
+        List<CompressionOptions> options = new ArrayList<>(4);
+        if (BROTLI_AVAILABLE) {
+            options.add(StandardCompressionOptions.brotli());
+        }
+        if (ZSTD_AVAILABLE) {
+            options.add(StandardCompressionOptions.zstd());
+        }
+        options.add(StandardCompressionOptions.gzip());
+        options.add(StandardCompressionOptions.deflate());
+        return options.toArray(new CompressionOptions[0]);
+    }
+
+    /**
+     * Creates an encoder for the given content coding. The level is used as the gzip and deflate level, the brotli
+     * quality and the zstd level. A level of {@link ContentCompressionConfig#DEFAULT_LEVEL} uses the default level of
+     * the content coding.
+     *
+     * @param contentEncoding the negotiated content coding
+     * @param level           the compression level from 1 to 9 or the default level
+     * @return the encoder or null if the content coding is not available
+     */
+    public static ChannelHandler newEncoder(String contentEncoding, int level) {
+        boolean defaultLevel = level == ContentCompressionConfig.DEFAULT_LEVEL;
+        switch (contentEncoding) {
+            case Constants.ENCODING_GZIP:
+                return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, defaultLevel ? ZLIB_DEFAULT_LEVEL : level,
+                                                       ZLIB_WINDOW_BITS, ZLIB_MEM_LEVEL);
+            case Constants.ENCODING_DEFLATE:
+                return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, defaultLevel ? ZLIB_DEFAULT_LEVEL : level,
+                                                       ZLIB_WINDOW_BITS, ZLIB_MEM_LEVEL);
+            case Constants.ENCODING_BROTLI:
+                return BROTLI_AVAILABLE ? new BrotliEncoder(StandardCompressionOptions.brotli(
+                        defaultLevel ? BROTLI_DEFAULT_QUALITY : level, BROTLI_WINDOW, BrotliMode.TEXT)) : null;
+            case Constants.ENCODING_ZSTD:
+                return ZSTD_AVAILABLE ? new ZstdEncoder(defaultLevel ? ZSTD_DEFAULT_LEVEL : level) : null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isAvailable(String contentEncoding, boolean available, Throwable cause) {
+        if (!available) {
+            LOG.debug("{} content coding is not available: {}", contentEncoding, String.valueOf(cause));
+        }
+        return available;
+    }
+
+    private static String buildAcceptEncoding() {
+        StringBuilder acceptEncoding = new StringBuilder();
+        if (BROTLI_AVAILABLE) {
+            acceptEncoding.append(Constants.ENCODING_BROTLI).append(", ");
+        }
+        if (ZSTD_AVAILABLE) {
+            acceptEncoding.append(Constants.ENCODING_ZSTD).append(", ");
+        }
+        return acceptEncoding.append(Constants.ENCODING_DEFLATE).append(", ").append(Constants.ENCODING_GZIP)
+                .toString();
+    }
+}
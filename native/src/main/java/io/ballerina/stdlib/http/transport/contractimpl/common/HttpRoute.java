@@ -15,14 +15,19 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.common;
 
+import java.util.Objects;
+
 /**
- * Class encapsulates the Endpoint address.
+ * Class encapsulates the Endpoint address. Routes are compared by value so that they can be used directly as
+ * connection pool keys.
  */
 public class HttpRoute {
-    private String scheme;
-    private String host;
-    private int port;
-    private int configHashCode;
+    private final String scheme;
+    private final String host;
+    private final int port;
+    private final int configHashCode;
+    private int hash;
+    private String key;
 
     public HttpRoute(String scheme, String host, int port, int configHashCode) {
         this.scheme = scheme;
@@ -33,7 +38,38 @@ public class HttpRoute {
 
     @Override
     public String toString() {
-        return scheme + "-" + host + "-" + port + "-" + configHashCode;
+        String routeKey = key;
+        if (routeKey == null) {
+            routeKey = scheme + "-" + host + "-" + port + "-" + configHashCode;
+            key = routeKey;
+        }
+        return routeKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HttpRoute)) {
+            return false;
+        }
+        HttpRoute that = (HttpRoute) o;
+        return port == that.port && configHashCode == that.configHashCode && Objects.equals(host, that.host)
+                && Objects.equals(scheme, that.scheme);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hashCode(scheme);
+            h = 31 * h + Objects.hashCode(host);
+            h = 31 * h + port;
+            h = 31 * h + configHashCode;
+            hash = h;
+        }
+        return h;
     }
 
     public String getHost() {
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleStateEvent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Triggers an {@link IdleStateEvent} when a channel has neither read nor written for the given idle time.
+ * <p>
+ * This is a replacement for the all-idle mode of Netty's {@code IdleStateHandler} that keeps its timeout in the
+ * {@link TimeoutWheel} of the event loop. Reads and writes only record the activity time; the deadline is refreshed
+ * lazily when the timeout expires, so busy channels do not re-schedule a task on each check.
+ *
+ * @since 2.13.3
+ */
+public class IdleTimeoutHandler extends ChannelDuplexHandler {
+
+    private final long idleTimeNanos;
+    // The wheel of the event loop of the channel is used when no wheel is given
+    private final TimeoutWheel wheel;
+    private final ChannelFutureListener writeListener = future -> {
+        lastWriteTime = ticksInNanos();
+        firstEvent = true;
+    };
+
+    private TimeoutWheel.Timeout timeout;
+    private long lastReadTime;
+    private long lastWriteTime;
+    private boolean reading;
+    private boolean firstEvent = true;
+    private boolean initialized;
+    private boolean destroyed;
+
+    public IdleTimeoutHandler(long idleTime, TimeUnit unit) {
+        this(idleTime, unit, null);
+    }
+
+    IdleTimeoutHandler(long idleTime, TimeUnit unit, TimeoutWheel wheel) {
+        this.idleTimeNanos = Math.max(unit.toNanos(idleTime), 0);
+        this.wheel = wheel;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive() && ctx.channel().isRegistered()) {
+            initialize(ctx);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        destroy();
+    }
+
+    @Override
+    public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isActive()) {
+            initialize(ctx);
+        }
+        super.channelRegistered(ctx);
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        initialize(ctx);
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        destroy();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        reading = true;
+        firstEvent = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        if (reading) {
+            lastReadTime = ticksInNanos();
+            reading = false;
+        }
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        ctx.write(msg, promise.unvoid()).addListener(writeListener);
+    }
+
+    private void initialize(ChannelHandlerContext ctx) {
+        if (initialized || destroyed || idleTimeNanos == 0) {
+            return;
+        }
+        initialized = true;
+        lastReadTime = lastWriteTime = ticksInNanos();
+        timeout = schedule(ctx, new IdleTimeoutTask(ctx), idleTimeNanos);
+    }
+
+    private long ticksInNanos() {
+        return wheel == null ? Util.ticksInNanos() : wheel.ticksInNanos();
+    }
+
+    private TimeoutWheel.Timeout schedule(ChannelHandlerContext ctx, Runnable task, long delayNanos) {
+        return wheel == null ? TimeoutWheel.schedule(ctx.executor(), task, delayNanos) :
+                wheel.newTimeout(task, delayNanos);
+    }
+
+    private void destroy() {
+        destroyed = true;
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+    }
+
+    private class IdleTimeoutTask implements Runnable {
+
+        private final ChannelHandlerContext ctx;
+
+        IdleTimeoutTask(ChannelHandlerContext ctx) {
+            this.ctx = ctx;
+        }
+
+        @Override
+        public void run() {
+            if (destroyed || !ctx.channel().isOpen()) {
+                return;
+            }
+            long nextDelay = idleTimeNanos;
+            if (!reading) {
+                nextDelay -= ticksInNanos() - Math.max(lastReadTime, lastWriteTime);
+            }
+            if (nextDelay > 0) {
+                timeout = schedule(ctx, this, nextDelay);
+                return;
+            }
+            timeout = schedule(ctx, this, idleTimeNanos);
+            IdleStateEvent event = firstEvent ? IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT :
+                    IdleStateEvent.ALL_IDLE_STATE_EVENT;
+            firstEvent = false;
+            ctx.fireUserEventTriggered(event);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringChannelOption;
+import io.netty.incubator.channel.uring.IOUringDatagramChannel;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maps a {@link SocketTransport} to the Netty event loop group and channel implementations backing it.
+ * <p>
+ * Native transports are only used when the corresponding native library could be loaded on the running platform,
+ * otherwise the NIO transport is used.
+ */
+public final class NativeTransport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NativeTransport.class);
+
+    /**
+     * Returns the transport that will actually be used for the requested one.
+     *
+     * @param requested the transport given in the listener or client configuration
+     * @return the requested transport if it is available on this platform, {@link SocketTransport#NIO} otherwise
+     */
+    public static SocketTransport resolve(SocketTransport requested) {
+        if (requested == null) {
+            return SocketTransport.NIO;
+        }
+        switch (requested) {
+            case EPOLL:
+                if (Epoll.isAvailable()) {
+                    return SocketTransport.EPOLL;
+                }
+                LOG.warn("Epoll transport is not available, falling back to NIO: {}",
+                         String.valueOf(Epoll.unavailabilityCause()));
+                return SocketTransport.NIO;
+            case IO_URING:
+                if (IOUring.isAvailable()) {
+                    return SocketTransport.IO_URING;
+                }
+                LOG.warn("io_uring transport is not available, falling back to NIO: {}",
+                         String.valueOf(IOUring.unavailabilityCause()));
+                return SocketTransport.NIO;
+            default:
+                return SocketTransport.NIO;
+        }
+    }
+
+    public static EventLoopGroup createEventLoopGroup(SocketTransport transport, int threads) {
+        switch (transport) {
+            case EPOLL:
+                return new EpollEventLoopGroup(threads);
+            case IO_URING:
+                return new IOUringEventLoopGroup(threads);
+            default:
+                return new NioEventLoopGroup(threads);
+        }
+    }
+
+    public static Class<? extends ServerChannel> getServerChannelClass(SocketTransport transport) {
+        switch (transport) {
+            case EPOLL:
+                return EpollServerSocketChannel.class;
+            case IO_URING:
+                return IOUringServerSocketChannel.class;
+            default:
+                return NioServerSocketChannel.class;
+        }
+    }
+
+    public static Class<? extends SocketChannel> getSocketChannelClass(SocketTransport transport) {
+        switch (transport) {
+            case EPOLL:
+                return EpollSocketChannel.class;
+            case IO_URING:
+                return IOUringSocketChannel.class;
+            default:
+                return NioSocketChannel.class;
+        }
+    }
+
+    public static Class<? extends DatagramChannel> getDatagramChannelClass(SocketTransport transport) {
+        switch (transport) {
+            case EPOLL:
+                return EpollDatagramChannel.class;
+            case IO_URING:
+                return IOUringDatagramChannel.class;
+            default:
+                return NioDatagramChannel.class;
+        }
+    }
+
+    /**
+     * Checks whether a channel of the given event loop can be registered to another event loop. A channel can only be
+     * moved between event loops of the same transport, for example an epoll channel cannot be registered to a NIO
+     * event loop.
+     *
+     * @param channel   the channel to move
+     * @param eventLoop the event loop to move the channel to
+     * @return true if the event loop is of the same transport as the event loop of the channel
+     */
+    public static boolean isCompatible(Channel channel, EventLoop eventLoop) {
+        return channel.eventLoop().getClass() == eventLoop.getClass();
+    }
+
+    /**
+     * Enables {@code SO_REUSEPORT} on the server bootstrap so that multiple server sockets can be bound to the same
+     * port, each accepting on its own event loop.
+     *
+     * @param serverBootstrap the server bootstrap to configure
+     * @param transport       the resolved transport of the server bootstrap
+     * @return true if the option was applied, false if the transport does not support it
+     */
+    public static boolean enableReusePort(ServerBootstrap serverBootstrap, SocketTransport transport) {
+        switch (transport) {
+            case EPOLL:
+                serverBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+                return true;
+            case IO_URING:
+                serverBootstrap.option(IOUringChannelOption.SO_REUSEPORT, true);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private NativeTransport() {
+    }
+}
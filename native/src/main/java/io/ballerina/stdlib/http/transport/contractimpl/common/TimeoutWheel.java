@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.LongSupplier;
+
+/**
+ * A hashed timing wheel that runs the timeouts of the channels of an event loop.
+ * <p>
+ * Each event loop has one wheel, which is only accessed from the event loop thread. Timeouts are kept in doubly
+ * linked buckets indexed by their deadline tick, so adding and cancelling a timeout is O(1) and does not touch the
+ * scheduled task queue of the event loop. While the wheel has pending timeouts, a single task is scheduled on the
+ * event loop for the tick of the next non-empty bucket, which expires the timeouts of the elapsed buckets. An event
+ * loop is therefore only woken up when a timeout can expire, not on every tick.
+ * <p>
+ * Timeouts are meant to be refreshed lazily: instead of cancelling and re-adding a timeout on every activity, the
+ * owner records the activity time and, when the timeout expires, adds a new timeout for the remaining time.
+ *
+ * @since 2.13.3
+ */
+public final class TimeoutWheel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimeoutWheel.class);
+
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    static final int WHEEL_SIZE = 1024;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private static final FastThreadLocal<TimeoutWheel> WHEELS = new FastThreadLocal<>();
+
+    private final EventExecutor executor;
+    private final LongSupplier clock;
+    private final Timeout[] buckets = new Timeout[WHEEL_SIZE];
+    private final long origin;
+    private final Runnable tickTask = this::tick;
+    private long processedTick;
+    private int pending;
+    // The tick the tick task is scheduled for, or Long.MAX_VALUE if it is not scheduled
+    private long scheduledTick = Long.MAX_VALUE;
+    private ScheduledFuture<?> scheduledTickTask;
+
+    TimeoutWheel(EventExecutor executor) {
+        this(executor, Util::ticksInNanos);
+    }
+
+    /**
+     * Creates a wheel that reads the current time from the given clock.
+     *
+     * @param executor the event loop of the wheel
+     * @param clock    the clock, in nanoseconds
+     */
+    TimeoutWheel(EventExecutor executor, LongSupplier clock) {
+        this.executor = executor;
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+    }
+
+    /**
+     * Schedules a task to run on the given event loop after the given delay.
+     *
+     * @param executor   the event loop that runs the task
+     * @param task       the task
+     * @param delayNanos the delay in nanoseconds
+     * @return the timeout of the task, which can be used to cancel it
+     */
+    public static Timeout schedule(EventExecutor executor, Runnable task, long delayNanos) {
+        if (executor.inEventLoop()) {
+            return wheel(executor).newTimeout(task, delayNanos);
+        }
+        Timeout timeout = new Timeout(executor, task, Util.ticksInNanos() + Math.max(delayNanos, 0));
+        executor.execute(() -> wheel(executor).add(timeout));
+        return timeout;
+    }
+
+    private static TimeoutWheel wheel(EventExecutor executor) {
+        TimeoutWheel wheel = WHEELS.get();
+        if (wheel == null || wheel.executor != executor) {
+            wheel = new TimeoutWheel(executor);
+            WHEELS.set(wheel);
+        }
+        return wheel;
+    }
+
+    /**
+     * Returns the current time of the clock of this wheel.
+     *
+     * @return the current time in nanoseconds
+     */
+    long ticksInNanos() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Returns the number of timeouts in the wheel.
+     *
+     * @return the number of pending timeouts
+     */
+    int pending() {
+        return pending;
+    }
+
+    /**
+     * Adds a timeout for the given task to this wheel. Must be called from the event loop of the wheel.
+     *
+     * @param task       the task
+     * @param delayNanos the delay in nanoseconds
+     * @return the timeout of the task
+     */
+    Timeout newTimeout(Runnable task, long delayNanos) {
+        Timeout timeout = new Timeout(executor, task, clock.getAsLong() + Math.max(delayNanos, 0));
+        add(timeout);
+        return timeout;
+    }
+
+    private void add(Timeout timeout) {
+        if (timeout.state != Timeout.PENDING) {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (pending == 0) {
+            // Nothing can expire in the ticks that elapsed while the wheel was empty
+            processedTick = tickOf(now);
+        }
+        long deadlineTick = Math.max(ceilTickOf(timeout.deadline), processedTick + 1);
+        timeout.deadlineTick = deadlineTick;
+        timeout.wheel = this;
+        int bucket = (int) (deadlineTick & MASK);
+        Timeout head = buckets[bucket];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        buckets[bucket] = timeout;
+        pending++;
+        if (deadlineTick < scheduledTick) {
+            scheduleTick(deadlineTick, now);
+        }
+    }
+
+    private void remove(Timeout timeout) {
+        if (timeout.wheel != this) {
+            return;
+        }
+        Timeout prev = timeout.prev;
+        Timeout next = timeout.next;
+        if (prev == null) {
+            buckets[(int) (timeout.deadlineTick & MASK)] = next;
+        } else {
+            prev.next = next;
+        }
+        if (next != null) {
+            next.prev = prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.wheel = null;
+        pending--;
+        if (pending == 0 && scheduledTickTask != null) {
+            scheduledTickTask.cancel(false);
+            scheduledTickTask = null;
+            scheduledTick = Long.MAX_VALUE;
+        }
+    }
+
+    private void tick() {
+        scheduledTickTask = null;
+        scheduledTick = Long.MAX_VALUE;
+        expire(clock.getAsLong());
+        if (pending == 0) {
+            return;
+        }
+        // Timeouts re-added by expired tasks may already have scheduled an earlier tick
+        long nextTick = nextDeadlineTick();
+        if (nextTick < scheduledTick) {
+            scheduleTick(nextTick, clock.getAsLong());
+        }
+    }
+
+    private void scheduleTick(long tick, long now) {
+        if (scheduledTickTask != null) {
+            scheduledTickTask.cancel(false);
+        }
+        scheduledTick = tick;
+        long delayNanos = origin + tick * TICK_NANOS - now;
+        scheduledTickTask = executor.schedule(tickTask, Math.max(delayNanos, 0), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the first tick after the processed tick whose bucket is not empty. A bucket can also hold timeouts of
+     * later rounds, so no pending timeout has a deadline before the returned tick.
+     */
+    private long nextDeadlineTick() {
+        for (long tick = processedTick + 1; tick <= processedTick + WHEEL_SIZE; tick++) {
+            if (buckets[(int) (tick & MASK)] != null) {
+                return tick;
+            }
+        }
+        return processedTick + WHEEL_SIZE;
+    }
+
+    /**
+     * Expires the timeouts whose deadline tick has elapsed at the given time and runs their tasks.
+     *
+     * @param now the current time in nanoseconds
+     */
+    void expire(long now) {
+        long currentTick = tickOf(now);
+        if (currentTick <= processedTick) {
+            return;
+        }
+        long ticks = Math.min(currentTick - processedTick, WHEEL_SIZE);
+        Timeout expired = null;
+        for (long tick = currentTick - ticks + 1; tick <= currentTick; tick++) {
+            Timeout timeout = buckets[(int) (tick & MASK)];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.deadlineTick <= currentTick) {
+                    remove(timeout);
+                    timeout.next = expired;
+                    expired = timeout;
+                }
+                timeout = next;
+            }
+        }
+        processedTick = currentTick;
+        while (expired != null) {
+            Timeout next = expired.next;
+            expired.next = null;
+            expired.run();
+            expired = next;
+        }
+    }
+
+    private long tickOf(long nanos) {
+        return (nanos - origin) / TICK_NANOS;
+    }
+
+    private long ceilTickOf(long nanos) {
+        return (nanos - origin + TICK_NANOS - 1) / TICK_NANOS;
+    }
+
+    /**
+     * A timeout added to a {@link TimeoutWheel}.
+     */
+    public static final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final EventExecutor executor;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state;
+
+        // Only accessed from the event loop
+        private TimeoutWheel wheel;
+        private long deadlineTick;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(EventExecutor executor, Runnable task, long deadline) {
+            this.executor = executor;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout. The timeout is removed from the wheel right away when called from the event loop.
+         *
+         * @return true if the timeout was pending and is now cancelled
+         */
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            if (executor.inEventLoop()) {
+                removeFromWheel();
+            } else {
+                executor.execute(this::removeFromWheel);
+            }
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        private void removeFromWheel() {
+            TimeoutWheel owner = wheel;
+            if (owner != null) {
+                owner.remove(this);
+            }
+        }
+
+        private void run() {
+            if (!STATE_UPDATER.compareAndSet(this, PENDING, EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                LOG.warn("An exception was thrown by a timeout task", t);
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
+import io.ballerina.stdlib.http.transport.contract.config.ContentCompressionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ForwardedExtensionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfiguration;
@@ -27,6 +28,8 @@ import io.ballerina.stdlib.http.transport.contract.exceptions.ConfigurationExcep
 import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.CompressibleFullHttpResponse;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.CompressibleHttpResponse;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpTraceLoggingHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
@@ -102,7 +105,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.Map;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -170,7 +172,10 @@ public class Util {
 
         HttpVersion httpVersion = new HttpVersion(Constants.HTTP_VERSION_PREFIX + inboundReqHttpVersion, true);
         HttpResponseStatus httpResponseStatus = getHttpResponseStatus(outboundResponseMsg);
-        HttpResponse outboundNettyResponse = new DefaultHttpResponse(httpVersion, httpResponseStatus);
+        ContentCompressionConfig compressionConfig = getCompressionConfig(outboundResponseMsg);
+        HttpResponse outboundNettyResponse = compressionConfig == null ?
+                new DefaultHttpResponse(httpVersion, httpResponseStatus) :
+                new CompressibleHttpResponse(httpVersion, httpResponseStatus, compressionConfig);
 
         setOutboundRespHeaders(outboundResponseMsg, inboundReqHttpVersion, serverName, keepAlive,
                 outboundNettyResponse);
@@ -183,8 +188,10 @@ public class Util {
 
         HttpVersion httpVersion = new HttpVersion(Constants.HTTP_VERSION_PREFIX + inboundReqHttpVersion, true);
         HttpResponseStatus httpResponseStatus = getHttpResponseStatus(outboundResponseMsg);
-        HttpResponse outboundNettyResponse =
-                new DefaultFullHttpResponse(httpVersion, httpResponseStatus, fullContent);
+        ContentCompressionConfig compressionConfig = getCompressionConfig(outboundResponseMsg);
+        HttpResponse outboundNettyResponse = compressionConfig == null ?
+                new DefaultFullHttpResponse(httpVersion, httpResponseStatus, fullContent) :
+                new CompressibleFullHttpResponse(httpVersion, httpResponseStatus, fullContent, compressionConfig);
 
         setOutboundRespHeaders(outboundResponseMsg, inboundReqHttpVersion, serverName, keepAlive,
                 outboundNettyResponse);
@@ -192,6 +199,10 @@ public class Util {
         return outboundNettyResponse;
     }
 
+    private static ContentCompressionConfig getCompressionConfig(HttpCarbonMessage outboundResponseMsg) {
+        return (ContentCompressionConfig) outboundResponseMsg.getProperty(Constants.CONTENT_COMPRESSION_CONFIG);
+    }
+
     private static void setOutboundRespHeaders(HttpCarbonMessage outboundResponseMsg, String inboundReqHttpVersion,
                                                String serverName, boolean keepAlive,
                                                HttpResponse outboundNettyResponse) {
@@ -1067,8 +1078,8 @@ public class Util {
         return System.nanoTime();
     }
 
-    public static ScheduledFuture<?> schedule(ChannelHandlerContext ctx, Runnable task, long delay) {
-        return ctx.executor().schedule(task, delay, TimeUnit.NANOSECONDS);
+    public static TimeoutWheel.Timeout schedule(ChannelHandlerContext ctx, Runnable task, long delay) {
+        return TimeoutWheel.schedule(ctx.executor(), task, delay);
     }
 
     public static void setCorrelationIdForLogging(ChannelPipeline pipeline, ChannelInboundHandlerAdapter srcHandler) {
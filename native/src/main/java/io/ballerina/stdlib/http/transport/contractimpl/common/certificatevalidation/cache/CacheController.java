@@ -54,5 +54,21 @@ public class CacheController implements CacheControllerMBean {
     public int getCacheManagerDelayMins() {
         return cacheManager.getDelay();
     }
+
+    public long getCacheHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getCacheMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getCacheRefreshCount() {
+        return cache.getRefreshCount();
+    }
+
+    public long getCacheEvictionCount() {
+        return cache.getEvictionCount();
+    }
 }
 
@@ -34,5 +34,13 @@ public interface CacheControllerMBean {
     int getCacheSize();
 
     int getCacheManagerDelayMins();
+
+    long getCacheHitCount();
+
+    long getCacheMissCount();
+
+    long getCacheRefreshCount();
+
+    long getCacheEvictionCount();
 }
 
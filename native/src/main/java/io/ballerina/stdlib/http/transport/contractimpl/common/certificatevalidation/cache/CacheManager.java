@@ -22,8 +22,6 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidat
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -131,8 +129,9 @@ public class CacheManager {
     }
 
     /**
-     * This is the scheduled task which the CacheManager uses in order to remove invalid cache values and
-     * to remove LRU values if the cache reaches cacheMaxSize.
+     * This is the scheduled task which the CacheManager uses in order to refresh cache values before they expire and
+     * to remove LRU values if the cache reaches cacheMaxSize. Values expiring before the next run of the task are
+     * refreshed in this run so that readers do not have to fetch them.
      */
     private class CacheManagingTask implements Runnable {
 
@@ -143,90 +142,13 @@ public class CacheManager {
                 LOG.debug("{} Cache Manager Task Started.", cache.getClass().getSimpleName());
             }
 
-            ManageableCacheValue nextCacheValue;
-            //cache.getCacheSize() can vary when new entries are added. So get cache size at this point
-            int cacheSize = cache.getCacheSize();
-            int numberToRemove = (cacheSize > cacheMaxSize) ? cacheSize - cacheMaxSize : 0;
-
-            List<ManageableCacheValue> entriesToRemove = new ArrayList<>();
-            LRUEntryCollector lruEntryCollector = new LRUEntryCollector(entriesToRemove, numberToRemove);
-
-            //Start looking at cache entries from the beginning.
-            cache.resetIterator();
-            //Iteration through the cache entries.
-            while ((cacheSize--) > 0) {
-
-                nextCacheValue = cache.getNextCacheValue();
-                if (nextCacheValue == null) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Cache manager iteration through Cache values done");
-                    }
-                    break;
-                }
-
-                //Updating invalid cache values.
-                if (!nextCacheValue.isValid()) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Updating Invalid Cache Value by Manager");
-                    }
-                    nextCacheValue.updateCacheWithNewValue();
-                }
-
-                //There are LRU entries to be removed since cacheSize > maxCacheSize. So collect them.
-                if (numberToRemove > 0) {
-                    lruEntryCollector.collectEntriesToRemove(nextCacheValue);
-                }
-            }
-
-            //LRU entries removing
-            for (ManageableCacheValue oldCacheValue : entriesToRemove) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Removing LRU value from cache");
-                }
-                oldCacheValue.removeThisCacheValue();
-            }
+            cache.refreshValuesExpiringBefore(start + TimeUnit.MINUTES.toMillis(delay));
+            cache.evictLeastRecentlyUsed(cacheMaxSize);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug(cache.getClass().getSimpleName() + " Cache Manager Task Done. Took " + (
                         System.currentTimeMillis() - start) + " ms.");
             }
         }
-
-        private class LRUEntryCollector {
-
-            private List<ManageableCacheValue> entriesToRemove;
-            private int listMaxSize;
-
-            LRUEntryCollector(List<ManageableCacheValue> entriesToRemove, int numberToRemove) {
-                this.entriesToRemove = entriesToRemove;
-                this.listMaxSize = numberToRemove;
-            }
-
-            /**
-             * This method collects the listMaxSize number of LRU values from the cache. These values
-             * will be removed from the cache. This uses a part of the logic in Insertion Sort.
-             *
-             * @param value to be collected.
-             */
-            private void collectEntriesToRemove(ManageableCacheValue value) {
-
-                entriesToRemove.add(value);
-                int j = entriesToRemove.size() - 1;
-                for (; j > 0 && (value.getTimeStamp() < entriesToRemove.get(j - 1).getTimeStamp()); j--) {
-                    entriesToRemove.remove(j);
-                    entriesToRemove.add(j, (entriesToRemove.get(j - 1)));
-                }
-                entriesToRemove.remove(j);
-                entriesToRemove.add(j, value);
-                /*
-                  First entry in the list will be the oldest. Last is the earliest in the list.
-                  So remove the earliest since we need to collect the old (LRU) values to remove
-                  from cache later
-                 */
-                if (entriesToRemove.size() > listMaxSize) {
-                    entriesToRemove.remove(entriesToRemove.size() - 1);
-                }
-            }
-        }
     }
 }
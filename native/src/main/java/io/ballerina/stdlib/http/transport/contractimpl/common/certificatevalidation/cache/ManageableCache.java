@@ -23,10 +23,28 @@ package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalida
  */
 public interface ManageableCache {
 
-    ManageableCacheValue getNextCacheValue();
-
     int getCacheSize();
 
-    void resetIterator();
+    /**
+     * Refreshes the cache values which expire at or before the given time.
+     *
+     * @param time time in milliseconds
+     */
+    void refreshValuesExpiringBefore(long time);
+
+    /**
+     * Removes the least recently used cache values until the cache holds at most maxSize values.
+     *
+     * @param maxSize maximum size of the cache
+     */
+    void evictLeastRecentlyUsed(int maxSize);
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getRefreshCount();
+
+    long getEvictionCount();
 }
 
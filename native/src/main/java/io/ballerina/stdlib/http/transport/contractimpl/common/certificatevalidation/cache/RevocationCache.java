@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base class of the revocation caches. Values are kept in a {@link ConcurrentHashMap} and read without locking. A
+ * value expires at the next update time of the CRL or OCSP response it holds and is refreshed by a single thread
+ * at a time, either by the CacheManager ahead of expiry or by a reader which finds it expired. A put which takes the
+ * cache over its maximum size evicts the least recently used of a few sampled values, and the CacheManager evicts
+ * the least recently used values of the whole cache on its runs.
+ *
+ * @param <K> type of the cache key
+ * @param <V> type of the cache value
+ */
+public abstract class RevocationCache<K, V> implements ManageableCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RevocationCache.class);
+
+    // Number of values sampled to pick the value evicted by a put which overflows the cache
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final Map<K, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private volatile int maxSize = Integer.MAX_VALUE;
+    private volatile CacheManager cacheManager;
+
+    /**
+     * Fetches a new value for the given key from the CA.
+     *
+     * @param key        key of the value
+     * @param staleValue the value currently in the cache
+     * @return the new value
+     * @throws Exception if the new value cannot be fetched
+     */
+    protected abstract V fetchValue(K key, V staleValue) throws Exception;
+
+    /**
+     * @param value cache value
+     * @return the time newer revocation information will be available for the value, or null if unknown
+     */
+    protected abstract Date getNextUpdate(V value);
+
+    /**
+     * This lazy initializes the cache with a CacheManager and registers its CacheController. If this method is not
+     * called, the cache size is not bounded and a cache manager will not be used.
+     *
+     * @param size           max size of the cache
+     * @param delay          defines how frequently the CacheManager will be started
+     * @param controllerName name of the CacheController MBean
+     */
+    protected void init(int size, int delay, String controllerName) {
+        if (cacheManager == null) {
+            synchronized (this) {
+                if (cacheManager == null) {
+                    maxSize = size;
+                    cacheManager = new CacheManager(this, size, delay);
+                    CacheController mbean = new CacheController(this, cacheManager);
+                    MBeanRegistrar.getInstance().registerMBean(mbean, "CacheController", controllerName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the cached value of the given key. An expired value is refreshed by the calling thread unless another
+     * thread is already refreshing it, in which case null is returned and the caller fetches the value itself.
+     *
+     * @param key key of the value
+     * @return the valid cached value or null
+     */
+    protected V getValue(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        entry.lastAccessTime = now;
+        if (entry.expiryTime > now) {
+            hitCount.increment();
+            return entry.value;
+        }
+        missCount.increment();
+        if (!refresh(key, entry)) {
+            return null;
+        }
+        CacheEntry<V> refreshedEntry = entries.get(key);
+        return refreshedEntry != null ? refreshedEntry.value : null;
+    }
+
+    protected void putValue(K key, V value) {
+        entries.put(key, new CacheEntry<>(value, getExpiryTime(value), System.currentTimeMillis()));
+        if (entries.size() > maxSize) {
+            evictSampledValue(key);
+        }
+    }
+
+    protected void removeValue(K key) {
+        entries.remove(key);
+    }
+
+    public int getCacheSize() {
+        return entries.size();
+    }
+
+    public void refreshValuesExpiringBefore(long time) {
+        entries.forEach((key, entry) -> {
+            if (entry.expiryTime <= time) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Refreshing {} value by Manager", getClass().getSimpleName());
+                }
+                refresh(key, entry);
+            }
+        });
+    }
+
+    public void evictLeastRecentlyUsed(int maxSize) {
+        int numberToRemove = entries.size() - maxSize;
+        if (numberToRemove <= 0) {
+            return;
+        }
+        // Keeps the numberToRemove least recently used entries, with the most recently used of them on top.
+        PriorityQueue<EvictionCandidate<K, V>> candidates = new PriorityQueue<>(numberToRemove + 1,
+                Comparator.comparingLong((EvictionCandidate<K, V> candidate) -> candidate.lastAccessTime).reversed());
+        entries.forEach((key, entry) -> {
+            candidates.offer(new EvictionCandidate<>(key, entry));
+            if (candidates.size() > numberToRemove) {
+                candidates.poll();
+            }
+        });
+        for (EvictionCandidate<K, V> candidate : candidates) {
+            if (entries.remove(candidate.key, candidate.entry)) {
+                evictionCount.increment();
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Removed {} LRU values from {}", candidates.size(), getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Evicts the least recently used of the first few values of the cache, other than the value of the given key.
+     * This keeps a put which overflows the cache from scanning all the values.
+     */
+    private void evictSampledValue(K addedKey) {
+        K evictedKey = null;
+        CacheEntry<V> evictedEntry = null;
+        int sampled = 0;
+        for (Map.Entry<K, CacheEntry<V>> candidate : entries.entrySet()) {
+            if (sampled++ == EVICTION_SAMPLE_SIZE) {
+                break;
+            }
+            CacheEntry<V> entry = candidate.getValue();
+            if (!candidate.getKey().equals(addedKey)
+                    && (evictedEntry == null || entry.lastAccessTime < evictedEntry.lastAccessTime)) {
+                evictedKey = candidate.getKey();
+                evictedEntry = entry;
+            }
+        }
+        if (evictedEntry != null && entries.remove(evictedKey, evictedEntry)) {
+            evictionCount.increment();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Replaces the given entry with a newly fetched value. Only the thread which claims the entry fetches the value.
+     * The claimed entry is never reused since it is either replaced or removed from the cache.
+     *
+     * @return true if the entry was refreshed
+     */
+    private boolean refresh(K key, CacheEntry<V> entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            V value = fetchValue(key, entry.value);
+            entries.replace(key, entry, new CacheEntry<>(value, getExpiryTime(value), entry.lastAccessTime));
+            refreshCount.increment();
+            return true;
+        } catch (Exception e) {
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Can not replace old CacheValue with new CacheValue. So removing cache value", e);
+            }
+            //If cant be replaced remove.
+            entries.remove(key, entry);
+            return false;
+        }
+    }
+
+    private long getExpiryTime(V value) {
+        Date nextUpdate = getNextUpdate(value);
+        return nextUpdate != null ? nextUpdate.getTime() : Long.MIN_VALUE;
+    }
+
+    private static final class CacheEntry<V> {
+
+        private final V value;
+        private final long expiryTime;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long lastAccessTime;
+
+        private CacheEntry(V value, long expiryTime, long lastAccessTime) {
+            this.value = value;
+            this.expiryTime = expiryTime;
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+
+    private static final class EvictionCandidate<K, V> {
+
+        private final K key;
+        private final CacheEntry<V> entry;
+        private final long lastAccessTime;
+
+        private EvictionCandidate(K key, CacheEntry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccessTime = entry.lastAccessTime;
+        }
+    }
+}
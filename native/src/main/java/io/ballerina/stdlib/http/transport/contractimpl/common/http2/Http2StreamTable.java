@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.http2;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
+
+import java.util.Arrays;
+
+/**
+ * A table of the messages of the streams of an HTTP/2 connection, keyed by the stream id.
+ * <p>
+ * Stream ids are kept as primitive ints in an open addressing table with linear probing, so lookups do not box the
+ * stream id and updates do not allocate entries. Each slot also holds the idle timer of its stream, which is
+ * cancelled when the stream is removed.
+ * <p>
+ * The table is not thread safe. It must only be accessed from the event loop of the connection, except for
+ * {@link #size()} and {@link #isEmpty()} which may be read from other threads to check whether the connection is
+ * idle.
+ *
+ * @param <V> the type of the stream messages
+ * @since 2.13.3
+ */
+public class Http2StreamTable<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int FREE = 0;
+
+    private int[] streamIds;
+    private Object[] values;
+    private TimeoutWheel.Timeout[] timers;
+    private int mask;
+    private volatile int size;
+
+    public Http2StreamTable() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the message of the given stream.
+     *
+     * @param streamId the stream id
+     * @return the message, or null if the stream is not in the table
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int streamId) {
+        int slot = find(streamId);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * Adds the message of the given stream, replacing any message the stream already has. The timer of the stream
+     * is kept when the message is replaced.
+     *
+     * @param streamId the stream id, which must be positive
+     * @param value    the message
+     * @return the previous message of the stream, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int streamId, V value) {
+        if (streamId <= FREE) {
+            throw new IllegalArgumentException("invalid stream id: " + streamId);
+        }
+        int slot = indexOf(streamId);
+        while (streamIds[slot] != FREE) {
+            if (streamIds[slot] == streamId) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        streamIds[slot] = streamId;
+        values[slot] = value;
+        size = size + 1;
+        if (size > (mask + 1) >> 1) {
+            allocate((mask + 1) << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the given stream and cancels its timer.
+     *
+     * @param streamId the stream id
+     * @return the message of the stream, or null if the stream is not in the table
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int streamId) {
+        int slot = find(streamId);
+        if (slot < 0) {
+            return null;
+        }
+        V value = (V) values[slot];
+        cancel(timers[slot]);
+        removeSlot(slot);
+        return value;
+    }
+
+    /**
+     * Sets the timer of the given stream. The previous timer of the stream is cancelled.
+     *
+     * @param streamId the stream id
+     * @param timer    the timer
+     * @return true if the stream is in the table, false if it is not and the timer was not set
+     */
+    public boolean setTimer(int streamId, TimeoutWheel.Timeout timer) {
+        int slot = find(streamId);
+        if (slot < 0) {
+            return false;
+        }
+        TimeoutWheel.Timeout previous = timers[slot];
+        if (previous != timer) {
+            cancel(previous);
+        }
+        timers[slot] = timer;
+        return true;
+    }
+
+    /**
+     * Returns the timer of the given stream.
+     *
+     * @param streamId the stream id
+     * @return the timer, or null if the stream has no timer or is not in the table
+     */
+    public TimeoutWheel.Timeout getTimer(int streamId) {
+        int slot = find(streamId);
+        return slot < 0 ? null : timers[slot];
+    }
+
+    /**
+     * Cancels the timer of the given stream, keeping the stream in the table.
+     *
+     * @param streamId the stream id
+     * @return true if the stream had a timer
+     */
+    public boolean cancelTimer(int streamId) {
+        int slot = find(streamId);
+        if (slot < 0 || timers[slot] == null) {
+            return false;
+        }
+        cancel(timers[slot]);
+        timers[slot] = null;
+        return true;
+    }
+
+    /**
+     * Calls the given consumer for each stream in the table. The streams are taken from a snapshot of the table, so
+     * the consumer may add or remove streams.
+     *
+     * @param consumer the consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(StreamConsumer<? super V> consumer) {
+        if (size == 0) {
+            return;
+        }
+        int[] snapshotStreamIds = streamIds.clone();
+        Object[] snapshotValues = values.clone();
+        for (int slot = 0; slot < snapshotStreamIds.length; slot++) {
+            if (snapshotStreamIds[slot] != FREE) {
+                consumer.accept(snapshotStreamIds[slot], (V) snapshotValues[slot]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the streams and cancels their timers.
+     */
+    public void clear() {
+        for (TimeoutWheel.Timeout timer : timers) {
+            cancel(timer);
+        }
+        Arrays.fill(streamIds, FREE);
+        Arrays.fill(values, null);
+        Arrays.fill(timers, null);
+        size = 0;
+    }
+
+    private int find(int streamId) {
+        if (streamId <= FREE) {
+            return -1;
+        }
+        int slot = indexOf(streamId);
+        while (streamIds[slot] != FREE) {
+            if (streamIds[slot] == streamId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int indexOf(int streamId) {
+        // Stream ids of a connection are consecutive odd or even numbers, so they are spread with a multiplicative
+        // hash instead of being used as the index directly
+        int hash = streamId * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Clears the given slot and moves back the entries which follow it in the same probe sequence, so that lookups
+     * do not need tombstones.
+     */
+    private void removeSlot(int slot) {
+        int free = slot;
+        int next = (free + 1) & mask;
+        while (streamIds[next] != FREE) {
+            int home = indexOf(streamIds[next]);
+            // Moves the entry unless its home slot lies cyclically in (free, next]
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                streamIds[free] = streamIds[next];
+                values[free] = values[next];
+                timers[free] = timers[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        streamIds[free] = FREE;
+        values[free] = null;
+        timers[free] = null;
+        size = size - 1;
+    }
+
+    private void allocate(int capacity) {
+        int[] oldStreamIds = streamIds;
+        Object[] oldValues = values;
+        TimeoutWheel.Timeout[] oldTimers = timers;
+        streamIds = new int[capacity];
+        values = new Object[capacity];
+        timers = new TimeoutWheel.Timeout[capacity];
+        mask = capacity - 1;
+        if (oldStreamIds == null) {
+            return;
+        }
+        for (int i = 0; i < oldStreamIds.length; i++) {
+            if (oldStreamIds[i] != FREE) {
+                int slot = indexOf(oldStreamIds[i]);
+                while (streamIds[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                streamIds[slot] = oldStreamIds[i];
+                values[slot] = oldValues[i];
+                timers[slot] = oldTimers[i];
+            }
+        }
+    }
+
+    private static void cancel(TimeoutWheel.Timeout timer) {
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+
+    /**
+     * Consumer of the streams in a {@link Http2StreamTable}.
+     *
+     * @param <V> the type of the stream messages
+     */
+    @FunctionalInterface
+    public interface StreamConsumer<V> {
+
+        void accept(int streamId, V value);
+    }
+}
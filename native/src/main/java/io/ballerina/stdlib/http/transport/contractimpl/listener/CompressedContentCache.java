@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.netty.buffer.ByteBuf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of encoded response bodies shared by the compressors of a listener. Bodies are keyed by the SHA-256 digest
+ * of the unencoded content together with the content coding and level, so a body is only encoded once for each
+ * coding it is sent with. Values are read without locking. When the encoded bytes held exceed the maximum size, the
+ * least recently used bodies are evicted.
+ *
+ * @since 2.13.3
+ */
+public class CompressedContentCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompressedContentCache.class);
+
+    public static final long DEFAULT_MAX_SIZE = 32L * 1024 * 1024;
+    public static final int DEFAULT_MAX_CONTENT_SIZE = 4 * 1024 * 1024;
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final long maxSize;
+    private final int maxContentSize;
+
+    public CompressedContentCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_CONTENT_SIZE);
+    }
+
+    /**
+     * @param maxSize        maximum number of encoded bytes held by the cache
+     * @param maxContentSize maximum size of an unencoded body which is cached
+     */
+    public CompressedContentCache(long maxSize, int maxContentSize) {
+        this.maxSize = maxSize;
+        this.maxContentSize = maxContentSize;
+    }
+
+    /**
+     * @param content unencoded response body
+     * @return true if the body is small enough to be cached
+     */
+    public boolean isCacheable(ByteBuf content) {
+        return content.readableBytes() <= maxContentSize;
+    }
+
+    /**
+     * Creates the key of the given response body. The reader index of the content is not changed.
+     *
+     * @param content         unencoded response body
+     * @param contentEncoding content coding the body is encoded with
+     * @param level           compression level the body is encoded with
+     * @return the cache key or null if the body cannot be digested
+     */
+    public Key newKey(ByteBuf content, String contentEncoding, int level) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            LOG.debug("Unable to digest response content", e);
+            return null;
+        }
+        for (ByteBuffer buffer : content.nioBuffers()) {
+            digest.update(buffer);
+        }
+        return new Key(contentEncoding, level, content.readableBytes(), digest.digest());
+    }
+
+    /**
+     * @param key cache key
+     * @return the encoded body or null if it is not cached
+     */
+    public byte[] get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        entry.lastAccessTime = System.nanoTime();
+        hitCount.increment();
+        return entry.encodedContent;
+    }
+
+    public void put(Key key, byte[] encodedContent) {
+        if (encodedContent.length > maxSize) {
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(encodedContent, System.nanoTime()));
+        long currentSize = size.addAndGet(encodedContent.length - (previous != null ?
+                previous.encodedContent.length : 0));
+        if (currentSize > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    public int getCacheSize() {
+        return entries.size();
+    }
+
+    public long getCachedBytes() {
+        return size.get();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Evicts the least recently used bodies until the cache is within three quarters of its maximum size, so that
+     * eviction is not repeated for every new body once the cache is full.
+     */
+    private synchronized void evictLeastRecentlyUsed() {
+        long bytesToRemove = size.get() - (maxSize - (maxSize >> 2));
+        if (bytesToRemove <= 0) {
+            return;
+        }
+        List<EvictionCandidate> candidates = new ArrayList<>(entries.size());
+        entries.forEach((key, entry) -> candidates.add(new EvictionCandidate(key, entry)));
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccessTime));
+        int removed = 0;
+        for (EvictionCandidate candidate : candidates) {
+            if (bytesToRemove <= 0) {
+                break;
+            }
+            if (entries.remove(candidate.key, candidate.entry)) {
+                int length = candidate.entry.encodedContent.length;
+                size.addAndGet(-length);
+                bytesToRemove -= length;
+                evictionCount.increment();
+                removed++;
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Removed {} LRU values from {}", removed, getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Key of an encoded response body.
+     */
+    public static final class Key {
+
+        private final String contentEncoding;
+        private final int level;
+        private final int contentLength;
+        private final byte[] digest;
+        private final int hashCode;
+
+        private Key(String contentEncoding, int level, int contentLength, byte[] digest) {
+            this.contentEncoding = contentEncoding;
+            this.level = level;
+            this.contentLength = contentLength;
+            this.digest = digest;
+            this.hashCode = 31 * (31 * (31 * Arrays.hashCode(digest) + contentLength) + level) +
+                    contentEncoding.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return level == key.level && contentLength == key.contentLength &&
+                    contentEncoding.equals(key.contentEncoding) && Arrays.equals(digest, key.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Entry {
+
+        private final byte[] encodedContent;
+        private volatile long lastAccessTime;
+
+        private Entry(byte[] encodedContent, long lastAccessTime) {
+            this.encodedContent = encodedContent;
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+
+    private static final class EvictionCandidate {
+
+        private final Key key;
+        private final Entry entry;
+        private final long lastAccessTime;
+
+        private EvictionCandidate(Key key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccessTime = entry.lastAccessTime;
+        }
+    }
+}
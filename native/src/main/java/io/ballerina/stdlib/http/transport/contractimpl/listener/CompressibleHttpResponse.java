@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.ContentCompressionConfig;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+
+/**
+ * Outbound response which carries the compression settings of the service to the {@link CustomHttpContentCompressor}.
+ *
+ * @since 2.13.3
+ */
+public class CompressibleHttpResponse extends DefaultHttpResponse {
+
+    private final ContentCompressionConfig compressionConfig;
+
+    public CompressibleHttpResponse(HttpVersion version, HttpResponseStatus status,
+                                    ContentCompressionConfig compressionConfig) {
+        super(version, status);
+        this.compressionConfig = compressionConfig;
+    }
+
+    public ContentCompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+}
@@ -1,23 +1,53 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
+import io.ballerina.stdlib.http.transport.contract.config.ContentCompressionConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ContentCoding;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.util.ReferenceCountUtil;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 
 /**
  * Custom Http Content Compressor to handle the content-length and transfer encoding.
+ * <p>
+ * brotli and zstd are negotiated in addition to gzip and deflate when they are available. Responses carrying the
+ * compression settings of a service are encoded with the configured level and are sent uncompressed when their
+ * length is known to be below the configured minimum size. Full responses marked to cache their encoded content are
+ * served from the {@link CompressedContentCache} of the listener once they have been encoded.
  */
 public class CustomHttpContentCompressor extends HttpContentCompressor {
 
+    private final CompressedContentCache compressedContentCache;
     private HttpMethod method;
+    private ChannelHandlerContext ctx;
 
     public CustomHttpContentCompressor() {
-        super();
+        this(null);
+    }
+
+    public CustomHttpContentCompressor(CompressedContentCache compressedContentCache) {
+        super(0, ContentCoding.getCompressionOptions());
+        this.compressedContentCache = compressedContentCache;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.handlerAdded(ctx);
     }
 
     @Override
@@ -27,14 +57,40 @@ public class CustomHttpContentCompressor extends HttpContentCompressor {
         if (method == HttpMethod.OPTIONS && allowHeader != null && contentLength.equals("0")) {
             return null;
         }
+        ContentCompressionConfig compressionConfig = getCompressionConfig(headers);
         String contentEncoding = headers.headers().get(HttpHeaderNames.CONTENT_ENCODING);
         if (contentEncoding != null) {
             //When the response contains content-encoding header, override acceptEncoding value with it, which will
             //ultimately be used for compression and then remove the content-encoding header from response.
             acceptEncoding = contentEncoding;
             headers.headers().remove(HttpHeaderNames.CONTENT_ENCODING);
+        } else if (compressionConfig != null && isBelowMinSize(headers, compressionConfig.getMinResponseSize())) {
+            return null;
+        }
+        if (compressionConfig == null) {
+            return super.beginEncode(headers, acceptEncoding);
+        }
+        int level = compressionConfig.getLevel();
+        boolean cacheEncodedContent = isCacheEncodedContent(headers, compressionConfig);
+        if (level == ContentCompressionConfig.DEFAULT_LEVEL && !cacheEncodedContent) {
+            return super.beginEncode(headers, acceptEncoding);
+        }
+        String targetContentEncoding = determineEncoding(acceptEncoding);
+        if (targetContentEncoding == null) {
+            return null;
+        }
+        if (cacheEncodedContent) {
+            byte[] encodedContent = getEncodedContent(((FullHttpResponse) headers).content(), targetContentEncoding,
+                                                      level);
+            if (encodedContent != null) {
+                return new Result(targetContentEncoding, newContentEncoder(new CachedContentEncoder(encodedContent)));
+            }
         }
-        return super.beginEncode(headers, acceptEncoding);
+        ChannelHandler encoder = ContentCoding.newEncoder(targetContentEncoding, level);
+        if (encoder == null) {
+            return super.beginEncode(headers, acceptEncoding);
+        }
+        return new Result(targetContentEncoding, newContentEncoder(encoder));
     }
 
     @Override
@@ -43,4 +99,103 @@ public class CustomHttpContentCompressor extends HttpContentCompressor {
         this.method = msg.method();
         super.decode(ctx, msg, out);
     }
+
+    private static ContentCompressionConfig getCompressionConfig(HttpResponse response) {
+        if (response instanceof CompressibleHttpResponse) {
+            return ((CompressibleHttpResponse) response).getCompressionConfig();
+        }
+        if (response instanceof CompressibleFullHttpResponse) {
+            return ((CompressibleFullHttpResponse) response).getCompressionConfig();
+        }
+        return null;
+    }
+
+    private boolean isCacheEncodedContent(HttpResponse response, ContentCompressionConfig compressionConfig) {
+        return compressedContentCache != null && compressionConfig.isCacheEncodedContent() &&
+                response instanceof FullHttpResponse &&
+                compressedContentCache.isCacheable(((FullHttpResponse) response).content());
+    }
+
+    /**
+     * Returns the encoded form of the given content from the cache, encoding and caching it on the first use.
+     *
+     * @return the encoded content or null if the content could not be digested or encoded
+     */
+    private byte[] getEncodedContent(ByteBuf content, String contentEncoding, int level) {
+        CompressedContentCache.Key key = compressedContentCache.newKey(content, contentEncoding, level);
+        if (key == null) {
+            return null;
+        }
+        byte[] encodedContent = compressedContentCache.get(key);
+        if (encodedContent != null) {
+            return encodedContent;
+        }
+        ChannelHandler encoder = ContentCoding.newEncoder(contentEncoding, level);
+        if (encoder == null) {
+            return null;
+        }
+        EmbeddedChannel encoderChannel = newContentEncoder(encoder);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(content.readableBytes() >> 1);
+        try {
+            encoderChannel.writeOutbound(content.retainedDuplicate());
+            encoderChannel.finish();
+            ByteBuf buf;
+            while ((buf = encoderChannel.readOutbound()) != null) {
+                encoded.write(ByteBufUtil.getBytes(buf), 0, buf.readableBytes());
+                buf.release();
+            }
+        } finally {
+            encoderChannel.finishAndReleaseAll();
+        }
+        encodedContent = encoded.toByteArray();
+        compressedContentCache.put(key, encodedContent);
+        return encodedContent;
+    }
+
+    private EmbeddedChannel newContentEncoder(ChannelHandler encoder) {
+        return new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(),
+                                   ctx.channel().config(), encoder);
+    }
+
+    private static boolean isBelowMinSize(HttpResponse response, int minResponseSize) {
+        if (minResponseSize <= 0) {
+            return false;
+        }
+        if (response instanceof FullHttpResponse) {
+            return ((FullHttpResponse) response).content().readableBytes() < minResponseSize;
+        }
+        String contentLength = response.headers().get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength.trim()) < minResponseSize;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the cached encoded content in place of the content written to it.
+     */
+    private static final class CachedContentEncoder extends ChannelOutboundHandlerAdapter {
+
+        private byte[] encodedContent;
+
+        private CachedContentEncoder(byte[] encodedContent) {
+            this.encodedContent = encodedContent;
+        }
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ReferenceCountUtil.release(msg);
+            if (encodedContent == null) {
+                promise.setSuccess();
+                return;
+            }
+            ByteBuf content = Unpooled.wrappedBuffer(encodedContent).asReadOnly();
+            encodedContent = null;
+            ctx.write(content, promise);
+        }
+    }
 }
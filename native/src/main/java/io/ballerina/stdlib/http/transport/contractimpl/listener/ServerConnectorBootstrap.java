@@ -24,8 +24,10 @@ import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpWsServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
@@ -38,7 +40,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.ssl.SslContext;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
@@ -46,6 +47,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import javax.net.ssl.SSLContext;
@@ -66,6 +70,7 @@ public class ServerConnectorBootstrap {
     private ChannelGroup allChannels;
     private final ChannelGroup listenerChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     private int gracefulStopTimeout = 0;
+    private int acceptorCount = 1;
 
     public ServerConnectorBootstrap(ChannelGroup allChannels) {
         serverBootstrap = new ServerBootstrap();
@@ -121,8 +126,26 @@ public class ServerConnectorBootstrap {
         httpServerChannelInitializer.setHttp2Enabled(isHttp2Enabled);
     }
 
-    public void addThreadPools(EventLoopGroup bossGroup, EventLoopGroup workerGroup) {
-        serverBootstrap.group(bossGroup, workerGroup).channel(NioServerSocketChannel.class);
+    public void addThreadPools(EventLoopGroup bossGroup, EventLoopGroup workerGroup, SocketTransport transport) {
+        serverBootstrap.group(bossGroup, workerGroup).channel(NativeTransport.getServerChannelClass(transport));
+    }
+
+    /**
+     * Binds the given number of server sockets to the listener port using {@code SO_REUSEPORT}, so that the kernel
+     * balances incoming connections across the boss event loops. Only native transports support this.
+     *
+     * @param transport     the resolved socket transport of the listener
+     * @param acceptorCount the number of server sockets to bind
+     */
+    public void addAcceptors(SocketTransport transport, int acceptorCount) {
+        if (acceptorCount <= 1) {
+            return;
+        }
+        if (NativeTransport.enableReusePort(serverBootstrap, transport)) {
+            this.acceptorCount = acceptorCount;
+        } else {
+            LOG.warn("SO_REUSEPORT is not supported by the {} transport, hence binding a single acceptor", transport);
+        }
     }
 
     public void addHttpTraceLogHandler(Boolean isHttpTraceLogEnabled) {
@@ -226,6 +249,7 @@ public class ServerConnectorBootstrap {
         private int port;
         private String connectorID;
         private Channel serverChannel;
+        private final List<Channel> reusePortChannels = Collections.synchronizedList(new ArrayList<>());
 
         HttpServerConnector(String id, String host, int port) {
             this.host = host;
@@ -252,9 +276,28 @@ public class ServerConnectorBootstrap {
                 }
             });
             httpServerChannelInitializer.setServerConnectorFuture(serverConnectorFuture);
+            bindReusePortAcceptors();
             return serverConnectorFuture;
         }
 
+        private void bindReusePortAcceptors() {
+            for (int i = 1; i < acceptorCount; i++) {
+                ChannelFuture channelFuture = bindInterface();
+                if (channelFuture == null) {
+                    return;
+                }
+                channelFuture.addListener(future -> {
+                    if (future.isSuccess()) {
+                        reusePortChannels.add(channelFuture.channel());
+                        allChannels.add(channelFuture.channel());
+                    } else {
+                        log.warn("Couldn't bind an additional acceptor on host {} and port {}", getHost(), getPort(),
+                                 future.cause());
+                    }
+                });
+            }
+        }
+
         @Override
         public boolean stop() {
             boolean connectorStopped = false;
@@ -322,6 +365,12 @@ public class ServerConnectorBootstrap {
                 try {
                     //Close will stop accepting new connections.
                     listenerChannel.close().sync();
+                    synchronized (reusePortChannels) {
+                        for (Channel reusePortChannel : reusePortChannels) {
+                            reusePortChannel.close().sync();
+                        }
+                        reusePortChannels.clear();
+                    }
                     try {
                         Thread.sleep(gracefulStopTimeout);
                     } catch (InterruptedException e) {
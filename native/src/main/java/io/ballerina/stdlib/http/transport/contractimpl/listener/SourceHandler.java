@@ -19,6 +19,7 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
+import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipelinedResponse;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
@@ -30,6 +31,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.listener.states.Receiving
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.PipelinedResponseQueue;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
@@ -49,8 +51,6 @@ import org.slf4j.LoggerFactory;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.EXPECTED_SEQUENCE_NUMBER;
@@ -88,7 +88,8 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
     private boolean pipeliningEnabled; //Based on the pipelining config
     private long pipeliningLimit; //Max number of responses allowed to be queued when pipelining is enabled
     private long sequenceId = 1L; //Keep track of the request order for http 1.1 pipelining
-    private final Queue holdingQueue = new PriorityQueue<>(NUMBER_OF_INITIAL_EVENTS_HELD);
+    private final PipelinedResponseQueue<PipelinedResponse> holdingQueue =
+            new PipelinedResponseQueue<>(NUMBER_OF_INITIAL_EVENTS_HELD);
     private EventExecutorGroup pipeliningGroup;
 
     public SourceHandler(ServerConnectorFuture serverConnectorFuture,
@@ -182,6 +183,12 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
 
         closeTargetChannels();
 
+        if (LOG.isDebugEnabled() && holdingQueue.getMaxSize() > 0) {
+            LOG.debug("Pipelined response queue of connection {} held at most {} responses, which waited at most {}"
+                              + " ns for earlier responses", ctx.channel().id(), holdingQueue.getMaxSize(),
+                      holdingQueue.getMaxWaitNanos());
+        }
+
         if (handlerExecutor != null) {
             handlerExecutor.executeAtSourceConnectionTermination(Integer.toString(ctx.hashCode()));
             handlerExecutor = null;
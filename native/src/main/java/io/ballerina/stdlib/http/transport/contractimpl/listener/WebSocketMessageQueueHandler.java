@@ -18,50 +18,198 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
+import io.netty.buffer.ByteBufHolder;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.ArrayDeque;
 
 /**
- * This Handler is responsible for issuing frame by frame when the WebSocket connection is asked to read next frame
- * when autoRead is set to false.
+ * This Handler is responsible for issuing frames when the WebSocket connection is asked to read frames when autoRead
+ * is set to false.
+ * <p>
+ * Frames are buffered in a queue that is only accessed from the event loop of the channel. Requests to read frames
+ * may come from any thread and are handed over to the event loop through its task queue, so neither side takes a
+ * lock. Once frames have been requested, the handler keeps reading ahead from the wire until the buffered bytes
+ * reach the high watermark, and resumes reading when deliveries bring them down to the low watermark.
  */
 public class WebSocketMessageQueueHandler extends ChannelInboundHandlerAdapter {
 
-    private final Queue<Object> messageQueue;
-    private ChannelHandlerContext ctx;
-    private boolean readNext;
+    static final int DEFAULT_HIGH_WATERMARK = 256 * 1024;
+    static final int DEFAULT_LOW_WATERMARK = 64 * 1024;
+    // Accounts for the memory of a buffered frame besides its payload
+    static final int FRAME_OVERHEAD = 64;
+
+    private final ArrayDeque<Object> messageQueue = new ArrayDeque<>();
+    private final int highWatermark;
+    private final int lowWatermark;
+    private volatile ChannelHandlerContext ctx;
+    private long bufferedBytes;
+    private int requestedFrames;
+    private boolean paused;
+    private boolean delivering;
 
     public WebSocketMessageQueueHandler() {
-        this.messageQueue = new LinkedList<>();
+        this(DEFAULT_HIGH_WATERMARK, DEFAULT_LOW_WATERMARK);
+    }
+
+    WebSocketMessageQueueHandler(int highWatermark, int lowWatermark) {
+        if (lowWatermark < 0 || highWatermark < lowWatermark) {
+            throw new IllegalArgumentException("Invalid watermarks: high " + highWatermark + ", low " + lowWatermark);
+        }
+        this.highWatermark = highWatermark;
+        this.lowWatermark = lowWatermark;
     }
 
     @Override
-    public synchronized void handlerAdded(ChannelHandlerContext ctx) {
+    public void handlerAdded(ChannelHandlerContext ctx) {
         this.ctx = ctx;
     }
 
     @Override
-    public synchronized void channelRead(ChannelHandlerContext ctx, Object msg) {
-        if (readNext) {
-            readNext = false;
-            ctx.fireChannelRead(msg);
-            return;
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        // Frames read ahead are passed on so that they are not lost when reading frames automatically
+        while (!messageQueue.isEmpty()) {
+            ctx.fireChannelRead(poll());
         }
+        requestedFrames = 0;
+        paused = false;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
         messageQueue.add(msg);
+        bufferedBytes += sizeOf(msg);
+        deliverRequestedFrames();
     }
 
-    public synchronized void readNextFrame() {
-        if (ctx == null) {
-            throw new IllegalStateException("Cannot call readNextFrame() without an initialized ChannelHandlerContext");
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        if (bufferedBytes >= highWatermark) {
+            paused = true;
+        } else if (!paused) {
+            ctx.read();
         }
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        while (!messageQueue.isEmpty()) {
+            ReferenceCountUtil.release(poll());
+        }
+        ctx.fireChannelInactive();
+    }
+
+    public void readNextFrame() {
+        readFrames(1);
+    }
+
+    /**
+     * Requests the given number of frames. Buffered frames are issued right away and the rest are issued as they
+     * are read from the wire.
+     *
+     * @param maxFrames the number of frames to issue
+     */
+    public void readFrames(int maxFrames) {
+        if (maxFrames <= 0) {
+            throw new IllegalArgumentException("Number of frames to read must be positive: " + maxFrames);
+        }
+        ChannelHandlerContext context = getContext();
+        if (context.executor().inEventLoop()) {
+            requestFrames(maxFrames);
+        } else {
+            context.executor().execute(() -> requestFrames(maxFrames));
+        }
+    }
+
+    /**
+     * Issues the buffered frames up to the given byte budget. At least one frame is issued; if no frame is
+     * buffered, the next frame is issued when it is read from the wire.
+     *
+     * @param maxBytes the maximum number of payload bytes to issue
+     */
+    public void drainFrames(long maxBytes) {
+        ChannelHandlerContext context = getContext();
+        if (context.executor().inEventLoop()) {
+            drainBufferedFrames(maxBytes);
+        } else {
+            context.executor().execute(() -> drainBufferedFrames(maxBytes));
+        }
+    }
+
+    private ChannelHandlerContext getContext() {
+        ChannelHandlerContext context = ctx;
+        if (context == null) {
+            throw new IllegalStateException("Cannot read frames without an initialized ChannelHandlerContext");
+        }
+        return context;
+    }
+
+    private void requestFrames(int maxFrames) {
+        requestedFrames = (int) Math.min((long) requestedFrames + maxFrames, Integer.MAX_VALUE);
+        deliverRequestedFrames();
+        if (requestedFrames > 0 && messageQueue.isEmpty()) {
+            paused = false;
+            ctx.read();
+        }
+    }
+
+    private void drainBufferedFrames(long maxBytes) {
         if (messageQueue.isEmpty()) {
-            readNext = true;
-            ctx.channel().read();
+            requestFrames(1);
+            return;
+        }
+        long drainedBytes = 0;
+        delivering = true;
+        try {
+            do {
+                Object frame = poll();
+                drainedBytes += payloadSize(frame);
+                ctx.fireChannelRead(frame);
+            } while (!messageQueue.isEmpty() && drainedBytes + payloadSize(messageQueue.peek()) <= maxBytes);
+        } finally {
+            delivering = false;
+        }
+        deliverRequestedFrames();
+    }
+
+    private void deliverRequestedFrames() {
+        if (delivering) {
+            // A frame listener requested more frames; the outer delivery loop issues them
             return;
         }
-        ctx.fireChannelRead(messageQueue.poll());
+        delivering = true;
+        try {
+            while (requestedFrames > 0 && !messageQueue.isEmpty()) {
+                requestedFrames--;
+                ctx.fireChannelRead(poll());
+            }
+        } finally {
+            delivering = false;
+        }
+        resumeIfDrained();
+    }
+
+    private void resumeIfDrained() {
+        if (paused && bufferedBytes <= lowWatermark) {
+            paused = false;
+            ctx.read();
+        }
+    }
+
+    private Object poll() {
+        Object frame = messageQueue.poll();
+        bufferedBytes -= sizeOf(frame);
+        return frame;
+    }
+
+    private static long sizeOf(Object frame) {
+        return payloadSize(frame) + FRAME_OVERHEAD;
+    }
+
+    private static long payloadSize(Object frame) {
+        return frame instanceof ByteBufHolder ? ((ByteBufHolder) frame).content().readableBytes() : 0;
     }
 }
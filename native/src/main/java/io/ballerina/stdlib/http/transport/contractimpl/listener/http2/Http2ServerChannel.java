@@ -18,8 +18,9 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
 
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
+import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2StreamTable;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2DataEventListener;
-import io.netty.util.internal.PlatformDependent;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -30,8 +31,9 @@ import java.util.Map;
  * Represents the streams related to a single server channel.
  */
 public class Http2ServerChannel {
-    // streamIdRequestMap contains the mapping of http carbon messages vs stream id to support multiplexing
-    private Map<Integer, InboundMessageHolder> streamIdRequestMap = PlatformDependent.newConcurrentHashMap();
+    // streamIdRequestMap contains the mapping of http carbon messages vs stream id to support multiplexing. It is only
+    // accessed from the event loop of the channel.
+    private final Http2StreamTable<InboundMessageHolder> streamIdRequestMap = new Http2StreamTable<>();
     private Map<String, Http2DataEventListener> dataEventListeners;
 
     Http2ServerChannel() {
@@ -42,7 +44,7 @@ public class Http2ServerChannel {
         streamIdRequestMap.clear();
     }
 
-    public Map<Integer, InboundMessageHolder> getStreamIdRequestMap() {
+    public Http2StreamTable<InboundMessageHolder> getStreamIdRequestMap() {
         return streamIdRequestMap;
     }
 
@@ -50,6 +52,28 @@ public class Http2ServerChannel {
         return streamIdRequestMap.get(streamId);
     }
 
+    /**
+     * Sets the idle timer of a stream. The timer is cancelled if the stream is not in the channel.
+     *
+     * @param streamId stream id
+     * @param timer    the idle timer of the stream
+     */
+    void setStreamTimer(int streamId, TimeoutWheel.Timeout timer) {
+        if (!streamIdRequestMap.setTimer(streamId, timer)) {
+            timer.cancel();
+        }
+    }
+
+    /**
+     * Cancels the idle timer of a stream.
+     *
+     * @param streamId stream id
+     * @return true if the stream had a timer
+     */
+    boolean cancelStreamTimer(int streamId) {
+        return streamIdRequestMap.cancelTimer(streamId);
+    }
+
     /**
      * Adds a listener which listen for HTTP/2 data events.
      *
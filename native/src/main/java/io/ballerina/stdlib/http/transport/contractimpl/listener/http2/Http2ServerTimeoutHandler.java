@@ -28,9 +28,6 @@ import io.netty.handler.codec.http2.Http2Headers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.schedule;
@@ -45,7 +42,6 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
     private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
     private long idleTimeNanos;
     private Http2ServerChannel http2ServerChannel;
-    private Map<Integer, ScheduledFuture<?>> timerTasks;
     private ServerConnectorFuture serverConnectorFuture;
 
     Http2ServerTimeoutHandler(long idleTimeMills, Http2ServerChannel serverChannel,
@@ -53,7 +49,6 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
         this.idleTimeNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(idleTimeMills), MIN_TIMEOUT_NANOS);
         this.http2ServerChannel = serverChannel;
         this.serverConnectorFuture = serverConnectorFuture;
-        timerTasks = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -61,8 +56,8 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
         InboundMessageHolder inboundMsgHolder = http2ServerChannel.getInboundMessage(streamId);
         if (inboundMsgHolder != null) {
             inboundMsgHolder.setLastReadWriteTime(ticksInNanos());
-            timerTasks.put(streamId,
-                           schedule(ctx, new Http2ServerTimeoutHandler.IdleTimeoutTask(ctx, streamId), idleTimeNanos));
+            http2ServerChannel.setStreamTimer(streamId, schedule(
+                    ctx, new Http2ServerTimeoutHandler.IdleTimeoutTask(ctx, streamId), idleTimeNanos));
         }
         return true;
     }
@@ -104,20 +99,14 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
 
     @Override
     public void onStreamClose(int streamId) {
-        ScheduledFuture timerTask = timerTasks.get(streamId);
-        if (timerTask != null) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Server timer is removed for the stream : {}", streamId);
-            }
-            timerTask.cancel(false);
-            timerTasks.remove(streamId);
+        if (http2ServerChannel.cancelStreamTimer(streamId) && LOG.isDebugEnabled()) {
+            LOG.debug("Server timer is removed for the stream : {}", streamId);
         }
     }
 
     @Override
     public void destroy() {
-        timerTasks.forEach((streamId, task) -> task.cancel(false));
-        timerTasks.clear();
+        // Timers are kept with the streams of the channel and are cancelled when the channel is destroyed
     }
 
     private class IdleTimeoutTask implements Runnable {
@@ -144,7 +133,7 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
                 closeStream(msgHolder, streamId, ctx);
             } else {
                 // Read or write occurred before the timeout - set a new timeout with shorter delay.
-                timerTasks.put(streamId, schedule(ctx, this, nextDelay));
+                http2ServerChannel.setStreamTimer(streamId, schedule(ctx, this, nextDelay));
             }
         }
 
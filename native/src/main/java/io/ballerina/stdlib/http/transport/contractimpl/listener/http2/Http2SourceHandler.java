@@ -21,6 +21,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener.http2;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2StreamTable;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpServerChannelInitializer;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.http2.EntityBodyReceived;
@@ -247,7 +248,7 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
         });
     }
 
-    public Map<Integer, InboundMessageHolder> getStreamIdRequestMap() {
+    public Http2StreamTable<InboundMessageHolder> getStreamIdRequestMap() {
         return http2ServerChannel.getStreamIdRequestMap();
     }
 
@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.http.transport.contractimpl.listener.states;
 
 import io.ballerina.stdlib.http.api.logging.accesslog.ListenerHttpAccessLogger;
+import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipelinedResponse;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
@@ -28,6 +29,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.PipelinedResponseQueue;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
@@ -38,7 +40,6 @@ import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.LastHttpContent;
-import io.netty.util.concurrent.EventExecutorGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,7 +47,6 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_HEAD_METHOD;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
@@ -236,7 +236,8 @@ public class SendingEntityBody implements ListenerState {
     }
 
     /**
-     * Increment the next expected sequence number and trigger the pipelining logic.
+     * Increment the next expected sequence number and trigger the pipelining logic. This runs on the event loop of the
+     * connection, which owns the sequence number and the pipelined response queue.
      *
      * @param outboundResponseMsg Represent the outbound response
      */
@@ -244,19 +245,17 @@ public class SendingEntityBody implements ListenerState {
         String httpVersion = inboundRequestMsg.getHttpVersion();
         if (outboundResponseMsg.isPipeliningEnabled() && Constants.HTTP_1_1_VERSION.equalsIgnoreCase
                 (httpVersion)) {
-            Queue responseQueue;
-            synchronized (sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get()) {
-                responseQueue = sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get();
-                Long nextSequenceNumber = sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get();
-                //IMPORTANT:Next sequence number should never be incremented for interim 100 continue response
-                //because the body of the request is yet to come. Only when the actual response is sent out, this
-                //next sequence number should be updated.
-                nextSequenceNumber++;
-                sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).set(nextSequenceNumber);
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Current sequence id of the response : {}", outboundResponseMsg.getSequenceId());
-                    LOG.debug("Updated next sequence id to : {}", nextSequenceNumber);
-                }
+            PipelinedResponseQueue<PipelinedResponse> responseQueue =
+                    sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get();
+            Long nextSequenceNumber = sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get();
+            //IMPORTANT:Next sequence number should never be incremented for interim 100 continue response
+            //because the body of the request is yet to come. Only when the actual response is sent out, this
+            //next sequence number should be updated.
+            nextSequenceNumber++;
+            sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).set(nextSequenceNumber);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Current sequence id of the response : {}", outboundResponseMsg.getSequenceId());
+                LOG.debug("Updated next sequence id to : {}", nextSequenceNumber);
             }
             if (!responseQueue.isEmpty()) {
                 if (LOG.isDebugEnabled()) {
@@ -265,16 +264,10 @@ public class SendingEntityBody implements ListenerState {
                 //Notify ballerina to send the response which is next in queue. This is needed because,
                 //if the other responses got ready before the nextSequenceNumber gets updated then the
                 //ballerina respond() won't start serializing the responses in queue. This is to trigger
-                //that process again.
+                //that process again. The listener only picks the next response on this event loop, the
+                //response itself is serialized in a thread that belongs to the pipelining thread pool.
                 if (outboundResponseMsg.getPipeliningFuture() != null) {
-                    EventExecutorGroup pipeliningExecutor = sourceContext.channel().attr(Constants.PIPELINING_EXECUTOR)
-                            .get();
-                    //IMPORTANT:Pipelining logic should never be executed in an I/O thread as it might lead to I/O
-                    //thread blocking scenarios in outbound trottling. Here, the pipelining logic runs in a thread that
-                    //belongs to the pipelining thread pool.
-                    pipeliningExecutor.execute(() -> outboundResponseMsg.getPipeliningFuture().
-                            notifyPipeliningListener(sourceContext));
-
+                    outboundResponseMsg.getPipeliningFuture().notifyPipeliningListener(sourceContext);
                 }
             }
         }
@@ -31,6 +31,8 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelPipelineException;
 import io.netty.handler.codec.http.HttpResponseStatus;
 
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.net.UnknownHostException;
 import java.nio.channels.ClosedChannelException;
 
@@ -53,16 +55,23 @@ public class ConnectionAvailabilityFuture {
     private boolean isFailure;
     private Throwable throwable;
     private boolean forceHttp2 = false;
+    private String remoteHost;
     private String remoteAddress;
 
-    public void setSocketAvailabilityFuture(ChannelFuture socketAvailabilityFuture, String remoteAddress) {
+    public void setSocketAvailabilityFuture(ChannelFuture socketAvailabilityFuture, InetSocketAddress remoteAddress) {
         this.socketAvailabilityFuture = socketAvailabilityFuture;
-        this.remoteAddress = remoteAddress;
+        this.remoteHost = remoteAddress.getHostString();
+        this.remoteAddress = remoteHost + COLON + remoteAddress.getPort();
         socketAvailabilityFuture.addListener(new ChannelFutureListener() {
 
             @Override
             public void operationComplete(ChannelFuture channelFuture) throws Exception {
                 if (isValidChannel(channelFuture)) {
+                    // The connect address is resolved by the bootstrap, report the resolved one from now on
+                    SocketAddress resolvedAddress = channelFuture.channel().remoteAddress();
+                    if (resolvedAddress != null) {
+                        ConnectionAvailabilityFuture.this.remoteAddress = resolvedAddress.toString();
+                    }
                     socketAvailable = true;
                     if (listener != null && !isSSLEnabled) {
                         if (forceHttp2) {
@@ -151,8 +160,8 @@ public class ConnectionAvailabilityFuture {
             connectorException = new SslException(SSL_CONNECTION_ERROR + COLON + cause.getMessage()
                                                           + " " + socketAddress, HttpResponseStatus.BAD_GATEWAY.code());
         } else if (cause instanceof UnknownHostException) {
-            connectorException = new UnresolvedHostException(ERROR_COULD_NOT_RESOLVE_HOST + COLON +
-                    cause.getMessage(), HttpResponseStatus.BAD_GATEWAY.code());
+            connectorException = new UnresolvedHostException(ERROR_COULD_NOT_RESOLVE_HOST + COLON + remoteHost,
+                                                             HttpResponseStatus.BAD_GATEWAY.code());
         } else if (cause instanceof ClosedChannelException) {
             connectorException = new ClientConnectorException("Remote host: " + socketAddress
                     + " closed the connection while SSL handshake", HttpResponseStatus.BAD_GATEWAY.code());
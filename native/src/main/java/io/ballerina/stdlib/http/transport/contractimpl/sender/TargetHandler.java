@@ -121,7 +121,7 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
         if (!idleTimeoutTriggered) {
             targetChannel.senderReqRespStateManager.handleAbruptChannelClosure(this, httpResponseFuture);
         }
-        releasePerRoutePoolLatchOnFailure();
+        releasePendingConnectionOnFailure();
         connectionManager.invalidateTargetChannel(targetChannel);
 
         if (handlerExecutor != null) {
@@ -148,7 +148,7 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
             if (HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_SUCCESSFUL.name().equals(upgradeEvent.name())) {
                 executePostUpgradeActions(ctx);
             } else if (HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_REJECTED.name().equals(upgradeEvent.name())) {
-                releasePerRoutePoolLatchOnFailure();
+                releasePendingConnectionOnFailure();
             }
             ctx.fireUserEventTriggered(evt);
         } else {
@@ -171,7 +171,7 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
             // When closing the channel, if it is already closed it will trigger this event. So we can ignore this.
             LOG.debug("Input side of the connection is already shutdown");
         } else {
-            releasePerRoutePoolLatchOnFailure();
+            releasePendingConnectionOnFailure();
             LOG.warn("Unexpected user event {} triggered", evt);
         }
     }
@@ -213,11 +213,11 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
         }
     }
 
-    private void releasePerRoutePoolLatchOnFailure() {
+    private void releasePendingConnectionOnFailure() {
         // When SSL completion event is received via UserEventTriggered method, this method can be called before
         // assigning value to connectionManager. Hence the null check
         if (Objects.nonNull(connectionManager)) {
-            connectionManager.getHttp2ConnectionManager().releasePerRoutePoolLatch(targetChannel.getHttpRoute());
+            connectionManager.getHttp2ConnectionManager().releasePendingConnection(targetChannel.getHttpRoute());
         }
     }
 
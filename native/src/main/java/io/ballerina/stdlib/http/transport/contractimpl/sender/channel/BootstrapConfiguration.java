@@ -17,9 +17,14 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
+import io.netty.resolver.AddressResolverGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.InetSocketAddress;
+
 /**
  * A class represents client bootstrap configurations.
  */
@@ -33,6 +38,8 @@ public class BootstrapConfiguration {
     private final int connectTimeOut;
     private final int receiveBufferSize;
     private final int sendBufferSize;
+    private final SocketTransport socketTransport;
+    private final AddressResolverGroup<InetSocketAddress> addressResolverGroup;
 
     public BootstrapConfiguration(SenderConfiguration senderConfiguration) {
         this.connectTimeOut = senderConfiguration.getConnectTimeOut();
@@ -41,6 +48,9 @@ public class BootstrapConfiguration {
         this.tcpNoDelay = senderConfiguration.isTcpNoDelay();
         this.socketReuse = senderConfiguration.isSocketReuse();
         this.keepAlive = senderConfiguration.isSocketKeepAlive();
+        this.socketTransport = NativeTransport.resolve(senderConfiguration.getSocketTransport());
+        this.addressResolverGroup = senderConfiguration.getAddressResolverGroup() != null ?
+                senderConfiguration.getAddressResolverGroup() : ClientAddressResolver.getDefault(socketTransport);
 
         String logValue = "{}:{}";
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_TCP_NO_DELY , tcpNoDelay);
@@ -74,4 +84,12 @@ public class BootstrapConfiguration {
     public boolean isSocketReuse() {
         return socketReuse;
     }
+
+    public SocketTransport getSocketTransport() {
+        return socketTransport;
+    }
+
+    public AddressResolverGroup<InetSocketAddress> getAddressResolverGroup() {
+        return addressResolverGroup;
+    }
 }
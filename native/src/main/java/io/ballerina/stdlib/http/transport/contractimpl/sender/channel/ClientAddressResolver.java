@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
+
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.DnsServerAddressStreamProviders;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the asynchronous DNS resolvers used to resolve the remote hosts of outbound connections.
+ * <p>
+ * Lookups run on the event loop of the connection being opened, so a burst of new connections, e.g. after the
+ * connections of a pool are evicted, does not block on name lookups. Resolved addresses are cached for the TTL of
+ * their records. Lookups answered with a non existent domain or without any address are cached for
+ * {@link #NEGATIVE_TTL} seconds, while lookups that failed due to a timeout or an I/O error are not cached, so that
+ * a lost response is retried by the next connection. When a host has several A or AAAA records, each connection
+ * picks one of them at random so that the connections of a route are spread over all of them.
+ *
+ * @since 2.13.3
+ */
+public final class ClientAddressResolver {
+
+    static final int NEGATIVE_TTL = 5;
+
+    private static final MeteredDnsCache DEFAULT_CACHE = new MeteredDnsCache(0, Integer.MAX_VALUE, NEGATIVE_TTL);
+    private static final Map<SocketTransport, AddressResolverGroup<InetSocketAddress>> DEFAULT_RESOLVERS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Returns the resolver shared by the clients of the given socket transport. All of them share the same cache.
+     *
+     * @param transport the resolved socket transport of the client
+     * @return the shared address resolver group
+     */
+    public static AddressResolverGroup<InetSocketAddress> getDefault(SocketTransport transport) {
+        return DEFAULT_RESOLVERS.computeIfAbsent(transport, key -> newResolverGroup(
+                new DnsNameResolverBuilder()
+                        .datagramChannelType(NativeTransport.getDatagramChannelClass(key))
+                        .nameServerProvider(DnsServerAddressStreamProviders.platformDefault()), DEFAULT_CACHE));
+    }
+
+    /**
+     * Creates a resolver that uses all the addresses of a host and caches them in the given cache.
+     *
+     * @param builder the builder of the underlying DNS resolvers
+     * @param cache   the cache of resolved addresses
+     * @return the address resolver group
+     */
+    public static AddressResolverGroup<InetSocketAddress> newResolverGroup(DnsNameResolverBuilder builder,
+                                                                           MeteredDnsCache cache) {
+        return new RoundRobinDnsAddressResolverGroup(builder.resolveCache(cache));
+    }
+
+    public static MeteredDnsCache getDefaultCache() {
+        return DEFAULT_CACHE;
+    }
+
+    private ClientAddressResolver() {
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
+
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsCache;
+import io.netty.resolver.dns.DnsCacheEntry;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link DnsCache} that records the hits and misses of the lookups done against it. Resolved addresses are kept
+ * for the TTL of their records, bounded by the given minimum and maximum, and lookups of hosts that do not exist or
+ * have no address for the negative TTL. Hits include the failed lookups served from the cache.
+ *
+ * @since 2.13.3
+ */
+public class MeteredDnsCache implements DnsCache {
+
+    private final DefaultDnsCache cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public MeteredDnsCache(int minTtl, int maxTtl, int negativeTtl) {
+        this.cache = new DefaultDnsCache(minTtl, maxTtl, negativeTtl);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public boolean clear(String hostname) {
+        return cache.clear(hostname);
+    }
+
+    @Override
+    public List<? extends DnsCacheEntry> get(String hostname, DnsRecord[] additionals) {
+        List<? extends DnsCacheEntry> entries = cache.get(hostname, additionals);
+        if (entries == null || entries.isEmpty()) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return entries;
+    }
+
+    @Override
+    public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, InetAddress address, long originalTtl,
+                               EventLoop loop) {
+        return cache.cache(hostname, additionals, address, originalTtl, loop);
+    }
+
+    @Override
+    public DnsCacheEntry cache(String hostname, DnsRecord[] additionals, Throwable cause, EventLoop loop) {
+        return cache.cache(hostname, additionals, cause, loop);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "MeteredDnsCache(hits: " + getHitCount() + ", misses: " + getMissCount() + ", " + cache + ")";
+    }
+}
@@ -17,6 +17,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
 
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
@@ -24,16 +25,23 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChan
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ConnectionManager;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
 import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * A class which handles connection pool management.
@@ -44,19 +52,45 @@ public class ConnectionManager {
 
     private final String connectionManagerId;
     private final PoolConfiguration poolConfiguration;
-    private final Map<String, GenericObjectPool> globalConnPool;
-    private final Map<String, PoolableTargetChannelFactory> globalFactoryObjects;
+    private final Map<HttpRoute, TargetChannelPool> globalConnPool;
+    // Per event loop slices of the pool, used for correlated requests when event loop affinity is enabled
+    private final Map<EventLoop, Map<HttpRoute, TargetChannelPool>> eventLoopConnPools;
     private final Http2ConnectionManager http2ConnectionManager;
-    private final ReentrantLock poolLock = new ReentrantLock();
+    private final AtomicBoolean idleConnectionFillTaskScheduled = new AtomicBoolean();
 
     public ConnectionManager(PoolConfiguration poolConfiguration) {
         this.poolConfiguration = poolConfiguration;
-        globalConnPool = new HashMap<>();
-        globalFactoryObjects = new HashMap<>();
+        globalConnPool = new ConcurrentHashMap<>();
+        eventLoopConnPools = new ConcurrentHashMap<>();
         http2ConnectionManager = new Http2ConnectionManager(poolConfiguration);
         connectionManagerId = "-" + UUID.randomUUID();
     }
 
+    /**
+     * Opens connections to the given route ahead of the first request, so that the request does not have to wait
+     * for the connection to be established. The connections are opened asynchronously and are added to the pool of
+     * the route once connected. Connections negotiated for HTTP/2 are picked up by the HTTP/2 connection manager
+     * when it needs a new connection to the route. When event loop affinity is enabled, the per event loop slices
+     * of the route are warmed up as they are created.
+     *
+     * @param httpRoute        Represents the endpoint address
+     * @param senderConfig     Represents the client configurations
+     * @param bootstrapConfig  Represents the bootstrap info related to client connection creation
+     * @param clientEventGroup Represents the eventloop group that the client channel should be bound to
+     */
+    public void warmUp(HttpRoute httpRoute, SenderConfiguration senderConfig, BootstrapConfiguration bootstrapConfig,
+                       EventLoopGroup clientEventGroup) {
+        int warmUpConnections = getWarmUpConnections();
+        if (warmUpConnections > 0) {
+            getTrgHlrPoolFromGlobalPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup)
+                    .ensureIdle(warmUpConnections);
+        }
+    }
+
+    private int getWarmUpConnections() {
+        return Math.max(poolConfiguration.getWarmUpConnectionsPerRoute(), poolConfiguration.getMinIdlePerPool());
+    }
+
     /**
      * Gets the client target channel pool.
      *
@@ -73,92 +107,157 @@ public class ConnectionManager {
                                              Http2SourceHandler http2SourceHandler,
                                              SenderConfiguration senderConfig, BootstrapConfiguration bootstrapConfig,
                                              EventLoopGroup clientEventGroup) throws Exception {
-        GenericObjectPool trgHlrConnPool;
-        String trgHlrConnPoolId = httpRoute.toString() + connectionManagerId;
+        TargetChannelPool trgHlrConnPool = getTrgHlrConnPool(httpRoute, sourceHandler, http2SourceHandler,
+                                                             senderConfig, bootstrapConfig, clientEventGroup);
+        TargetChannel targetChannel = (TargetChannel) trgHlrConnPool.borrowObject();
+        return prepareTargetChannel(sourceHandler, http2SourceHandler, targetChannel, trgHlrConnPool.getPoolId());
+    }
 
+    /**
+     * Gets a target channel from the client target channel pool without blocking the calling thread when the pool
+     * is exhausted. The returned future is completed on the event loop of the inbound channel, or on an event loop
+     * of the client event group if the request is not correlated to an inbound channel.
+     *
+     * @param httpRoute          Represents the endpoint address
+     * @param sourceHandler      Represents the HTTP/1.x source handler
+     * @param http2SourceHandler Represents the HTTP/2 source handler
+     * @param senderConfig       Represents the client configurations
+     * @param bootstrapConfig    Represents the bootstrap info related to client connection creation
+     * @param clientEventGroup   Represents the eventloop group that the client channel should be bound to
+     * @return the future of the target channel which is requested for given parameters.
+     */
+    public Future<TargetChannel> borrowTargetChannelAsync(HttpRoute httpRoute, SourceHandler sourceHandler,
+                                                          Http2SourceHandler http2SourceHandler,
+                                                          SenderConfiguration senderConfig,
+                                                          BootstrapConfiguration bootstrapConfig,
+                                                          EventLoopGroup clientEventGroup) {
+        EventExecutor executor;
         if (sourceHandler != null) {
-            ChannelHandlerContext inboundChannelContext = sourceHandler.getInboundChannelContext();
-
-
-            trgHlrConnPool = getTrgHlrPoolFromGlobalPoolWithSrcPool(httpRoute, senderConfig, bootstrapConfig,
-                                                                    trgHlrConnPoolId,
-                                                                    inboundChannelContext.channel().eventLoop(),
-                                                                    inboundChannelContext.channel().getClass(),
-                                                                    sourceHandler.getTargetChannelPool());
+            executor = sourceHandler.getInboundChannelContext().channel().eventLoop();
         } else if (http2SourceHandler != null) {
-            ChannelHandlerContext inboundChannelContext = http2SourceHandler.getInboundChannelContext();
-            trgHlrConnPool = getTrgHlrPoolFromGlobalPoolWithSrcPool(httpRoute, senderConfig, bootstrapConfig,
-                                                                    trgHlrConnPoolId,
-                                                                    inboundChannelContext.channel().eventLoop(),
-                                                                    inboundChannelContext.channel().getClass(),
-                                                                    http2SourceHandler.getTargetChannelPool());
-
+            executor = http2SourceHandler.getInboundChannelContext().channel().eventLoop();
         } else {
-            trgHlrConnPool = getTrgHlrPoolFromGlobalPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup);
+            executor = clientEventGroup.next();
         }
+        Promise<TargetChannel> promise = executor.newPromise();
+        TargetChannelPool trgHlrConnPool;
+        try {
+            trgHlrConnPool = getTrgHlrConnPool(httpRoute, sourceHandler, http2SourceHandler, senderConfig,
+                                               bootstrapConfig, clientEventGroup);
+        } catch (Exception e) {
+            return promise.setFailure(e);
+        }
+        trgHlrConnPool.borrowObjectAsync(executor).addListener(future -> {
+            if (future.isSuccess()) {
+                promise.setSuccess(prepareTargetChannel(sourceHandler, http2SourceHandler,
+                                                        (TargetChannel) future.getNow(), trgHlrConnPool.getPoolId()));
+            } else {
+                promise.setFailure(future.cause());
+            }
+        });
+        return promise;
+    }
 
-        return getTargetChannel(sourceHandler, http2SourceHandler, trgHlrConnPool, trgHlrConnPoolId);
+    private TargetChannelPool getTrgHlrConnPool(HttpRoute httpRoute, SourceHandler sourceHandler,
+                                                Http2SourceHandler http2SourceHandler,
+                                                SenderConfiguration senderConfig,
+                                                BootstrapConfiguration bootstrapConfig,
+                                                EventLoopGroup clientEventGroup) {
+        if (poolConfiguration.isEventLoopAffinity() && (sourceHandler != null || http2SourceHandler != null)) {
+            ChannelHandlerContext inboundChannelContext = sourceHandler != null ?
+                    sourceHandler.getInboundChannelContext() : http2SourceHandler.getInboundChannelContext();
+            return getTrgHlrPoolFromEventLoopPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup,
+                                                  inboundChannelContext.channel().eventLoop(),
+                                                  inboundChannelContext.channel().getClass());
+        } else if (sourceHandler != null) {
+            ChannelHandlerContext inboundChannelContext = sourceHandler.getInboundChannelContext();
+            return getTrgHlrPoolFromGlobalPoolWithSrcPool(httpRoute, senderConfig, bootstrapConfig,
+                                                          inboundChannelContext.channel().eventLoop(),
+                                                          inboundChannelContext.channel().getClass(),
+                                                          sourceHandler.getTargetChannelPool());
+        } else if (http2SourceHandler != null) {
+            ChannelHandlerContext inboundChannelContext = http2SourceHandler.getInboundChannelContext();
+            return getTrgHlrPoolFromGlobalPoolWithSrcPool(httpRoute, senderConfig, bootstrapConfig,
+                                                          inboundChannelContext.channel().eventLoop(),
+                                                          inboundChannelContext.channel().getClass(),
+                                                          http2SourceHandler.getTargetChannelPool());
+        }
+        return getTrgHlrPoolFromGlobalPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup);
     }
 
-    private GenericObjectPool getTrgHlrPoolFromGlobalPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
+    private TargetChannelPool getTrgHlrPoolFromGlobalPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
                                                           BootstrapConfiguration bootstrapConfig,
                                                           EventLoopGroup clientEventGroup) {
-        Class eventLoopClass = NioSocketChannel.class;
-        GenericObjectPool genericObjectPool = globalConnPool.get(httpRoute.toString());
-        if (genericObjectPool != null) {
-            return genericObjectPool;
+        TargetChannelPool targetChannelPool = globalConnPool.get(httpRoute);
+        if (targetChannelPool != null) {
+            return targetChannelPool;
         }
+        Class eventLoopClass = NativeTransport.getSocketChannelClass(bootstrapConfig.getSocketTransport());
         return createTrgHlrPoolInGlobalPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup, eventLoopClass);
     }
 
-    private GenericObjectPool getTrgHlrPoolFromGlobalPoolWithSrcPool(HttpRoute httpRoute,
+    private TargetChannelPool getTrgHlrPoolFromGlobalPoolWithSrcPool(HttpRoute httpRoute,
                                                                      SenderConfiguration senderConfig,
                                                                      BootstrapConfiguration bootstrapConfig,
-                                                                     String trgHlrConnPoolId,
                                                                      EventLoopGroup clientEventGroup,
                                                                      Class eventLoopClass,
                                                                      Map<String, GenericObjectPool> srcHlrConnPool) {
-
-        GenericObjectPool trgHlrConnPool = srcHlrConnPool.get(trgHlrConnPoolId);
+        TargetChannelPool routePool = globalConnPool.get(httpRoute);
+        if (routePool == null) {
+            routePool = createTrgHlrPoolInGlobalPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup,
+                                                     eventLoopClass);
+        }
+        GenericObjectPool trgHlrConnPool = srcHlrConnPool.get(routePool.getPoolId());
         if (trgHlrConnPool == null) {
-            trgHlrConnPool = globalConnPool.get(httpRoute.toString());
-            if (trgHlrConnPool == null) {
-                trgHlrConnPool = createTrgHlrPoolInGlobalPool(httpRoute, senderConfig, bootstrapConfig,
-                        clientEventGroup, eventLoopClass);
-            }
-            PoolableTargetChannelFactory channelFactory = globalFactoryObjects.get(httpRoute.toString());
-            trgHlrConnPool = createPoolForRoutePerSrcHndlr(trgHlrConnPool, channelFactory, clientEventGroup,
-                    eventLoopClass);
-            srcHlrConnPool.put(trgHlrConnPoolId, trgHlrConnPool);
+            trgHlrConnPool = createPoolForRoutePerSrcHndlr(routePool, clientEventGroup, eventLoopClass);
+            srcHlrConnPool.put(routePool.getPoolId(), trgHlrConnPool);
+        }
+        return (TargetChannelPool) trgHlrConnPool;
+    }
+
+    /**
+     * Gets the slice of the route pool owned by the given event loop. Channels of the slice are created on that
+     * event loop, so a correlated request is proxied without handing the upstream channel over to another thread.
+     * A new slice is warmed up on its event loop.
+     */
+    private TargetChannelPool getTrgHlrPoolFromEventLoopPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
+                                                             BootstrapConfiguration bootstrapConfig,
+                                                             EventLoopGroup clientEventGroup, EventLoop eventLoop,
+                                                             Class eventLoopClass) {
+        Map<HttpRoute, TargetChannelPool> eventLoopPool = eventLoopConnPools.get(eventLoop);
+        if (eventLoopPool == null) {
+            eventLoopPool = eventLoopConnPools.computeIfAbsent(eventLoop, loop -> new ConcurrentHashMap<>());
+        }
+        TargetChannelPool targetChannelPool = eventLoopPool.get(httpRoute);
+        if (targetChannelPool != null) {
+            return targetChannelPool;
         }
-        return trgHlrConnPool;
+        return eventLoopPool.computeIfAbsent(httpRoute, route -> {
+            TargetChannelPool slice = createPoolForRoute(
+                    new PoolableTargetChannelFactory(eventLoop, eventLoopClass, route, senderConfig, bootstrapConfig,
+                                                     this), route.toString() + connectionManagerId);
+            int warmUpConnections = getWarmUpConnections();
+            if (warmUpConnections > 0) {
+                eventLoop.execute(() -> slice.ensureIdle(warmUpConnections));
+            }
+            scheduleIdleConnectionFillTask(clientEventGroup);
+            return slice;
+        });
     }
 
-    private GenericObjectPool createTrgHlrPoolInGlobalPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
+    private TargetChannelPool createTrgHlrPoolInGlobalPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
                                               BootstrapConfiguration bootstrapConfig, EventLoopGroup clientEventGroup,
                                               Class eventLoopClass) {
-        poolLock.lock();
-        try {
-            GenericObjectPool trgHlrConnPool = globalConnPool.get(httpRoute.toString());
-            if (trgHlrConnPool != null) {
-                return trgHlrConnPool;
-            }
-            PoolableTargetChannelFactory poolableTargetChannelFactory =
-                    new PoolableTargetChannelFactory(clientEventGroup, eventLoopClass,
-                            httpRoute, senderConfig, bootstrapConfig, this);
-            trgHlrConnPool = createPoolForRoute(poolableTargetChannelFactory);
-            globalConnPool.put(httpRoute.toString(), trgHlrConnPool);
-            globalFactoryObjects.put(httpRoute.toString(), poolableTargetChannelFactory);
-            return trgHlrConnPool;
-        } finally {
-            poolLock.unlock();
-        }
+        return globalConnPool.computeIfAbsent(httpRoute, route -> {
+            scheduleIdleConnectionFillTask(clientEventGroup);
+            return createPoolForRoute(new PoolableTargetChannelFactory(clientEventGroup, eventLoopClass, route,
+                                                                       senderConfig, bootstrapConfig, this),
+                                      route.toString() + connectionManagerId);
+        });
     }
 
-    private TargetChannel getTargetChannel(SourceHandler sourceHandler, Http2SourceHandler http2SourceHandler,
-                                           GenericObjectPool trgHlrConnPool,
-                                           String trgHlrConnPoolId) throws Exception {
-        TargetChannel targetChannel = (TargetChannel) trgHlrConnPool.borrowObject();
+    private TargetChannel prepareTargetChannel(SourceHandler sourceHandler, Http2SourceHandler http2SourceHandler,
+                                               TargetChannel targetChannel, String trgHlrConnPoolId) {
         if (sourceHandler != null) {
             targetChannel.setCorrelatedSource(sourceHandler);
         } else if (http2SourceHandler != null) {
@@ -172,13 +271,15 @@ public class ConnectionManager {
     }
 
     public void returnChannel(TargetChannel targetChannel) throws Exception {
-        if (targetChannel.getCorrelatedSource() != null) {
+        if (poolConfiguration.isEventLoopAffinity() && targetChannel.getCorrelatedSource() != null) {
+            releaseChannelToPool(targetChannel, getEventLoopPool(targetChannel));
+        } else if (targetChannel.getCorrelatedSource() != null) {
             Map<String, GenericObjectPool> objectPoolMap = getTargetPoolMap(targetChannel);
             if (objectPoolMap != null) {
                 releaseChannelToPool(targetChannel, objectPoolMap.get(targetChannel.trgHlrConnPoolId));
             }
         } else {
-            releaseChannelToPool(targetChannel, globalConnPool.get(targetChannel.getHttpRoute().toString()));
+            releaseChannelToPool(targetChannel, globalConnPool.get(targetChannel.getHttpRoute()));
         }
     }
 
@@ -199,7 +300,12 @@ public class ConnectionManager {
     }
 
     public void invalidateTargetChannel(TargetChannel targetChannel) throws Exception {
-        if (targetChannel.getCorrelatedSource() != null) {
+        if (poolConfiguration.isEventLoopAffinity() && targetChannel.getCorrelatedSource() != null) {
+            GenericObjectPool eventLoopPool = getEventLoopPool(targetChannel);
+            if (eventLoopPool != null) {
+                eventLoopPool.invalidateObject(targetChannel);
+            }
+        } else if (targetChannel.getCorrelatedSource() != null) {
             Map<String, GenericObjectPool> objectPoolMap = getTargetPoolMap(targetChannel);
             if (objectPoolMap != null) {
                 try {
@@ -217,7 +323,7 @@ public class ConnectionManager {
                 }
             }
         } else {
-            GenericObjectPool genericObjectPool = globalConnPool.get(targetChannel.getHttpRoute().toString());
+            GenericObjectPool genericObjectPool = globalConnPool.get(targetChannel.getHttpRoute());
             if (genericObjectPool != null) {
                 genericObjectPool.invalidateObject(targetChannel);
             }
@@ -237,29 +343,81 @@ public class ConnectionManager {
         return objectPoolMap;
     }
 
+    private GenericObjectPool getEventLoopPool(TargetChannel targetChannel) {
+        EventLoop eventLoop = null;
+        ChannelInboundHandlerAdapter correlatedSource = targetChannel.getCorrelatedSource();
+        if (correlatedSource instanceof SourceHandler) {
+            eventLoop = ((SourceHandler) correlatedSource).getEventLoop();
+        } else if (correlatedSource instanceof Http2SourceHandler) {
+            eventLoop = ((Http2SourceHandler) correlatedSource).getInboundChannelContext().channel().eventLoop();
+        }
+        Map<HttpRoute, TargetChannelPool> eventLoopPool = eventLoop != null ? eventLoopConnPools.get(eventLoop) : null;
+        return eventLoopPool != null ? eventLoopPool.get(targetChannel.getHttpRoute()) : null;
+    }
+
+    /**
+     * Gets a snapshot of the per event loop slices of the pool. Slices are only created when event loop affinity is
+     * enabled in the pool configuration. The snapshot is internal to the transport and is not published as metrics.
+     *
+     * @return the metrics of each event loop and route pair
+     */
+    public List<EventLoopPoolMetrics> getEventLoopPoolMetrics() {
+        List<EventLoopPoolMetrics> metrics = new ArrayList<>();
+        eventLoopConnPools.forEach((eventLoop, eventLoopPool) -> eventLoopPool.forEach(
+                (route, pool) -> metrics.add(new EventLoopPoolMetrics(eventLoop, route, pool.getNumActive(),
+                                                                      pool.getNumIdle(),
+                                                                      pool.getNumPendingBorrows()))));
+        return metrics;
+    }
+
     public Http2ConnectionManager getHttp2ConnectionManager() {
         return http2ConnectionManager;
     }
 
-    private GenericObjectPool createPoolForRoutePerSrcHndlr(GenericObjectPool genericObjectPool,
-                                                            PoolableTargetChannelFactory channelFactory,
+    /**
+     * Keeps the configured minimum number of idle connections in the pool of each route, including the per event
+     * loop slices of the pool. The pools are topped up at the same interval as the idle connections are evicted.
+     * The task is scheduled once per connection manager, on the client event loop group of the first pool, so it is
+     * cancelled along with the event loop group when the connector factory shuts down.
+     */
+    private void scheduleIdleConnectionFillTask(EventLoopGroup clientEventGroup) {
+        if (poolConfiguration.getMinIdlePerPool() <= 0
+                || !idleConnectionFillTaskScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        long interval = poolConfiguration.getTimeBetweenEvictionRuns();
+        clientEventGroup.scheduleAtFixedRate(this::fillIdleConnections, interval, interval, MILLISECONDS);
+    }
+
+    private void fillIdleConnections() {
+        int minIdle = poolConfiguration.getMinIdlePerPool();
+        globalConnPool.values().forEach(pool -> pool.ensureIdle(minIdle));
+        // A slice is topped up on its own event loop, which its channels are created on
+        eventLoopConnPools.forEach((eventLoop, eventLoopPool) -> eventLoopPool.values().forEach(
+                pool -> eventLoop.execute(() -> pool.ensureIdle(minIdle))));
+    }
+
+    private TargetChannelPool createPoolForRoutePerSrcHndlr(TargetChannelPool routePool,
                                                             EventLoopGroup clientEventGroup,
                                                             Class eventLoopClass) {
-        return new GenericObjectPool(
-            new PoolableTargetChannelFactoryPerSrcHndlr(genericObjectPool, channelFactory, clientEventGroup,
+        return new TargetChannelPool(routePool,
+            new PoolableTargetChannelFactoryPerSrcHndlr(routePool, routePool.getChannelFactory(), clientEventGroup,
                                                         eventLoopClass),
             instantiateAndConfigureConfig());
     }
 
-    private GenericObjectPool createPoolForRoute(PoolableTargetChannelFactory poolableTargetChannelFactory) {
-        return new GenericObjectPool(poolableTargetChannelFactory, instantiateAndConfigureConfig());
+    private TargetChannelPool createPoolForRoute(PoolableTargetChannelFactory poolableTargetChannelFactory,
+                                                 String poolId) {
+        return new TargetChannelPool(poolId, poolableTargetChannelFactory, instantiateAndConfigureConfig());
     }
 
     private GenericObjectPool.Config instantiateAndConfigureConfig() {
         GenericObjectPool.Config config = new GenericObjectPool.Config();
         config.maxActive = poolConfiguration.getMaxActivePerPool();
         config.maxIdle = poolConfiguration.getMaxIdlePerPool();
-        config.minIdle = poolConfiguration.getMinIdlePerPool();
+        // The minimum idle connections are kept by the idle connection fill task instead of the evictor of the
+        // pool, which would lend a connection before it is known to be established
+        config.minIdle = 0;
         config.testOnBorrow = poolConfiguration.isTestOnBorrow();
         config.testWhileIdle = poolConfiguration.isTestWhileIdle();
         config.timeBetweenEvictionRunsMillis = poolConfiguration.getTimeBetweenEvictionRuns();
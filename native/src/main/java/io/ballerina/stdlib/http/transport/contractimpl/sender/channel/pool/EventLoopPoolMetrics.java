@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.netty.channel.EventLoop;
+
+/**
+ * A snapshot of the slice of a route pool owned by an event loop.
+ * <p>
+ * The snapshot is internal to the transport. It is meant for tests and diagnostics of the connection manager and is
+ * not published to the Ballerina client or to the observability metrics.
+ *
+ * @since 2.13.3
+ */
+public class EventLoopPoolMetrics {
+
+    private final EventLoop eventLoop;
+    private final HttpRoute httpRoute;
+    private final int numActive;
+    private final int numIdle;
+    private final int numPendingBorrows;
+
+    EventLoopPoolMetrics(EventLoop eventLoop, HttpRoute httpRoute, int numActive, int numIdle,
+                         int numPendingBorrows) {
+        this.eventLoop = eventLoop;
+        this.httpRoute = httpRoute;
+        this.numActive = numActive;
+        this.numIdle = numIdle;
+        this.numPendingBorrows = numPendingBorrows;
+    }
+
+    public EventLoop getEventLoop() {
+        return eventLoop;
+    }
+
+    public HttpRoute getHttpRoute() {
+        return httpRoute;
+    }
+
+    public int getNumActive() {
+        return numActive;
+    }
+
+    public int getNumIdle() {
+        return numIdle;
+    }
+
+    public int getNumPendingBorrows() {
+        return numPendingBorrows;
+    }
+
+    @Override
+    public String toString() {
+        return "EventLoopPoolMetrics{route=" + httpRoute + ", active=" + numActive + ", idle=" + numIdle
+                + ", pendingBorrows=" + numPendingBorrows + "}";
+    }
+}
@@ -24,6 +24,7 @@ public class PoolConfiguration {
 
     private int maxActivePerPool = -1;
     private int minIdlePerPool;
+    private int warmUpConnectionsPerRoute;
     private int maxIdlePerPool = 100;
     private boolean testOnBorrow = true;
     private boolean testWhileIdle = true;
@@ -35,8 +36,12 @@ public class PoolConfiguration {
     private int eventGroupExecutorThreads = 15;
     private long maxWaitTime = 60000L;
     private int http2MaxActiveStreamsPerConnection = Integer.MAX_VALUE;
+    private int http2MinConnectionsPerRoute = 1;
+    private int http2MaxConnectionsPerRoute = Integer.MAX_VALUE;
+    private double http2ConnectionOpenThreshold = 1.0;
     private long minIdleTimeInStaleState = 300000;
     private long timeBetweenStaleEviction = 30000;
+    private boolean eventLoopAffinity = false;
 
     public PoolConfiguration() {
     }
@@ -57,6 +62,14 @@ public class PoolConfiguration {
         this.minIdlePerPool = minIdlePerPool;
     }
 
+    public int getWarmUpConnectionsPerRoute() {
+        return warmUpConnectionsPerRoute;
+    }
+
+    public void setWarmUpConnectionsPerRoute(int warmUpConnectionsPerRoute) {
+        this.warmUpConnectionsPerRoute = warmUpConnectionsPerRoute;
+    }
+
     public int getMaxIdlePerPool() {
         return maxIdlePerPool;
     }
@@ -145,6 +158,30 @@ public class PoolConfiguration {
         this.http2MaxActiveStreamsPerConnection = http2MaxActiveStreamsPerConnection;
     }
 
+    public int getHttp2MinConnectionsPerRoute() {
+        return http2MinConnectionsPerRoute;
+    }
+
+    public void setHttp2MinConnectionsPerRoute(int http2MinConnectionsPerRoute) {
+        this.http2MinConnectionsPerRoute = http2MinConnectionsPerRoute;
+    }
+
+    public int getHttp2MaxConnectionsPerRoute() {
+        return http2MaxConnectionsPerRoute;
+    }
+
+    public void setHttp2MaxConnectionsPerRoute(int http2MaxConnectionsPerRoute) {
+        this.http2MaxConnectionsPerRoute = http2MaxConnectionsPerRoute;
+    }
+
+    public double getHttp2ConnectionOpenThreshold() {
+        return http2ConnectionOpenThreshold;
+    }
+
+    public void setHttp2ConnectionOpenThreshold(double http2ConnectionOpenThreshold) {
+        this.http2ConnectionOpenThreshold = http2ConnectionOpenThreshold;
+    }
+
     public long getMinIdleTimeInStaleState() {
         return minIdleTimeInStaleState;
     }
@@ -160,4 +197,12 @@ public class PoolConfiguration {
     public void setTimeBetweenStaleEviction(long timeBetweenStaleEviction) {
         this.timeBetweenStaleEviction = timeBetweenStaleEviction;
     }
+
+    public boolean isEventLoopAffinity() {
+        return eventLoopAffinity;
+    }
+
+    public void setEventLoopAffinity(boolean eventLoopAffinity) {
+        this.eventLoopAffinity = eventLoopAffinity;
+    }
 }
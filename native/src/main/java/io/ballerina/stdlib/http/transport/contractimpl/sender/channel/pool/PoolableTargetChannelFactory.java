@@ -26,6 +26,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.resolver.NoopAddressResolverGroup;
 import org.apache.commons.pool.PoolableObjectFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,7 +48,6 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
     private final SenderConfiguration senderConfiguration;
     private final BootstrapConfiguration bootstrapConfiguration;
     private final ConnectionManager connectionManager;
-    private String remoteAddress;
 
     PoolableTargetChannelFactory(EventLoopGroup eventLoopGroup, Class eventLoopClass, HttpRoute httpRoute,
                                         SenderConfiguration senderConfiguration,
@@ -83,7 +83,8 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
                                                  ConnectionAvailabilityFuture connectionAvailabilityFuture,
                                                  HttpClientChannelInitializer httpClientChannelInitializer) {
 
-        ChannelFuture channelFuture = connectToRemoteEndpoint(clientBootstrap);
+        InetSocketAddress remoteAddress = getRemoteAddress();
+        ChannelFuture channelFuture = clientBootstrap.connect(remoteAddress);
         connectionAvailabilityFuture.setSocketAvailabilityFuture(channelFuture, remoteAddress);
         connectionAvailabilityFuture.setForceHttp2(senderConfiguration.isForceHttp2());
 
@@ -93,22 +94,21 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         return targetChannel;
     }
 
-    private ChannelFuture connectToRemoteEndpoint(Bootstrap clientBootstrap) {
+    private InetSocketAddress getRemoteAddress() {
+        // The address is left unresolved and is resolved asynchronously by the resolver of the bootstrap.
         // Connect to proxy server if proxy is enabled
-        ChannelFuture channelFuture;
-        InetSocketAddress socketAddress;
-        if (senderConfiguration.getProxyServerConfiguration() != null && senderConfiguration.getScheme()
-                .equals(HTTP_SCHEME)) {
-            socketAddress = new InetSocketAddress(
+        if (isHttpProxyEnabled()) {
+            return InetSocketAddress.createUnresolved(
                     senderConfiguration.getProxyServerConfiguration().getProxyHost(),
                     senderConfiguration.getProxyServerConfiguration().getProxyPort()
             );
-        } else {
-            socketAddress = new InetSocketAddress(httpRoute.getHost(), httpRoute.getPort());
         }
-        remoteAddress = socketAddress.toString();
-        channelFuture = clientBootstrap.connect(socketAddress);
-        return channelFuture;
+        return InetSocketAddress.createUnresolved(httpRoute.getHost(), httpRoute.getPort());
+    }
+
+    private boolean isHttpProxyEnabled() {
+        return senderConfiguration.getProxyServerConfiguration() != null && senderConfiguration.getScheme()
+                .equals(HTTP_SCHEME);
     }
 
     private Bootstrap instantiateAndConfigBootStrap(EventLoopGroup eventLoopGroup, Class eventLoopClass,
@@ -116,6 +116,12 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         Bootstrap clientBootstrap = new Bootstrap();
         clientBootstrap.channel(eventLoopClass);
         clientBootstrap.group(eventLoopGroup);
+        if (senderConfiguration.getProxyServerConfiguration() != null && !isHttpProxyEnabled()) {
+            // The target host is resolved by the proxy server when tunneling through it
+            clientBootstrap.resolver(NoopAddressResolverGroup.INSTANCE);
+        } else {
+            clientBootstrap.resolver(bootstrapConfiguration.getAddressResolverGroup());
+        }
         clientBootstrap.option(ChannelOption.SO_KEEPALIVE, bootstrapConfiguration.isKeepAlive());
         clientBootstrap.option(ChannelOption.TCP_NODELAY, bootstrapConfiguration.isTcpNoDelay());
         clientBootstrap.option(ChannelOption.SO_REUSEADDR, bootstrapConfiguration.isSocketReuse());
@@ -139,7 +145,10 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
 
     @Override
     public void destroyObject(Object o) throws Exception {
-        Channel targetNettyChannel = ((TargetChannel) o).getChannel();
+        TargetChannel targetChannel = (TargetChannel) o;
+        // A channel which was never lent to a request is only known by its connect future
+        Channel targetNettyChannel = targetChannel.getChannel() != null ? targetChannel.getChannel() :
+                targetChannel.getChannelFuture().channel();
         if (targetNettyChannel.isOpen()) {
             targetNettyChannel.close();
         }
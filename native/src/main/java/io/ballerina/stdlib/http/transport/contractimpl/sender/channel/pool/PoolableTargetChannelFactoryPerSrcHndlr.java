@@ -51,7 +51,7 @@ public class PoolableTargetChannelFactoryPerSrcHndlr implements PoolableObjectFa
         //with http/2, eventloop of the channel cannot be changed later. This does not affect http/1.1.
         channelFactory.setEventLoopClass(eventLoopClass);
         channelFactory.setEventLoopGroup(clientEventGroup);
-        TargetChannel targetChannel = (TargetChannel) this.genericObjectPool.borrowObject();
+        TargetChannel targetChannel = (TargetChannel) TargetChannelPool.borrowFromRoutePool(this.genericObjectPool);
         LOG.debug("Created channel: {}", targetChannel);
         return targetChannel;
     }
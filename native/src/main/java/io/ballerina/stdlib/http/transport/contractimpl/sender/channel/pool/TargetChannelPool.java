@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.apache.commons.pool.PoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericObjectPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A {@link GenericObjectPool} of target channels that can also lend channels asynchronously. An asynchronous borrow
+ * that finds the pool exhausted is kept pending instead of blocking the caller, and is retried on its event loop
+ * once a channel of the same route is returned or invalidated.
+ * <p>
+ * The pool of a route can also open channels ahead of requests, see {@link #ensureIdle(int)}.
+ */
+class TargetChannelPool extends GenericObjectPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TargetChannelPool.class);
+
+    static final String TIMEOUT_WAITING_FOR_IDLE_OBJECT = "Timeout waiting for idle object";
+    static final String POOL_EXHAUSTED = "Pool exhausted";
+
+    // Set while the current thread borrows without waiting, so that the channels a per source handler pool creates
+    // are borrowed from the route pool without waiting as well
+    private static final ThreadLocal<Boolean> BORROWING_WITHOUT_WAITING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final String poolId;
+    private final PoolableTargetChannelFactory channelFactory;
+    private final TargetChannelPool routePool;
+    // Shared by the route pool and the per source handler pools created on top of it
+    private final Queue<PendingBorrow> pendingBorrows;
+    // Channels opened by ensureIdle which are not connected yet
+    private final AtomicInteger openingChannels = new AtomicInteger();
+    // Channels lent by the pool, counted before a borrow starts so that a borrow which must not wait can claim a
+    // channel without holding the monitor of the pool
+    private final AtomicInteger lentChannels = new AtomicInteger();
+
+    /**
+     * Creates the pool of a route.
+     *
+     * @param poolId         the id of the pool
+     * @param channelFactory the factory which creates the target channels of the route
+     * @param config         the pool configuration
+     */
+    TargetChannelPool(String poolId, PoolableTargetChannelFactory channelFactory, Config config) {
+        super(channelFactory, config);
+        this.poolId = poolId;
+        this.channelFactory = channelFactory;
+        this.routePool = null;
+        this.pendingBorrows = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Creates a per source handler pool which borrows its channels from the given route pool.
+     *
+     * @param routePool the pool of the route
+     * @param factory   the factory which borrows the channels from the route pool
+     * @param config    the pool configuration
+     */
+    TargetChannelPool(TargetChannelPool routePool, PoolableObjectFactory factory, Config config) {
+        super(factory, config);
+        this.poolId = routePool.poolId;
+        this.channelFactory = routePool.channelFactory;
+        this.routePool = routePool;
+        this.pendingBorrows = routePool.pendingBorrows;
+    }
+
+    String getPoolId() {
+        return poolId;
+    }
+
+    PoolableTargetChannelFactory getChannelFactory() {
+        return channelFactory;
+    }
+
+    int getNumPendingBorrows() {
+        return pendingBorrows.size();
+    }
+
+    /**
+     * Borrows a channel without blocking the calling thread when the pool is exhausted. The returned future is
+     * completed on the given executor once a channel is available, or failed after the max wait time of the pool.
+     *
+     * @param executor the executor on which a pending borrow is completed
+     * @return the future of the borrowed channel
+     */
+    Future<Object> borrowObjectAsync(EventExecutor executor) {
+        Promise<Object> promise = executor.newPromise();
+        if (getWhenExhaustedAction() != WHEN_EXHAUSTED_BLOCK) {
+            // Borrowing does not wait unless the pool blocks when exhausted
+            borrowInto(promise);
+            return promise;
+        }
+        if (tryBorrowInto(promise)) {
+            return promise;
+        }
+        PendingBorrow pendingBorrow = new PendingBorrow(this, executor, promise);
+        long maxWait = getMaxWait();
+        if (maxWait > 0) {
+            ScheduledFuture<?> timeout = executor.schedule(() -> {
+                if (promise.tryFailure(new NoSuchElementException(TIMEOUT_WAITING_FOR_IDLE_OBJECT))) {
+                    pendingBorrows.remove(pendingBorrow);
+                }
+            }, maxWait, MILLISECONDS);
+            promise.addListener(future -> timeout.cancel(false));
+        }
+        pendingBorrows.offer(pendingBorrow);
+        // A channel could have been released before the borrow got queued
+        servePendingBorrow();
+        return promise;
+    }
+
+    /**
+     * Opens channels ahead of requests until the pool has the given number of idle channels, counting the channels
+     * which are still being opened. A channel opened here is only added to the idle channels of the pool once it is
+     * connected, so that a request is never lent a channel whose connection has failed.
+     *
+     * @param minIdle the number of idle channels to keep in the pool
+     */
+    void ensureIdle(int minIdle) {
+        int channelsToOpen = minIdle - getNumIdle() - openingChannels.get();
+        List<Object> idleChannels = new ArrayList<>();
+        try {
+            while (channelsToOpen > 0) {
+                TargetChannel targetChannel = (TargetChannel) tryBorrowObject();
+                if (targetChannel.getChannel() != null) {
+                    // The pool lends its idle channels before creating new ones
+                    idleChannels.add(targetChannel);
+                    continue;
+                }
+                openChannel(targetChannel);
+                channelsToOpen--;
+            }
+        } catch (NoSuchElementException e) {
+            LOG.debug("Pool {} is exhausted, idle channels are opened by a later run", poolId);
+        } catch (Exception e) {
+            LOG.warn("Could not open idle channels in pool {}: {}", poolId, e.getMessage());
+        } finally {
+            for (Object idleChannel : idleChannels) {
+                try {
+                    returnObject(idleChannel);
+                } catch (Exception e) {
+                    LOG.debug("Could not return an idle channel to pool {}", poolId, e);
+                }
+            }
+        }
+    }
+
+    private void openChannel(TargetChannel targetChannel) {
+        openingChannels.incrementAndGet();
+        targetChannel.getChannelFuture().addListener((ChannelFutureListener) future -> {
+            openingChannels.decrementAndGet();
+            try {
+                if (future.isSuccess()) {
+                    targetChannel.setChannel(future.channel());
+                    returnObject(targetChannel);
+                } else {
+                    LOG.warn("Could not open an idle connection to {}: {}", targetChannel.getHttpRoute(),
+                             future.cause().getMessage());
+                    invalidateObject(targetChannel);
+                }
+            } catch (Exception e) {
+                LOG.debug("Could not release an opened channel to pool {}", poolId, e);
+            }
+        });
+    }
+
+    @Override
+    public Object borrowObject() throws Exception {
+        lentChannels.incrementAndGet();
+        try {
+            return super.borrowObject();
+        } catch (Exception e) {
+            lentChannels.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public void returnObject(Object obj) throws Exception {
+        lentChannels.decrementAndGet();
+        try {
+            super.returnObject(obj);
+        } finally {
+            servePendingBorrow();
+        }
+    }
+
+    @Override
+    public void invalidateObject(Object obj) throws Exception {
+        lentChannels.decrementAndGet();
+        try {
+            super.invalidateObject(obj);
+        } finally {
+            servePendingBorrow();
+        }
+    }
+
+    /**
+     * Borrows a channel without waiting. Fails with a {@link NoSuchElementException} if the pool, or the route pool
+     * of a per source handler pool, is exhausted.
+     *
+     * @return the borrowed channel
+     * @throws Exception if the pool is exhausted or a channel could not be created
+     */
+    Object tryBorrowObject() throws Exception {
+        if (!tryAcquireBorrowPermit()) {
+            throw new NoSuchElementException(POOL_EXHAUSTED);
+        }
+        boolean nested = BORROWING_WITHOUT_WAITING.get();
+        BORROWING_WITHOUT_WAITING.set(Boolean.TRUE);
+        try {
+            // The permit guarantees that the pool has capacity, so the borrow does not wait
+            return super.borrowObject();
+        } catch (Exception e) {
+            lentChannels.decrementAndGet();
+            throw e;
+        } finally {
+            BORROWING_WITHOUT_WAITING.set(nested);
+        }
+    }
+
+    /**
+     * Borrows a channel for a per source handler pool from the given route pool. The borrow does not wait if the per
+     * source handler pool is borrowing without waiting.
+     *
+     * @param routePool the pool of the route
+     * @return the borrowed channel
+     * @throws Exception if the route pool is exhausted or a channel could not be created
+     */
+    static Object borrowFromRoutePool(GenericObjectPool routePool) throws Exception {
+        if (BORROWING_WITHOUT_WAITING.get() && routePool instanceof TargetChannelPool) {
+            return ((TargetChannelPool) routePool).tryBorrowObject();
+        }
+        return routePool.borrowObject();
+    }
+
+    private boolean tryAcquireBorrowPermit() {
+        int maxActive = getMaxActive();
+        if (maxActive < 0) {
+            lentChannels.incrementAndGet();
+            return true;
+        }
+        int lent;
+        do {
+            lent = lentChannels.get();
+            if (lent >= maxActive) {
+                return false;
+            }
+        } while (!lentChannels.compareAndSet(lent, lent + 1));
+        return true;
+    }
+
+    private boolean hasCapacity() {
+        if (getNumIdle() > 0) {
+            return true;
+        }
+        int maxActive = getMaxActive();
+        if (maxActive >= 0 && lentChannels.get() >= maxActive) {
+            return false;
+        }
+        return routePool == null || routePool.hasCapacity();
+    }
+
+    /**
+     * Borrows a channel into the given promise without waiting.
+     *
+     * @param promise the promise of the borrow
+     * @return false if the pool is exhausted and the promise is left incomplete
+     */
+    private boolean tryBorrowInto(Promise<Object> promise) {
+        Object targetChannel;
+        try {
+            targetChannel = tryBorrowObject();
+        } catch (NoSuchElementException e) {
+            return false;
+        } catch (Exception e) {
+            promise.tryFailure(e);
+            return true;
+        }
+        completeBorrow(promise, targetChannel);
+        return true;
+    }
+
+    private void borrowInto(Promise<Object> promise) {
+        try {
+            completeBorrow(promise, borrowObject());
+        } catch (Exception e) {
+            promise.tryFailure(e);
+        }
+    }
+
+    private void completeBorrow(Promise<Object> promise, Object targetChannel) {
+        if (!promise.trySuccess(targetChannel)) {
+            // The borrow timed out in the meantime
+            try {
+                returnObject(targetChannel);
+            } catch (Exception e) {
+                LOG.debug("Could not return a channel to pool {}", poolId, e);
+            }
+        }
+    }
+
+    /**
+     * Hands a released channel over to the first pending borrow whose pool can lend it. Only one borrow is served
+     * per release; the served borrow is queued again if another borrow takes the channel first.
+     */
+    private void servePendingBorrow() {
+        Iterator<PendingBorrow> iterator = pendingBorrows.iterator();
+        while (iterator.hasNext()) {
+            PendingBorrow pendingBorrow = iterator.next();
+            if (pendingBorrow.promise.isDone()) {
+                iterator.remove();
+            } else if (pendingBorrow.pool.hasCapacity() && pendingBorrows.remove(pendingBorrow)) {
+                pendingBorrow.executor.execute(pendingBorrow::retry);
+                return;
+            }
+        }
+    }
+
+    /**
+     * An asynchronous borrow waiting for a channel.
+     */
+    private static class PendingBorrow {
+        private final TargetChannelPool pool;
+        private final EventExecutor executor;
+        private final Promise<Object> promise;
+
+        PendingBorrow(TargetChannelPool pool, EventExecutor executor, Promise<Object> promise) {
+            this.pool = pool;
+            this.executor = executor;
+            this.promise = promise;
+        }
+
+        private void retry() {
+            if (promise.isDone()) {
+                return;
+            }
+            if (!pool.tryBorrowInto(promise)) {
+                // Lost the released channel to a concurrent borrow
+                LOG.debug("Channel is not available in pool {}, hence waiting further", pool.poolId);
+                pool.pendingBorrows.offer(this);
+                pool.servePendingBorrow();
+            }
+        }
+    }
+}
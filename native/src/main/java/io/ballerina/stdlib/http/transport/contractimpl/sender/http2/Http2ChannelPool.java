@@ -18,15 +18,20 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
 import io.netty.channel.Channel;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.netty.util.concurrent.EventExecutor;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
@@ -36,8 +41,7 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 class Http2ChannelPool {
 
-    private static final Logger LOG = LoggerFactory.getLogger(Http2ChannelPool.class);
-    private final Map<String, PerRouteConnectionPool> perRouteConnectionPools = new HashMap<>();
+    private final Map<String, PerRouteConnectionPool> perRouteConnectionPools = new ConcurrentHashMap<>();
 
     PerRouteConnectionPool fetchPerRoutePool(String key) {
         return perRouteConnectionPools.get(key);
@@ -49,100 +53,283 @@ class Http2ChannelPool {
 
     /**
      * Entity which holds the pool of connections for a given http route.
+     * <p>
+     * Requests are spread over the connections of the route by reserving a stream on the connection with the least
+     * number of active streams. The pool never opens connections by itself. Instead, a request is asked to open one
+     * when the route has fewer connections than the configured minimum, when the stream utilization of the route
+     * passes the configured threshold, or when none of the connections can take another stream. Requests which
+     * cannot be served while a connection is being opened, or while the route is at its maximum number of
+     * connections, are queued and notified once a stream becomes available, so the calling thread is never blocked.
+     * A queued request fails once it has waited for the given wait time. A request asked to open a connection is
+     * notified on its executor, so the connection is not opened on the calling thread.
      */
     static class PerRouteConnectionPool {
 
-        private final BlockingQueue<Http2ClientChannel> http2ClientChannels = new LinkedBlockingQueue<>();
+        private final List<Http2ClientChannel> http2ClientChannels = new CopyOnWriteArrayList<>();
         // Maximum number of allowed active streams
         private final int maxActiveStreams;
-        private CountDownLatch newChannelInitializerLatch = new CountDownLatch(1);
-        private boolean newChannelInitializer = true;
+        private final int minConnections;
+        private final int maxConnections;
+        private final double connectionOpenThreshold;
         private final ReentrantLock lock = new ReentrantLock();
+        // Both are only modified while holding the lock
+        private final Queue<WaitingRequest> waitingRequests = new ArrayDeque<>();
+        private volatile int pendingConnections;
 
         PerRouteConnectionPool(int maxActiveStreams) {
+            this(maxActiveStreams, 1, Integer.MAX_VALUE, 1.0);
+        }
+
+        PerRouteConnectionPool(int maxActiveStreams, int minConnections, int maxConnections,
+                               double connectionOpenThreshold) {
             this.maxActiveStreams = maxActiveStreams;
+            this.minConnections = minConnections;
+            this.maxConnections = Math.max(maxConnections, 1);
+            this.connectionOpenThreshold = connectionOpenThreshold;
         }
 
         /**
-         * Fetches an active {@code TargetChannel} from the pool. The first thread will add the channel to the pool. It
-         * is handled using a CountDownLatch. Subsequent threads will reuse the channel. Once the maxActiveStreams
-         * reaches in the channel, a new channel will be added to handle the excess requests. At that point also new
-         * channel addition happens through a synchronized manner to avoid multiple channels getting added to the pool.
+         * Reserves a stream on the least loaded connection of the route without opening or waiting for a new
+         * connection.
          *
-         * @return active TargetChannel
+         * @return the connection the stream was reserved on or null if none of the connections can take a stream
          */
-         Http2ClientChannel fetchTargetChannel() {
-            waitTillNewChannelInitialized();
-            if (!http2ClientChannels.isEmpty()) {
-                Http2ClientChannel http2ClientChannel = http2ClientChannels.peek();
-                if (http2ClientChannel == null) {  // if channel is not active, forget it and fetch next one
-                    return fetchTargetChannel();
-                }
-                Channel channel = http2ClientChannel.getChannel();
-                if (channel == null) {  // if channel is not active, forget it and fetch next one
-                    removeChannel(http2ClientChannel);
-                    return fetchTargetChannel();
+        Http2ClientChannel fetchTargetChannel() {
+            return reserveStream();
+        }
+
+        /**
+         * Reserves a stream for a request on the least loaded connection of the route, asks the request to open a new
+         * connection, or queues the request until a stream becomes available.
+         *
+         * @param executor          the executor which notifies the request to open a connection and which times out
+         *                          the request while it is queued
+         * @param waitTimeoutMillis the maximum time the request is queued for, or a non positive value to wait
+         *                          without a limit
+         * @param listener          the listener to be notified when the request can proceed
+         */
+        void fetchTargetChannel(EventExecutor executor, long waitTimeoutMillis, Http2ClientChannelListener listener) {
+            if (!shouldOpenConnection()) {
+                Http2ClientChannel http2ClientChannel = reserveStream();
+                if (http2ClientChannel != null) {
+                    listener.onChannelAvailable(http2ClientChannel);
+                    return;
                 }
-                // increment and get active stream count
-                int activeStreamCount = http2ClientChannel.incrementActiveStreamCount();
-
-                if (activeStreamCount < maxActiveStreams) {  // safe to fetch the Target Channel
-                    return http2ClientChannel;
-                } else if (activeStreamCount == maxActiveStreams) {  // no more streams except this one can be opened
-                    http2ClientChannel.markAsExhausted();
-                    removeChannel(http2ClientChannel);
-                    // When the stream count reaches maxActiveStreams, a new channel will be added only if the
-                    // channel queue is empty. This process is synchronized as transport thread can return channels
-                    // after being reset. If such channel is returned before the new CountDownLatch, the subsequent
-                    // ballerina thread will not take http1.1 thread as the channels queue is not empty. In such cases,
-                    // threads wait on the countdown latch cannot be released until another thread is returned. Hence
-                    // synchronized on a lock
-                    if (http2ClientChannels.isEmpty()) {
-                        lock.lock();
-                        try {
-                            newChannelInitializer = true;
-                            newChannelInitializerLatch = new CountDownLatch(1);
-                        } finally {
-                            lock.unlock();
+            }
+            Http2ClientChannel http2ClientChannel = null;
+            lock.lock();
+            try {
+                if (!shouldOpenConnection()) {
+                    http2ClientChannel = reserveStream();
+                    if (http2ClientChannel == null && (pendingConnections > 0 || !canOpenConnection())) {
+                        WaitingRequest waitingRequest = new WaitingRequest(listener);
+                        if (waitTimeoutMillis > 0) {
+                            waitingRequest.timeout = TimeoutWheel.schedule(
+                                    executor, () -> expire(waitingRequest),
+                                    TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis));
                         }
+                        waitingRequests.add(waitingRequest);
+                        return;
                     }
-                    return http2ClientChannel;
-                } else {
-                    removeChannel(http2ClientChannel);
-                    return fetchTargetChannel();    // fetch the next one from the queue
                 }
+                if (http2ClientChannel == null) {
+                    pendingConnections++;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (http2ClientChannel != null) {
+                listener.onChannelAvailable(http2ClientChannel);
+            } else {
+                executor.execute(listener::onNewConnectionRequired);
+            }
+        }
+
+        private void expire(WaitingRequest waitingRequest) {
+            lock.lock();
+            try {
+                if (!waitingRequests.remove(waitingRequest)) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
             }
-            return null;
+            waitingRequest.listener.onWaitTimeout(new ClientConnectorException(null,
+                                                                               Constants.MAXIMUM_WAIT_TIME_EXCEED));
         }
 
+        /**
+         * Adds a newly opened connection to the pool and serves the requests waiting for it.
+         *
+         * @param http2ClientChannel the new connection
+         */
         void addChannel(Http2ClientChannel http2ClientChannel) {
             http2ClientChannels.add(http2ClientChannel);
-            releaseCountdown();
+            lock.lock();
+            try {
+                if (pendingConnections > 0) {
+                    pendingConnections--;
+                }
+            } finally {
+                lock.unlock();
+            }
+            notifyWaitingListeners(false);
+        }
+
+        /**
+         * Serves the waiting requests once streams of a connection which had reached the maximum number of active
+         * streams get closed.
+         *
+         * @param http2ClientChannel the connection which can take streams again
+         */
+        void returnChannel(Http2ClientChannel http2ClientChannel) {
+            notifyWaitingListeners(false);
         }
 
-        void releaseCountdown() {
+        /**
+         * Releases a connection which was being opened but could not be added to the pool, because the connection
+         * failed or was not upgraded to HTTP/2. The requests waiting for it open their own connections.
+         */
+        void releasePendingConnection() {
             lock.lock();
             try {
-                newChannelInitializerLatch.countDown();
+                if (pendingConnections == 0) {
+                    return;
+                }
+                pendingConnections--;
             } finally {
                 lock.unlock();
             }
+            notifyWaitingListeners(true);
         }
 
         void removeChannel(Http2ClientChannel http2ClientChannel) {
-            http2ClientChannels.remove(http2ClientChannel);
+            if (http2ClientChannels.remove(http2ClientChannel)) {
+                notifyWaitingListeners(false);
+            }
+        }
+
+        int getConnectionCount() {
+            return http2ClientChannels.size();
+        }
+
+        int getPendingConnectionCount() {
+            return pendingConnections;
         }
 
-        private void waitTillNewChannelInitialized() {
+        int getWaitingRequestCount() {
+            lock.lock();
+            try {
+                return waitingRequests.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean shouldOpenConnection() {
+            int connections = http2ClientChannels.size();
+            int pending = pendingConnections;
+            if (connections + pending < minConnections) {
+                return true;
+            }
+            if (connections == 0 || pending > 0 || connections + pending >= maxConnections) {
+                return false;
+            }
+            long activeStreams = 0;
+            for (Http2ClientChannel http2ClientChannel : http2ClientChannels) {
+                activeStreams += http2ClientChannel.getActiveStreamCount();
+            }
+            return activeStreams >= connectionOpenThreshold * connections * maxActiveStreams;
+        }
+
+        private boolean canOpenConnection() {
+            return http2ClientChannels.size() + pendingConnections < maxConnections;
+        }
+
+        private Http2ClientChannel reserveStream() {
+            while (true) {
+                Http2ClientChannel leastLoadedChannel = null;
+                int leastActiveStreams = maxActiveStreams;
+                for (Http2ClientChannel http2ClientChannel : http2ClientChannels) {
+                    Channel channel = http2ClientChannel.getChannel();
+                    if (channel == null || !channel.isActive()) {  // if channel is not active, forget it
+                        http2ClientChannels.remove(http2ClientChannel);
+                        continue;
+                    }
+                    int activeStreams = http2ClientChannel.getActiveStreamCount();
+                    if (activeStreams < leastActiveStreams) {
+                        leastLoadedChannel = http2ClientChannel;
+                        leastActiveStreams = activeStreams;
+                    }
+                }
+                if (leastLoadedChannel == null) {
+                    return null;
+                }
+                if (leastLoadedChannel.tryReserveStream(maxActiveStreams)) {
+                    return leastLoadedChannel;
+                }
+                // Another request took the last stream of the connection, look for the next one
+            }
+        }
+
+        /**
+         * Serves the waiting requests with the streams available in the pool. The requests which are left are asked
+         * to open new connections, one at a time unless {@code openForAll} is set, as long as the maximum number of
+         * connections is not reached.
+         *
+         * @param openForAll whether every request which is left should open a connection
+         */
+        private void notifyWaitingListeners(boolean openForAll) {
+            List<Http2ClientChannelListener> channelAvailableListeners = new ArrayList<>();
+            List<Http2ClientChannel> reservedChannels = new ArrayList<>();
+            List<Http2ClientChannelListener> newConnectionListeners = new ArrayList<>();
+            lock.lock();
             try {
-                if (newChannelInitializer) {
-                    newChannelInitializer = false;
-                } else {
-                    newChannelInitializerLatch.await();
+                while (!waitingRequests.isEmpty()) {
+                    Http2ClientChannel http2ClientChannel = reserveStream();
+                    if (http2ClientChannel == null) {
+                        break;
+                    }
+                    channelAvailableListeners.add(waitingRequests.poll().dequeue());
+                    reservedChannels.add(http2ClientChannel);
+                }
+                while (!waitingRequests.isEmpty() && (openForAll || pendingConnections == 0)
+                        && canOpenConnection()) {
+                    pendingConnections++;
+                    newConnectionListeners.add(waitingRequests.poll().dequeue());
                 }
-            } catch (InterruptedException e) {
-                LOG.warn("Interrupted before adding the target channel");
+            } finally {
+                lock.unlock();
+            }
+            for (int i = 0; i < channelAvailableListeners.size(); i++) {
+                channelAvailableListeners.get(i).onChannelAvailable(reservedChannels.get(i));
+            }
+            newConnectionListeners.forEach(Http2ClientChannelListener::onNewConnectionRequired);
+        }
+    }
+
+    /**
+     * A request queued on the pool of a route, along with the timeout which fails it after the wait time.
+     */
+    private static final class WaitingRequest {
+
+        private final Http2ClientChannelListener listener;
+        private TimeoutWheel.Timeout timeout;
+
+        WaitingRequest(Http2ClientChannelListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Cancels the wait timeout once the request is taken off the queue.
+         *
+         * @return the listener of the request
+         */
+        Http2ClientChannelListener dequeue() {
+            if (timeout != null) {
+                timeout.cancel();
             }
+            return listener;
         }
     }
 }
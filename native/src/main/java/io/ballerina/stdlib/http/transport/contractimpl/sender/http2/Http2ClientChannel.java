@@ -20,6 +20,8 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
+import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2StreamTable;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
@@ -34,7 +36,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -47,8 +48,9 @@ public class Http2ClientChannel {
 
     private static final Logger LOG = LoggerFactory.getLogger(Http2ClientChannel.class);
 
-    private ConcurrentHashMap<Integer, OutboundMsgHolder> inFlightMessages;
-    private ConcurrentHashMap<Integer, OutboundMsgHolder> promisedMessages;
+    // Only accessed from the event loop of the channel
+    private final Http2StreamTable<OutboundMsgHolder> inFlightMessages = new Http2StreamTable<>();
+    private final Http2StreamTable<OutboundMsgHolder> promisedMessages = new Http2StreamTable<>();
     private Channel channel;
     private Http2Connection connection;
     private ChannelFuture channelFuture;
@@ -73,8 +75,6 @@ public class Http2ClientChannel {
         streamCloseListener = new StreamCloseListener(this);
         this.connection.addListener(streamCloseListener);
         dataEventListeners = new HashMap<>();
-        inFlightMessages = new ConcurrentHashMap<>();
-        promisedMessages = new ConcurrentHashMap<>();
     }
 
     /**
@@ -190,12 +190,55 @@ public class Http2ClientChannel {
     }
 
     /**
-     * Increments and gets the active streams count.
+     * Sets the idle timer of an in-flight or promised stream. The timer is cancelled if the stream is in neither.
+     *
+     * @param streamId stream id
+     * @param timer    the idle timer of the stream
+     */
+    void setStreamTimer(int streamId, TimeoutWheel.Timeout timer) {
+        if (!inFlightMessages.setTimer(streamId, timer) && !promisedMessages.setTimer(streamId, timer)) {
+            timer.cancel();
+        }
+    }
+
+    /**
+     * Cancels the idle timer of an in-flight or promised stream.
+     *
+     * @param streamId stream id
+     * @return true if the stream had a timer
+     */
+    boolean cancelStreamTimer(int streamId) {
+        return inFlightMessages.cancelTimer(streamId) || promisedMessages.cancelTimer(streamId);
+    }
+
+    /**
+     * Reserves a stream on the channel if the number of active streams is below the given maximum. The channel is
+     * marked as exhausted when the reserved stream is the last one allowed.
+     *
+     * @param maxActiveStreams maximum number of allowed active streams
+     * @return true if a stream was reserved
+     */
+    boolean tryReserveStream(int maxActiveStreams) {
+        int activeStreamCount;
+        do {
+            activeStreamCount = activeStreams.get();
+            if (activeStreamCount >= maxActiveStreams) {
+                return false;
+            }
+        } while (!activeStreams.compareAndSet(activeStreamCount, activeStreamCount + 1));
+        if (activeStreamCount + 1 == maxActiveStreams) {
+            markAsExhausted();
+        }
+        return true;
+    }
+
+    /**
+     * Gets the active streams count.
      *
      * @return number of active streams count
      */
-    int incrementActiveStreamCount() {
-        return activeStreams.incrementAndGet();
+    int getActiveStreamCount() {
+        return activeStreams.get();
     }
 
     /**
@@ -264,7 +307,7 @@ public class Http2ClientChannel {
      */
     private void handleConnectionClose() {
         if (!inFlightMessages.isEmpty()) {
-            inFlightMessages.values().forEach(outBoundMsgHolder -> {
+            inFlightMessages.forEach((streamId, outBoundMsgHolder) -> {
                 Http2MessageStateContext messageStateContext =
                         outBoundMsgHolder.getRequest().getHttp2MessageStateContext();
                 if (messageStateContext != null) {
@@ -274,7 +317,7 @@ public class Http2ClientChannel {
         }
     }
 
-    ConcurrentHashMap<Integer, OutboundMsgHolder> getInFlightMessages() {
+    Http2StreamTable<OutboundMsgHolder> getInFlightMessages() {
         return inFlightMessages;
     }
 
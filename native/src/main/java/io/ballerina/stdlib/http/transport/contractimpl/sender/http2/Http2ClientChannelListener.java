@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
+
+import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
+
+/**
+ * Listener which gets notified when a request can proceed on the HTTP/2 connection pool of a route.
+ *
+ * @since 2.13.3
+ */
+public interface Http2ClientChannelListener {
+
+    /**
+     * Gets notified when a stream has been reserved for the request on an existing HTTP/2 connection.
+     *
+     * @param http2ClientChannel the connection the stream was reserved on
+     */
+    void onChannelAvailable(Http2ClientChannel http2ClientChannel);
+
+    /**
+     * Gets notified when the request should open a new connection. The new connection is expected to be handed over
+     * to the {@link Http2ConnectionManager} once it is upgraded, or released through
+     * {@link Http2ConnectionManager#releasePendingConnection} if it cannot be used for HTTP/2.
+     */
+    void onNewConnectionRequired();
+
+    /**
+     * Gets notified when the request was queued for longer than its wait time without a stream becoming available
+     * or a connection being opened for it.
+     *
+     * @param cause the failure to report for the request
+     */
+    void onWaitTimeout(ClientConnectorException cause);
+}
@@ -33,9 +33,6 @@ import io.netty.handler.codec.http2.Http2Headers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_BEFORE_INITIATING_PUSH_RESPONSE;
@@ -55,12 +52,10 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
     private long idleTimeNanos;
     private Http2ClientChannel http2ClientChannel;
-    private Map<Integer, ScheduledFuture<?>> timerTasks;
 
     public Http2ClientTimeoutHandler(long idleTimeMills, Http2ClientChannel http2ClientChannel) {
         this.idleTimeNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(idleTimeMills), MIN_TIMEOUT_NANOS);
         this.http2ClientChannel = http2ClientChannel;
-        timerTasks = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -76,14 +71,14 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
     private void setTimerTask(ChannelHandlerContext ctx, int streamId, OutboundMsgHolder outboundMsgHolder) {
         if (outboundMsgHolder != null) {
             outboundMsgHolder.setLastReadWriteTime(ticksInNanos());
-            timerTasks.put(streamId,
-                           schedule(ctx, new IdleTimeoutTask(ctx, streamId, false), idleTimeNanos));
+            http2ClientChannel.setStreamTimer(streamId,
+                                              schedule(ctx, new IdleTimeoutTask(ctx, streamId, false), idleTimeNanos));
         }
     }
 
     public void createTimerTask(ChannelHandlerContext ctx, int streamId, long timeOut, boolean expectContinue) {
         this.idleTimeNanos = timeOut;
-        timerTasks.put(streamId, schedule(ctx, new IdleTimeoutTask(ctx, streamId, expectContinue),
+        http2ClientChannel.setStreamTimer(streamId, schedule(ctx, new IdleTimeoutTask(ctx, streamId, expectContinue),
                 TimeUnit.MILLISECONDS.toNanos(timeOut)));
     }
 
@@ -125,17 +120,12 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
 
     @Override
     public void onStreamClose(int streamId) {
-        ScheduledFuture timerTask = timerTasks.get(streamId);
-        if (timerTask != null) {
-            timerTask.cancel(false);
-            timerTasks.remove(streamId);
-        }
+        http2ClientChannel.cancelStreamTimer(streamId);
     }
 
     @Override
     public void destroy() {
-        timerTasks.forEach((streamId, task) -> task.cancel(false));
-        timerTasks.clear();
+        // Timers are kept with the streams of the channel and are cancelled when the channel is destroyed
     }
 
     private void updateLastReadTime(int streamId, boolean endOfStream) {
@@ -200,7 +190,7 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
                 }
             } else {
                 // Write occurred before the timeout - set a new timeout with shorter delay.
-                timerTasks.put(streamId, schedule(ctx, this, nextDelay));
+                http2ClientChannel.setStreamTimer(streamId, schedule(ctx, this, nextDelay));
             }
         }
 
@@ -264,8 +254,4 @@ public class Http2ClientTimeoutHandler implements Http2DataEventListener {
             return idleTimeNanos - (ticksInNanos() - msgHolder.getLastReadWriteTime());
         }
     }
-
-    public Map<Integer, ScheduledFuture<?>> getTimerTasks() {
-        return timerTasks;
-    }
 }
@@ -21,6 +21,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
+import io.netty.util.concurrent.EventExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,17 +76,17 @@ public class Http2ConnectionManager {
     }
 
     /**
-     * Release the count down latch. If the connection upgrade is rejected, the H2Pool count down latch will not be
-     * release as the channel is not added. In such instances, forcefully reduces the count down to allow subsequent
-     * requests to proceed.
+     * Release a connection which was being opened for the route. If the connection fails or the connection upgrade is
+     * rejected, the channel is not added to the pool. In such instances, forcefully release the pending connection to
+     * allow the requests waiting for it to proceed.
      *
      * @param httpRoute  the route key
      */
-    public void releasePerRoutePoolLatch(HttpRoute httpRoute) {
+    public void releasePendingConnection(HttpRoute httpRoute) {
         String key = generateKey(httpRoute);
         Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool = this.http2ChannelPool.fetchPerRoutePool(key);
         if (perRouteConnectionPool != null) {
-            perRouteConnectionPool.releaseCountdown();
+            perRouteConnectionPool.releasePendingConnection();
         }
     }
 
@@ -117,8 +118,11 @@ public class Http2ConnectionManager {
         try {
             Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool = pool.getPerRouteConnectionPools().get(key);
             if (perRouteConnectionPool == null) {
-                perRouteConnectionPool = new Http2ChannelPool.PerRouteConnectionPool(this.poolConfiguration
-                        .getHttp2MaxActiveStreamsPerConnection());
+                perRouteConnectionPool = new Http2ChannelPool.PerRouteConnectionPool(
+                        poolConfiguration.getHttp2MaxActiveStreamsPerConnection(),
+                        poolConfiguration.getHttp2MinConnectionsPerRoute(),
+                        poolConfiguration.getHttp2MaxConnectionsPerRoute(),
+                        poolConfiguration.getHttp2ConnectionOpenThreshold());
                 pool.getPerRouteConnectionPools().put(key, perRouteConnectionPool);
             }
             return perRouteConnectionPool;
@@ -128,10 +132,10 @@ public class Http2ConnectionManager {
     }
 
     /**
-     * Borrow an HTTP/2 client channel.
+     * Borrow an HTTP/2 client channel which can take another stream, without opening or waiting for a new connection.
      *
      * @param httpRoute the http route
-     * @return Http2ClientChannel
+     * @return Http2ClientChannel or null if none of the connections of the route can take another stream
      */
     public Http2ClientChannel fetchChannel(HttpRoute httpRoute) {
         Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool;
@@ -139,6 +143,24 @@ public class Http2ConnectionManager {
         return perRouteConnectionPool.fetchTargetChannel();
     }
 
+    /**
+     * Borrow an HTTP/2 client channel without blocking the calling thread. The listener is notified either with the
+     * least loaded connection of the route, or with a request to open a new connection. A new connection must be
+     * added through {@link #addHttp2ClientChannel} or released through {@link #releasePendingConnection}.
+     *
+     * @param httpRoute         the http route
+     * @param executor          the executor which notifies the listener to open a new connection and which times out
+     *                          the request while it waits for a stream
+     * @param waitTimeoutMillis the maximum time to wait for a stream, or a non positive value to wait without a limit
+     * @param listener          the listener to be notified when the request can proceed
+     */
+    public void fetchChannel(HttpRoute httpRoute, EventExecutor executor, long waitTimeoutMillis,
+                             Http2ClientChannelListener listener) {
+        Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool;
+        perRouteConnectionPool = getOrCreatePerRoutePool(this.http2ChannelPool, generateKey(httpRoute));
+        perRouteConnectionPool.fetchTargetChannel(executor, waitTimeoutMillis, listener);
+    }
+
     /**
      * Return the http/2 client channel to per route pool.
      *
@@ -148,7 +170,7 @@ public class Http2ConnectionManager {
     void returnClientChannel(HttpRoute httpRoute, Http2ClientChannel http2ClientChannel) {
         Http2ChannelPool.PerRouteConnectionPool perRouteConnectionPool = fetchPerRoutePool(httpRoute);
         if (perRouteConnectionPool != null) {
-            perRouteConnectionPool.addChannel(http2ClientChannel);
+            perRouteConnectionPool.returnChannel(http2ClientChannel);
         }
     }
 
@@ -192,14 +214,18 @@ public class Http2ConnectionManager {
                         }
                     } else if ((System.currentTimeMillis() - http2ClientChannel.getTimeSinceMarkedAsStale()) >
                             poolConfiguration.getMinIdleTimeInStaleState()) {
-                        http2ClientChannel.getInFlightMessages().forEach((streamId, outboundMsgHolder) -> {
-                            Http2MessageStateContext messageStateContext =
-                                    outboundMsgHolder.getRequest().getHttp2MessageStateContext();
-                            if (messageStateContext != null) {
-                                messageStateContext.getSenderState().handleConnectionClose(outboundMsgHolder);
-                            }
+                        // The in-flight messages are only accessed from the event loop of the channel
+                        removeClosedChannelFromStalePool(http2ClientChannel);
+                        http2ClientChannel.getChannel().eventLoop().execute(() -> {
+                            http2ClientChannel.getInFlightMessages().forEach((streamId, outboundMsgHolder) -> {
+                                Http2MessageStateContext messageStateContext =
+                                        outboundMsgHolder.getRequest().getHttp2MessageStateContext();
+                                if (messageStateContext != null) {
+                                    messageStateContext.getSenderState().handleConnectionClose(outboundMsgHolder);
+                                }
+                            });
+                            http2ClientChannel.getConnection().close(http2ClientChannel.getChannel().newPromise());
                         });
-                        closeChannelAndEvict(http2ClientChannel);
                     }
                 });
             }
@@ -213,7 +239,7 @@ public class Http2ConnectionManager {
                 poolConfiguration.getTimeBetweenStaleEviction());
     }
 
-    private Http2ChannelPool.PerRouteConnectionPool fetchPerRoutePool(HttpRoute httpRoute) {
+    Http2ChannelPool.PerRouteConnectionPool fetchPerRoutePool(HttpRoute httpRoute) {
         String key = generateKey(httpRoute);
         return this.http2ChannelPool.fetchPerRoutePool(key);
     }
@@ -20,8 +20,10 @@
 package io.ballerina.stdlib.http.transport.contractimpl.sender.websocket;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contract.websocket.ClientHandshakeFuture;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnectorConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.NativeTransport;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.WebSocketMessageQueueHandler;
@@ -33,7 +35,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.websocketx.Utf8FrameValidator;
@@ -71,13 +72,17 @@ public class WebSocketClient {
 
     private final WebSocketClientConnectorConfig connectorConfig;
     private final EventLoopGroup wsClientEventLoopGroup;
+    private final SocketTransport socketTransport;
 
     /**
      * @param wsClientEventLoopGroup of the client connector
+     * @param socketTransport        resolved socket transport of the client event loop group
      * @param connectorConfig        Connector configuration for WebSocket client.
      */
-    public WebSocketClient(EventLoopGroup wsClientEventLoopGroup, WebSocketClientConnectorConfig connectorConfig) {
+    public WebSocketClient(EventLoopGroup wsClientEventLoopGroup, SocketTransport socketTransport,
+                           WebSocketClientConnectorConfig connectorConfig) {
         this.wsClientEventLoopGroup = wsClientEventLoopGroup;
+        this.socketTransport = socketTransport;
         this.connectorConfig = connectorConfig;
     }
 
@@ -132,7 +137,8 @@ public class WebSocketClient {
     private Bootstrap initClientBootstrap(String host, int port, DefaultClientHandshakeFuture handshakeFuture) {
         Bootstrap clientBootstrap = new Bootstrap();
         SSLConfig sslConfig = connectorConfig.getClientSSLConfig();
-        clientBootstrap.group(wsClientEventLoopGroup).channel(NioSocketChannel.class).handler(
+        clientBootstrap.group(wsClientEventLoopGroup)
+                .channel(NativeTransport.getSocketChannelClass(socketTransport)).handler(
                 new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel socketChannel) throws Exception {
@@ -19,6 +19,7 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.websocket;
 
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
 import io.ballerina.stdlib.http.transport.contract.websocket.ClientHandshakeFuture;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnector;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnectorConfig;
@@ -33,8 +34,8 @@ public class DefaultWebSocketClientConnector implements WebSocketClientConnector
     private final WebSocketClient webSocketClient;
 
     public DefaultWebSocketClientConnector(WebSocketClientConnectorConfig clientConnectorConfig,
-            EventLoopGroup wsClientEventLoopGroup) {
-        this.webSocketClient = new WebSocketClient(wsClientEventLoopGroup, clientConnectorConfig);
+            EventLoopGroup wsClientEventLoopGroup, SocketTransport socketTransport) {
+        this.webSocketClient = new WebSocketClient(wsClientEventLoopGroup, socketTransport, clientConnectorConfig);
     }
 
     @Override
@@ -95,6 +95,16 @@ public class DefaultWebSocketConnection implements WebSocketConnection {
         webSocketMessageQueueHandler.readNextFrame();
     }
 
+    @Override
+    public void readFrames(int maxFrames) {
+        webSocketMessageQueueHandler.readFrames(maxFrames);
+    }
+
+    @Override
+    public void drainFrames(long maxBytes) {
+        webSocketMessageQueueHandler.drainFrames(maxBytes);
+    }
+
     @Override
     public void startReadingFrames() {
         ChannelPipeline pipeline = ctx.pipeline();
@@ -28,48 +28,80 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Blocking entity collector.
+ * <p>
+ * Contents are kept in a single producer, single consumer queue made of fixed size array segments. The producer
+ * (usually the Netty I/O thread) publishes each content through a volatile index and only takes the consumer lock
+ * to signal when a consumer is blocked waiting for content. Consumers block with a timeout of {@code soTimeOut} for
+ * each expected content. The queued byte count is tracked on both ends so that length queries do not need to drain
+ * and re-add the queued contents.
+ * <p>
+ * Producers must not call into the collector concurrently; {@link HttpCarbonMessage} serializes them with its
+ * message lock. Consumer side operations are serialized with an internal lock.
  */
 public class BlockingEntityCollector implements EntityCollector {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockingEntityCollector.class);
 
-    private int soTimeOut;
-    private EntityBodyState state;
+    private static final int SEGMENT_SIZE = 32;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
 
-    private BlockingQueue<HttpContent> httpContentQueue;
-    private Lock readWriteLock;
-    private Condition readCondition;
+    private final int soTimeOut;
+    private volatile EntityBodyState state;
+
+    // Producer side. Only written by the producer; read by consumers after reading publishedIndex.
+    private Segment producerSegment;
+    private long producerIndex;
+    private volatile long publishedIndex;
+    private volatile long addedBytes;
+    private volatile long lastContentIndex = -1;
+
+    // Consumer side. Only written while holding the consumerLock.
+    private final ReentrantLock consumerLock = new ReentrantLock();
+    private final Condition readCondition = consumerLock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private Segment consumerSegment;
+    private volatile long consumerIndex;
+    private volatile long consumedBytes;
 
     BlockingEntityCollector(int soTimeOut) {
         this.soTimeOut = soTimeOut;
         this.state = EntityBodyState.EXPECTING;
-        this.readWriteLock = new ReentrantLock();
-        this.httpContentQueue = new LinkedBlockingQueue<>();
-        this.readCondition = readWriteLock.newCondition();
+        this.producerSegment = new Segment();
+        this.consumerSegment = producerSegment;
     }
 
     public void addHttpContent(HttpContent httpContent) {
         try {
-            readWriteLock.lock();
+            int length = httpContent.content().readableBytes();
             state = EntityBodyState.CONSUMABLE;
-            httpContentQueue.add(httpContent);
-            readCondition.signalAll();
+            long index = producerIndex;
+            int offset = (int) (index & SEGMENT_MASK);
+            if (offset == 0 && index != 0) {
+                Segment next = new Segment();
+                producerSegment.next = next;
+                producerSegment = next;
+            }
+            producerSegment.contents[offset] = httpContent;
+            producerSegment.lengths[offset] = length;
+            producerIndex = index + 1;
+            addedBytes += length;
+            if (httpContent instanceof LastHttpContent) {
+                lastContentIndex = index;
+            }
+            publishedIndex = index + 1;
+            if (waitingConsumers.get() > 0) {
+                signalConsumers();
+            }
         } catch (Exception e) {
             LOG.error("Cannot put content to queue", e);
-        } finally {
-            readWriteLock.unlock();
         }
     }
 
@@ -78,15 +110,18 @@ public class BlockingEntityCollector implements EntityCollector {
     }
 
     public HttpContent getHttpContent() {
+        consumerLock.lock();
         try {
-            readWriteLock.lock();
             if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
-                waitForEntity();
-                HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
+                long index = consumerIndex;
+                if (index == publishedIndex) {
+                    waitForEntity(index);
+                }
+                HttpContent httpContent = poll();
 
                 if (httpContent instanceof LastHttpContent) {
                     state = EntityBodyState.CONSUMED;
-                    httpContentQueue.clear();
+                    clear();
                 }
 
                 return httpContent;
@@ -94,7 +129,7 @@ public class BlockingEntityCollector implements EntityCollector {
         } catch (InterruptedException e) {
             LOG.error("Error while retrieving http content from queue", e);
         } finally {
-            readWriteLock.unlock();
+            consumerLock.unlock();
         }
         return null;
     }
@@ -109,26 +144,24 @@ public class BlockingEntityCollector implements EntityCollector {
 
     public long getFullMessageLength() {
         long size = 0;
+        consumerLock.lock();
         try {
-            readWriteLock.lock();
-            List<HttpContent> contentList = new ArrayList<>();
-            while (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
-                waitForEntity();
-                HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
-                size += httpContent.content().readableBytes();
-                contentList.add(httpContent);
-                if ((httpContent instanceof LastHttpContent)) {
-                    state = EntityBodyState.CONSUMED;
+            if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
+                long published = publishedIndex;
+                while (lastContentIndex < consumerIndex) {
+                    if (!waitForEntity(published)) {
+                        LOG.error("Error while retrieving http content length: poll timeout expired");
+                        break;
+                    }
+                    published = publishedIndex;
                 }
+                size = queuedBytes();
             }
-            httpContentQueue.addAll(contentList);
             state = EntityBodyState.CONSUMABLE;
         } catch (InterruptedException e) {
             LOG.warn("Error while getting full message length", e);
-        } catch (Exception e) {
-            LOG.error("Error while retrieving http content length", e);
         } finally {
-            readWriteLock.unlock();
+            consumerLock.unlock();
         }
 
         return size;
@@ -136,62 +169,112 @@ public class BlockingEntityCollector implements EntityCollector {
 
     public long countMessageLengthTill(long maxSize) throws IllegalStateException {
         long size = 0;
+        consumerLock.lock();
         try {
-            readWriteLock.lock();
-            List<HttpContent> contentList = new ArrayList<>();
-            while (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
-                waitForEntity();
-                HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
-                if (httpContent == null) {
-                    throw new IllegalStateException("poll timeout expired");
-                }
-                size += httpContent.content().readableBytes();
-                contentList.add(httpContent);
-                if (size >= maxSize) {
-                    while (!httpContentQueue.isEmpty()) {
-                        contentList.add(httpContentQueue.poll(soTimeOut, MILLISECONDS));
+            if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
+                while (true) {
+                    long published = publishedIndex;
+                    size = queuedBytes();
+                    if (size >= maxSize || lastContentIndex >= consumerIndex) {
+                        break;
+                    }
+                    if (!waitForEntity(published)) {
+                        throw new IllegalStateException("poll timeout expired");
                     }
-                    break;
-                } else if ((httpContent instanceof LastHttpContent)) {
-                    state = EntityBodyState.CONSUMED;
                 }
             }
-            httpContentQueue.addAll(contentList);
             state = EntityBodyState.CONSUMABLE;
         } catch (InterruptedException e) {
             LOG.warn("Error while getting full message length", e);
         } catch (IllegalStateException e) {
             LOG.warn("Error while retrieving http content", e);
             throw e;
-        } catch (Exception e) {
-            LOG.error("Error while retrieving http content length", e);
         } finally {
-            readWriteLock.unlock();
+            consumerLock.unlock();
         }
 
         return size;
     }
 
-    private void waitForEntity() throws InterruptedException {
-        while (httpContentQueue.isEmpty()) {
-            if (!readCondition.await(soTimeOut, MILLISECONDS)) {
-                break;
+    private void signalConsumers() {
+        consumerLock.lock();
+        try {
+            readCondition.signalAll();
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until a content beyond the given published index is added or the socket timeout elapses. The consumer
+     * lock is released while waiting.
+     *
+     * @param published the published index observed by the consumer
+     * @return true if new content is available, false if the timeout expired
+     * @throws InterruptedException if the consumer is interrupted while waiting
+     */
+    private boolean waitForEntity(long published) throws InterruptedException {
+        long remaining = MILLISECONDS.toNanos(soTimeOut);
+        waitingConsumers.incrementAndGet();
+        try {
+            while (publishedIndex == published) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = readCondition.awaitNanos(remaining);
             }
+            return true;
+        } finally {
+            waitingConsumers.decrementAndGet();
+        }
+    }
+
+    private HttpContent poll() {
+        long index = consumerIndex;
+        if (index == publishedIndex) {
+            return null;
         }
+        int offset = (int) (index & SEGMENT_MASK);
+        if (offset == 0 && index != 0) {
+            consumerSegment = consumerSegment.next;
+        }
+        HttpContent httpContent = consumerSegment.contents[offset];
+        consumerSegment.contents[offset] = null;
+        consumedBytes += consumerSegment.lengths[offset];
+        consumerIndex = index + 1;
+        return httpContent;
+    }
+
+    private void clear() {
+        while (poll() != null) {
+            // Contents queued after the last content are dropped
+        }
+    }
+
+    private long queuedBytes() {
+        long consumed = consumedBytes;
+        return addedBytes - consumed;
     }
 
     public void waitAndReleaseAllEntities() {
+        consumerLock.lock();
         try {
-            readWriteLock.lock();
             if (state == EntityBodyState.CONSUMABLE) {
                 boolean isEndOfMessageProcessed = false;
                 while (!isEndOfMessageProcessed) {
-                    waitForEntity();
-                    HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
+                    long index = consumerIndex;
+                    if (index == publishedIndex && !waitForEntity(index)) {
+                        LOG.error("Error while waiting and releasing the content: poll timeout expired");
+                        break;
+                    }
+                    HttpContent httpContent = poll();
+                    if (httpContent == null) {
+                        continue;
+                    }
                     if (httpContent instanceof LastHttpContent) {
                         isEndOfMessageProcessed = true;
                         state = EntityBodyState.CONSUMED;
-                        httpContentQueue.clear();
+                        clear();
                     }
                     httpContent.release();
                 }
@@ -202,27 +285,27 @@ public class BlockingEntityCollector implements EntityCollector {
         } catch (Exception e) {
             LOG.error("Error while waiting and releasing the content", e);
         } finally {
-            readWriteLock.unlock();
+            consumerLock.unlock();
         }
     }
 
     public boolean isEmpty() {
-        try {
-            readWriteLock.lock();
-            return this.httpContentQueue.isEmpty();
-        } finally {
-            readWriteLock.unlock();
-        }
+        return consumerIndex == publishedIndex;
     }
 
     public void completeMessage() {
-        try {
-            readWriteLock.lock();
-            if (state == EntityBodyState.EXPECTING) {
-                this.addHttpContent(new DefaultLastHttpContent());
-            }
-        } finally {
-            readWriteLock.unlock();
+        if (state == EntityBodyState.EXPECTING) {
+            this.addHttpContent(new DefaultLastHttpContent());
         }
     }
+
+    /**
+     * A fixed size block of the content queue. Segments are linked by the producer before the contents in them are
+     * published, so a consumer that has seen a published index can always follow the link.
+     */
+    private static final class Segment {
+        private final HttpContent[] contents = new HttpContent[SEGMENT_SIZE];
+        private final int[] lengths = new int[SEGMENT_SIZE];
+        private Segment next;
+    }
 }
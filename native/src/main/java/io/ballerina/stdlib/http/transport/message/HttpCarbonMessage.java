@@ -216,11 +216,21 @@ public class HttpCarbonMessage {
      */
     @Deprecated
     public void addMessageBody(ByteBuffer msgBody) {
-        blockingEntityCollector.addMessageBody(msgBody);
+        messageLock.lock();
+        try {
+            blockingEntityCollector.addMessageBody(msgBody);
+        } finally {
+            messageLock.unlock();
+        }
     }
 
     public void completeMessage() {
-        blockingEntityCollector.completeMessage();
+        messageLock.lock();
+        try {
+            blockingEntityCollector.completeMessage();
+        } finally {
+            messageLock.unlock();
+        }
     }
 
     /**
@@ -36,7 +36,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.ByteBuffer;
+import java.util.Objects;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.InflaterInputStream;
 
@@ -71,38 +71,108 @@ public class HttpMessageDataStreamer {
      */
     protected class ByteBufferInputStream extends InputStream {
 
-        private int count;
         private boolean chunkFinished = true;
+        private int position;
         private int limit;
-        private ByteBuffer byteBuffer;
+        private ByteBuf content;
         private HttpContent httpContent;
         private int referenceCount = 0;
 
         @Override
         public int read() {
-            if ((httpContent instanceof LastHttpContent) && chunkFinished) {
+            if (!hasContent()) {
+                return -1;
+            }
+            int value = content.getByte(position++) & 0xff;
+            releaseIfConsumed();
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            if (!hasContent()) {
                 return -1;
+            }
+            int readLength = Math.min(length, limit - position);
+            content.getBytes(position, bytes, offset, readLength);
+            position += readLength;
+            releaseIfConsumed();
+            return readLength;
+        }
+
+        @Override
+        public long skip(long length) {
+            long remaining = length;
+            while (remaining > 0 && hasContent()) {
+                int skipLength = (int) Math.min(remaining, limit - position);
+                position += skipLength;
+                remaining -= skipLength;
+                releaseIfConsumed();
+            }
+            return length - remaining;
+        }
+
+        @Override
+        public int available() {
+            return chunkFinished ? 0 : limit - position;
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            long transferred = 0;
+            while (hasContent()) {
+                int length = limit - position;
+                content.getBytes(position, out, length);
+                position = limit;
+                transferred += length;
+                releaseIfConsumed();
+            }
+            return transferred;
+        }
+
+        /**
+         * Returns the unread bytes of the current content chunk without copying them.
+         *
+         * @return a retained slice of the content which should be released by the caller, or null at the end
+         */
+        ByteBuf readRetainedSlice() {
+            if (!hasContent()) {
+                return null;
+            }
+            ByteBuf slice = content.retainedSlice(position, limit - position);
+            position = limit;
+            releaseIfConsumed();
+            return slice;
+        }
+
+        private boolean hasContent() {
+            if ((httpContent instanceof LastHttpContent) && chunkFinished) {
+                return false;
             } else if (chunkFinished) {
                 httpContent = httpCarbonMessage.getHttpContent();
                 referenceCount++;
                 validateHttpContent();
-                byteBuffer = httpContent.content().nioBuffer();
-                count = 0;
-                limit = byteBuffer.limit();
-                if (limit == 0) {
-                    return -1;
+                content = httpContent.content();
+                position = content.readerIndex();
+                limit = content.writerIndex();
+                if (position == limit) {
+                    return false;
                 }
                 chunkFinished = false;
             }
-            count++;
-            if (count == limit) {
-                int value = byteBuffer.get() & 0xff;
+            return true;
+        }
+
+        private void releaseIfConsumed() {
+            if (position == limit) {
                 chunkFinished = true;
-                byteBuffer = null;
+                content = null;
                 releaseHttpContent();
-                return value;
             }
-            return byteBuffer.get() & 0xff;
         }
 
         private void validateHttpContent() {
@@ -115,7 +185,7 @@ public class HttpMessageDataStreamer {
 
         @Override
         public void close() throws IOException {
-            byteBuffer = null;
+            content = null;
             releaseHttpContent();    //fix memory leak issue in error path
             super.close();
         }
@@ -142,17 +212,49 @@ public class HttpMessageDataStreamer {
         public void write(int b) {
             if (dataHolder == null) {
                 dataHolder = getBuffer();
+            } else if (dataHolder.writableBytes() == 0) {
+                addDataHolderContent();
             }
-            if (dataHolder.writableBytes() != 0) {
-                dataHolder.writeByte((byte) b);
-            } else {
-                try {
-                    httpCarbonMessage.addHttpContent(new DefaultHttpContent(dataHolder));
+            dataHolder.writeByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            while (length > 0) {
+                if (dataHolder == null) {
                     dataHolder = getBuffer();
-                    dataHolder.writeByte((byte) b);
-                } catch (RuntimeException ex) {
-                    throw new EncoderException(httpCarbonMessage.getIoException());
+                } else if (dataHolder.writableBytes() == 0) {
+                    addDataHolderContent();
                 }
+                int writeLength = Math.min(length, dataHolder.writableBytes());
+                dataHolder.writeBytes(bytes, offset, writeLength);
+                offset += writeLength;
+                length -= writeLength;
+            }
+        }
+
+        private void addDataHolderContent() {
+            try {
+                httpCarbonMessage.addHttpContent(new DefaultHttpContent(dataHolder));
+                dataHolder = getBuffer();
+            } catch (RuntimeException ex) {
+                throw new EncoderException(httpCarbonMessage.getIoException());
+            }
+        }
+
+        /**
+         * Adds the bytes buffered so far as a content of the message. The next write starts a new buffer.
+         */
+        protected void addBufferedContent() {
+            if (dataHolder == null || !dataHolder.isReadable()) {
+                return;
+            }
+            try {
+                httpCarbonMessage.addHttpContent(new DefaultHttpContent(dataHolder));
+                dataHolder = null;
+            } catch (RuntimeException ex) {
+                throw new EncoderException(httpCarbonMessage.getIoException());
             }
         }
 
@@ -167,6 +269,9 @@ public class HttpMessageDataStreamer {
                 if (dataHolder != null && dataHolder.isReadable()) {
                     httpCarbonMessage.addHttpContent(new DefaultLastHttpContent(dataHolder));
                 } else {
+                    if (dataHolder != null) {
+                        dataHolder.release();
+                    }
                     httpCarbonMessage.addHttpContent(LastHttpContent.EMPTY_LAST_CONTENT);
                 }
             } catch (RuntimeException ex) {
@@ -182,45 +287,54 @@ public class HttpMessageDataStreamer {
     /**
      * A class which write event-stream into ByteBuffers and add those
      * ByteBuffers to Content Queue.
+     * The complete events of each write are added as a single content, while an incomplete event is buffered until
+     * its double line feed is written or CONTENT_BUFFER_SIZE is reached.
      * No need to worry about thread safety of this class this is called only once by
      * one thread at particular time.
      */
     protected class EventBufferOutputStream extends ByteBufferOutputStream {
-        private ByteBuf dataHolder = getBuffer();
         private int lastByte = 0;
 
         @Override
         public void write(int b) {
-            // Buffer the data until a double line feed (indicating the end of an event)
-            // or until CONTENT_BUFFER_SIZE is reached.
-            if (hasDoubleLineFeed(b))  {
-                try {
-                    writeByte(b);
-                    httpCarbonMessage.addHttpContent(new DefaultHttpContent(this.dataHolder));
-                    this.dataHolder = getBuffer();
-                } catch (RuntimeException ex) {
-                    throw new EncoderException(httpCarbonMessage.getIoException());
-                }
-            } else if (this.dataHolder.writableBytes() != 0) {
-                writeByte(b);
-            } else {
-                try {
-                    httpCarbonMessage.addHttpContent(new DefaultHttpContent(this.dataHolder));
-                    this.dataHolder = getBuffer();
-                    writeByte(b);
-                } catch (RuntimeException ex) {
-                    throw new EncoderException(httpCarbonMessage.getIoException());
-                }
+            super.write(b);
+            boolean endOfEvent = hasDoubleLineFeed(lastByte, b);
+            lastByte = b;
+            if (endOfEvent) {
+                addBufferedContent();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return;
+            }
+            int end = offset + length;
+            int eventsEnd = findLastEventEnd(bytes, offset, end);
+            if (eventsEnd > offset) {
+                super.write(bytes, offset, eventsEnd - offset);
+                addBufferedContent();
             }
+            if (eventsEnd < end) {
+                super.write(bytes, eventsEnd, end - eventsEnd);
+            }
+            lastByte = bytes[end - 1];
         }
 
-        private void writeByte(int b) {
-            this.dataHolder.writeByte((byte) b);
-            this.lastByte = b;
+        private int findLastEventEnd(byte[] bytes, int offset, int end) {
+            for (int i = end - 1; i >= offset; i--) {
+                int previousByte = i > offset ? bytes[i - 1] : lastByte;
+                if (hasDoubleLineFeed(previousByte, bytes[i])) {
+                    return i + 1;
+                }
+            }
+            return offset;
         }
 
-        private boolean hasDoubleLineFeed(int currentByte) {
-            return currentByte == this.lastByte && this.lastByte == (int) LINE_FEED;
+        private boolean hasDoubleLineFeed(int previousByte, int currentByte) {
+            return currentByte == previousByte && previousByte == (int) LINE_FEED;
         }
     }
 
@@ -253,13 +367,23 @@ public class HttpMessageDataStreamer {
         return byteBufferOutputStream;
     }
 
-    private InputStream createInputStreamIfNull() {
+    private ByteBufferInputStream createInputStreamIfNull() {
         if (byteBufferInputStream == null) {
             byteBufferInputStream = new HttpMessageDataStreamer.ByteBufferInputStream();
         }
         return byteBufferInputStream;
     }
 
+    /**
+     * Reads the next content chunk of the message without copying it. The content is returned as received, without
+     * decoding the Content-Encoding of the message, and it shares the read position with {@link #getInputStream()}.
+     *
+     * @return a retained buffer which should be released by the caller, or null once the whole body is read
+     */
+    public ByteBuf readContent() {
+        return createInputStreamIfNull().readRetainedSlice();
+    }
+
     public InputStream getInputStream() {
         String contentEncodingHeader = httpCarbonMessage.getHeader(HttpHeaderNames.CONTENT_ENCODING.toString());
         if (contentEncodingHeader != null) {
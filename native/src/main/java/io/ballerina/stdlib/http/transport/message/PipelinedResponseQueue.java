@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.message;
+
+/**
+ * Holds the pipelined responses of a connection until it is their turn to be sent.
+ * <p>
+ * Responses are kept in a ring indexed by the sequence id of their request. The sequence ids of the responses held
+ * at a time are consecutive up to the number of requests in flight, so the ring only grows when more requests are
+ * in flight than it has slots for. The queue is confined to the event loop of the connection and is not thread safe.
+ * <p>
+ * The queue records the highest number of responses it held and the longest time a response waited in it for the
+ * responses of earlier requests.
+ *
+ * @param <T> the type of the pipelined responses
+ * @since 2.13.3
+ */
+public class PipelinedResponseQueue<T> {
+
+    private long[] sequenceIds;
+    private long[] addTimes;
+    private Object[] responses;
+    private int mask;
+    private int size;
+    private int maxSize;
+    private long maxWaitNanos;
+
+    public PipelinedResponseQueue(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity - 1, 1)) << 1;
+        this.sequenceIds = new long[capacity];
+        this.addTimes = new long[capacity];
+        this.responses = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds the response of the request with the given sequence id.
+     *
+     * @param sequenceId the sequence id of the request
+     * @param response   the response
+     */
+    public void add(long sequenceId, T response) {
+        while (true) {
+            int index = (int) (sequenceId & mask);
+            Object current = responses[index];
+            if (current == null || sequenceIds[index] == sequenceId) {
+                if (current == null) {
+                    size++;
+                    maxSize = Math.max(maxSize, size);
+                    addTimes[index] = System.nanoTime();
+                }
+                sequenceIds[index] = sequenceId;
+                responses[index] = response;
+                return;
+            }
+            grow();
+        }
+    }
+
+    /**
+     * Removes the response of the request with the given sequence id.
+     *
+     * @param sequenceId the sequence id of the request
+     * @return the response, or null if the response is not in the queue yet
+     */
+    @SuppressWarnings("unchecked")
+    public T poll(long sequenceId) {
+        int index = (int) (sequenceId & mask);
+        Object response = responses[index];
+        if (response == null || sequenceIds[index] != sequenceId) {
+            return null;
+        }
+        responses[index] = null;
+        size--;
+        maxWaitNanos = Math.max(maxWaitNanos, System.nanoTime() - addTimes[index]);
+        return (T) response;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the highest number of responses held by the queue at a time.
+     *
+     * @return the maximum queue depth
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the longest time a response waited in the queue for the responses of earlier requests to be sent.
+     *
+     * @return the maximum head-of-line wait time in nanoseconds
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    private void grow() {
+        long[] oldSequenceIds = sequenceIds;
+        long[] oldAddTimes = addTimes;
+        Object[] oldResponses = responses;
+        int capacity = oldResponses.length;
+        boolean collision;
+        do {
+            capacity <<= 1;
+            sequenceIds = new long[capacity];
+            addTimes = new long[capacity];
+            responses = new Object[capacity];
+            mask = capacity - 1;
+            collision = false;
+            for (int i = 0; i < oldResponses.length && !collision; i++) {
+                if (oldResponses[i] != null) {
+                    int index = (int) (oldSequenceIds[i] & mask);
+                    collision = responses[index] != null;
+                    sequenceIds[index] = oldSequenceIds[i];
+                    addTimes[index] = oldAddTimes[i];
+                    responses[index] = oldResponses[i];
+                }
+            }
+        } while (collision);
+    }
+}
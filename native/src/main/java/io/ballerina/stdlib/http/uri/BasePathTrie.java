@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Segment trie of the service base paths registered under a host, used to find the most specific base path of a
+ * request path. The trie is immutable once built, hence the registries build a new one whenever a service is attached
+ * or detached, and the lookups do not need any locking.
+ * <p>
+ * A base path matches a request path when both are equal ignoring the case, or when the request path starts with the
+ * base path followed by a '/'. The lookup walks the request path segment by segment without copying it.
+ */
+public final class BasePathTrie {
+
+    private final TrieNode root = new TrieNode();
+
+    /**
+     * Builds the trie from the given base paths. When more than one base path is equal ignoring the case, the one
+     * which comes first is preferred for case-insensitive matches.
+     *
+     * @param basePaths base paths of the registered services
+     */
+    public BasePathTrie(List<String> basePaths) {
+        for (String basePath : basePaths) {
+            if (basePath.length() <= 1 || !basePath.startsWith(HttpConstants.DEFAULT_BASE_PATH)) {
+                // The root base path is the fallback of every request path, so it is not kept in the trie
+                continue;
+            }
+            TrieNode node = root;
+            int start = 1;
+            int length = basePath.length();
+            while (start <= length) {
+                int end = basePath.indexOf('/', start);
+                if (end < 0) {
+                    end = length;
+                }
+                node = node.addChild(basePath.substring(start, end));
+                start = end + 1;
+            }
+            node.addBasePath(basePath);
+        }
+        root.seal();
+    }
+
+    /**
+     * Finds the longest base path which matches the given request path.
+     *
+     * @param requestPath raw request path without the query
+     * @return the matching base path, or null if there is none other than the root base path
+     */
+    public String findMostSpecificBasePath(String requestPath) {
+        int length = requestPath.length();
+        if (length == 0 || requestPath.charAt(0) != '/') {
+            return null;
+        }
+        String mostSpecificBasePath = null;
+        TrieNode node = root;
+        int start = 1;
+        while (true) {
+            int end = requestPath.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.getChild(requestPath, start, end);
+            if (node == null) {
+                return mostSpecificBasePath;
+            }
+            if (end == length) {
+                return node.basePaths.length > 0 ? node.basePaths[0] : mostSpecificBasePath;
+            }
+            for (String basePath : node.basePaths) {
+                if (requestPath.regionMatches(0, basePath, 0, basePath.length())) {
+                    mostSpecificBasePath = basePath;
+                    break;
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Node of the trie which represents a single path segment. Child nodes are kept in an open addressing table keyed
+     * by the case-insensitive hash of the segment.
+     */
+    private static final class TrieNode {
+
+        private static final String[] NO_BASE_PATHS = new String[0];
+        private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+
+        private String segment;
+        private int hash;
+        private String[] basePaths = NO_BASE_PATHS;
+        private List<TrieNode> childList = new ArrayList<>();
+        private TrieNode[] children = NO_CHILDREN;
+
+        private TrieNode addChild(String childSegment) {
+            for (TrieNode child : childList) {
+                if (child.segment.equalsIgnoreCase(childSegment)) {
+                    return child;
+                }
+            }
+            TrieNode child = new TrieNode();
+            child.segment = childSegment;
+            child.hash = hash(childSegment, 0, childSegment.length());
+            childList.add(child);
+            return child;
+        }
+
+        private void addBasePath(String basePath) {
+            basePaths = Arrays.copyOf(basePaths, basePaths.length + 1);
+            basePaths[basePaths.length - 1] = basePath;
+        }
+
+        private void seal() {
+            if (!childList.isEmpty()) {
+                int capacity = Integer.highestOneBit(childList.size() * 2 - 1) << 1;
+                children = new TrieNode[capacity];
+                int mask = capacity - 1;
+                for (TrieNode child : childList) {
+                    int i = child.hash & mask;
+                    while (children[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    children[i] = child;
+                    child.seal();
+                }
+            }
+            childList = null;
+        }
+
+        private TrieNode getChild(String path, int start, int end) {
+            if (children.length == 0) {
+                return null;
+            }
+            int length = end - start;
+            int hash = hash(path, start, end);
+            int mask = children.length - 1;
+            for (int i = hash & mask; children[i] != null; i = (i + 1) & mask) {
+                TrieNode child = children[i];
+                if (child.hash == hash && child.segment.length() == length
+                        && child.segment.regionMatches(true, 0, path, start, length)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private static int hash(String value, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
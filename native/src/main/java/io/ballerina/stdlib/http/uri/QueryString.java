@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the query parameters in a raw query string.
+ * <p>
+ * The query string is scanned once and only the offsets of the parameter names and values are recorded. Values are
+ * split on commas and URL decoded when a parameter is looked up, so a resource which binds a few parameters of a
+ * large query string does not pay for the rest of them.
+ * <p>
+ * A parameter given without a value (e.g. {@code ?foo}) is present with a nil value, unless the same parameter is
+ * also given with a value. Names of parameters with values are trimmed, and the values of a repeated parameter are
+ * concatenated in the order they appear, with duplicates removed within each occurrence.
+ *
+ * @since 2.13.3
+ */
+public final class QueryString {
+
+    private static final int NO_VALUE = -1;
+
+    private final String rawQuery;
+    // Each parameter occupies four slots: name start, name end, value start and value end
+    private int[] offsets;
+    private int count;
+
+    private QueryString(String rawQuery) {
+        this.rawQuery = rawQuery;
+        this.offsets = new int[16];
+        parse();
+    }
+
+    /**
+     * Scans the given raw query string.
+     *
+     * @param rawQuery the query string without the leading '?'
+     * @return the index of the query parameters
+     */
+    public static QueryString parse(String rawQuery) {
+        return new QueryString(rawQuery);
+    }
+
+    /**
+     * Returns whether the parameter is present in the query string, with or without a value.
+     *
+     * @param name the parameter name
+     * @return true if the parameter is present
+     */
+    public boolean contains(String name) {
+        for (int i = 0; i < count; i++) {
+            if (nameEquals(i, name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the decoded values of a parameter.
+     *
+     * @param name the parameter name
+     * @return the values or null if the parameter is not present or is only present without a value
+     */
+    public String[] getValues(String name) {
+        List<String> values = null;
+        for (int i = 0; i < count; i++) {
+            if (offsets[i * 4 + 2] != NO_VALUE && nameEquals(i, name)) {
+                if (values == null) {
+                    values = new ArrayList<>(1);
+                }
+                addValues(i, values);
+            }
+        }
+        return values == null ? null : values.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the decoded values of all the parameters in the order they first appear. Parameters which are only
+     * present without a value are mapped to null.
+     *
+     * @return the parameter values by name
+     */
+    public Map<String, List<String>> getAllValues() {
+        Map<String, List<String>> allValues = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String name = rawQuery.substring(offsets[i * 4], offsets[i * 4 + 1]);
+            if (offsets[i * 4 + 2] == NO_VALUE) {
+                if (!allValues.containsKey(name)) {
+                    allValues.put(name, null);
+                }
+                continue;
+            }
+            List<String> values = allValues.get(name);
+            if (values == null) {
+                values = new ArrayList<>();
+                allValues.put(name, values);
+            }
+            addValues(i, values);
+        }
+        return allValues;
+    }
+
+    private void parse() {
+        int length = rawQuery.length();
+        int start = 0;
+        int end;
+        do {
+            end = rawQuery.indexOf('&', start);
+            if (end == -1) {
+                end = length;
+            }
+            addParam(start, end);
+            start = end + 1;
+        } while (end < length);
+        if (count > 1) {
+            // Empty parameters at the end are dropped, the same as String.split would
+            while (count > 0 && offsets[(count - 1) * 4 + 2] == NO_VALUE
+                    && offsets[(count - 1) * 4] == offsets[(count - 1) * 4 + 1]) {
+                count--;
+            }
+        }
+    }
+
+    private void addParam(int start, int end) {
+        if (offsets.length < (count + 1) * 4) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        int base = count * 4;
+        int separator = rawQuery.indexOf('=', start);
+        if (separator == -1 || separator >= end) {
+            offsets[base] = start;
+            offsets[base + 1] = end;
+            offsets[base + 2] = NO_VALUE;
+            offsets[base + 3] = NO_VALUE;
+        } else {
+            offsets[base] = trimStart(start, separator);
+            offsets[base + 1] = trimEnd(offsets[base], separator);
+            offsets[base + 2] = trimStart(separator + 1, end);
+            offsets[base + 3] = trimEnd(offsets[base + 2], end);
+        }
+        count++;
+    }
+
+    private boolean nameEquals(int index, String name) {
+        int start = offsets[index * 4];
+        int length = offsets[index * 4 + 1] - start;
+        return length == name.length() && rawQuery.regionMatches(start, name, 0, length);
+    }
+
+    private void addValues(int index, List<String> values) {
+        int start = offsets[index * 4 + 2];
+        int end = offsets[index * 4 + 3];
+        int comma = rawQuery.indexOf(',', start);
+        if (comma == -1 || comma >= end) {
+            values.add(decode(start, end));
+            return;
+        }
+        // Trailing empty values are dropped, the same as String.split would
+        while (end > start && rawQuery.charAt(end - 1) == ',') {
+            end--;
+        }
+        Set<String> uniqueValues = new LinkedHashSet<>();
+        while (start < end) {
+            comma = rawQuery.indexOf(',', start);
+            if (comma == -1 || comma > end) {
+                comma = end;
+            }
+            uniqueValues.add(decode(start, comma));
+            start = comma + 1;
+        }
+        values.addAll(uniqueValues);
+    }
+
+    private String decode(int start, int end) {
+        return URLDecoder.decode(rawQuery.substring(start, end), StandardCharsets.UTF_8);
+    }
+
+    private int trimStart(int start, int end) {
+        while (start < end && rawQuery.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start && rawQuery.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
@@ -28,14 +28,9 @@ import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
 import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Utilities related to URI processing.
@@ -53,38 +48,10 @@ public class URIUtil {
         return path.substring(basePath.length());
     }
 
-    @SuppressWarnings("unchecked")
     public static void populateQueryParamMap(String queryParamString, BMap<BString, Object> queryParamsMap)
             throws UnsupportedEncodingException {
-        Map<String, List<String>> tempParamMap = new HashMap<>();
-        String[] queryParamVals = queryParamString.split("&");
-        for (String queryParam : queryParamVals) {
-            int index = queryParam.indexOf('=');
-            if (index == -1) {
-                if (!tempParamMap.containsKey(queryParam)) {
-                    tempParamMap.put(queryParam, null);
-                }
-                continue;
-            }
-            String queryParamName = queryParam.substring(0, index).trim();
-            String queryParamValue = queryParam.substring(index + 1).trim();
-            List<String> values = new ArrayList<>();
-            Set<String> uniqueValues = new HashSet<>();
-            for (String val : queryParamValue.split(",")) {
-                String decodedValue = URLDecoder.decode(val, StandardCharsets.UTF_8);
-                if (uniqueValues.add(decodedValue)) {
-                    values.add(decodedValue);
-                }
-            }
-
-            if (tempParamMap.containsKey(queryParamName) && tempParamMap.get(queryParamName) != null) {
-                tempParamMap.get(queryParamName).addAll(values);
-            } else {
-                tempParamMap.put(queryParamName, values);
-            }
-        }
-
-        for (Map.Entry<String, List<String>> entry : tempParamMap.entrySet()) {
+        Map<String, List<String>> queryParams = QueryString.parse(queryParamString).getAllValues();
+        for (Map.Entry<String, List<String>> entry : queryParams.entrySet()) {
             List<String> entryValue = entry.getValue();
             if (entryValue != null) {
                 queryParamsMap.put(StringUtils.fromString(entry.getKey()),
@@ -111,34 +78,77 @@ public class URIUtil {
     }
 
 
+    /**
+     * Extracts the matrix params of each path segment into the given map, keyed by the path up to the segment, and
+     * returns the URI without the matrix params. Segments without matrix params are not added to the map. The URI is
+     * scanned once and is returned as it is when there is nothing to strip.
+     *
+     * @param path          the raw request URI
+     * @param matrixParams  the map to add the matrix params to
+     * @param inboundReqMsg the inbound request
+     * @return the URI without the matrix params
+     */
     public static String extractMatrixParams(String path, Map<String, Map<String, String>> matrixParams,
                                              HttpCarbonMessage inboundReqMsg) {
-        if (path.startsWith("/")) {
-            path = path.substring(1);
+        int pathStart = path.startsWith(URI_PATH_DELIMITER) ? 1 : 0;
+        int pathEnd = path.indexOf('?', pathStart);
+        if (pathEnd == -1) {
+            pathEnd = path.length();
+        }
+        // Trailing empty segments and query separators are dropped
+        int queryEnd = path.length();
+        while (queryEnd > pathEnd && path.charAt(queryEnd - 1) == '?') {
+            queryEnd--;
         }
-        String[] pathSplits = path.split("\\?");
-        String[] pathSegments = pathSplits[0].split("/");
-        String pathToMatrixParam = "";
-        for (String pathSegment : pathSegments) {
-            String[] splitPathSegment = pathSegment.split(";");
-            pathToMatrixParam = pathToMatrixParam.concat("/" + splitPathSegment[0]);
-            Map<String, String> segmentMatrixParams = new HashMap<>();
-            for (int i = 1; i < splitPathSegment.length; i++) {
-                String[] splitMatrixParam = splitPathSegment[i].split("=");
-                if (splitMatrixParam.length != 2) {
-                    String message = String.format("found non-matrix parameter '%s' in path '%s'",
-                            splitPathSegment[i], path);
-                    throw HttpUtil.createHttpStatusCodeError(HttpErrorType.INTERNAL_BAD_MATRIX_PARAMS_ERROR, message);
-                }
-                segmentMatrixParams.put(splitMatrixParam[0], splitMatrixParam[1]);
+        int segmentsEnd = pathEnd;
+        boolean hasSegmentDelimiter = path.lastIndexOf('/', pathEnd - 1) >= pathStart;
+        if (hasSegmentDelimiter) {
+            while (segmentsEnd > pathStart && path.charAt(segmentsEnd - 1) == '/') {
+                segmentsEnd--;
             }
-            matrixParams.put(pathToMatrixParam, segmentMatrixParams);
         }
+        boolean hasSegments = !hasSegmentDelimiter || segmentsEnd > pathStart;
+        int matrixParamIndex = path.indexOf(';', pathStart);
+        boolean hasMatrixParams = matrixParamIndex != -1 && matrixParamIndex < segmentsEnd;
+        if (!hasMatrixParams && hasSegments && pathStart == 1 && segmentsEnd == pathEnd
+                && queryEnd == path.length()) {
+            return path;
+        }
+
+        StringBuilder pathToMatrixParam = new StringBuilder(path.length() + 1);
+        int segmentStart = pathStart;
+        while (hasSegments && segmentStart <= segmentsEnd) {
+            int segmentEnd = path.indexOf('/', segmentStart);
+            if (segmentEnd == -1 || segmentEnd > segmentsEnd) {
+                segmentEnd = segmentsEnd;
+            }
+            int segmentParamsStart = hasMatrixParams ? path.indexOf(';', segmentStart) : -1;
+            pathToMatrixParam.append('/');
+            if (segmentParamsStart == -1 || segmentParamsStart >= segmentEnd) {
+                pathToMatrixParam.append(path, segmentStart, segmentEnd);
+            } else {
+                pathToMatrixParam.append(path, segmentStart, segmentParamsStart);
+                matrixParams.put(pathToMatrixParam.toString(),
+                                 getSegmentMatrixParams(path.substring(segmentStart, segmentEnd), path, pathStart));
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        return pathToMatrixParam.append(path, pathEnd, queryEnd).toString();
+    }
 
-        for (int i = 1; i < pathSplits.length; i++) {
-            pathToMatrixParam = pathToMatrixParam.concat("?").concat(pathSplits[i]);
+    private static Map<String, String> getSegmentMatrixParams(String pathSegment, String path, int pathStart) {
+        String[] splitPathSegment = pathSegment.split(";");
+        Map<String, String> segmentMatrixParams = new HashMap<>();
+        for (int i = 1; i < splitPathSegment.length; i++) {
+            String[] splitMatrixParam = splitPathSegment[i].split("=");
+            if (splitMatrixParam.length != 2) {
+                String message = String.format("found non-matrix parameter '%s' in path '%s'",
+                        splitPathSegment[i], path.substring(pathStart));
+                throw HttpUtil.createHttpStatusCodeError(HttpErrorType.INTERNAL_BAD_MATRIX_PARAMS_ERROR, message);
+            }
+            segmentMatrixParams.put(splitMatrixParam[0], splitMatrixParam[1]);
         }
-        return pathToMatrixParam;
+        return segmentMatrixParams;
     }
 
     private URIUtil() {}
@@ -33,6 +33,7 @@ import java.util.Map;
 public class Literal<DataType, InboundMsgType> extends Node<DataType, InboundMsgType> {
 
     private int tokenLength;
+    private final boolean wildcard;
 
     public Literal(DataElement<DataType, InboundMsgType> dataElement, String token) throws URITemplateException {
         super(dataElement, token);
@@ -40,6 +41,7 @@ public class Literal<DataType, InboundMsgType> extends Node<DataType, InboundMsg
         if (tokenLength == 0) {
             throw new URITemplateException("Invalid literal token with zero length");
         }
+        wildcard = token.endsWith("*");
     }
 
     @Override
@@ -48,40 +50,34 @@ public class Literal<DataType, InboundMsgType> extends Node<DataType, InboundMsg
     }
 
     @Override
-    int match(String uriFragment, HttpResourceArguments variables) {
-        if (!token.endsWith("*")) {
-            if (uriFragment.length() < tokenLength) {
+    int match(String uri, int start, HttpResourceArguments variables) {
+        int fragmentLength = uri.length() - start;
+        if (!wildcard) {
+            if (fragmentLength < tokenLength || !uri.regionMatches(start, token, 0, tokenLength)) {
                 return -1;
             }
-            for (int i = 0; i < tokenLength; i++) {
-                if (token.charAt(i) != uriFragment.charAt(i)) {
-                    if (token.charAt(i) == '*' && i == token.length() - 1) {
-                        return uriFragment.length();
-                    }
-                    return -1;
-                }
-            }
             //special case request urls which contains only the root("/") to be dispatched to default resource("/*").
-            if (uriFragment.equals("/") && uriFragment.equals(token) && !this.dataElement.hasData()) {
-                return 0;
+            if (fragmentLength == 1 && tokenLength == 1 && token.charAt(0) == '/' && !this.dataElement.hasData()) {
+                return start;
             }
-            return tokenLength;
+            return start + tokenLength;
         } else {
-            if (uriFragment.length() < tokenLength - 1) {
+            if (fragmentLength < tokenLength - 1 || !uri.regionMatches(start, token, 0, tokenLength - 1)) {
                 return -1;
             }
-            for (int i = 0; i < tokenLength - 1; i++) {
-                if (token.charAt(i) != uriFragment.charAt(i)) {
-                    if (i == token.length() - 1) {
-                        return uriFragment.length();
-                    }
-                    return -1;
-                }
-            }
-            return uriFragment.length();
+            return uri.length();
         }
     }
 
+    /**
+     * Checks whether the literal ends with a wildcard, in which case it matches the rest of the path.
+     *
+     * @return true if the token ends with '*'
+     */
+    boolean isWildcard() {
+        return wildcard;
+    }
+
     @Override
     String getToken() {
         return token;
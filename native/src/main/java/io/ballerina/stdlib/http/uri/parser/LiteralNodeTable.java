@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri.parser;
+
+/**
+ * Open addressing table which keeps the literal child nodes of a {@link Node} against their tokens. Lookups are done
+ * against a range of the request path, so that the path segment does not need to be copied to match a literal.
+ *
+ * @param <DataType> Type of data which should be stored in the node.
+ * @param <InboundMsgType> Inbound message type for additional checks.
+ */
+class LiteralNodeTable<DataType, InboundMsgType> {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String[] tokens = new String[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private Node<DataType, InboundMsgType>[] nodes = newNodeArray(INITIAL_CAPACITY);
+    private int size;
+
+    Node<DataType, InboundMsgType> get(String token) {
+        return get(token, 0, token.length());
+    }
+
+    /**
+     * Finds the literal node whose token is equal to the given range of the path.
+     *
+     * @param path  the request path
+     * @param start start index of the segment, inclusive
+     * @param end   end index of the segment, exclusive
+     * @return the matching node or null if there is no literal with the same token
+     */
+    Node<DataType, InboundMsgType> get(String path, int start, int end) {
+        if (size == 0) {
+            return null;
+        }
+        int length = end - start;
+        int hash = hash(path, start, end);
+        int mask = tokens.length - 1;
+        for (int i = hash & mask; tokens[i] != null; i = (i + 1) & mask) {
+            String token = tokens[i];
+            if (hashes[i] == hash && token.length() == length && token.regionMatches(0, path, start, length)) {
+                return nodes[i];
+            }
+        }
+        return null;
+    }
+
+    void put(String token, Node<DataType, InboundMsgType> node) {
+        if ((size + 1) * 2 > tokens.length) {
+            resize(tokens.length * 2);
+        }
+        if (insert(tokens, hashes, nodes, token, hash(token, 0, token.length()), node)) {
+            size++;
+        }
+    }
+
+    private void resize(int capacity) {
+        String[] newTokens = new String[capacity];
+        int[] newHashes = new int[capacity];
+        Node<DataType, InboundMsgType>[] newNodes = newNodeArray(capacity);
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i] != null) {
+                insert(newTokens, newHashes, newNodes, tokens[i], hashes[i], nodes[i]);
+            }
+        }
+        tokens = newTokens;
+        hashes = newHashes;
+        nodes = newNodes;
+    }
+
+    private boolean insert(String[] tokenSlots, int[] hashSlots, Node<DataType, InboundMsgType>[] nodeSlots,
+                           String token, int hash, Node<DataType, InboundMsgType> node) {
+        int mask = tokenSlots.length - 1;
+        int i = hash & mask;
+        while (tokenSlots[i] != null) {
+            if (hashSlots[i] == hash && tokenSlots[i].equals(token)) {
+                nodeSlots[i] = node;
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        tokenSlots[i] = token;
+        hashSlots[i] = hash;
+        nodeSlots[i] = node;
+        return true;
+    }
+
+    private static int hash(String value, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <DataType, InboundMsgType> Node<DataType, InboundMsgType>[] newNodeArray(int capacity) {
+        return (Node<DataType, InboundMsgType>[]) new Node[capacity];
+    }
+}
@@ -22,8 +22,8 @@ import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpResourceArguments;
 import io.ballerina.stdlib.http.uri.URITemplateException;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +31,11 @@ import static io.ballerina.stdlib.http.uri.URIUtil.URI_PATH_DELIMITER;
 
 /**
  * Node represents different types of path segments in the uri-template.
+ * <p>
+ * Literal children which match a whole path segment are kept in a hash table, hence they are resolved with a single
+ * lookup regardless of the number of resources. The remaining children (path params, wildcard literals and the rest
+ * param) are kept in a list ordered by their precedence. The request path is never split during the match, each node
+ * works on an index range of the path and the path params are bound once the matching resource is found.
  *
  * @param <DataType> Type of data which should be stored in the node.
  * @param <InboundMsgType> Inbound message type for additional checks.
@@ -39,7 +44,8 @@ public abstract class Node<DataType, InboundMsgType> {
 
     protected String token;
     DataElement<DataType, InboundMsgType> dataElement;
-    List<Node<DataType, InboundMsgType>> childNodesList = new LinkedList<>();
+    LiteralNodeTable<DataType, InboundMsgType> literalChildNodes = new LiteralNodeTable<>();
+    List<Node<DataType, InboundMsgType>> childNodesList = new ArrayList<>();
 
     protected Node(DataElement<DataType, InboundMsgType> dataElement, String token) {
         this.dataElement = dataElement;
@@ -52,76 +58,83 @@ public abstract class Node<DataType, InboundMsgType> {
 
     Node<DataType, InboundMsgType> addChild(Node<DataType, InboundMsgType> childNode)
             throws URITemplateException {
-        Node<DataType, InboundMsgType> node = childNode;
         Node<DataType, InboundMsgType> matchingChildNode = getMatchingChildNode(childNode, childNodesList);
         if (matchingChildNode != null) {
-            node = matchingChildNode;
+            return matchingChildNode;
+        }
+        if (isSegmentLiteral(childNode)) {
+            literalChildNodes.put(childNode.getToken(), childNode);
         } else {
-            this.childNodesList.add(node);
+            childNodesList.add(childNode);
+            childNodesList.sort((o1, o2) -> getIntValue(o2) - getIntValue(o1));
         }
-
-        childNodesList.sort((o1, o2) -> getIntValue(o2) - getIntValue(o1));
-
-        return node;
+        return childNode;
     }
 
-    public boolean matchAll(String uriFragment, HttpResourceArguments variables, int start, InboundMsgType inboundMsg,
+    /**
+     * Matches the path starting from the given index against this node and its descendants.
+     *
+     * @param uri             request path
+     * @param variables       holder of the path param values
+     * @param start           index of the path where this node starts matching
+     * @param inboundMsg      inbound message
+     * @param dataReturnAgent holder of the matched data
+     * @return true if a matching data element is found
+     */
+    public boolean matchAll(String uri, HttpResourceArguments variables, int start, InboundMsgType inboundMsg,
                             DataReturnAgent<DataType> dataReturnAgent) {
-        int matchLength = match(uriFragment, variables);
-        if (matchLength < 0) {
+        int matchEnd = match(uri, start, variables);
+        if (matchEnd < 0) {
             return false;
         }
-        if (matchLength == uriFragment.length()) {
-            return dataElement.getData(inboundMsg, dataReturnAgent);
+        int length = uri.length();
+        if (matchEnd == length) {
+            if (dataElement.getData(inboundMsg, dataReturnAgent)) {
+                setVariables(uri, start, matchEnd, variables);
+                return true;
+            }
+            return false;
         }
-        if (matchLength >= uriFragment.length()) {
+        if (matchEnd > length) {
             return false;
         }
 
-        String subUriFragment;
-        if (uriFragment.startsWith(URI_PATH_DELIMITER)) {
-            subUriFragment = uriFragment.substring(matchLength);
-        } else if (uriFragment.contains(URI_PATH_DELIMITER)) {
-            if (uriFragment.charAt(matchLength) != '/') {
-                return false;
-            }
-            subUriFragment = uriFragment.substring(matchLength + 1);
+        int subStart;
+        if (uri.charAt(start) == '/') {
+            subStart = matchEnd;
+        } else if (uri.charAt(matchEnd) == '/') {
+            subStart = matchEnd + 1;
         } else {
             return false;
         }
+        int subPathEnd = uri.indexOf('/', subStart);
+        if (subPathEnd < 0) {
+            subPathEnd = length;
+        }
 
-        String subPath = nextSubPath(subUriFragment);
-
-        boolean isFound;
+        Node<DataType, InboundMsgType> literalChildNode = literalChildNodes.get(uri, subStart, subPathEnd);
+        if (literalChildNode != null
+                && literalChildNode.matchAll(uri, variables, subStart, inboundMsg, dataReturnAgent)) {
+            setVariables(uri, start, matchEnd, variables);
+            return true;
+        }
         for (Node<DataType, InboundMsgType> childNode : childNodesList) {
             if (childNode instanceof Literal) {
-                String regex = childNode.getToken();
-                if (regex.equals("*")) {
-                    regex = "." + regex;
-                    if (!subPath.matches(regex)) {
-                        continue;
-                    }
-                    isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                                 dataReturnAgent);
-                    if (isFound) {
-                        setUriPostFix(variables, subUriFragment);
+                String childToken = childNode.getToken();
+                if (childToken.equals("*")) {
+                    if (childNode.matchAll(uri, variables, subStart, inboundMsg, dataReturnAgent)) {
+                        setUriPostFix(variables, uri.substring(subStart));
+                        setVariables(uri, start, matchEnd, variables);
                         return true;
                     }
                     continue;
                 }
-                if (!subPath.contains(regex)) {
+                if (!containsToken(uri, subStart, subPathEnd, childToken)) {
                     continue;
                 }
-                isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                             dataReturnAgent);
-                if (isFound) {
-                    return true;
-                }
-                continue;
             }
-            isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
-                                         dataReturnAgent);
-            if (isFound) {
+            if (childNode.matchAll(uri, variables, subStart, inboundMsg, dataReturnAgent)) {
+                setVariables(uri, start, matchEnd, variables);
                 return true;
             }
         }
@@ -134,9 +147,28 @@ public abstract class Node<DataType, InboundMsgType> {
         variables.getMap().putIfAbsent(HttpConstants.EXTRA_PATH_INFO, indexValueMap);
     }
 
+    /**
+     * Binds the values of the variables of this node once the complete path is matched.
+     *
+     * @param uri       request path
+     * @param start     start index of the range matched by this node
+     * @param end       end index of the range matched by this node
+     * @param variables holder of the path param values
+     */
+    void setVariables(String uri, int start, int end, HttpResourceArguments variables) {
+    }
+
     abstract String expand(Map<String, String> variables);
 
-    abstract int match(String uriFragment, HttpResourceArguments variables);
+    /**
+     * Matches this node against the path starting from the given index.
+     *
+     * @param uri       request path
+     * @param start     index of the path where the match starts
+     * @param variables holder of the path param values
+     * @return end index of the matched range or -1 if the path does not match
+     */
+    abstract int match(String uri, int start, HttpResourceArguments variables);
 
     abstract String getToken();
 
@@ -147,6 +179,9 @@ public abstract class Node<DataType, InboundMsgType> {
         boolean simpleStringExpression = prospectiveChild instanceof SimpleStringExpression;
         String prospectiveChildToken = prospectiveChild.getToken();
 
+        if (isSegmentLiteral(prospectiveChild)) {
+            return literalChildNodes.get(prospectiveChildToken);
+        }
         for (Node<DataType, InboundMsgType> existingChild : existingChildren) {
             if (simpleStringExpression && existingChild instanceof Expression) {
                 return getExistingChildNode(prospectiveChild, existingChild);
@@ -179,13 +214,17 @@ public abstract class Node<DataType, InboundMsgType> {
         }
     }
 
-    private String nextSubPath(String uriFragment) {
-        String subPath;
-        if (uriFragment.contains(URI_PATH_DELIMITER)) {
-            subPath = uriFragment.substring(0, uriFragment.indexOf(URI_PATH_DELIMITER));
-        } else {
-            subPath = uriFragment;
+    private boolean isSegmentLiteral(Node<DataType, InboundMsgType> node) {
+        return node instanceof Literal && !((Literal<DataType, InboundMsgType>) node).isWildcard();
+    }
+
+    private boolean containsToken(String uri, int start, int end, String token) {
+        int tokenLength = token.length();
+        for (int i = start; i <= end - tokenLength; i++) {
+            if (uri.regionMatches(i, token, 0, tokenLength)) {
+                return true;
+            }
         }
-        return subPath;
+        return false;
     }
 }
@@ -68,27 +68,24 @@ public class SimpleStringExpression<DataType, InboundMsgType> extends Expression
     }
 
     @Override
-    int match(String uriFragment, HttpResourceArguments variables) {
-        int length = uriFragment.length();
-        for (int i = 0; i < length; i++) {
-            char ch = uriFragment.charAt(i);
-            if (isEndCharacter(ch)) {
-                if (ch == getSeparator() && variableList.size() > 0) {
-                    continue;
-                }
-
-                if (!setVariables(uriFragment.substring(0, i), variables)) {
-                    return -1;
-                }
-                return i;
-            } else if (i == length - 1) {
-                if (!setVariables(uriFragment, variables)) {
-                    return -1;
-                }
-                return length;
-            }
+    int match(String uri, int start, HttpResourceArguments variables) {
+        int length = uri.length();
+        int end = start;
+        while (end < length && !isEndCharacter(uri.charAt(end))) {
+            end++;
+        }
+        if (hasModifiers() && !checkModifiers(uri.substring(start, end))) {
+            return -1;
         }
-        return 0;
+        return end;
+    }
+
+    @Override
+    void setVariables(String uri, int start, int end, HttpResourceArguments variables) {
+        if (start == uri.length()) {
+            return;
+        }
+        setVariables(uri.substring(start, end), variables);
     }
 
     @Override
@@ -104,20 +101,27 @@ public class SimpleStringExpression<DataType, InboundMsgType> extends Expression
         return ',';
     }
 
-    boolean setVariables(String expressionValue, HttpResourceArguments variables) {
+    void setVariables(String expressionValue, HttpResourceArguments variables) {
         String finalValue = decodeValue(expressionValue);
         for (Variable var : variableList) {
-            String name = var.getName();
-            Map<Integer, String> indexValueMap;
-            if (variables.getMap().containsKey(name)) {
-                indexValueMap = variables.getMap().get(name);
-            } else {
-                indexValueMap = new HashMap<>();
-                variables.getMap().put(name, indexValueMap);
+            variables.getMap().computeIfAbsent(var.getName(), name -> new HashMap<>())
+                    .put(getExpressionIndex(), finalValue);
+        }
+    }
+
+    private boolean hasModifiers() {
+        for (Variable var : variableList) {
+            if (var.hasModifier()) {
+                return true;
             }
-            if (var.checkModifier(finalValue)) {
-                indexValueMap.put(getExpressionIndex(), finalValue);
-            } else {
+        }
+        return false;
+    }
+
+    private boolean checkModifiers(String expressionValue) {
+        String finalValue = decodeValue(expressionValue);
+        for (Variable var : variableList) {
+            if (!var.checkModifier(finalValue)) {
                 return false;
             }
         }
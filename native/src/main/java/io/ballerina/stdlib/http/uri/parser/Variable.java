@@ -62,6 +62,10 @@ public class Variable {
         return value;
     }
 
+    boolean hasModifier() {
+        return prefix > 0;
+    }
+
     boolean checkModifier(String value) {
         if (prefix > 0) {
             return value.length() == prefix;
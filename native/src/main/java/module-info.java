@@ -35,6 +35,8 @@ module io.ballerina.stdlib.http {
     requires io.netty.buffer;
     requires io.netty.common;
     requires io.netty.transport;
+    requires io.netty.transport.classes.epoll;
+    requires io.netty.incubator.transport.classes.io_uring;
     requires io.netty.codec.http2;
     requires org.eclipse.osgi;
     requires io.netty.codec;
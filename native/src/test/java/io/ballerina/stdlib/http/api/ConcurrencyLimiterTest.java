@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A unit test class for the ConcurrencyLimiter class.
+ */
+public class ConcurrencyLimiterTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MIN_WINDOW_SAMPLES = 10;
+    private static final long LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testShedWhenLimitReached() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 1, 10, 503, clock::get);
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertFalse(limiter.rejectIfLimitReached());
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertTrue(limiter.rejectIfLimitReached());
+        Assert.assertFalse(limiter.tryAcquire());
+        Assert.assertEquals(limiter.getInFlightCount(), 2);
+        Assert.assertEquals(limiter.getAdmittedCount(), 2);
+        Assert.assertEquals(limiter.getShedCount(), 2);
+
+        limiter.release(LATENCY_NANOS);
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertEquals(limiter.getInFlightCount(), 2);
+        Assert.assertEquals(limiter.getRejectionStatusCode(), 503);
+    }
+
+    @Test
+    public void testCancelReleasesPermit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 10, 429, clock::get);
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertFalse(limiter.tryAcquire());
+        limiter.cancel();
+        Assert.assertEquals(limiter.getInFlightCount(), 0);
+        Assert.assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testLimitGrowsUnderSteadyLatency() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 1, 40, 503, clock::get);
+        for (int i = 0; i < 100; i++) {
+            runWindow(limiter, limiter.getLimit(), LATENCY_NANOS);
+        }
+        Assert.assertEquals(limiter.getLimit(), 40);
+    }
+
+    @Test
+    public void testLimitShrinksWhenLatencyRises() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(20, 5, 100, 503, clock::get);
+        runWindow(limiter, 20, LATENCY_NANOS);
+        int limit = limiter.getLimit();
+        for (int i = 0; i < 20; i++) {
+            runWindow(limiter, limiter.getLimit(), 10 * LATENCY_NANOS);
+        }
+        Assert.assertTrue(limiter.getLimit() < limit, "limit did not shrink: " + limiter.getLimit());
+        Assert.assertTrue(limiter.getLimit() >= 5);
+    }
+
+    @Test
+    public void testLimitUnchangedWhenUnderused() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(40, 1, 100, 503, clock::get);
+        for (int i = 0; i < 10; i++) {
+            runWindow(limiter, 2, LATENCY_NANOS);
+        }
+        Assert.assertEquals(limiter.getLimit(), 40);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        new ConcurrencyLimiter(10, 20, 10, 503, clock::get);
+    }
+
+    /**
+     * Runs requests with the given concurrency until a window with the minimum number of samples is complete.
+     */
+    private void runWindow(ConcurrencyLimiter limiter, int concurrency, long latencyNanos) {
+        int rounds = (MIN_WINDOW_SAMPLES + concurrency - 1) / concurrency;
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < concurrency; i++) {
+                Assert.assertTrue(limiter.tryAcquire());
+            }
+            if (round == rounds - 1) {
+                clock.addAndGet(WINDOW_NANOS);
+            }
+            for (int i = 0; i < concurrency; i++) {
+                limiter.release(latencyNanos);
+            }
+        }
+    }
+}
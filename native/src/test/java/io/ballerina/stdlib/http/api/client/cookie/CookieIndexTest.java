@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.cookie;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * A unit test class for the CookieIndex class.
+ */
+public class CookieIndexTest {
+
+    private static final CookieIndex.Attributes SESSION = attributes(false, false, false);
+
+    @Test
+    public void testMatchParentDomains() {
+        CookieIndex<String> index = new CookieIndex<>();
+        index.put("a", "google.com", "/", "a", SESSION);
+        index.put("b", "mail.google.com", "/", "b", SESSION);
+        index.put("c", "google.com", "/", "c", attributes(true, false, false));
+        index.put("d", "oogle.com", "/", "d", SESSION);
+        Assert.assertEquals(index.match("mail.google.com", "/inbox", false, true), List.of("a", "b"));
+        Assert.assertEquals(index.match("google.com", "/", false, true), List.of("a", "c"));
+        Assert.assertEquals(index.match("example.com", "/", false, true), List.of());
+    }
+
+    @Test
+    public void testMatchPathAndFlags() {
+        CookieIndex<String> index = new CookieIndex<>();
+        index.put("root", "google.com", "/", "root", SESSION);
+        index.put("sample", "google.com", "/sample", "sample", SESSION);
+        index.put("slash", "google.com", "/sample/", "slash", SESSION);
+        index.put("secure", "google.com", "/", "secure", attributes(false, true, false));
+        index.put("httpOnly", "google.com", "/", "httpOnly", attributes(false, false, true));
+        Assert.assertEquals(index.match("google.com", "/samples", false, true), List.of("root", "httpOnly"));
+        Assert.assertEquals(index.match("google.com", "/sample/a", true, true),
+                            List.of("root", "sample", "slash", "secure", "httpOnly"));
+        Assert.assertEquals(index.match("google.com", "/sample", false, false), List.of("root", "sample"));
+    }
+
+    @Test
+    public void testReplaceMovesCookieToTheEnd() {
+        CookieIndex<String> index = new CookieIndex<>();
+        index.put("a", "google.com", "/", "a1", SESSION);
+        index.put("b", "google.com", "/", "b", SESSION);
+        index.put("p", "google.com", "/", "p", new CookieIndex.Attributes(false, false, false, true,
+                                                                             CookieIndex.NO_EXPIRY));
+        Assert.assertEquals(index.put("a", "google.com", "/", "a2", SESSION), "a1");
+        Assert.assertEquals(index.getAll(), List.of("b", "a2", "p"));
+        Assert.assertEquals(index.get("a", "google.com", "/"), "a2");
+        Assert.assertEquals(index.size(), 3);
+        Assert.assertEquals(index.size("google.com"), 3);
+    }
+
+    @Test
+    public void testRemove() {
+        CookieIndex<String> index = new CookieIndex<>();
+        index.put("a", "google.com", "/", "a", SESSION);
+        index.put("b", "google.com", "/b", "b", SESSION);
+        index.put("c", "mail.google.com", "/", "c", SESSION);
+        Assert.assertEquals(index.remove("a", "google.com", "/"), "a");
+        Assert.assertNull(index.remove("a", "google.com", "/"));
+        Assert.assertEquals(index.removeByDomain("google.com"), List.of("b"));
+        Assert.assertEquals(index.getByDomain("google.com"), List.of());
+        Assert.assertEquals(index.getAll(), List.of("c"));
+        Assert.assertTrue(index.hasRelatedDomain("google.com"));
+        Assert.assertFalse(index.hasRelatedDomain("example.com"));
+        index.clear();
+        Assert.assertEquals(index.size(), 0);
+    }
+
+    @Test
+    public void testRemoveExpired() {
+        CookieIndex<String> index = new CookieIndex<>();
+        index.put("a", "google.com", "/", "a", persistent(300));
+        index.put("b", "google.com", "/", "b", persistent(100));
+        index.put("c", "google.com", "/", "c", persistent(200));
+        index.put("d", "google.com", "/", "d", SESSION);
+        // The replaced cookie must not be evicted with its old expiry time
+        index.put("c", "google.com", "/", "c", persistent(400));
+        Assert.assertEquals(index.removeExpired(100), List.of());
+        Assert.assertEquals(index.removeExpired(250), List.of("b"));
+        Assert.assertEquals(index.getAll(), List.of("d", "a", "c"));
+        Assert.assertEquals(index.removeExpired(1000), List.of("a", "c"));
+        Assert.assertEquals(index.getAll(), List.of("d"));
+    }
+
+    private static CookieIndex.Attributes attributes(boolean hostOnly, boolean secure, boolean httpOnly) {
+        return new CookieIndex.Attributes(hostOnly, secure, httpOnly, false, CookieIndex.NO_EXPIRY);
+    }
+
+    private static CookieIndex.Attributes persistent(long expiryTime) {
+        return new CookieIndex.Attributes(false, false, false, true, expiryTime);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.cookie;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A unit test class for the CookieJournal class.
+ */
+public class CookieJournalTest {
+
+    private Path directory;
+    private Path file;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("cookie-journal");
+        file = directory.resolve("cookies").resolve("client.csv");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        try (var paths = Files.walk(directory)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testStoreAndRemoveAreAppended() throws IOException {
+        CookieJournal journal = new CookieJournal(file);
+        journal.store(cookie("SID001", "v1", "google.com"));
+        journal.store(cookie("SID002", "v,\"2\"", "google.com"));
+        journal.store(cookie("SID001", "v3", "google.com"));
+        Assert.assertTrue(journal.remove("SID002", "google.com", "/sample"));
+        Assert.assertFalse(journal.remove("SID002", "google.com", "/sample"));
+
+        Assert.assertEquals(Files.readAllLines(file).size(), 4);
+        assertCookies(journal.getAll(), "v3");
+        assertCookies(new CookieJournal(file).getAll(), "v3");
+    }
+
+    @Test
+    public void testReadCsvWrittenByPreviousHandler() throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "SID001,v1,google.com,/sample,-,0,false,false,2026-01-01T00:00:00Z,"
+                + "2026-01-01T00:00:00Z,false\n");
+        CookieJournal journal = new CookieJournal(file);
+        journal.store(cookie("SID002", "v,\"2\"", "google.com"));
+        List<String[]> cookies = new CookieJournal(file).getAll();
+        Assert.assertEquals(cookies.size(), 2);
+        Assert.assertEquals(cookies.get(0)[1], "v1");
+        Assert.assertEquals(cookies.get(1)[1], "v,\"2\"");
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        CookieJournal journal = new CookieJournal(file);
+        for (int i = 0; i < 100; i++) {
+            journal.store(cookie("SID001", "v" + i, "google.com"));
+        }
+        Assert.assertTrue(Files.readAllLines(file).size() <= 33);
+        assertCookies(new CookieJournal(file).getAll(), "v99");
+        Assert.assertFalse(Files.exists(file.resolveSibling("client.csv.tmp")));
+    }
+
+    @Test
+    public void testRemoveAll() throws IOException {
+        CookieJournal journal = new CookieJournal(file);
+        journal.store(cookie("SID001", "v1", "google.com"));
+        journal.removeAll();
+        Assert.assertFalse(journal.exists());
+        Assert.assertTrue(journal.getAll().isEmpty());
+        Assert.assertThrows(NoSuchFileException.class, journal::removeAll);
+    }
+
+    private static void assertCookies(List<String[]> cookies, String value) {
+        Assert.assertEquals(cookies.size(), 1);
+        Assert.assertEquals(cookies.get(0)[0], "SID001");
+        Assert.assertEquals(cookies.get(0)[1], value);
+    }
+
+    private static String[] cookie(String name, String value, String domain) {
+        return new String[]{name, value, domain, "/sample", "-", "0", "false", "false", "2026-01-01T00:00:00Z",
+                "2026-01-01T00:00:00Z", "false"};
+    }
+}
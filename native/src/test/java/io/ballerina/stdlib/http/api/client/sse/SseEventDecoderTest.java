@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.sse;
+
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * A unit test class for the SseEventDecoder and SseEventReader classes.
+ */
+public class SseEventDecoderTest {
+
+    @Test
+    public void testDecodeEvents() {
+        List<ServerSentEvent> events = decode("id: 1\nevent: start\nretry: 3000\ndata: hello\n\n",
+                                              ": keep alive\n\ndata:a\ndata: b\n\n");
+        Assert.assertEquals(events.size(), 3);
+        ServerSentEvent first = events.get(0);
+        Assert.assertEquals(first.getId(), "1");
+        Assert.assertEquals(first.getEvent(), "start");
+        Assert.assertEquals(first.getRetry(), Long.valueOf(3000));
+        Assert.assertEquals(first.getData(), "hello");
+        Assert.assertNull(first.getComment());
+        Assert.assertEquals(events.get(1).getComment(), "keep alive");
+        Assert.assertNull(events.get(1).getData());
+        Assert.assertEquals(events.get(2).getData(), "ab");
+    }
+
+    @Test
+    public void testDecodeLineBreaks() {
+        List<ServerSentEvent> events = decode("data: crlf\r\n\r\ndata: cr\r\rdata: lf\n\n");
+        Assert.assertEquals(events.size(), 3);
+        Assert.assertEquals(events.get(0).getData(), "crlf");
+        Assert.assertEquals(events.get(1).getData(), "cr");
+        Assert.assertEquals(events.get(2).getData(), "lf");
+    }
+
+    @Test
+    public void testDecodeSplitContent() {
+        String stream = "id: 42\r\ndata: h\u00e9llo w\u00f6rld\r\n\r\nevent: end\r\n\r\n";
+        byte[] bytes = stream.getBytes(StandardCharsets.UTF_8);
+        SseEventDecoder decoder = new SseEventDecoder();
+        Queue<ServerSentEvent> out = new ArrayDeque<>();
+        for (byte b : bytes) {
+            decoder.decode(Unpooled.wrappedBuffer(new byte[]{b}), out);
+        }
+        Assert.assertEquals(out.size(), 2);
+        ServerSentEvent first = out.poll();
+        Assert.assertEquals(first.getId(), "42");
+        Assert.assertEquals(first.getData(), "h\u00e9llo w\u00f6rld");
+        Assert.assertEquals(out.poll().getEvent(), "end");
+    }
+
+    @Test
+    public void testDecodeFieldValues() {
+        List<ServerSentEvent> events = decode("retry: soon\ndata\nunknown: value\n\n\n\n", "event:  spaced \n\n");
+        Assert.assertEquals(events.size(), 2);
+        Assert.assertNull(events.get(0).getRetry());
+        Assert.assertEquals(events.get(0).getData(), "");
+        Assert.assertEquals(events.get(1).getEvent(), " spaced ");
+    }
+
+    @Test
+    public void testEventOfUnknownFieldsIsDispatched() {
+        List<ServerSentEvent> events = decode("unknown: value\nother\n\ndata: next\n\n");
+        Assert.assertEquals(events.size(), 2);
+        ServerSentEvent first = events.get(0);
+        Assert.assertNull(first.getId());
+        Assert.assertNull(first.getEvent());
+        Assert.assertNull(first.getData());
+        Assert.assertNull(first.getComment());
+        Assert.assertNull(first.getRetry());
+        Assert.assertEquals(events.get(1).getData(), "next");
+    }
+
+    @Test
+    public void testIncompleteEventIsDiscarded() {
+        List<ServerSentEvent> events = decode("data: complete\n\ndata: incomplete\n");
+        Assert.assertEquals(events.size(), 1);
+        Assert.assertEquals(events.get(0).getData(), "complete");
+    }
+
+    @Test
+    public void testReadEventsFromMessage() throws IOException {
+        HttpCarbonMessage message = new HttpCarbonMessage(
+                new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+        ByteBuf first = Unpooled.copiedBuffer("data: one\n\ndata: t", StandardCharsets.UTF_8);
+        ByteBuf last = Unpooled.copiedBuffer("wo\n\n", StandardCharsets.UTF_8);
+        message.addHttpContent(new DefaultHttpContent(first));
+        message.addHttpContent(new DefaultLastHttpContent(last));
+
+        SseEventReader reader = SseEventReader.forMessage(message);
+        Assert.assertEquals(reader.read().getData(), "one");
+        Assert.assertEquals(reader.read().getData(), "two");
+        Assert.assertNull(reader.read());
+        reader.close();
+        Assert.assertEquals(first.refCnt(), 0);
+        Assert.assertEquals(last.refCnt(), 0);
+    }
+
+    @Test
+    public void testReadFedEvents() throws IOException {
+        SseEventReader reader = SseEventReader.create();
+        reader.feed("data: fed\n".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNull(reader.read());
+        reader.feed("\n".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(reader.read().getData(), "fed");
+        reader.close();
+    }
+
+    private static List<ServerSentEvent> decode(String... chunks) {
+        SseEventDecoder decoder = new SseEventDecoder();
+        Queue<ServerSentEvent> out = new ArrayDeque<>();
+        for (String chunk : chunks) {
+            ByteBuf content = Unpooled.copiedBuffer(chunk, StandardCharsets.UTF_8);
+            decoder.decode(content, out);
+            Assert.assertFalse(content.isReadable());
+            content.release();
+        }
+        decoder.close();
+        return new ArrayList<>(out);
+    }
+}
@@ -21,6 +21,7 @@ package io.ballerina.stdlib.http.api.logging;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.TestUtils;
+import io.ballerina.stdlib.http.api.logging.accesslog.AsyncAccessLogHandler;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpAccessLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpTraceLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.JsonLogFormatter;
@@ -39,6 +40,8 @@ import java.util.logging.Level;
 import java.util.logging.SocketHandler;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOGGING_PROTOCOL;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_ASYNC;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_BUFFER_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_CONSOLE;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_FILE_PATH;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_HOST;
@@ -267,6 +270,41 @@ public class HttpLogManagerTest {
         Assert.assertEquals(Level.INFO, handler.getLevel());
     }
 
+    @Test
+    public void testHttpLogManagerWithAsyncAccessLogFile() {
+        BMap traceLogAdvancedConfig = mock(BMap.class);
+        when(traceLogAdvancedConfig.getBooleanValue(HTTP_LOG_CONSOLE)).thenReturn(false);
+        BString traceFilePath = mock(BString.class);
+        BString host = mock(BString.class);
+        BString accessFilePath = mock(BString.class);
+        String path = tempLogTestFile.getPath();
+        long port = 0;
+        when(traceFilePath.getValue()).thenReturn("");
+        when(accessFilePath.getValue()).thenReturn(path);
+        when(host.getValue()).thenReturn("");
+        when(traceLogAdvancedConfig.getStringValue(HTTP_LOG_FILE_PATH)).thenReturn(traceFilePath);
+        when(traceLogAdvancedConfig.getStringValue(HTTP_TRACE_LOG_HOST)).thenReturn(host);
+        when(traceLogAdvancedConfig.getIntValue(HTTP_TRACE_LOG_PORT)).thenReturn(port);
+
+        BMap accessLogConfig = mock(BMap.class);
+        when(accessLogConfig.getBooleanValue(HTTP_LOG_CONSOLE)).thenReturn(false);
+        when(accessLogConfig.getStringValue(HTTP_LOG_FILE_PATH)).thenReturn(accessFilePath);
+        when(accessLogConfig.getBooleanValue(HTTP_LOG_ASYNC)).thenReturn(true);
+        when(accessLogConfig.getIntValue(HTTP_LOG_BUFFER_SIZE)).thenReturn(1024L);
+
+        HttpLogManager httpLogManager = new HttpLogManager(false, traceLogAdvancedConfig,
+                accessLogConfig, HTTP_LOGGING_PROTOCOL);
+        Assert.assertEquals(httpLogManager.httpAccessLogger.getLevel(), Level.INFO);
+        Handler[] handlers = httpLogManager.httpAccessLogger.getHandlers();
+        Assert.assertTrue(handlers.length > 0);
+        Handler handler = handlers[handlers.length - 1];
+        Assert.assertTrue(handler instanceof AsyncAccessLogHandler);
+        Assert.assertTrue(handler.getFormatter() instanceof HttpAccessLogFormatter);
+        Assert.assertEquals(Level.INFO, handler.getLevel());
+        httpLogManager.httpAccessLogger.removeHandler(handler);
+        handler.close();
+    }
+
     @Test (expectedExceptions = RuntimeException.class,
             expectedExceptionsMessageRegExp = "failed to setup HTTP trace log file: /test/logTestFile.txt")
     public void testHttpLogManagerWithInvalidTraceLogFilePath() {
@@ -341,6 +379,32 @@ public class HttpLogManagerTest {
                 accessLogConfig, HTTP_LOGGING_PROTOCOL);
     }
 
+    @Test (expectedExceptions = RuntimeException.class,
+            expectedExceptionsMessageRegExp = "invalid HTTP access log buffer size: 0, .*")
+    public void testHttpLogManagerWithInvalidAsyncAccessLogBufferSize() {
+        BMap traceLogAdvancedConfig = mock(BMap.class);
+        when(traceLogAdvancedConfig.getBooleanValue(HTTP_LOG_CONSOLE)).thenReturn(false);
+        BString traceFilePath = mock(BString.class);
+        BString host = mock(BString.class);
+        BString accessFilePath = mock(BString.class);
+        long port = 0;
+        when(traceFilePath.getValue()).thenReturn("");
+        when(accessFilePath.getValue()).thenReturn(tempLogTestFile.getPath());
+        when(host.getValue()).thenReturn("");
+        when(traceLogAdvancedConfig.getStringValue(HTTP_LOG_FILE_PATH)).thenReturn(traceFilePath);
+        when(traceLogAdvancedConfig.getStringValue(HTTP_TRACE_LOG_HOST)).thenReturn(host);
+        when(traceLogAdvancedConfig.getIntValue(HTTP_TRACE_LOG_PORT)).thenReturn(port);
+
+        BMap accessLogConfig = mock(BMap.class);
+        when(accessLogConfig.getBooleanValue(HTTP_LOG_CONSOLE)).thenReturn(false);
+        when(accessLogConfig.getStringValue(HTTP_LOG_FILE_PATH)).thenReturn(accessFilePath);
+        when(accessLogConfig.getBooleanValue(HTTP_LOG_ASYNC)).thenReturn(true);
+        when(accessLogConfig.getIntValue(HTTP_LOG_BUFFER_SIZE)).thenReturn(0L);
+
+        HttpLogManager httpLogManager = new HttpLogManager(false, traceLogAdvancedConfig,
+                accessLogConfig, HTTP_LOGGING_PROTOCOL);
+    }
+
     @AfterClass
     public void cleanUp() throws IOException {
         tempLogTestFile.deleteOnExit();
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.logging.accesslog;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A unit test class for the AsyncAccessLogHandler class.
+ */
+public class AsyncAccessLogHandlerTest {
+
+    private static final Formatter LINE_FORMATTER = new Formatter() {
+        @Override
+        public String format(LogRecord record) {
+            return record.getMessage() + "\n";
+        }
+    };
+
+    @Test
+    public void testRecordsFromManyThreadsAreWritten() throws InterruptedException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        AsyncAccessLogHandler handler = new AsyncAccessLogHandler(outputStream, true, LINE_FORMATTER, 16, false);
+        int threads = 4;
+        int linesPerThread = 500;
+        Thread[] producers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            int producer = i;
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < linesPerThread; j++) {
+                    handler.publish(new LogRecord(Level.INFO, producer + "-" + j));
+                }
+            });
+            producers[i].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        handler.close();
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        Assert.assertEquals(lines.length, threads * linesPerThread);
+        Assert.assertEquals(handler.getWrittenCount(), threads * linesPerThread);
+        Assert.assertEquals(handler.getDroppedCount(), 0);
+        int[] next = new int[threads];
+        for (String line : lines) {
+            String[] parts = line.split("-");
+            int producer = Integer.parseInt(parts[0]);
+            Assert.assertEquals(Integer.parseInt(parts[1]), next[producer]++, "Lines of a thread are out of order");
+        }
+    }
+
+    @Test
+    public void testRecordsAreDroppedWhenFull() throws InterruptedException {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        OutputStream blockingStream = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writeStarted.countDown();
+                try {
+                    releaseWrite.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        AsyncAccessLogHandler handler = new AsyncAccessLogHandler(blockingStream, true, LINE_FORMATTER, 4, true);
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        Assert.assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "line" + i));
+        }
+        Assert.assertEquals(handler.getDroppedCount(), 6);
+        releaseWrite.countDown();
+        handler.close();
+        Assert.assertEquals(handler.getWrittenCount(), 5);
+    }
+}
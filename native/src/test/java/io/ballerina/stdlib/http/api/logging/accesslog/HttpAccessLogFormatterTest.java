@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.logging.accesslog;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * A unit test class for the HttpAccessLogFormatter class.
+ */
+public class HttpAccessLogFormatterTest {
+
+    private static final String DATE_TIME_FORMAT = "%1$td/%1$tb/%1$tY:%1$tT.%1$tL %1$tz";
+
+    @Test
+    public void testFlatFormatWithDefaultAttributes() {
+        HttpAccessLogMessage message = createMessage(7);
+        String formatted = HttpAccessLogFormatter.formatAccessLogMessage(message, Collections.emptyList(),
+                HttpAccessLogFormat.FLAT, Collections.emptyList());
+        Assert.assertEquals(formatted, "127.0.0.1 [" + String.format(DATE_TIME_FORMAT, message.getDateTime()) +
+                "] \"GET /hello HTTP/1.1\" 200 11 \"-\" \"curl/8.0\"");
+    }
+
+    @Test
+    public void testFlatFormatWithOutboundMessages() {
+        HttpAccessLogFormatter formatter = new HttpAccessLogFormatter(HttpAccessLogFormat.FLAT,
+                List.of("status", "http_x-id", "ip", "unknown"));
+        HttpAccessLogMessage outbound1 = createMessage(45);
+        outbound1.setIp(null);
+        outbound1.putCustomHeader("x-id", "abc");
+        HttpAccessLogMessage outbound2 = createMessage(999);
+        outbound2.putCustomHeader("X-ID", "def");
+        String formatted = formatter.format(createMessage(0), List.of(outbound1, outbound2));
+        Assert.assertEquals(formatted, "127.0.0.1 200 \"-\" \"~\" 200 \"abc\" 127.0.0.1 200 \"def\"");
+    }
+
+    @Test
+    public void testTimestampMilliseconds() {
+        HttpAccessLogFormatter formatter = new HttpAccessLogFormatter(HttpAccessLogFormat.FLAT, List.of("date_time"));
+        for (int millis : new int[]{0, 7, 45, 999}) {
+            HttpAccessLogMessage message = createMessage(millis);
+            Assert.assertEquals(formatter.format(message, Collections.emptyList()),
+                    "[" + String.format(DATE_TIME_FORMAT, message.getDateTime()) + "]");
+        }
+    }
+
+    @Test
+    public void testJsonFormat() {
+        HttpAccessLogMessage inbound = createMessage(120);
+        inbound.setRequestUri("/hello?a=<b>&c='d'");
+        inbound.setHttpUserAgent("agent \"quoted\"\n");
+        HttpAccessLogMessage outbound = createMessage(5);
+        outbound.setScheme(null);
+        String formatted = HttpAccessLogFormatter.formatAccessLogMessage(inbound, List.of(outbound),
+                HttpAccessLogFormat.JSON, List.of("ip", "request_uri", "scheme", "http_user_agent", "request_time"));
+        Assert.assertEquals(formatted, "{\"ip\":\"127.0.0.1\",\"request_uri\":\"/hello?a\\u003d\\u003cb\\u003e" +
+                "\\u0026c\\u003d\\u0027d\\u0027\",\"scheme\":\"HTTP/1.1\",\"request_time\":\"25\"," +
+                "\"http_user_agent\":\"agent \\\"quoted\\\"\\n\",\"upstream\":[{\"ip\":\"127.0.0.1\"," +
+                "\"request_uri\":\"/hello\",\"request_time\":\"25\",\"http_user_agent\":\"curl/8.0\"}]}");
+        JsonObject jsonObject = new JsonParser().parse(formatted).getAsJsonObject();
+        Assert.assertEquals(jsonObject.get("request_uri").getAsString(), "/hello?a=<b>&c='d'");
+    }
+
+    private static HttpAccessLogMessage createMessage(int millis) {
+        Calendar dateTime = Calendar.getInstance(TimeZone.getTimeZone("Asia/Colombo"));
+        dateTime.setTimeInMillis(1760000000000L + millis);
+        HttpAccessLogMessage message = new HttpAccessLogMessage("127.0.0.1", dateTime, "GET", "/hello",
+                "HTTP/1.1", 200, 11, null, "curl/8.0");
+        message.setRequestTime(25L);
+        return message;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.connectionpool;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import io.ballerina.stdlib.http.transport.util.server.HttpServer;
+import io.ballerina.stdlib.http.transport.util.server.initializers.SendChannelIDServerInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.Future;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests borrowing target channels asynchronously from an exhausted connection pool.
+ */
+public class ConnectionPoolAsyncBorrowTestCase {
+
+    private static final int MAX_WAIT_TIME_FOR_CONNECTION_POOL = 1000;
+
+    private HttpServer httpServer;
+    private EventLoopGroup clientEventGroup;
+    private SenderConfiguration senderConfiguration;
+    private BootstrapConfiguration bootstrapConfiguration;
+
+    @BeforeClass
+    public void setup() {
+        httpServer = TestUtil.startHTTPServer(TestUtil.HTTP_SERVER_PORT, new SendChannelIDServerInitializer(0));
+        clientEventGroup = new NioEventLoopGroup(1);
+        senderConfiguration = new SenderConfiguration();
+        senderConfiguration.getPoolConfiguration().setMaxActivePerPool(1);
+        senderConfiguration.getPoolConfiguration().setMaxWaitTime(MAX_WAIT_TIME_FOR_CONNECTION_POOL);
+        bootstrapConfiguration = new BootstrapConfiguration(senderConfiguration);
+    }
+
+    @Test(description = "A pending borrow is completed with the channel returned to the pool")
+    public void testPendingBorrowCompletedOnReturn() throws Exception {
+        ConnectionManager connectionManager = new ConnectionManager(senderConfiguration.getPoolConfiguration());
+        TargetChannel targetChannel = borrowConnectedChannel(connectionManager);
+
+        Future<TargetChannel> pendingBorrow = borrowAsync(connectionManager);
+        assertFalse(pendingBorrow.await(200, TimeUnit.MILLISECONDS));
+
+        connectionManager.returnChannel(targetChannel);
+        assertTrue(pendingBorrow.await(5, TimeUnit.SECONDS));
+        assertTrue(pendingBorrow.isSuccess());
+        assertSame(pendingBorrow.getNow(), targetChannel);
+        targetChannel.getChannel().close().sync();
+    }
+
+    @Test(description = "A pending borrow fails once the maximum wait time of the pool is exceeded")
+    public void testPendingBorrowTimeout() throws Exception {
+        ConnectionManager connectionManager = new ConnectionManager(senderConfiguration.getPoolConfiguration());
+        TargetChannel targetChannel = borrowConnectedChannel(connectionManager);
+
+        Future<TargetChannel> pendingBorrow = borrowAsync(connectionManager);
+        assertTrue(pendingBorrow.await(MAX_WAIT_TIME_FOR_CONNECTION_POOL * 5, TimeUnit.MILLISECONDS));
+        assertTrue(pendingBorrow.cause() instanceof NoSuchElementException);
+        assertEquals(pendingBorrow.cause().getMessage(), "Timeout waiting for idle object");
+        targetChannel.getChannel().close().sync();
+    }
+
+    @Test(description = "An async borrow is completed right away when the pool has an idle channel")
+    public void testBorrowIdleChannel() throws Exception {
+        ConnectionManager connectionManager = new ConnectionManager(senderConfiguration.getPoolConfiguration());
+        TargetChannel targetChannel = borrowConnectedChannel(connectionManager);
+        connectionManager.returnChannel(targetChannel);
+
+        Future<TargetChannel> borrow = borrowAsync(connectionManager);
+        assertTrue(borrow.await(5, TimeUnit.SECONDS));
+        assertSame(borrow.getNow(), targetChannel);
+        targetChannel.getChannel().close().sync();
+    }
+
+    private TargetChannel borrowConnectedChannel(ConnectionManager connectionManager) throws Exception {
+        TargetChannel targetChannel = connectionManager.borrowTargetChannel(getRoute(), null, null,
+                                                                            senderConfiguration,
+                                                                            bootstrapConfiguration, clientEventGroup);
+        targetChannel.setChannel(targetChannel.getChannelFuture().sync().channel());
+        return targetChannel;
+    }
+
+    private Future<TargetChannel> borrowAsync(ConnectionManager connectionManager) {
+        return connectionManager.borrowTargetChannelAsync(getRoute(), null, null, senderConfiguration,
+                                                          bootstrapConfiguration, clientEventGroup);
+    }
+
+    private HttpRoute getRoute() {
+        return new HttpRoute(Constants.HTTP_SCHEME, TestUtil.TEST_HOST, TestUtil.HTTP_SERVER_PORT, 0);
+    }
+
+    @AfterClass
+    public void cleanUp() throws ServerConnectorException, InterruptedException {
+        TestUtil.cleanUp(new ArrayList<>(), httpServer);
+        clientEventGroup.shutdownGracefully().sync();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.connectionpool;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.EventLoopPoolMetrics;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import io.ballerina.stdlib.http.transport.util.server.HttpServer;
+import io.ballerina.stdlib.http.transport.util.server.initializers.SendChannelIDServerInitializer;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests the event loop affine slices of the connection pool.
+ */
+public class ConnectionPoolEventLoopAffinityTestCase {
+
+    private HttpServer httpServer;
+    private EventLoopGroup inboundEventGroup;
+    private EventLoopGroup clientEventGroup;
+    private SenderConfiguration senderConfiguration;
+    private BootstrapConfiguration bootstrapConfiguration;
+
+    @BeforeClass
+    public void setup() {
+        httpServer = TestUtil.startHTTPServer(TestUtil.HTTP_SERVER_PORT, new SendChannelIDServerInitializer(0));
+        inboundEventGroup = new NioEventLoopGroup(2);
+        clientEventGroup = new NioEventLoopGroup(1);
+        senderConfiguration = new SenderConfiguration();
+        senderConfiguration.getPoolConfiguration().setEventLoopAffinity(true);
+        bootstrapConfiguration = new BootstrapConfiguration(senderConfiguration);
+    }
+
+    @Test(description = "Target channels are created on the event loop of the correlated inbound channel")
+    public void testChannelsBoundToInboundEventLoop() throws Exception {
+        ConnectionManager connectionManager = new ConnectionManager(senderConfiguration.getPoolConfiguration());
+        EventLoop firstEventLoop = inboundEventGroup.next();
+        EventLoop secondEventLoop = inboundEventGroup.next();
+        assertNotSame(firstEventLoop, secondEventLoop);
+        SourceHandler firstSourceHandler = mockSourceHandler(firstEventLoop);
+        SourceHandler secondSourceHandler = mockSourceHandler(secondEventLoop);
+
+        TargetChannel firstChannel = borrowConnectedChannel(connectionManager, firstSourceHandler);
+        TargetChannel secondChannel = borrowConnectedChannel(connectionManager, secondSourceHandler);
+        assertSame(firstChannel.getChannel().eventLoop(), firstEventLoop);
+        assertSame(secondChannel.getChannel().eventLoop(), secondEventLoop);
+
+        List<EventLoopPoolMetrics> metrics = connectionManager.getEventLoopPoolMetrics();
+        assertEquals(metrics.size(), 2);
+        for (EventLoopPoolMetrics eventLoopPoolMetrics : metrics) {
+            assertEquals(eventLoopPoolMetrics.getNumActive(), 1);
+            assertEquals(eventLoopPoolMetrics.getNumIdle(), 0);
+        }
+
+        connectionManager.returnChannel(firstChannel);
+        assertSame(borrowConnectedChannel(connectionManager, firstSourceHandler), firstChannel);
+        connectionManager.returnChannel(firstChannel);
+        connectionManager.returnChannel(secondChannel);
+        for (EventLoopPoolMetrics eventLoopPoolMetrics : connectionManager.getEventLoopPoolMetrics()) {
+            assertEquals(eventLoopPoolMetrics.getNumActive(), 0);
+            assertEquals(eventLoopPoolMetrics.getNumIdle(), 1);
+        }
+        firstChannel.getChannel().close().sync();
+        secondChannel.getChannel().close().sync();
+    }
+
+    private SourceHandler mockSourceHandler(EventLoop eventLoop) throws InterruptedException {
+        Channel inboundChannel = new NioSocketChannel();
+        eventLoop.register(inboundChannel).sync();
+        ChannelHandlerContext inboundChannelContext = mock(ChannelHandlerContext.class);
+        when(inboundChannelContext.channel()).thenReturn(inboundChannel);
+        SourceHandler sourceHandler = mock(SourceHandler.class);
+        when(sourceHandler.getInboundChannelContext()).thenReturn(inboundChannelContext);
+        when(sourceHandler.getEventLoop()).thenReturn(eventLoop);
+        return sourceHandler;
+    }
+
+    private TargetChannel borrowConnectedChannel(ConnectionManager connectionManager, SourceHandler sourceHandler)
+            throws Exception {
+        HttpRoute route = new HttpRoute(Constants.HTTP_SCHEME, TestUtil.TEST_HOST, TestUtil.HTTP_SERVER_PORT, 0);
+        TargetChannel targetChannel = connectionManager.borrowTargetChannel(route, sourceHandler, null,
+                                                                            senderConfiguration,
+                                                                            bootstrapConfiguration, clientEventGroup);
+        if (targetChannel.getChannel() == null) {
+            targetChannel.setChannel(targetChannel.getChannelFuture().sync().channel());
+        }
+        return targetChannel;
+    }
+
+    @AfterClass
+    public void cleanUp() throws ServerConnectorException, InterruptedException {
+        TestUtil.cleanUp(new ArrayList<>(), httpServer);
+        inboundEventGroup.shutdownGracefully().sync();
+        clientEventGroup.shutdownGracefully().sync();
+    }
+}
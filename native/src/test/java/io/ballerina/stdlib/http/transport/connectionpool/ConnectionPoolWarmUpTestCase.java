@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.connectionpool;
+
+import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
+import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.util.DefaultHttpConnectorListener;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import io.ballerina.stdlib.http.transport.util.server.HttpServer;
+import io.ballerina.stdlib.http.transport.util.server.initializers.SendChannelIDServerInitializer;
+import io.netty.channel.Channel;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests opening pooled connections ahead of requests.
+ */
+public class ConnectionPoolWarmUpTestCase {
+
+    private HttpServer httpServer;
+    private HttpWsConnectorFactory connectorFactory;
+    private final List<Channel> serverChannels = new CopyOnWriteArrayList<>();
+
+    @BeforeClass
+    public void setup() {
+        httpServer = TestUtil.startHTTPServer(TestUtil.HTTP_SERVER_PORT, new SendChannelIDServerInitializer(0) {
+            @Override
+            protected void addBusinessLogicHandler(Channel channel) {
+                serverChannels.add(channel);
+                super.addBusinessLogicHandler(channel);
+            }
+        });
+        connectorFactory = new DefaultHttpWsConnectorFactory();
+    }
+
+    @Test(description = "The first request is sent over a connection opened by the warm up")
+    public void testWarmUpConnectionsServeRequests() throws Exception {
+        SenderConfiguration senderConfiguration = new SenderConfiguration();
+        senderConfiguration.getPoolConfiguration().setWarmUpConnectionsPerRoute(2);
+        HttpClientConnector httpClientConnector =
+                connectorFactory.createHttpClientConnector(new HashMap<>(), senderConfiguration);
+
+        httpClientConnector.warmUp(TestUtil.TEST_HOST, TestUtil.HTTP_SERVER_PORT);
+        waitForServerChannels(2);
+        // Let the client add the connected channels to the pool
+        Thread.sleep(500);
+
+        CountDownLatch requestLatch = new CountDownLatch(1);
+        DefaultHttpConnectorListener responseListener =
+                TestUtil.sendRequestAsync(requestLatch, httpClientConnector);
+        String channelId = TestUtil.waitAndGetStringEntity(requestLatch, responseListener);
+
+        assertEquals(serverChannels.size(), 2);
+        assertTrue(serverChannels.stream().anyMatch(channel -> channel.id().asLongText().equals(channelId)));
+    }
+
+    @Test(description = "Idle connections closed by the server are replaced to keep the minimum idle connections")
+    public void testMinIdleConnectionsAreReplaced() throws Exception {
+        SenderConfiguration senderConfiguration = new SenderConfiguration();
+        senderConfiguration.getPoolConfiguration().setMinIdlePerPool(2);
+        senderConfiguration.getPoolConfiguration().setTimeBetweenEvictionRuns(500);
+        HttpClientConnector httpClientConnector =
+                connectorFactory.createHttpClientConnector(new HashMap<>(), senderConfiguration);
+
+        try {
+            httpClientConnector.warmUp(TestUtil.TEST_HOST, TestUtil.HTTP_SERVER_PORT);
+            waitForServerChannels(2);
+            serverChannels.forEach(Channel::close);
+            waitForServerChannels(4);
+            Thread.sleep(1500);
+
+            assertEquals(serverChannels.size(), 4);
+            assertTrue(serverChannels.get(2).isActive());
+            assertTrue(serverChannels.get(3).isActive());
+        } finally {
+            // Stops the pool from opening connections for the other tests
+            senderConfiguration.getPoolConfiguration().setMinIdlePerPool(0);
+        }
+    }
+
+    @Test(description = "No connection is opened unless warm up or minimum idle connections are configured")
+    public void testNoWarmUpByDefault() throws Exception {
+        HttpClientConnector httpClientConnector =
+                connectorFactory.createHttpClientConnector(new HashMap<>(), new SenderConfiguration());
+
+        httpClientConnector.warmUp(TestUtil.TEST_HOST, TestUtil.HTTP_SERVER_PORT);
+        Thread.sleep(500);
+
+        assertEquals(serverChannels.size(), 0);
+    }
+
+    private void waitForServerChannels(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && serverChannels.size() < count; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(serverChannels.size(), count);
+    }
+
+    @AfterMethod
+    public void closeServerChannels() {
+        serverChannels.forEach(Channel::close);
+        serverChannels.clear();
+    }
+
+    @AfterClass
+    public void cleanUp() throws ServerConnectorException {
+        TestUtil.cleanUp(new ArrayList<>(), httpServer, connectorFactory);
+    }
+}
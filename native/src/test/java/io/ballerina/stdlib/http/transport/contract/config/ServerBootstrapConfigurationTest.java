@@ -60,4 +60,18 @@ public class ServerBootstrapConfigurationTest {
         serverBootstrapConfiguration = new ServerBootstrapConfiguration(properties);
         Assert.assertEquals(serverBootstrapConfiguration.getConnectTimeOut(), 10000);
     }
+
+    @Test
+    public void testGetSocketTransport() {
+        ServerBootstrapConfiguration serverBootstrapConfiguration = new ServerBootstrapConfiguration(new HashMap<>());
+        Assert.assertEquals(serverBootstrapConfiguration.getSocketTransport(), SocketTransport.NIO);
+        Assert.assertEquals(serverBootstrapConfiguration.getAcceptorCount(), 1);
+
+        ListenerConfiguration listenerConfiguration = new ListenerConfiguration();
+        listenerConfiguration.setSocketTransport(SocketTransport.EPOLL);
+        listenerConfiguration.setAcceptorCount(4);
+        serverBootstrapConfiguration = new ServerBootstrapConfiguration(listenerConfiguration);
+        Assert.assertEquals(serverBootstrapConfiguration.getSocketTransport(), SocketTransport.EPOLL);
+        Assert.assertEquals(serverBootstrapConfiguration.getAcceptorCount(), 4);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * A unit test class for Transport module NativeTransport class functions.
+ */
+public class NativeTransportTest {
+
+    @Test
+    public void testResolveNio() {
+        Assert.assertEquals(NativeTransport.resolve(null), SocketTransport.NIO);
+        Assert.assertEquals(NativeTransport.resolve(SocketTransport.NIO), SocketTransport.NIO);
+    }
+
+    @Test
+    public void testResolveEpollFallsBackWhenUnavailable() {
+        SocketTransport expected = Epoll.isAvailable() ? SocketTransport.EPOLL : SocketTransport.NIO;
+        Assert.assertEquals(NativeTransport.resolve(SocketTransport.EPOLL), expected);
+    }
+
+    @Test
+    public void testChannelClasses() {
+        Assert.assertEquals(NativeTransport.getServerChannelClass(SocketTransport.NIO), NioServerSocketChannel.class);
+        Assert.assertEquals(NativeTransport.getSocketChannelClass(SocketTransport.NIO), NioSocketChannel.class);
+        Assert.assertEquals(NativeTransport.getServerChannelClass(SocketTransport.EPOLL),
+                            EpollServerSocketChannel.class);
+        Assert.assertEquals(NativeTransport.getSocketChannelClass(SocketTransport.EPOLL), EpollSocketChannel.class);
+    }
+
+    @Test
+    public void testCreateNioEventLoopGroup() {
+        EventLoopGroup eventLoopGroup = NativeTransport.createEventLoopGroup(SocketTransport.NIO, 1);
+        try {
+            Assert.assertTrue(eventLoopGroup instanceof NioEventLoopGroup);
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void testChannelIsCompatibleOnlyWithSameTransport() throws InterruptedException {
+        EventLoopGroup nioGroup = NativeTransport.createEventLoopGroup(SocketTransport.NIO, 2);
+        EventLoop otherTransportLoop = new DefaultEventLoop();
+        NioSocketChannel channel = new NioSocketChannel();
+        try {
+            nioGroup.register(channel).sync();
+            Assert.assertTrue(NativeTransport.isCompatible(channel, nioGroup.next()));
+            Assert.assertFalse(NativeTransport.isCompatible(channel, otherTransportLoop));
+        } finally {
+            channel.close().sync();
+            nioGroup.shutdownGracefully();
+            otherTransportLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void testReusePortNotEnabledForNio() {
+        Assert.assertFalse(NativeTransport.enableReusePort(new ServerBootstrap(), SocketTransport.NIO));
+    }
+}
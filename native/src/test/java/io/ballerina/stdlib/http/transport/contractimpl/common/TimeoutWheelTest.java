@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A unit test class for the TimeoutWheel and IdleTimeoutHandler classes.
+ */
+public class TimeoutWheelTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testTimeoutsExpireAfterTheirDeadline() {
+        TimeoutWheel wheel = new TimeoutWheel(new EmbeddedChannel().eventLoop());
+        List<String> expired = new ArrayList<>();
+        long start = Util.ticksInNanos();
+        wheel.newTimeout(() -> expired.add("second"), 200 * MILLIS);
+        TimeoutWheel.Timeout first = wheel.newTimeout(() -> expired.add("first"), 50 * MILLIS);
+        Assert.assertEquals(wheel.pending(), 2);
+
+        wheel.expire(start + 30 * MILLIS);
+        Assert.assertTrue(expired.isEmpty());
+
+        wheel.expire(start + 80 * MILLIS);
+        Assert.assertEquals(expired, List.of("first"));
+        Assert.assertTrue(first.isExpired());
+        Assert.assertFalse(first.cancel());
+        Assert.assertEquals(wheel.pending(), 1);
+
+        wheel.expire(start + 250 * MILLIS);
+        Assert.assertEquals(expired, List.of("first", "second"));
+        Assert.assertEquals(wheel.pending(), 0);
+    }
+
+    @Test
+    public void testCancelledTimeoutsDoNotRun() {
+        TimeoutWheel wheel = new TimeoutWheel(new EmbeddedChannel().eventLoop());
+        List<String> expired = new ArrayList<>();
+        long start = Util.ticksInNanos();
+        TimeoutWheel.Timeout first = wheel.newTimeout(() -> expired.add("first"), 50 * MILLIS);
+        TimeoutWheel.Timeout second = wheel.newTimeout(() -> expired.add("second"), 50 * MILLIS);
+        wheel.newTimeout(() -> expired.add("third"), 50 * MILLIS);
+
+        Assert.assertTrue(second.cancel());
+        Assert.assertFalse(second.cancel());
+        Assert.assertTrue(second.isCancelled());
+        Assert.assertEquals(wheel.pending(), 2);
+        Assert.assertTrue(first.cancel());
+        Assert.assertEquals(wheel.pending(), 1);
+
+        wheel.expire(start + 100 * MILLIS);
+        Assert.assertEquals(expired, List.of("third"));
+        Assert.assertFalse(first.isExpired());
+    }
+
+    @Test
+    public void testTimeoutsLongerThanTheWheelExpireOnTheirRound() {
+        TimeoutWheel wheel = new TimeoutWheel(new EmbeddedChannel().eventLoop());
+        long round = TimeoutWheel.TICK_NANOS * TimeoutWheel.WHEEL_SIZE;
+        long start = Util.ticksInNanos();
+        TimeoutWheel.Timeout timeout = wheel.newTimeout(() -> { }, round * 2 + 50 * MILLIS);
+
+        for (long now = start; now < start + round * 2; now += round / 4) {
+            wheel.expire(now);
+            Assert.assertFalse(timeout.isExpired());
+        }
+        wheel.expire(start + round * 2 + 100 * MILLIS);
+        Assert.assertTrue(timeout.isExpired());
+    }
+
+    @Test
+    public void testExpiredTaskCanRefreshItsDeadline() {
+        TimeoutWheel wheel = new TimeoutWheel(new EmbeddedChannel().eventLoop());
+        int[] runs = new int[1];
+        long start = Util.ticksInNanos();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                if (++runs[0] < 3) {
+                    wheel.newTimeout(this, 50 * MILLIS);
+                }
+            }
+        };
+        wheel.newTimeout(task, 50 * MILLIS);
+
+        wheel.expire(start + 100 * MILLIS);
+        Assert.assertEquals(runs[0], 1);
+        Assert.assertEquals(wheel.pending(), 1);
+        wheel.expire(start + 10 * MILLIS);
+        Assert.assertEquals(runs[0], 1);
+        wheel.expire(start + 1000 * MILLIS);
+        Assert.assertEquals(runs[0], 2);
+        wheel.expire(start + 2000 * MILLIS);
+        Assert.assertEquals(runs[0], 3);
+        Assert.assertEquals(wheel.pending(), 0);
+    }
+
+    @Test
+    public void testRearmedTimeoutsShareOneTickTask() throws InterruptedException {
+        TickCountingEventLoop eventLoop = new TickCountingEventLoop();
+        try {
+            CountDownLatch done = new CountDownLatch(1);
+            int[] runs = new int[1];
+            Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                    if (++runs[0] < 5) {
+                        TimeoutWheel.schedule(eventLoop, this, 20 * MILLIS);
+                    } else {
+                        done.countDown();
+                    }
+                }
+            };
+            TimeoutWheel.schedule(eventLoop, task, 20 * MILLIS);
+
+            Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(eventLoop.maxOutstandingTicks.get(), 1);
+        } finally {
+            eventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void testTickIsScheduledForTheNextDeadline() throws InterruptedException {
+        TickCountingEventLoop eventLoop = new TickCountingEventLoop();
+        try {
+            CountDownLatch done = new CountDownLatch(1);
+            TimeoutWheel.schedule(eventLoop, done::countDown, 200 * MILLIS);
+
+            Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(eventLoop.scheduledTicks.get(), 1);
+        } finally {
+            eventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void testIdleTimeoutHandlerFiresOnlyWhenIdle() {
+        AtomicLong clock = new AtomicLong();
+        List<Object> events = new ArrayList<>();
+        EmbeddedChannel channel = new EmbeddedChannel();
+        TimeoutWheel wheel = new TimeoutWheel(channel.eventLoop(), clock::get);
+        channel.pipeline().addLast(new IdleTimeoutHandler(100, TimeUnit.MILLISECONDS, wheel),
+                                   new ChannelInboundHandlerAdapter() {
+            @Override
+            public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+                events.add(evt);
+            }
+        });
+
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(50 * MILLIS);
+            channel.writeInbound("ping");
+            wheel.expire(clock.get());
+        }
+        Assert.assertTrue(events.isEmpty());
+
+        wheel.expire(clock.addAndGet(250 * MILLIS));
+        Assert.assertEquals(events, List.of(IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT));
+
+        channel.close();
+        wheel.expire(clock.addAndGet(150 * MILLIS));
+        Assert.assertEquals(events.size(), 1);
+        Assert.assertEquals(wheel.pending(), 0);
+        channel.finishAndReleaseAll();
+    }
+
+    /**
+     * An event loop that tracks how many tasks are scheduled, and how many of them are pending at once.
+     */
+    private static class TickCountingEventLoop extends DefaultEventLoop {
+
+        private final AtomicInteger outstandingTicks = new AtomicInteger();
+        private final AtomicInteger maxOutstandingTicks = new AtomicInteger();
+        private final AtomicInteger scheduledTicks = new AtomicInteger();
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            scheduledTicks.incrementAndGet();
+            maxOutstandingTicks.accumulateAndGet(outstandingTicks.incrementAndGet(), Math::max);
+            return super.schedule(() -> {
+                outstandingTicks.decrementAndGet();
+                command.run();
+            }, delay, unit);
+        }
+    }
+}
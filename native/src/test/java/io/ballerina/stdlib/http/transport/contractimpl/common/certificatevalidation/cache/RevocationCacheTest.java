@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A unit test class for Transport module RevocationCache class functions.
+ */
+public class RevocationCacheTest {
+
+    private static final long VALIDITY = 60 * 60 * 1000;
+
+    private TestCache cache;
+
+    @BeforeMethod
+    public void initializeCache() {
+        cache = new TestCache();
+    }
+
+    @Test
+    public void testHitAndMissCounts() {
+        Assert.assertNull(cache.getValue("a"));
+        cache.putValue("a", validUntil(VALIDITY));
+        Assert.assertNotNull(cache.getValue("a"));
+        Assert.assertNotNull(cache.getValue("a"));
+        Assert.assertEquals(cache.getHitCount(), 2);
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testExpiredValueIsRefreshedOnRead() {
+        cache.putValue("a", validUntil(-1));
+        Date refreshed = validUntil(VALIDITY);
+        cache.fetchedValues.put("a", refreshed);
+        Assert.assertSame(cache.getValue("a"), refreshed);
+        Assert.assertEquals(cache.getRefreshCount(), 1);
+        Assert.assertSame(cache.getValue("a"), refreshed);
+        Assert.assertEquals(cache.getRefreshCount(), 1);
+    }
+
+    @Test
+    public void testValueIsRemovedWhenRefreshFails() {
+        cache.putValue("a", validUntil(-1));
+        Assert.assertNull(cache.getValue("a"));
+        Assert.assertEquals(cache.getCacheSize(), 0);
+        Assert.assertEquals(cache.getRefreshCount(), 0);
+    }
+
+    @Test
+    public void testRefreshValuesExpiringBefore() {
+        cache.putValue("a", validUntil(VALIDITY));
+        cache.putValue("b", validUntil(3 * VALIDITY));
+        Date refreshed = validUntil(4 * VALIDITY);
+        cache.fetchedValues.put("a", refreshed);
+        cache.refreshValuesExpiringBefore(System.currentTimeMillis() + 2 * VALIDITY);
+        Assert.assertEquals(cache.getRefreshCount(), 1);
+        Assert.assertSame(cache.getValue("a"), refreshed);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedValuesAreEvicted() throws InterruptedException {
+        cache.putValue("a", validUntil(VALIDITY));
+        cache.putValue("b", validUntil(VALIDITY));
+        cache.putValue("c", validUntil(VALIDITY));
+        Thread.sleep(5);
+        cache.getValue("a");
+        cache.evictLeastRecentlyUsed(1);
+        Assert.assertEquals(cache.getCacheSize(), 1);
+        Assert.assertEquals(cache.getEvictionCount(), 2);
+        Assert.assertNotNull(cache.getValue("a"));
+    }
+
+    @Test
+    public void testCacheSizeIsBoundedAfterInit() throws InterruptedException {
+        cache.init(2, 5, "TestCacheController");
+        cache.putValue("a", validUntil(VALIDITY));
+        Thread.sleep(5);
+        cache.putValue("b", validUntil(VALIDITY));
+        Thread.sleep(5);
+        cache.putValue("c", validUntil(VALIDITY));
+        Assert.assertEquals(cache.getCacheSize(), 2);
+        Assert.assertNull(cache.getValue("a"));
+        Assert.assertNotNull(cache.getValue("c"));
+    }
+
+    @Test
+    public void testEachOverflowingPutEvictsOneValue() {
+        cache.init(16, 5, "TestCacheController");
+        for (int i = 0; i < 100; i++) {
+            cache.putValue("key" + i, validUntil(VALIDITY));
+            Assert.assertEquals(cache.getCacheSize(), Math.min(i + 1, 16));
+        }
+        Assert.assertEquals(cache.getEvictionCount(), 84);
+        Assert.assertNotNull(cache.getValue("key99"));
+    }
+
+    private static Date validUntil(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+
+    private static class TestCache extends RevocationCache<String, Date> {
+
+        private final Map<String, Date> fetchedValues = new HashMap<>();
+
+        @Override
+        protected Date fetchValue(String key, Date staleValue) throws Exception {
+            Date value = fetchedValues.get(key);
+            if (value == null) {
+                throw new Exception("Unable to fetch " + key);
+            }
+            return value;
+        }
+
+        @Override
+        protected Date getNextUpdate(Date value) {
+            return value;
+        }
+    }
+}
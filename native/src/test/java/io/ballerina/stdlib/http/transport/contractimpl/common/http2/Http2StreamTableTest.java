@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.http2;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.TimeoutWheel;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the Http2StreamTable class.
+ */
+public class Http2StreamTableTest {
+
+    private final EventLoop eventLoop = new DefaultEventLoop();
+
+    @AfterClass
+    public void cleanUp() {
+        eventLoop.shutdownGracefully();
+    }
+
+    @Test
+    public void testPutGetAndRemove() {
+        Http2StreamTable<String> table = new Http2StreamTable<>();
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertNull(table.put(1, "one"));
+        Assert.assertNull(table.put(3, "three"));
+        Assert.assertEquals(table.put(3, "third"), "three");
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(table.get(1), "one");
+        Assert.assertEquals(table.get(3), "third");
+        Assert.assertNull(table.get(5));
+        Assert.assertNull(table.get(0));
+
+        Assert.assertEquals(table.remove(1), "one");
+        Assert.assertNull(table.remove(1));
+        Assert.assertNull(table.get(1));
+        Assert.assertEquals(table.size(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidStreamId() {
+        new Http2StreamTable<String>().put(0, "zero");
+    }
+
+    @Test
+    public void testChurnMatchesMap() {
+        Http2StreamTable<Integer> table = new Http2StreamTable<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        int nextStreamId = 1;
+        for (int i = 0; i < 100000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) != 0) {
+                table.put(nextStreamId, i);
+                expected.put(nextStreamId, i);
+                nextStreamId += 2;
+            } else {
+                int streamId = 1 + 2 * random.nextInt((nextStreamId + 1) / 2);
+                Assert.assertEquals(table.remove(streamId), expected.remove(streamId));
+            }
+        }
+        Assert.assertEquals(table.size(), expected.size());
+        expected.forEach((streamId, value) -> Assert.assertEquals(table.get(streamId), value));
+        int[] visited = new int[1];
+        table.forEach((streamId, value) -> {
+            Assert.assertEquals(value, expected.get(streamId));
+            visited[0]++;
+        });
+        Assert.assertEquals(visited[0], expected.size());
+    }
+
+    @Test
+    public void testRemoveWhileIterating() {
+        Http2StreamTable<String> table = new Http2StreamTable<>();
+        for (int streamId = 1; streamId < 200; streamId += 2) {
+            table.put(streamId, String.valueOf(streamId));
+        }
+        int[] visited = new int[1];
+        table.forEach((streamId, value) -> {
+            table.remove(streamId);
+            visited[0]++;
+        });
+        Assert.assertEquals(visited[0], 100);
+        Assert.assertTrue(table.isEmpty());
+    }
+
+    @Test
+    public void testTimersAreKeptWithStreams() {
+        Http2StreamTable<String> table = new Http2StreamTable<>();
+        table.put(1, "one");
+        table.put(3, "three");
+        TimeoutWheel.Timeout first = schedule();
+        Assert.assertTrue(table.setTimer(1, first));
+        Assert.assertSame(table.getTimer(1), first);
+        Assert.assertFalse(table.setTimer(5, schedule()));
+
+        TimeoutWheel.Timeout second = schedule();
+        table.setTimer(1, second);
+        Assert.assertTrue(first.isCancelled());
+        Assert.assertSame(table.getTimer(1), second);
+
+        table.put(1, "first");
+        Assert.assertSame(table.getTimer(1), second);
+        Assert.assertTrue(table.cancelTimer(1));
+        Assert.assertTrue(second.isCancelled());
+        Assert.assertNull(table.getTimer(1));
+        Assert.assertFalse(table.cancelTimer(1));
+
+        TimeoutWheel.Timeout third = schedule();
+        table.setTimer(3, third);
+        table.remove(3);
+        Assert.assertTrue(third.isCancelled());
+
+        TimeoutWheel.Timeout fourth = schedule();
+        table.setTimer(1, fourth);
+        table.clear();
+        Assert.assertTrue(fourth.isCancelled());
+        Assert.assertTrue(table.isEmpty());
+    }
+
+    private TimeoutWheel.Timeout schedule() {
+        return TimeoutWheel.schedule(eventLoop, () -> { }, TimeUnit.HOURS.toNanos(1));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for {@link CompressedContentCache}.
+ */
+public class CompressedContentCacheTest {
+
+    @Test
+    public void testKeyDependsOnContentAndEncoding() {
+        CompressedContentCache cache = new CompressedContentCache();
+        ByteBuf content = Unpooled.copiedBuffer("payload", StandardCharsets.UTF_8);
+        ByteBuf sameContent = Unpooled.wrappedBuffer(Unpooled.copiedBuffer("pay", StandardCharsets.UTF_8),
+                                                     Unpooled.copiedBuffer("load", StandardCharsets.UTF_8));
+        cache.put(cache.newKey(content, "gzip", -1), new byte[]{1});
+
+        Assert.assertEquals(cache.get(cache.newKey(sameContent, "gzip", -1)), new byte[]{1});
+        Assert.assertNull(cache.get(cache.newKey(sameContent, "deflate", -1)));
+        Assert.assertNull(cache.get(cache.newKey(sameContent, "gzip", 9)));
+        Assert.assertNull(cache.get(cache.newKey(Unpooled.copiedBuffer("other", StandardCharsets.UTF_8), "gzip",
+                                                 -1)));
+        Assert.assertEquals(content.readerIndex(), 0);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 3);
+        content.release();
+        sameContent.release();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedContentIsEvicted() throws InterruptedException {
+        CompressedContentCache cache = new CompressedContentCache(110, 1024);
+        CompressedContentCache.Key[] keys = new CompressedContentCache.Key[4];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = cache.newKey(Unpooled.copiedBuffer("content" + i, StandardCharsets.UTF_8), "gzip", -1);
+        }
+        cache.put(keys[0], new byte[40]);
+        cache.put(keys[1], new byte[40]);
+        Thread.sleep(1);
+        cache.get(keys[0]);
+        cache.put(keys[2], new byte[40]);
+
+        Assert.assertNotNull(cache.get(keys[0]));
+        Assert.assertNull(cache.get(keys[1]));
+        Assert.assertNotNull(cache.get(keys[2]));
+        Assert.assertEquals(cache.getCachedBytes(), 80);
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+
+        cache.put(keys[3], new byte[111]);
+        Assert.assertNull(cache.get(keys[3]));
+    }
+
+    @Test
+    public void testLargeContentIsNotCacheable() {
+        CompressedContentCache cache = new CompressedContentCache(1024, 4);
+        Assert.assertTrue(cache.isCacheable(Unpooled.wrappedBuffer(new byte[4])));
+        Assert.assertFalse(cache.isCacheable(Unpooled.wrappedBuffer(new byte[5])));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.ContentCompressionConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ContentCoding;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests for the content coding negotiation and the per service compression settings of
+ * {@link CustomHttpContentCompressor}.
+ */
+public class CustomHttpContentCompressorTest {
+
+    private static final String PAYLOAD = "{\"message\":\"" + "compressible payload ".repeat(20) + "\"}";
+
+    @Test
+    public void testGzipNegotiatedWithoutServiceConfig() {
+        EmbeddedChannel channel = newChannel("gzip");
+        channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                          payload(PAYLOAD)));
+        assertResponse(channel, "gzip", PAYLOAD);
+    }
+
+    @Test
+    public void testResponseBelowMinSizeIsNotCompressed() {
+        EmbeddedChannel channel = newChannel("gzip, deflate");
+        channel.writeOutbound(new CompressibleFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                payload("{}"), new ContentCompressionConfig(ContentCompressionConfig.DEFAULT_LEVEL, 64)));
+        assertResponse(channel, null, "{}");
+    }
+
+    @Test
+    public void testResponseAboveMinSizeIsCompressed() {
+        EmbeddedChannel channel = newChannel("deflate");
+        channel.writeOutbound(new CompressibleFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                payload(PAYLOAD), new ContentCompressionConfig(ContentCompressionConfig.DEFAULT_LEVEL, 64)));
+        assertResponse(channel, "deflate", PAYLOAD);
+    }
+
+    @Test
+    public void testStreamedResponseBelowMinSizeIsNotCompressed() {
+        EmbeddedChannel channel = newChannel("gzip");
+        HttpResponse response = new CompressibleHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                new ContentCompressionConfig(ContentCompressionConfig.DEFAULT_LEVEL, 1024));
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, PAYLOAD.length());
+        channel.writeOutbound(response, new DefaultLastHttpContent(payload(PAYLOAD)));
+        assertResponse(channel, null, PAYLOAD);
+    }
+
+    @Test
+    public void testConfiguredLevelIsApplied() {
+        EmbeddedChannel fastest = newChannel("gzip");
+        fastest.writeOutbound(new CompressibleFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                payload(PAYLOAD), new ContentCompressionConfig(1, 0)));
+        int fastestSize = assertResponse(fastest, "gzip", PAYLOAD);
+
+        EmbeddedChannel smallest = newChannel("gzip");
+        smallest.writeOutbound(new CompressibleFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                payload(PAYLOAD), new ContentCompressionConfig(9, 0)));
+        int smallestSize = assertResponse(smallest, "gzip", PAYLOAD);
+        Assert.assertTrue(smallestSize <= fastestSize);
+    }
+
+    @Test
+    public void testContentEncodingOverridesMinSize() {
+        EmbeddedChannel channel = newChannel(null);
+        DefaultFullHttpResponse response = new CompressibleFullHttpResponse(HttpVersion.HTTP_1_1,
+                HttpResponseStatus.OK, payload("{}"), new ContentCompressionConfig(6, 1024));
+        response.headers().set(HttpHeaderNames.CONTENT_ENCODING, "gzip");
+        channel.writeOutbound(response);
+        assertResponse(channel, "gzip", "{}");
+    }
+
+    @Test
+    public void testIdentityContentEncodingSkipsCompression() {
+        EmbeddedChannel channel = newChannel("gzip");
+        DefaultFullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                                       payload(PAYLOAD));
+        response.headers().set(HttpHeaderNames.CONTENT_ENCODING, "identity");
+        channel.writeOutbound(response);
+        assertResponse(channel, null, PAYLOAD);
+    }
+
+    @Test
+    public void testBrotliAndZstdNegotiatedWhenAvailable() {
+        EmbeddedChannel brotli = newChannel("br;q=1.0, gzip;q=0.5");
+        brotli.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                         payload(PAYLOAD)));
+        assertResponse(brotli, ContentCoding.isBrotliAvailable() ? "br" : "gzip", PAYLOAD);
+
+        EmbeddedChannel zstd = newChannel("zstd");
+        zstd.writeOutbound(new CompressibleFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                payload(PAYLOAD), new ContentCompressionConfig(3, 0)));
+        assertResponse(zstd, ContentCoding.isZstdAvailable() ? "zstd" : null, PAYLOAD);
+    }
+
+    @Test
+    public void testEncodedContentServedFromCache() {
+        CompressedContentCache cache = new CompressedContentCache();
+        for (int i = 0; i < 3; i++) {
+            EmbeddedChannel channel = newChannel("gzip", cache);
+            channel.writeOutbound(new CompressibleFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                    payload(PAYLOAD), ContentCompressionConfig.CACHE_ENCODED_CONTENT));
+            assertResponse(channel, "gzip", PAYLOAD);
+        }
+        EmbeddedChannel channel = newChannel("deflate", cache);
+        channel.writeOutbound(new CompressibleFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                payload(PAYLOAD), ContentCompressionConfig.CACHE_ENCODED_CONTENT));
+        assertResponse(channel, "deflate", PAYLOAD);
+
+        Assert.assertEquals(cache.getCacheSize(), 2);
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertEquals(cache.getHitCount(), 2);
+    }
+
+    @Test
+    public void testDifferentContentIsNotServedFromCache() {
+        CompressedContentCache cache = new CompressedContentCache();
+        String otherPayload = PAYLOAD.replace('c', 'k');
+        for (String content : new String[]{PAYLOAD, otherPayload}) {
+            EmbeddedChannel channel = newChannel("gzip", cache);
+            channel.writeOutbound(new CompressibleFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                    payload(content), ContentCompressionConfig.CACHE_ENCODED_CONTENT));
+            assertResponse(channel, "gzip", content);
+        }
+        Assert.assertEquals(cache.getCacheSize(), 2);
+        Assert.assertEquals(cache.getHitCount(), 0);
+    }
+
+    @Test
+    public void testAcceptEncodingListsAvailableCodings() {
+        String acceptEncoding = ContentCoding.getAcceptEncoding();
+        Assert.assertTrue(acceptEncoding.endsWith("deflate, gzip"));
+        Assert.assertEquals(acceptEncoding.contains("br"), ContentCoding.isBrotliAvailable());
+        Assert.assertEquals(acceptEncoding.contains("zstd"), ContentCoding.isZstdAvailable());
+    }
+
+    @Test
+    public void testInvalidConfigValuesFallBackToDefaults() {
+        ContentCompressionConfig config = new ContentCompressionConfig(12, -5);
+        Assert.assertEquals(config.getLevel(), ContentCompressionConfig.DEFAULT_LEVEL);
+        Assert.assertEquals(config.getMinResponseSize(), 0);
+        Assert.assertTrue(config.isDefault());
+    }
+
+    private static EmbeddedChannel newChannel(String acceptEncoding) {
+        return newChannel(acceptEncoding, null);
+    }
+
+    private static EmbeddedChannel newChannel(String acceptEncoding, CompressedContentCache cache) {
+        EmbeddedChannel channel = new EmbeddedChannel(new CustomHttpContentCompressor(cache));
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+        if (acceptEncoding != null) {
+            request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, acceptEncoding);
+        }
+        channel.writeInbound(request);
+        return channel;
+    }
+
+    private static ByteBuf payload(String content) {
+        return Unpooled.copiedBuffer(content, StandardCharsets.UTF_8);
+    }
+
+    private static int assertResponse(EmbeddedChannel channel, String expectedEncoding, String expectedPayload) {
+        EmbeddedChannel decoder = new EmbeddedChannel(new HttpContentDecompressor());
+        boolean responseWritten = false;
+        int encodedSize = 0;
+        Object msg;
+        while ((msg = channel.readOutbound()) != null) {
+            if (msg instanceof HttpResponse) {
+                responseWritten = true;
+                Assert.assertEquals(((HttpResponse) msg).headers().get(HttpHeaderNames.CONTENT_ENCODING),
+                                    expectedEncoding);
+            }
+            if (msg instanceof HttpContent) {
+                encodedSize += ((HttpContent) msg).content().readableBytes();
+            }
+            decoder.writeInbound(msg);
+        }
+        Assert.assertTrue(responseWritten);
+
+        StringBuilder decoded = new StringBuilder();
+        HttpObject decodedMsg;
+        while ((decodedMsg = decoder.readInbound()) != null) {
+            if (decodedMsg instanceof HttpContent) {
+                HttpContent content = (HttpContent) decodedMsg;
+                decoded.append(content.content().toString(StandardCharsets.UTF_8));
+                content.release();
+                if (content instanceof LastHttpContent) {
+                    break;
+                }
+            }
+        }
+        Assert.assertEquals(decoded.toString(), expectedPayload);
+        channel.finishAndReleaseAll();
+        decoder.finishAndReleaseAll();
+        return encodedSize;
+    }
+}
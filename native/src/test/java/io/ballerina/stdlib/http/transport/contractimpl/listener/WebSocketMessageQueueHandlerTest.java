@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.util.ReferenceCountUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A unit test class for the WebSocketMessageQueueHandler class.
+ */
+public class WebSocketMessageQueueHandlerTest {
+
+    // Each frame accounts for 100 bytes in the buffer
+    private static final String PAYLOAD = "x".repeat(100 - WebSocketMessageQueueHandler.FRAME_OVERHEAD);
+
+    private final List<String> received = new ArrayList<>();
+    private int reads;
+
+    @Test
+    public void testFramesAreIssuedOnRequest() {
+        received.clear();
+        EmbeddedChannel channel = newChannel(new WebSocketMessageQueueHandler());
+        WebSocketMessageQueueHandler handler = channel.pipeline().get(WebSocketMessageQueueHandler.class);
+        writeFrames(channel, "1", "2", "3");
+        Assert.assertTrue(received.isEmpty());
+
+        handler.readNextFrame();
+        Assert.assertEquals(received, List.of("1"));
+        handler.readFrames(4);
+        Assert.assertEquals(received, List.of("1", "2", "3"));
+
+        writeFrames(channel, "4", "5", "6");
+        Assert.assertEquals(received, List.of("1", "2", "3", "4", "5"));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testDrainFramesUpToByteBudget() {
+        received.clear();
+        EmbeddedChannel channel = newChannel(new WebSocketMessageQueueHandler());
+        WebSocketMessageQueueHandler handler = channel.pipeline().get(WebSocketMessageQueueHandler.class);
+        writeFrames(channel, "1", "2", "3", "4");
+
+        handler.drainFrames(PAYLOAD.length() * 2 + 2);
+        Assert.assertEquals(received, List.of("1", "2"));
+        handler.drainFrames(0);
+        Assert.assertEquals(received, List.of("1", "2", "3"));
+        handler.drainFrames(Long.MAX_VALUE);
+        Assert.assertEquals(received, List.of("1", "2", "3", "4"));
+
+        handler.drainFrames(Long.MAX_VALUE);
+        writeFrames(channel, "5", "6");
+        Assert.assertEquals(received, List.of("1", "2", "3", "4", "5"));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testReadingPausesBetweenWatermarks() {
+        received.clear();
+        EmbeddedChannel channel = newChannel(new WebSocketMessageQueueHandler(300, 100));
+        WebSocketMessageQueueHandler handler = channel.pipeline().get(WebSocketMessageQueueHandler.class);
+
+        handler.readNextFrame();
+        Assert.assertEquals(reads, 1);
+        writeFrames(channel, "1");
+        Assert.assertEquals(received, List.of("1"));
+        Assert.assertEquals(reads, 2);
+
+        writeFrames(channel, "2");
+        writeFrames(channel, "3");
+        Assert.assertEquals(reads, 4);
+        writeFrames(channel, "4");
+        Assert.assertEquals(reads, 4);
+
+        handler.readNextFrame();
+        Assert.assertEquals(reads, 4);
+        handler.readNextFrame();
+        Assert.assertEquals(received, List.of("1", "2", "3"));
+        Assert.assertEquals(reads, 5);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testBufferedFramesArePassedOnWhenRemoved() {
+        received.clear();
+        EmbeddedChannel channel = newChannel(new WebSocketMessageQueueHandler());
+        writeFrames(channel, "1", "2");
+        channel.pipeline().remove(WebSocketMessageQueueHandler.class);
+        Assert.assertEquals(received, List.of("1", "2"));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidFrameCount() {
+        new WebSocketMessageQueueHandler().readFrames(0);
+    }
+
+    private EmbeddedChannel newChannel(WebSocketMessageQueueHandler handler) {
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void read(ChannelHandlerContext ctx) {
+                reads++;
+                ctx.read();
+            }
+        }, handler, new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                String text = ((TextWebSocketFrame) msg).text();
+                received.add(text.substring(0, text.indexOf('x')));
+                ReferenceCountUtil.release(msg);
+            }
+        });
+        channel.config().setAutoRead(false);
+        reads = 0;
+        return channel;
+    }
+
+    private static void writeFrames(EmbeddedChannel channel, String... ids) {
+        for (String id : ids) {
+            channel.writeInbound(new TextWebSocketFrame(id + PAYLOAD.substring(id.length())));
+        }
+    }
+}
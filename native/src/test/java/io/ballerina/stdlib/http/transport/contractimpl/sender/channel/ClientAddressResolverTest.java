@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
+
+import io.ballerina.stdlib.http.transport.contract.config.SocketTransport;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.dns.DatagramDnsQuery;
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder;
+import io.netty.handler.codec.dns.DatagramDnsResponse;
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder;
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsQuestion;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsResponseCode;
+import io.netty.handler.codec.dns.DnsSection;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.DnsNameResolverTimeoutException;
+import io.netty.resolver.dns.SingletonDnsServerAddressStreamProvider;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link ClientAddressResolver} against a local stub DNS server.
+ */
+public class ClientAddressResolverTest {
+
+    private static final Map<String, List<byte[]>> RECORDS = Map.of(
+            "multi.test.", List.of(new byte[]{10, 0, 0, 1}, new byte[]{10, 0, 0, 2}),
+            "single.test.", List.of(new byte[]{10, 0, 0, 3}));
+
+    private static final String UNANSWERED_HOST = "unanswered.test";
+    private static final long QUERY_TIMEOUT_MILLIS = 200;
+
+    // Queries received by the stub server for each name, so that a late query of one test does not count in another
+    private final Map<String, AtomicInteger> queryCounts = new ConcurrentHashMap<>();
+    private EventLoopGroup eventLoopGroup;
+    private Channel dnsServerChannel;
+
+    @BeforeClass
+    public void setUp() throws InterruptedException {
+        eventLoopGroup = new NioEventLoopGroup(1);
+        dnsServerChannel = new Bootstrap().group(eventLoopGroup).channel(NioDatagramChannel.class)
+                .handler(new ChannelInitializer<DatagramChannel>() {
+                    @Override
+                    protected void initChannel(DatagramChannel channel) {
+                        channel.pipeline().addLast(new DatagramDnsQueryDecoder(), new DatagramDnsResponseEncoder(),
+                                                   new StubDnsServerHandler());
+                    }
+                }).bind("127.0.0.1", 0).sync().channel();
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        dnsServerChannel.close().sync();
+        eventLoopGroup.shutdownGracefully().sync();
+    }
+
+    @Test
+    public void testConnectionsAreSpreadOverAllAddresses() throws Exception {
+        MeteredDnsCache cache = new MeteredDnsCache(0, Integer.MAX_VALUE, ClientAddressResolver.NEGATIVE_TTL);
+        AddressResolver<InetSocketAddress> resolver = newResolver(cache);
+        Set<String> addresses = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            InetSocketAddress address = resolve(resolver, "multi.test");
+            Assert.assertEquals(address.getPort(), 80);
+            addresses.add(address.getAddress().getHostAddress());
+        }
+        Assert.assertEquals(addresses, Set.of("10.0.0.1", "10.0.0.2"));
+        Assert.assertEquals(queryCount("multi.test"), 1, "Cached addresses must not be queried again");
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 49);
+    }
+
+    @Test
+    public void testNonExistentHostsAreCached() throws Exception {
+        MeteredDnsCache cache = new MeteredDnsCache(0, Integer.MAX_VALUE, ClientAddressResolver.NEGATIVE_TTL);
+        AddressResolver<InetSocketAddress> resolver = newResolver(cache);
+        for (int i = 0; i < 2; i++) {
+            try {
+                resolve(resolver, "missing.test");
+                Assert.fail("Unknown host must not be resolved");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof UnknownHostException, String.valueOf(e.getCause()));
+            }
+        }
+        Assert.assertEquals(queryCount("missing.test"), 1, "Failed lookups must not be queried again");
+        Assert.assertEquals(cache.getHitCount(), 1);
+    }
+
+    @Test
+    public void testTimedOutLookupsAreNotCached() throws Exception {
+        MeteredDnsCache cache = new MeteredDnsCache(0, Integer.MAX_VALUE, ClientAddressResolver.NEGATIVE_TTL);
+        AddressResolver<InetSocketAddress> resolver = newResolver(cache);
+        for (int i = 0; i < 2; i++) {
+            try {
+                resolve(resolver, UNANSWERED_HOST);
+                Assert.fail("Unanswered host must not be resolved");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof UnknownHostException, String.valueOf(e.getCause()));
+                Assert.assertTrue(e.getCause().getCause() instanceof DnsNameResolverTimeoutException,
+                                  String.valueOf(e.getCause().getCause()));
+            }
+        }
+        Assert.assertEquals(queryCount(UNANSWERED_HOST), 2, "Timed out lookups must be queried again");
+        Assert.assertEquals(cache.getHitCount(), 0);
+    }
+
+    @Test
+    public void testCacheIsSharedBetweenEventLoops() throws Exception {
+        MeteredDnsCache cache = new MeteredDnsCache(0, Integer.MAX_VALUE, ClientAddressResolver.NEGATIVE_TTL);
+        EventLoopGroup otherGroup = new NioEventLoopGroup(1);
+        try {
+            AddressResolverGroup<InetSocketAddress> resolverGroup = newResolverGroup(cache);
+            InetSocketAddress unresolved = InetSocketAddress.createUnresolved("single.test", 443);
+            InetSocketAddress first = resolverGroup.getResolver(eventLoopGroup.next()).resolve(unresolved).get();
+            InetSocketAddress second = resolverGroup.getResolver(otherGroup.next()).resolve(unresolved).get();
+            Assert.assertEquals(first, second);
+            Assert.assertEquals(cache.getHitCount(), 1);
+            resolverGroup.close();
+        } finally {
+            otherGroup.shutdownGracefully().sync();
+        }
+    }
+
+    @Test
+    public void testDefaultResolverIsSharedPerTransport() {
+        Assert.assertSame(ClientAddressResolver.getDefault(SocketTransport.NIO),
+                          ClientAddressResolver.getDefault(SocketTransport.NIO));
+    }
+
+    private int queryCount(String host) {
+        AtomicInteger count = queryCounts.get(host + ".");
+        return count != null ? count.get() : 0;
+    }
+
+    private InetSocketAddress resolve(AddressResolver<InetSocketAddress> resolver, String host) throws Exception {
+        // The resolver completes a lookup before caching its result in the same event loop task, so a lookup is
+        // started from the event loop to make sure that the previous one has been cached
+        return eventLoopGroup.next().submit(() -> resolver.resolve(InetSocketAddress.createUnresolved(host, 80)))
+                .get().get();
+    }
+
+    private AddressResolver<InetSocketAddress> newResolver(MeteredDnsCache cache) {
+        EventLoop eventLoop = eventLoopGroup.next();
+        return newResolverGroup(cache).getResolver(eventLoop);
+    }
+
+    private AddressResolverGroup<InetSocketAddress> newResolverGroup(MeteredDnsCache cache) {
+        DnsNameResolverBuilder builder = new DnsNameResolverBuilder()
+                .datagramChannelType(NioDatagramChannel.class)
+                .nameServerProvider(new SingletonDnsServerAddressStreamProvider(
+                        (InetSocketAddress) dnsServerChannel.localAddress()))
+                .resolvedAddressTypes(ResolvedAddressTypes.IPV4_ONLY)
+                .searchDomains(Collections.emptyList())
+                .queryTimeoutMillis(QUERY_TIMEOUT_MILLIS)
+                .recursionDesired(true);
+        return ClientAddressResolver.newResolverGroup(builder, cache);
+    }
+
+    private class StubDnsServerHandler extends SimpleChannelInboundHandler<DatagramDnsQuery> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, DatagramDnsQuery query) {
+            DnsQuestion question = query.recordAt(DnsSection.QUESTION);
+            queryCounts.computeIfAbsent(question.name(), name -> new AtomicInteger()).incrementAndGet();
+            if (question.name().equals(UNANSWERED_HOST + ".")) {
+                // Drop the query, as if the response was lost
+                return;
+            }
+            DatagramDnsResponse response = new DatagramDnsResponse(query.recipient(), query.sender(), query.id());
+            response.addRecord(DnsSection.QUESTION, question);
+            List<byte[]> addresses = RECORDS.get(question.name());
+            if (addresses == null) {
+                response.setCode(DnsResponseCode.NXDOMAIN);
+            } else if (question.type() == DnsRecordType.A) {
+                for (byte[] address : addresses) {
+                    response.addRecord(DnsSection.ANSWER, new DefaultDnsRawRecord(question.name(), DnsRecordType.A,
+                                                                                  60, Unpooled.wrappedBuffer(address)));
+                }
+            }
+            ctx.writeAndFlush(response);
+        }
+    }
+}
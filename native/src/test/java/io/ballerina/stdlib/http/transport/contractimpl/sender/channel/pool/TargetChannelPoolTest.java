@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.Future;
+import org.apache.commons.pool.PoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericObjectPool;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A unit test class for the TargetChannelPool class.
+ */
+public class TargetChannelPoolTest {
+
+    private final EventLoop eventLoop = new DefaultEventLoop();
+
+    @AfterClass
+    public void cleanUp() {
+        eventLoop.shutdownGracefully();
+    }
+
+    @Test
+    public void testTryBorrowDoesNotWaitWhenRoutePoolIsExhausted() throws Exception {
+        TargetChannelPool routePool = createRoutePool();
+        TargetChannelPool pool = createPerSrcHndlrPool(routePool);
+        Assert.assertNotNull(pool.tryBorrowObject());
+
+        long start = System.nanoTime();
+        Assert.assertThrows(NoSuchElementException.class, pool::tryBorrowObject);
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1000));
+        Assert.assertEquals(routePool.getNumActive(), 1);
+    }
+
+    @Test
+    public void testTryBorrowLendsIdleChannelWhenRoutePoolIsExhausted() throws Exception {
+        TargetChannelPool routePool = createRoutePool();
+        TargetChannelPool pool = createPerSrcHndlrPool(routePool);
+        Object targetChannel = pool.tryBorrowObject();
+        pool.returnObject(targetChannel);
+
+        Assert.assertSame(pool.tryBorrowObject(), targetChannel);
+        Assert.assertThrows(NoSuchElementException.class, pool::tryBorrowObject);
+    }
+
+    @Test
+    public void testEnsureIdleDoesNotWaitWhenPoolIsExhausted() throws Exception {
+        TargetChannelPool routePool = createRoutePool();
+        routePool.borrowObject();
+
+        long start = System.nanoTime();
+        routePool.ensureIdle(2);
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1000));
+        Assert.assertEquals(routePool.getNumActive(), 1);
+        Assert.assertEquals(routePool.getNumIdle(), 0);
+    }
+
+    @Test
+    public void testAsyncBorrowWaitsForReleasedChannel() throws Exception {
+        TargetChannelPool routePool = createRoutePool();
+        TargetChannelPool pool = createPerSrcHndlrPool(routePool);
+        Object targetChannel = pool.borrowObjectAsync(eventLoop).get(2, TimeUnit.SECONDS);
+
+        Future<Object> pendingBorrow = pool.borrowObjectAsync(eventLoop);
+        Assert.assertFalse(pendingBorrow.isDone());
+        Assert.assertEquals(pool.getNumPendingBorrows(), 1);
+
+        // The per source handler pool releases the channel to the route pool when it is invalidated
+        pool.invalidateObject(targetChannel);
+        routePool.invalidateObject(targetChannel);
+        Assert.assertNotNull(pendingBorrow.get(2, TimeUnit.SECONDS));
+        Assert.assertEquals(pool.getNumPendingBorrows(), 0);
+    }
+
+    private static TargetChannelPool createRoutePool() throws Exception {
+        PoolableTargetChannelFactory channelFactory = mock(PoolableTargetChannelFactory.class);
+        when(channelFactory.makeObject()).thenAnswer(invocation -> new Object());
+        when(channelFactory.validateObject(any())).thenReturn(true);
+        return new TargetChannelPool("route", channelFactory, createConfig(1));
+    }
+
+    private static TargetChannelPool createPerSrcHndlrPool(TargetChannelPool routePool) throws Exception {
+        PoolableObjectFactory factory = mock(PoolableObjectFactory.class);
+        when(factory.makeObject()).thenAnswer(invocation -> TargetChannelPool.borrowFromRoutePool(routePool));
+        when(factory.validateObject(any())).thenReturn(true);
+        return new TargetChannelPool(routePool, factory, createConfig(5));
+    }
+
+    private static GenericObjectPool.Config createConfig(int maxActive) {
+        GenericObjectPool.Config config = new GenericObjectPool.Config();
+        config.maxActive = maxActive;
+        config.whenExhaustedAction = GenericObjectPool.WHEN_EXHAUSTED_BLOCK;
+        config.maxWait = 10000;
+        return config;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2Stream;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for the HTTP/2 per route connection pool.
+ */
+public class Http2ChannelPoolTest {
+
+    private static final HttpRoute ROUTE = new HttpRoute(Constants.HTTP_SCHEME, "localhost", 9000, 1);
+
+    @Test
+    public void testRequestsWaitForConnectionBeingOpened() {
+        Http2ConnectionManager connectionManager = createConnectionManager(100, 1, -1, 1.0);
+        RecordingListener first = fetch(connectionManager);
+        RecordingListener second = fetch(connectionManager);
+        Assert.assertTrue(first.newConnectionRequired);
+        Assert.assertFalse(second.notified());
+
+        Http2ClientChannel http2ClientChannel = createChannel(connectionManager);
+        connectionManager.addHttp2ClientChannel(ROUTE, http2ClientChannel);
+        Assert.assertSame(second.http2ClientChannel, http2ClientChannel);
+        Assert.assertEquals(http2ClientChannel.getActiveStreamCount(), 2);
+        Assert.assertSame(fetch(connectionManager).http2ClientChannel, http2ClientChannel);
+    }
+
+    @Test
+    public void testLeastLoadedConnectionIsSelected() {
+        Http2ConnectionManager connectionManager = createConnectionManager(100, 1, -1, 1.0);
+        Http2ClientChannel first = createChannel(connectionManager);
+        Http2ClientChannel second = createChannel(connectionManager);
+        connectionManager.addHttp2ClientChannel(ROUTE, first);
+        connectionManager.addHttp2ClientChannel(ROUTE, second);
+        for (int i = 0; i < 6; i++) {
+            Assert.assertNotNull(fetch(connectionManager).http2ClientChannel);
+        }
+        Assert.assertEquals(first.getActiveStreamCount(), 4);
+        Assert.assertEquals(second.getActiveStreamCount(), 4);
+    }
+
+    @Test
+    public void testConnectionIsOpenedAheadWhenThresholdIsPassed() {
+        Http2ConnectionManager connectionManager = createConnectionManager(4, 1, -1, 0.5);
+        Http2ClientChannel http2ClientChannel = createChannel(connectionManager);
+        connectionManager.addHttp2ClientChannel(ROUTE, http2ClientChannel);
+        Assert.assertSame(fetch(connectionManager).http2ClientChannel, http2ClientChannel);
+        Assert.assertTrue(fetch(connectionManager).newConnectionRequired);
+        // Only one connection is opened ahead at a time
+        Assert.assertSame(fetch(connectionManager).http2ClientChannel, http2ClientChannel);
+        Assert.assertEquals(getPool(connectionManager).getPendingConnectionCount(), 1);
+    }
+
+    @Test
+    public void testMinimumConnectionsAreOpened() {
+        Http2ConnectionManager connectionManager = createConnectionManager(100, 2, -1, 1.0);
+        Assert.assertTrue(fetch(connectionManager).newConnectionRequired);
+        Assert.assertTrue(fetch(connectionManager).newConnectionRequired);
+        RecordingListener third = fetch(connectionManager);
+        Assert.assertFalse(third.notified());
+
+        connectionManager.addHttp2ClientChannel(ROUTE, createChannel(connectionManager));
+        Assert.assertNotNull(third.http2ClientChannel);
+        Assert.assertEquals(getPool(connectionManager).getPendingConnectionCount(), 1);
+    }
+
+    @Test
+    public void testRequestsWaitForStreamsAtMaximumConnections() throws Http2Exception {
+        Http2ConnectionManager connectionManager = createConnectionManager(2, 1, 1, 1.0);
+        Http2ClientChannel http2ClientChannel = createChannel(connectionManager);
+        connectionManager.addHttp2ClientChannel(ROUTE, http2ClientChannel);
+        Assert.assertSame(fetch(connectionManager).http2ClientChannel, http2ClientChannel);
+        RecordingListener waiting = fetch(connectionManager);
+        Assert.assertFalse(waiting.notified());
+        Assert.assertEquals(getPool(connectionManager).getWaitingRequestCount(), 1);
+
+        Http2Stream stream = http2ClientChannel.getConnection().local().createStream(3, false);
+        stream.close();
+        Assert.assertSame(waiting.http2ClientChannel, http2ClientChannel);
+        Assert.assertEquals(getPool(connectionManager).getWaitingRequestCount(), 0);
+    }
+
+    @Test
+    public void testWaitingRequestFailsAfterWaitTimeout() throws InterruptedException {
+        Http2ConnectionManager connectionManager = createConnectionManager(2, 1, 1, 1.0);
+        Http2ClientChannel http2ClientChannel = createChannel(connectionManager);
+        connectionManager.addHttp2ClientChannel(ROUTE, http2ClientChannel);
+        Assert.assertSame(fetch(connectionManager).http2ClientChannel, http2ClientChannel);
+
+        EventLoop eventLoop = new DefaultEventLoop();
+        try {
+            RecordingListener waiting = new RecordingListener();
+            connectionManager.fetchChannel(ROUTE, eventLoop, 50, waiting);
+            Assert.assertEquals(getPool(connectionManager).getWaitingRequestCount(), 1);
+            Assert.assertTrue(waiting.timedOut.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(waiting.waitTimeout.getMessage(), Constants.MAXIMUM_WAIT_TIME_EXCEED);
+            Assert.assertNull(waiting.http2ClientChannel);
+            Assert.assertEquals(getPool(connectionManager).getWaitingRequestCount(), 0);
+        } finally {
+            eventLoop.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void testWaitingRequestsOpenConnectionsWhenPendingConnectionIsReleased() {
+        Http2ConnectionManager connectionManager = createConnectionManager(100, 1, -1, 1.0);
+        Assert.assertTrue(fetch(connectionManager).newConnectionRequired);
+        RecordingListener second = fetch(connectionManager);
+        RecordingListener third = fetch(connectionManager);
+
+        connectionManager.releasePendingConnection(ROUTE);
+        Assert.assertTrue(second.newConnectionRequired);
+        Assert.assertTrue(third.newConnectionRequired);
+        Assert.assertEquals(getPool(connectionManager).getPendingConnectionCount(), 2);
+    }
+
+    @Test
+    public void testClosedConnectionIsRemoved() {
+        Http2ConnectionManager connectionManager = createConnectionManager(100, 1, -1, 1.0);
+        Http2ClientChannel http2ClientChannel = createChannel(connectionManager);
+        connectionManager.addHttp2ClientChannel(ROUTE, http2ClientChannel);
+        http2ClientChannel.getChannel().close();
+        Assert.assertEquals(getPool(connectionManager).getConnectionCount(), 0);
+        Assert.assertTrue(fetch(connectionManager).newConnectionRequired);
+    }
+
+    private static Http2ConnectionManager createConnectionManager(int maxActiveStreams, int minConnections,
+                                                                  int maxConnections, double openThreshold) {
+        PoolConfiguration poolConfiguration = new PoolConfiguration();
+        poolConfiguration.setHttp2MaxActiveStreamsPerConnection(maxActiveStreams);
+        poolConfiguration.setHttp2MinConnectionsPerRoute(minConnections);
+        poolConfiguration.setHttp2MaxConnectionsPerRoute(maxConnections < 1 ? Integer.MAX_VALUE : maxConnections);
+        poolConfiguration.setHttp2ConnectionOpenThreshold(openThreshold);
+        return new Http2ConnectionManager(poolConfiguration);
+    }
+
+    private static Http2ClientChannel createChannel(Http2ConnectionManager connectionManager) {
+        return new Http2ClientChannel(connectionManager, new DefaultHttp2Connection(false), ROUTE,
+                                      new EmbeddedChannel());
+    }
+
+    private static Http2ChannelPool.PerRouteConnectionPool getPool(Http2ConnectionManager connectionManager) {
+        return connectionManager.fetchPerRoutePool(ROUTE);
+    }
+
+    private static RecordingListener fetch(Http2ConnectionManager connectionManager) {
+        // The requests asked to open a connection are notified through the executor
+        EmbeddedChannel executorChannel = new EmbeddedChannel();
+        RecordingListener listener = new RecordingListener();
+        connectionManager.fetchChannel(ROUTE, executorChannel.eventLoop(), -1, listener);
+        executorChannel.runPendingTasks();
+        return listener;
+    }
+
+    private static class RecordingListener implements Http2ClientChannelListener {
+
+        private Http2ClientChannel http2ClientChannel;
+        private boolean newConnectionRequired;
+        private volatile ClientConnectorException waitTimeout;
+        private final CountDownLatch timedOut = new CountDownLatch(1);
+
+        @Override
+        public void onChannelAvailable(Http2ClientChannel http2ClientChannel) {
+            this.http2ClientChannel = http2ClientChannel;
+        }
+
+        @Override
+        public void onNewConnectionRequired() {
+            newConnectionRequired = true;
+        }
+
+        @Override
+        public void onWaitTimeout(ClientConnectorException cause) {
+            waitTimeout = cause;
+            timedOut.countDown();
+        }
+
+        private boolean notified() {
+            return http2ClientChannel != null || newConnectionRequired || waitTimeout != null;
+        }
+    }
+}
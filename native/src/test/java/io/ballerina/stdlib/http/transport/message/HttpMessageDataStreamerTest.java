@@ -19,17 +19,25 @@
 package io.ballerina.stdlib.http.transport.message;
 
 import io.ballerina.stdlib.http.transport.util.client.http2.MessageGenerator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
 import org.junit.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.zip.InflaterInputStream;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
@@ -81,6 +89,128 @@ public class HttpMessageDataStreamerTest {
         Assert.assertEquals(currentChunkCount, 4);
     }
 
+    @Test
+    public void testEventStreamCoalescing() throws IOException {
+        HttpCarbonMessage httpResponse = new HttpCarbonResponse(new DefaultHttpResponse(HttpVersion.HTTP_1_1, OK));
+        httpResponse.setHeader("Content-Type", "text/event-stream");
+        OutputStream outputStream = new HttpMessageDataStreamer(httpResponse).getOutputStream();
+        outputStream.write("data: 1\n\ndata: 2\n\ndata: 3\n".getBytes(StandardCharsets.UTF_8));
+        outputStream.write('\n');
+        outputStream.write("data: 4\n\n".getBytes(StandardCharsets.UTF_8));
+        outputStream.close();
+
+        EntityCollector entityCollector = httpResponse.getBlockingEntityCollector();
+        HttpContent content = entityCollector.getHttpContent();
+        Assert.assertEquals(content.content().toString(StandardCharsets.UTF_8), "data: 1\n\ndata: 2\n\n");
+        content.release();
+        content = entityCollector.getHttpContent();
+        Assert.assertEquals(content.content().toString(StandardCharsets.UTF_8), "data: 3\n\n");
+        content.release();
+        content = entityCollector.getHttpContent();
+        Assert.assertEquals(content.content().toString(StandardCharsets.UTF_8), "data: 4\n\n");
+        content.release();
+        Assert.assertTrue(entityCollector.getHttpContent() instanceof LastHttpContent);
+    }
+
+    @Test
+    public void testBulkRead() throws IOException {
+        HttpCarbonMessage msg = createMessage("Hello ", "bulk ", "world");
+        InputStream inputStream = new HttpMessageDataStreamer(msg).getInputStream();
+
+        byte[] bytes = new byte[32];
+        int offset = 0;
+        int length;
+        while ((length = inputStream.read(bytes, offset, bytes.length - offset)) != -1) {
+            offset += length;
+        }
+        Assert.assertEquals("Hello bulk world", new String(bytes, 0, offset, StandardCharsets.UTF_8));
+        Assert.assertEquals(-1, inputStream.read());
+        inputStream.close();
+    }
+
+    @Test
+    public void testSkip() throws IOException {
+        HttpCarbonMessage msg = createMessage("abc", "def", "ghi");
+        InputStream inputStream = new HttpMessageDataStreamer(msg).getInputStream();
+
+        Assert.assertEquals(4, inputStream.skip(4));
+        Assert.assertEquals('e', inputStream.read());
+        Assert.assertEquals(1, inputStream.available());
+        Assert.assertEquals(4, inputStream.skip(10));
+        Assert.assertEquals(-1, inputStream.read());
+        inputStream.close();
+    }
+
+    @Test
+    public void testTransferTo() throws IOException {
+        HttpCarbonMessage msg = createMessage("Hello ", "transfer ", "world");
+        InputStream inputStream = new HttpMessageDataStreamer(msg).getInputStream();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        Assert.assertEquals(20, inputStream.transferTo(outputStream));
+        Assert.assertEquals("Hello transfer world", outputStream.toString(StandardCharsets.UTF_8));
+        inputStream.close();
+    }
+
+    @Test
+    public void testReadContent() {
+        ByteBuf first = Unpooled.copiedBuffer("first", StandardCharsets.UTF_8);
+        ByteBuf last = Unpooled.copiedBuffer("last", StandardCharsets.UTF_8);
+        HttpCarbonMessage msg = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, ""));
+        msg.addHttpContent(new DefaultHttpContent(first));
+        msg.addHttpContent(new DefaultLastHttpContent(last));
+        HttpMessageDataStreamer dataStreamer = new HttpMessageDataStreamer(msg);
+
+        ByteBuf content = dataStreamer.readContent();
+        Assert.assertEquals("first", content.toString(StandardCharsets.UTF_8));
+        Assert.assertEquals(1, first.refCnt());
+        content.release();
+        Assert.assertEquals(0, first.refCnt());
+
+        content = dataStreamer.readContent();
+        Assert.assertEquals("last", content.toString(StandardCharsets.UTF_8));
+        content.release();
+        Assert.assertEquals(0, last.refCnt());
+        Assert.assertNull(dataStreamer.readContent());
+    }
+
+    @Test
+    public void testBulkWrite() throws IOException {
+        HttpCarbonMessage msg = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, ""));
+        byte[] payload = new byte[20000];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) i;
+        }
+        OutputStream outputStream = new HttpMessageDataStreamer(msg).getOutputStream();
+        outputStream.write(payload, 0, 10000);
+        outputStream.write(payload, 10000, 10000);
+        outputStream.close();
+
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        HttpContent httpContent;
+        do {
+            httpContent = msg.getHttpContent();
+            ByteBuf content = httpContent.content();
+            Assert.assertTrue(content.readableBytes() <= 8192);
+            content.readBytes(received, content.readableBytes());
+            httpContent.release();
+        } while (!(httpContent instanceof LastHttpContent));
+        Assert.assertArrayEquals(payload, received.toByteArray());
+    }
+
+    private static HttpCarbonMessage createMessage(String... chunks) {
+        HttpCarbonMessage msg = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, ""));
+        for (int i = 0; i < chunks.length; i++) {
+            ByteBuf content = Unpooled.copiedBuffer(chunks[i], StandardCharsets.UTF_8);
+            msg.addHttpContent(i == chunks.length - 1 ? new DefaultLastHttpContent(content)
+                                                      : new DefaultHttpContent(content));
+        }
+        return msg;
+    }
+
     // This method writes a server-sent event payload to the output stream
     private static void writeDummyEvent(OutputStream outputStream) throws IOException {
         final int maxChunkSize = 8192;
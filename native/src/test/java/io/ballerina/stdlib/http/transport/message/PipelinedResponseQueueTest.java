@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.message;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A unit test class for Transport module PipelinedResponseQueue class functions.
+ */
+public class PipelinedResponseQueueTest {
+
+    @Test
+    public void testPollInSequenceOrder() {
+        PipelinedResponseQueue<String> queue = new PipelinedResponseQueue<>(3);
+        queue.add(3, "third");
+        queue.add(2, "second");
+        Assert.assertNull(queue.poll(1));
+        queue.add(1, "first");
+        Assert.assertEquals(queue.size(), 3);
+        Assert.assertEquals(queue.poll(1), "first");
+        Assert.assertNull(queue.poll(1));
+        Assert.assertEquals(queue.poll(2), "second");
+        Assert.assertEquals(queue.poll(3), "third");
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(queue.getMaxSize(), 3);
+    }
+
+    @Test
+    public void testGrowWithRequestsInFlight() {
+        PipelinedResponseQueue<Long> queue = new PipelinedResponseQueue<>(3);
+        for (long sequenceId = 1; sequenceId <= 100; sequenceId++) {
+            queue.add(sequenceId, sequenceId);
+        }
+        Assert.assertEquals(queue.size(), 100);
+        Assert.assertNull(queue.poll(101));
+        for (long sequenceId = 1; sequenceId <= 100; sequenceId++) {
+            Assert.assertEquals(queue.poll(sequenceId), Long.valueOf(sequenceId));
+        }
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testSlotsAreReusedAsTheSequenceMovesOn() {
+        PipelinedResponseQueue<Long> queue = new PipelinedResponseQueue<>(3);
+        for (long sequenceId = 1; sequenceId <= 1000; sequenceId++) {
+            queue.add(sequenceId + 1, sequenceId + 1);
+            queue.add(sequenceId, sequenceId);
+            Assert.assertEquals(queue.poll(sequenceId), Long.valueOf(sequenceId));
+            Assert.assertEquals(queue.poll(sequenceId + 1), Long.valueOf(sequenceId + 1));
+        }
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(queue.getMaxSize(), 2);
+    }
+
+    @Test
+    public void testMaxWaitOfResponsesHeldForEarlierResponses() throws InterruptedException {
+        PipelinedResponseQueue<String> queue = new PipelinedResponseQueue<>(3);
+        queue.add(2, "second");
+        Thread.sleep(20);
+        queue.add(1, "first");
+        Assert.assertEquals(queue.poll(1), "first");
+        Assert.assertEquals(queue.poll(2), "second");
+        Assert.assertTrue(queue.getMaxWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+}
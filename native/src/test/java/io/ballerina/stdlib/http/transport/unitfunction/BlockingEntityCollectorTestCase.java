@@ -24,8 +24,10 @@ import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -73,4 +75,52 @@ public class BlockingEntityCollectorTestCase {
         Assert.assertEquals(count, 0);
         Assert.assertEquals(exceptionMessage, "poll timeout expired");
     }
+
+    @Test(description = "Test contents added from another thread are read in order")
+    public void testGetHttpContentFromAnotherThread() throws InterruptedException {
+        HttpCarbonMessage msg = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, ""));
+        int chunkCount = 1000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < chunkCount; i++) {
+                msg.addHttpContent(new DefaultHttpContent(Unpooled.buffer(4).writeInt(i)));
+            }
+            msg.addHttpContent(new DefaultLastHttpContent());
+        });
+        producer.start();
+
+        int expected = 0;
+        HttpContent httpContent;
+        while (!((httpContent = msg.getHttpContent()) instanceof LastHttpContent)) {
+            Assert.assertNotNull(httpContent);
+            Assert.assertEquals(httpContent.content().readInt(), expected++);
+            httpContent.release();
+        }
+        producer.join();
+        Assert.assertEquals(expected, chunkCount);
+        Assert.assertTrue(msg.isEmpty());
+    }
+
+    @Test(description = "Test length queries do not consume the queued contents")
+    public void testMessageLengthKeepsContent() {
+        HttpCarbonMessage msg = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, ""));
+        for (int i = 0; i < 40; i++) {
+            msg.addHttpContent(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[10])));
+        }
+        msg.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(new byte[5])));
+
+        Assert.assertEquals(msg.countMessageLengthTill(1), 405);
+        Assert.assertEquals(msg.getFullMessageLength(), 405);
+
+        long size = 0;
+        HttpContent httpContent;
+        do {
+            httpContent = msg.getHttpContent();
+            size += httpContent.content().readableBytes();
+            httpContent.release();
+        } while (!(httpContent instanceof LastHttpContent));
+        Assert.assertEquals(size, 405);
+        Assert.assertTrue(msg.isEmpty());
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * A unit test class for {@link BasePathTrie}.
+ */
+public class BasePathTrieTest {
+
+    private final BasePathTrie basePathTrie = new BasePathTrie(
+            Arrays.asList("/foo/bar/baz", "/foo/bar", "/Foo/bar", "/hello", "/foo", "/"));
+
+    @Test
+    public void testExactMatch() {
+        Assert.assertEquals(basePathTrie.findMostSpecificBasePath("/foo/bar"), "/foo/bar");
+        Assert.assertEquals(basePathTrie.findMostSpecificBasePath("/hello"), "/hello");
+    }
+
+    @Test
+    public void testExactMatchIgnoresCase() {
+        Assert.assertEquals(basePathTrie.findMostSpecificBasePath("/HELLO"), "/hello");
+        Assert.assertEquals(basePathTrie.findMostSpecificBasePath("/Foo/Bar"), "/foo/bar");
+    }
+
+    @Test
+    public void testLongestPrefixMatch() {
+        Assert.assertEquals(basePathTrie.findMostSpecificBasePath("/foo/bar/baz/qux"), "/foo/bar/baz");
+        Assert.assertEquals(basePathTrie.findMostSpecificBasePath("/foo/bar/qux"), "/foo/bar");
+        Assert.assertEquals(basePathTrie.findMostSpecificBasePath("/foo/barqux"), "/foo");
+        Assert.assertEquals(basePathTrie.findMostSpecificBasePath("/foo/"), "/foo");
+    }
+
+    @Test
+    public void testPrefixMatchIsCaseSensitive() {
+        Assert.assertEquals(basePathTrie.findMostSpecificBasePath("/Foo/bar/qux"), "/Foo/bar");
+        Assert.assertNull(basePathTrie.findMostSpecificBasePath("/HELLO/world"));
+    }
+
+    @Test
+    public void testRootBasePathIsNotMatched() {
+        Assert.assertNull(basePathTrie.findMostSpecificBasePath("/"));
+        Assert.assertNull(basePathTrie.findMostSpecificBasePath("/unknown/foo"));
+        Assert.assertNull(basePathTrie.findMostSpecificBasePath(""));
+    }
+
+    @Test
+    public void testEmptyTrie() {
+        Assert.assertNull(new BasePathTrie(Collections.emptyList()).findMostSpecificBasePath("/foo"));
+    }
+}
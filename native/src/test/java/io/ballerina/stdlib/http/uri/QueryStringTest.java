@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A unit test class for {@link QueryString}.
+ */
+public class QueryStringTest {
+
+    @Test
+    public void testValuesAreSplitAndDecoded() {
+        QueryString queryString = QueryString.parse("foo=a,b%20c&bar=x+y&baz=");
+        Assert.assertEquals(queryString.getValues("foo"), new String[]{"a", "b c"});
+        Assert.assertEquals(queryString.getValues("bar"), new String[]{"x y"});
+        Assert.assertEquals(queryString.getValues("baz"), new String[]{""});
+        Assert.assertNull(queryString.getValues("qux"));
+        Assert.assertFalse(queryString.contains("qux"));
+    }
+
+    @Test
+    public void testRepeatedParamValuesAreConcatenated() {
+        QueryString queryString = QueryString.parse("id=1,1,2&id=2&name=x");
+        Assert.assertEquals(queryString.getValues("id"), new String[]{"1", "2", "2"});
+    }
+
+    @Test
+    public void testParamWithoutValue() {
+        QueryString queryString = QueryString.parse("flag&foo=bar");
+        Assert.assertTrue(queryString.contains("flag"));
+        Assert.assertNull(queryString.getValues("flag"));
+
+        queryString = QueryString.parse("flag&flag=on");
+        Assert.assertEquals(queryString.getValues("flag"), new String[]{"on"});
+    }
+
+    @Test
+    public void testNamesAndValuesAreTrimmed() {
+        QueryString queryString = QueryString.parse(" foo = bar ");
+        Assert.assertEquals(queryString.getValues("foo"), new String[]{"bar"});
+        Assert.assertNull(queryString.getValues(" foo "));
+    }
+
+    @Test
+    public void testTrailingSeparatorsAreIgnored() {
+        QueryString queryString = QueryString.parse("foo=a,b,,&&");
+        Assert.assertEquals(queryString.getValues("foo"), new String[]{"a", "b"});
+        Assert.assertFalse(queryString.contains(""));
+        Assert.assertEquals(QueryString.parse("foo=,").getValues("foo"), new String[0]);
+    }
+
+    @Test
+    public void testGetAllValues() {
+        Map<String, List<String>> allValues = QueryString.parse("b=2&a&c=3,4&b=5").getAllValues();
+        Assert.assertEquals(allValues.keySet().toArray(), new String[]{"b", "a", "c"});
+        Assert.assertEquals(allValues.get("b"), Arrays.asList("2", "5"));
+        Assert.assertNull(allValues.get("a"));
+        Assert.assertEquals(allValues.get("c"), Arrays.asList("3", "4"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMalformedEncodingOfRequestedParam() {
+        QueryString.parse("foo=%zz&bar=1").getValues("foo");
+    }
+
+    @Test
+    public void testMalformedEncodingOfOtherParamIsIgnored() {
+        Assert.assertEquals(QueryString.parse("foo=%zz&bar=1").getValues("bar"), new String[]{"1"});
+    }
+}
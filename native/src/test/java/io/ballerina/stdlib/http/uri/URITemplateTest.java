@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.uri;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.api.HttpResourceArguments;
+import io.ballerina.stdlib.http.uri.parser.DataElement;
+import io.ballerina.stdlib.http.uri.parser.DataReturnAgent;
+import io.ballerina.stdlib.http.uri.parser.Literal;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Map;
+
+/**
+ * A unit test class for the resource dispatching done by {@link URITemplate}.
+ */
+public class URITemplateTest {
+
+    private static final int LITERAL_RESOURCE_COUNT = 300;
+
+    private URITemplate<String, Object> uriTemplate;
+
+    @BeforeClass
+    public void setup() throws URITemplateException, UnsupportedEncodingException {
+        uriTemplate = new URITemplate<>(new Literal<>(new TestDataElement(), "/"));
+        parse("/*", "default");
+        parse("/foo/bar", "literal");
+        parse("/foo/{id}", "param");
+        parse("/foo/*", "rest");
+        parse("/a/{x}/z", "first");
+        parse("/{y}/q/w", "second");
+        for (int i = 0; i < LITERAL_RESOURCE_COUNT; i++) {
+            parse("/items/item" + i + "/details", "item" + i);
+        }
+    }
+
+    @Test
+    public void testLiteralTakesPrecedenceOverParam() {
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/foo/bar", arguments, null), "literal");
+        Assert.assertTrue(arguments.getMap().isEmpty());
+    }
+
+    @Test
+    public void testParamTakesPrecedenceOverRest() {
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/foo/hello%20world", arguments, null), "param");
+        Assert.assertEquals(arguments.getMap().get("id").get(0), "hello world");
+    }
+
+    @Test
+    public void testRestParamMatchesRemainingPath() {
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/foo/bar/baz/qux", arguments, null), "rest");
+        Map<Integer, String> extraPathInfo = arguments.getMap().get(HttpConstants.EXTRA_PATH_INFO);
+        Assert.assertEquals(extraPathInfo.get(HttpConstants.EXTRA_PATH_INDEX), "/bar/baz/qux");
+    }
+
+    @Test
+    public void testRootPathDispatchedToDefaultResource() {
+        Assert.assertEquals(uriTemplate.matches("/", new HttpResourceArguments(), null), "default");
+        Assert.assertEquals(uriTemplate.matches("/unknown/path", new HttpResourceArguments(), null), "default");
+    }
+
+    @Test
+    public void testParamsOfAbandonedBranchAreNotBound() {
+        HttpResourceArguments arguments = new HttpResourceArguments();
+        Assert.assertEquals(uriTemplate.matches("/a/q/w", arguments, null), "second");
+        Assert.assertEquals(arguments.getMap().get("y").get(0), "a");
+        Assert.assertNull(arguments.getMap().get("x"));
+    }
+
+    @Test
+    public void testLookupAmongManyLiteralSiblings() {
+        for (int i = 0; i < LITERAL_RESOURCE_COUNT; i++) {
+            Assert.assertEquals(uriTemplate.matches("/items/item" + i + "/details", new HttpResourceArguments(),
+                                                    null), "item" + i);
+        }
+        Assert.assertEquals(uriTemplate.matches("/items/item" + LITERAL_RESOURCE_COUNT + "/details",
+                                                new HttpResourceArguments(), null), "default");
+    }
+
+    private void parse(String path, String data) throws URITemplateException, UnsupportedEncodingException {
+        uriTemplate.parse(path, data, TestDataElement::new);
+    }
+
+    private static class TestDataElement implements DataElement<String, Object> {
+
+        private String data;
+
+        @Override
+        public void setData(String data) {
+            this.data = data;
+        }
+
+        @Override
+        public boolean hasData() {
+            return data != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (data == null) {
+                return false;
+            }
+            dataReturnAgent.setData(data);
+            return true;
+        }
+    }
+}